@@ -1,6 +1,9 @@
 package com.acainfo.backend.auth.infrastructure.security;
 
+import com.acainfo.backend.idempotency.infrastructure.filter.IdempotencyKeyFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -16,6 +19,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
@@ -30,6 +34,21 @@ public class SecurityConfig {
     @Lazy
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Lazy
+    private final IdempotencyKeyFilter idempotencyKeyFilter;
+
+    /**
+     * El filtro de idempotencia es un bean para poder inyectarlo en la cadena de seguridad,
+     * pero no debe registrarse además como filtro del contenedor: ahí se ejecutaría antes de
+     * la autenticación y todas las claves quedarían a nombre de "anonymous".
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilterRegistration(IdempotencyKeyFilter filter) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -60,6 +79,9 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Redespachos asíncronos (streams SSE): la petición original ya fue autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Endpoints públicos de autenticación
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
@@ -97,6 +119,9 @@ public class SecurityConfig {
         // Añadir el filtro JWT antes del filtro de autenticación de Spring
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Añadir el filtro de idempotencia tras la autorización, para que las claves se aíslen por usuario
+        http.addFilterAfter(idempotencyKeyFilter, AuthorizationFilter.class);
+
         // Para H2 Console en desarrollo (permite iframes)
         http.headers(headers -> headers
                 .frameOptions(frame -> frame.sameOrigin())
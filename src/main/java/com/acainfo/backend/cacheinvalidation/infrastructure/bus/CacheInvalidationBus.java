@@ -0,0 +1,254 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.bus;
+
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.CacheInvalidationOutbox;
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.InvalidationMessage;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentChangedEvent;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.student.domain.event.StudentChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupSeatsChangedEvent;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.domain.event.TeacherChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Bus de invalidación de cachés entre nodos.
+ *
+ * Al publicar, guarda en el outbox, dentro de la misma transacción, los eventos de
+ * dominio que invalidan cachés en memoria y las entidades de la caché de segundo nivel
+ * que han cambiado. Si la fila no puede guardarse, la transacción no se confirma: un
+ * cambio confirmado siempre llega a los demás nodos.
+ *
+ * Al recibir, vuelve a publicar los eventos en este nodo, donde los escuchan las mismas
+ * cachés que en el nodo de origen, y saca de la caché de segundo nivel las entidades
+ * indicadas junto con los resultados de consultas cacheados.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationBus {
+
+    static final String PUBLISHED_METRIC = "cache.invalidation.published";
+    static final String APPLIED_METRIC = "cache.invalidation.applied";
+    static final String LAG_METRIC = "cache.invalidation.lag";
+
+    // Eventos que se retransmiten, por nombre: el nombre es la clave de ordenación en el outbox
+    private static final Map<String, Class<?>> RELAYED_EVENTS = Stream.of(
+                    GroupScheduleChangedEvent.class,
+                    EnrollmentChangedEvent.class,
+                    GroupDetailsChangedEvent.class,
+                    GroupSeatsChangedEvent.class,
+                    StudentChangedEvent.class,
+                    TeacherChangedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private static final TypeReference<Set<Long>> ID_SET = new TypeReference<>() {
+    };
+
+    // Marca el hilo que está volviendo a publicar un evento recibido, para no reenviarlo
+    private static final ThreadLocal<Boolean> REPLAYING = new ThreadLocal<>();
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheInvalidationOutbox outbox;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionFactory sessionFactory;
+    private final MeterRegistry meterRegistry;
+    private final Timer lag;
+
+    public CacheInvalidationBus(CacheInvalidationOutbox outbox,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                EntityManagerFactory entityManagerFactory,
+                                MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.meterRegistry = meterRegistry;
+        this.lag = Timer.builder(LAG_METRIC)
+                .description("Tiempo desde que un nodo publica una invalidación hasta que otro la aplica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Identificador de este nodo, distinto en cada arranque.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onGroupScheduleChanged(GroupScheduleChangedEvent event) {
+        relay(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        relay(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onGroupDetailsChanged(GroupDetailsChangedEvent event) {
+        relay(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onGroupSeatsChanged(GroupSeatsChangedEvent event) {
+        relay(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        relay(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTeacherChanged(TeacherChangedEvent event) {
+        relay(event);
+    }
+
+    /**
+     * Si el hilo actual está volviendo a publicar un evento recibido de otro nodo.
+     */
+    static boolean isReplaying() {
+        return Boolean.TRUE.equals(REPLAYING.get());
+    }
+
+    /**
+     * Publica las entidades cacheadas que ha modificado una sesión de Hibernate, con la
+     * conexión de esa sesión y antes de que confirme.
+     *
+     * @param idsByEntity IDs modificados por nombre de entidad
+     */
+    void publishEntityChanges(Connection connection, Map<String, Set<Long>> idsByEntity) throws SQLException {
+        List<InvalidationMessage> messages = new ArrayList<>(idsByEntity.size());
+        idsByEntity.forEach((entityName, ids) -> messages.add(InvalidationMessage.create(
+                nodeId, InvalidationMessage.Type.ENTITY_EVICTION, entityName, toJson(ids))));
+
+        outbox.append(connection, messages);
+        published(InvalidationMessage.Type.ENTITY_EVICTION, messages.size());
+    }
+
+    /**
+     * Aplica en este nodo una invalidación leída del outbox. Las publicadas por este
+     * mismo nodo se ignoran: sus cachés ya se invalidaron al confirmar.
+     */
+    void apply(InvalidationMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+
+        switch (message.type()) {
+            case DOMAIN_EVENT -> replay(message);
+            case ENTITY_EVICTION -> evict(message);
+        }
+
+        Counter.builder(APPLIED_METRIC)
+                .description("Invalidaciones de otros nodos aplicadas")
+                .tag("type", message.type().name())
+                .register(meterRegistry)
+                .increment();
+        Duration elapsed = Duration.between(message.createdAt(), LocalDateTime.now());
+        lag.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+    }
+
+    private void relay(Object event) {
+        if (isReplaying()) {
+            return;
+        }
+
+        outbox.append(List.of(InvalidationMessage.create(
+                nodeId, InvalidationMessage.Type.DOMAIN_EVENT, event.getClass().getSimpleName(), toJson(event))));
+        published(InvalidationMessage.Type.DOMAIN_EVENT, 1);
+    }
+
+    private void replay(InvalidationMessage message) {
+        Class<?> eventType = RELAYED_EVENTS.get(message.cacheKey());
+        if (eventType == null) {
+            // Publicado por un nodo con una versión más nueva
+            log.warn("Invalidación de caché con evento desconocido ignorada: {}", message.cacheKey());
+            return;
+        }
+
+        Object event = fromJson(message.payload(), eventType);
+        // Los contadores de plazas cambian con UPDATE masivos o por JDBC, que EntityCacheChangeCapture
+        // no ve: en este nodo los grupos siguen en la caché de segundo nivel con el valor anterior
+        if (event instanceof GroupSeatsChangedEvent seats) {
+            Cache cache = sessionFactory.getCache();
+            seats.groupIds().forEach(id -> cache.evictEntityData(SubjectGroupJpa.class, id));
+        }
+
+        REPLAYING.set(Boolean.TRUE);
+        try {
+            eventPublisher.publishEvent(event);
+        } finally {
+            REPLAYING.remove();
+        }
+    }
+
+    private void evict(InvalidationMessage message) {
+        Cache cache = sessionFactory.getCache();
+        Set<Long> ids = fromJson(message.payload(), ID_SET);
+        ids.forEach(id -> cache.evictEntityData(message.cacheKey(), id));
+
+        // Las consultas cacheadas pueden incluir o excluir la entidad según sus datos anteriores
+        cache.evictQueryRegions();
+    }
+
+    private void published(InvalidationMessage.Type type, int count) {
+        Counter.builder(PUBLISHED_METRIC)
+                .description("Invalidaciones publicadas para otros nodos")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la invalidación de caché", e);
+        }
+    }
+
+    private <T> T fromJson(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalidación de caché con contenido no válido: " + type.getSimpleName(), e);
+        }
+    }
+
+    private <T> T fromJson(String payload, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalidación de caché con contenido no válido", e);
+        }
+    }
+}
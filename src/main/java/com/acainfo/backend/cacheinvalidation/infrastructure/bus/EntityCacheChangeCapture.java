@@ -0,0 +1,93 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.bus;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Recoge las entidades de la caché de segundo nivel que inserta, modifica o borra
+ * cada sesión de Hibernate y las publica en el bus justo antes de confirmar, con la
+ * misma conexión.
+ *
+ * Hibernate ya actualiza la caché de este nodo; los demás sólo se enteran por el bus.
+ * Los UPDATE masivos y por JDBC no pasan por aquí: quien los ejecuta publica un evento
+ * de dominio que los demás nodos reciben igual.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class EntityCacheChangeCapture implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final CacheInvalidationBus bus;
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Cambios pendientes de cada sesión; se liberan al terminar su transacción
+    private final Map<SharedSessionContractImplementor, Map<String, Set<Long>>> pending =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    public EntityCacheChangeCapture(CacheInvalidationBus bus, EntityManagerFactory entityManagerFactory) {
+        this.bus = bus;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EventSource session, EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache() || !(id instanceof Long entityId)) {
+            return;
+        }
+        pending.computeIfAbsent(session, this::track)
+                .computeIfAbsent(persister.getEntityName(), name -> new HashSet<>())
+                .add(entityId);
+    }
+
+    private Map<String, Set<Long>> track(SharedSessionContractImplementor session) {
+        ActionQueue actionQueue = ((EventSource) session).getActionQueue();
+        actionQueue.registerProcess((BeforeTransactionCompletionProcess) completing -> {
+            Map<String, Set<Long>> changes = pending.remove(completing);
+            if (changes != null && !changes.isEmpty()) {
+                completing.doWork(connection -> bus.publishEntityChanges(connection, changes));
+            }
+        });
+        actionQueue.registerProcess((AfterTransactionCompletionProcess) (success, completed) -> pending.remove(completed));
+        return new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,243 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.bus;
+
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.CacheInvalidationOutbox;
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.InvalidationMessage;
+import com.acainfo.backend.config.properties.AppProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lee el outbox de invalidaciones y aplica en este nodo las publicadas por los demás.
+ *
+ * Un único hilo aplica las filas en orden de ID, así que las de una misma clave nunca
+ * se adelantan unas a otras. Con PostgreSQL, un trigger hace NOTIFY al confirmar cada
+ * inserción y el hilo espera con LISTEN en una conexión propia, fuera del pool: la
+ * invalidación llega en cuanto se confirma. Sin PostgreSQL, o si esa conexión falla,
+ * se consulta cada 'poll-interval-millis', que es también el retraso máximo con NOTIFY.
+ *
+ * Las filas de transacciones que confirman tarde aparecen con un ID menor que otras
+ * ya leídas. Los IDs saltados se vuelven a buscar durante 'lookback-seconds'; como las
+ * invalidaciones sólo indican qué volver a leer, aplicarlas tarde no deja ninguna caché
+ * con datos antiguos.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class InvalidationPoller {
+
+    static final String CHANNEL = "cache_invalidations";
+    static final String GAPS_METRIC = "cache.invalidation.gaps";
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(5);
+
+    private final CacheInvalidationOutbox outbox;
+    private final CacheInvalidationBus bus;
+    private final AppProperties.CacheInvalidation properties;
+    private final DataSourceProperties dataSourceProperties;
+
+    // IDs saltados y hasta cuándo se esperan; sólo los usa el hilo del poller
+    private final NavigableMap<Long, LocalDateTime> gaps = new TreeMap<>();
+    private final AtomicInteger trackedGaps = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread worker;
+    private long lastSeenId = -1;
+    private LocalDateTime nextPurge = LocalDateTime.now();
+    private Connection listenConnection;
+    private boolean listenUnavailable;
+
+    public InvalidationPoller(CacheInvalidationOutbox outbox,
+                              CacheInvalidationBus bus,
+                              AppProperties appProperties,
+                              DataSourceProperties dataSourceProperties,
+                              MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.bus = bus;
+        this.properties = appProperties.getCacheInvalidation();
+        this.dataSourceProperties = dataSourceProperties;
+        Gauge.builder(GAPS_METRIC, trackedGaps, AtomicInteger::get)
+                .description("IDs del outbox saltados que aún se esperan")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Arranca cuando la aplicación ya está lista, para que los eventos que se vuelvan a
+     * publicar encuentren registrados todos sus listeners.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("cache-invalidation-poller").daemon().start(this::run);
+        log.info("Bus de invalidación de cachés iniciado. Nodo: {}", bus.getNodeId());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                try {
+                    if (lastSeenId < 0) {
+                        // Al arrancar se repasa la ventana reciente: invalidar de más no hace daño
+                        lastSeenId = outbox.findMaxIdBefore(LocalDateTime.now().minusSeconds(properties.getLookbackSeconds()));
+                    }
+                    // Primero LISTEN y luego leer: un NOTIFY entre ambos no se pierde
+                    ensureListening();
+                    pollUntilDrained();
+                    purgeIfDue();
+                    awaitChanges();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.warn("Error leyendo el outbox de invalidaciones de caché: {}", e.getMessage());
+                    closeListenConnection();
+                    Thread.sleep(properties.getPollIntervalMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeListenConnection();
+        }
+    }
+
+    private void pollUntilDrained() {
+        List<InvalidationMessage> batch;
+        do {
+            List<InvalidationMessage> late = outbox.findByIds(oldestGaps());
+            late.forEach(this::process);
+
+            batch = outbox.findAfter(lastSeenId, properties.getBatchSize());
+            batch.forEach(this::process);
+        } while (running && batch.size() == properties.getBatchSize());
+
+        expireGaps();
+    }
+
+    private void process(InvalidationMessage message) {
+        long id = message.id();
+        if (id > lastSeenId) {
+            trackGaps(lastSeenId + 1, id);
+            lastSeenId = id;
+        } else {
+            gaps.remove(id);
+        }
+
+        try {
+            bus.apply(message);
+        } catch (Exception e) {
+            // Una invalidación que no se puede aplicar no debe detener las siguientes
+            log.error("Error aplicando la invalidación de caché {} ({}): {}", id, message.cacheKey(), e.getMessage(), e);
+        }
+    }
+
+    private void trackGaps(long fromInclusive, long toExclusive) {
+        LocalDateTime deadline = LocalDateTime.now().plusSeconds(properties.getLookbackSeconds());
+        for (long id = fromInclusive; id < toExclusive; id++) {
+            if (gaps.size() >= properties.getMaxTrackedGaps()) {
+                log.warn("Demasiados IDs saltados en el outbox de invalidaciones; se dejan de esperar a partir de {}", id);
+                break;
+            }
+            gaps.put(id, deadline);
+        }
+        trackedGaps.set(gaps.size());
+    }
+
+    private List<Long> oldestGaps() {
+        return gaps.keySet().stream().limit(properties.getBatchSize()).toList();
+    }
+
+    private void expireGaps() {
+        LocalDateTime now = LocalDateTime.now();
+        // Un ID que no aparece en la ventana es de una transacción deshecha
+        gaps.values().removeIf(deadline -> deadline.isBefore(now));
+        trackedGaps.set(gaps.size());
+    }
+
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(nextPurge)) {
+            return;
+        }
+        nextPurge = now.plus(PURGE_INTERVAL);
+
+        int purged = outbox.deleteOlderThan(now.minusMinutes(properties.getRetentionMinutes()));
+        if (purged > 0) {
+            log.debug("Invalidaciones de caché antiguas eliminadas: {}", purged);
+        }
+    }
+
+    private void awaitChanges() throws SQLException, InterruptedException {
+        if (listenConnection == null) {
+            Thread.sleep(properties.getPollIntervalMillis());
+            return;
+        }
+        // Vuelve en cuanto llega un NOTIFY o al cumplirse el intervalo
+        listenConnection.unwrap(PGConnection.class).getNotifications(properties.getPollIntervalMillis());
+    }
+
+    private void ensureListening() {
+        if (listenConnection != null || listenUnavailable) {
+            return;
+        }
+
+        String url = dataSourceProperties.determineUrl();
+        if (url == null || !url.startsWith("jdbc:postgresql:")) {
+            listenUnavailable = true;
+            log.info("Base de datos sin LISTEN/NOTIFY: el outbox de invalidaciones se consultará cada {} ms",
+                    properties.getPollIntervalMillis());
+            return;
+        }
+
+        try {
+            Connection connection = DriverManager.getConnection(url,
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+            }
+            listenConnection = connection;
+        } catch (SQLException e) {
+            // Se reintenta en la siguiente vuelta; mientras tanto se consulta por intervalo
+            log.warn("No se pudo abrir la conexión LISTEN de invalidaciones de caché: {}", e.getMessage());
+        }
+    }
+
+    private void closeListenConnection() {
+        if (listenConnection == null) {
+            return;
+        }
+        try {
+            listenConnection.close();
+        } catch (SQLException e) {
+            log.debug("Error cerrando la conexión LISTEN: {}", e.getMessage());
+        }
+        listenConnection = null;
+    }
+}
@@ -0,0 +1,54 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.bus;
+
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Lleva a los índices de horarios de este nodo los cambios de sesiones y grupos
+ * confirmados en otros nodos.
+ *
+ * Los índices se mantienen solos con las escrituras de su propio nodo, así que sólo se
+ * atienden los eventos recibidos por el bus. Como los eventos sólo traen los IDs de los
+ * grupos, sus sesiones y su profesor se vuelven a leer.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class ScheduleIndexRefresher {
+
+    private final ClassroomScheduleIndex classroomScheduleIndex;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+
+    @EventListener
+    public void onGroupScheduleChanged(GroupScheduleChangedEvent event) {
+        if (!CacheInvalidationBus.isReplaying()) {
+            return;
+        }
+        if (event.allGroups()) {
+            classroomScheduleIndex.refreshAll();
+            teacherScheduleIndex.refreshAll();
+        } else {
+            classroomScheduleIndex.refreshGroups(event.groupIds());
+            teacherScheduleIndex.refreshGroups(event.groupIds());
+        }
+    }
+
+    /**
+     * El profesor y el estado del grupo sólo cuentan en el horario de los profesores.
+     */
+    @EventListener
+    public void onGroupDetailsChanged(GroupDetailsChangedEvent event) {
+        if (!CacheInvalidationBus.isReplaying()) {
+            return;
+        }
+        teacherScheduleIndex.refreshGroups(Set.of(event.groupId()));
+    }
+}
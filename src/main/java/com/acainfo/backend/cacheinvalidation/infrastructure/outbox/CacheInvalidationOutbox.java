@@ -0,0 +1,125 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Acceso JDBC a la tabla 'cache_invalidations'.
+ *
+ * Las filas se escriben dentro de la transacción que provoca el cambio, así que sólo
+ * las ven los demás nodos si se confirma. Los IDs se asignan al insertar y no al
+ * confirmar: una transacción larga puede hacer visible su fila después de otras con
+ * ID mayor, y quien lee debe volver a buscar los IDs que se ha saltado.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache-invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (node_id, message_type, cache_key, payload, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, node_id, message_type, cache_key, payload, created_at FROM cache_invalidations ";
+
+    private static final String SELECT_AFTER_SQL = SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String MAX_ID_BEFORE_SQL =
+            "SELECT COALESCE(MAX(id), 0) FROM cache_invalidations WHERE created_at < ?";
+
+    private static final String DELETE_OLDER_THAN_SQL =
+            "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    private static final RowMapper<InvalidationMessage> ROW_MAPPER = (rs, rowNum) -> new InvalidationMessage(
+            rs.getLong("id"),
+            rs.getString("node_id"),
+            InvalidationMessage.Type.valueOf(rs.getString("message_type")),
+            rs.getString("cache_key"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CacheInvalidationOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Guarda las invalidaciones con la conexión de la transacción en curso.
+     */
+    public void append(List<InvalidationMessage> messages) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            append(connection, messages);
+            return null;
+        });
+    }
+
+    /**
+     * Guarda las invalidaciones con una conexión concreta: la de la sesión de Hibernate
+     * cuando se publican mientras ésta confirma su transacción.
+     */
+    public void append(Connection connection, List<InvalidationMessage> messages) throws SQLException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (InvalidationMessage message : messages) {
+                statement.setString(1, message.nodeId());
+                statement.setString(2, message.type().name());
+                statement.setString(3, message.cacheKey());
+                statement.setString(4, message.payload());
+                statement.setTimestamp(5, Timestamp.valueOf(message.createdAt()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Invalidaciones posteriores a un ID, en orden.
+     */
+    public List<InvalidationMessage> findAfter(long id, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER_SQL, ROW_MAPPER, id, limit);
+    }
+
+    /**
+     * Invalidaciones con los IDs indicados que ya estén confirmadas, en orden.
+     */
+    public List<InvalidationMessage> findByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE id IN (" + placeholders + ") ORDER BY id",
+                ROW_MAPPER, ids.toArray());
+    }
+
+    /**
+     * Mayor ID publicado antes de un instante, o 0 si no hay ninguno.
+     */
+    public long findMaxIdBefore(LocalDateTime instant) {
+        Long id = jdbcTemplate.queryForObject(MAX_ID_BEFORE_SQL, Long.class, Timestamp.valueOf(instant));
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * Elimina las invalidaciones anteriores a un instante.
+     *
+     * @return número de filas eliminadas
+     */
+    public int deleteOlderThan(LocalDateTime instant) {
+        return jdbcTemplate.update(DELETE_OLDER_THAN_SQL, Timestamp.valueOf(instant));
+    }
+}
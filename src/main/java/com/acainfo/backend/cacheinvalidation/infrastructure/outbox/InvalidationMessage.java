@@ -0,0 +1,28 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila del outbox de invalidaciones.
+ *
+ * @param id posición en el outbox; null mientras no se ha guardado
+ * @param nodeId nodo que la publicó
+ * @param type qué hay que invalidar
+ * @param cacheKey tipo de evento o nombre de entidad; las de una misma clave se aplican en orden
+ * @param payload el evento o los IDs de las entidades, en JSON
+ * @param createdAt momento de la publicación, según el reloj del nodo que la publicó
+ */
+public record InvalidationMessage(Long id, String nodeId, Type type, String cacheKey,
+                                  String payload, LocalDateTime createdAt) {
+
+    public enum Type {
+        // Evento de dominio que se vuelve a publicar en los demás nodos
+        DOMAIN_EVENT,
+        // Entidades que se sacan de la caché de segundo nivel de los demás nodos
+        ENTITY_EVICTION
+    }
+
+    public static InvalidationMessage create(String nodeId, Type type, String cacheKey, String payload) {
+        return new InvalidationMessage(null, nodeId, type, cacheKey, payload, LocalDateTime.now());
+    }
+}
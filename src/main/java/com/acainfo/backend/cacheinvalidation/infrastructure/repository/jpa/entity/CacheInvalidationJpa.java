@@ -0,0 +1,50 @@
+package com.acainfo.backend.cacheinvalidation.infrastructure.repository.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para el outbox de invalidaciones de caché entre nodos.
+ * Mapea la tabla 'cache_invalidations'; el acceso se realiza con JDBC desde CacheInvalidationOutbox.
+ */
+@Entity
+@Table(name = "cache_invalidations",
+        indexes = {
+                @Index(name = "idx_cache_invalidation_created", columnList = "created_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "payload")
+public class CacheInvalidationJpa {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Nodo que publicó la invalidación; no se la aplica a sí mismo.
+     */
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "message_type", nullable = false, length = 20)
+    private String messageType;
+
+    /**
+     * Clave de ordenación: el tipo de evento o el nombre de la entidad.
+     */
+    @Column(name = "cache_key", nullable = false, length = 255)
+    private String cacheKey;
+
+    @Column(name = "payload", nullable = false, length = 1_048_576)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
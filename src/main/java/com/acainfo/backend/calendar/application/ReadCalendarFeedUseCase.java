@@ -0,0 +1,22 @@
+package com.acainfo.backend.calendar.application;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+
+import java.util.Optional;
+
+/**
+ * Caso de uso para servir el calendario iCalendar de un usuario a los clientes suscritos.
+ */
+public interface ReadCalendarFeedUseCase {
+
+    /**
+     * Obtiene el calendario del propietario si el token de suscripción es válido.
+     * Con el calendario en caché no se accede a base de datos.
+     *
+     * @param owner el propietario del calendario
+     * @param token el token de la URL de suscripción
+     * @return el calendario, o vacío si el token no corresponde al propietario
+     */
+    Optional<CalendarFeed> getFeed(CalendarOwner owner, String token);
+}
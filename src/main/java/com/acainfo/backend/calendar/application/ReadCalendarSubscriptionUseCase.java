@@ -0,0 +1,18 @@
+package com.acainfo.backend.calendar.application;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.entity.CalendarSubscription;
+
+import java.util.Optional;
+
+/**
+ * Caso de uso para obtener los datos de suscripción al calendario de un usuario.
+ */
+public interface ReadCalendarSubscriptionUseCase {
+
+    /**
+     * @param owner el propietario del calendario
+     * @return la suscripción, o vacío si el estudiante o profesor no existe
+     */
+    Optional<CalendarSubscription> getSubscription(CalendarOwner owner);
+}
@@ -0,0 +1,35 @@
+package com.acainfo.backend.calendar.application.imp;
+
+import com.acainfo.backend.calendar.application.ReadCalendarFeedUseCase;
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.repository.ReadCalendarFeedRepository;
+import com.acainfo.backend.calendar.domain.service.CalendarFeedTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso de calendario iCalendar.
+ * El token se verifica sin consultar la base de datos; el calendario sale de la caché.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCalendarFeedUseCaseImp implements ReadCalendarFeedUseCase {
+
+    private final ReadCalendarFeedRepository readCalendarFeedRepository;
+    private final CalendarFeedTokenService calendarFeedTokenService;
+
+    @Override
+    public Optional<CalendarFeed> getFeed(CalendarOwner owner, String token) {
+        if (owner.getId() == null || !calendarFeedTokenService.isValid(owner, token)) {
+            log.warn("Token de calendario no válido para {} {}", owner.getType(), owner.getId());
+            return Optional.empty();
+        }
+
+        return Optional.of(readCalendarFeedRepository.findFeed(owner));
+    }
+}
@@ -0,0 +1,43 @@
+package com.acainfo.backend.calendar.application.imp;
+
+import com.acainfo.backend.calendar.application.ReadCalendarSubscriptionUseCase;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.entity.CalendarSubscription;
+import com.acainfo.backend.calendar.domain.service.CalendarFeedTokenService;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.teacher.domain.repository.ReadTeacherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso de suscripción al calendario.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadCalendarSubscriptionUseCaseImp implements ReadCalendarSubscriptionUseCase {
+
+    private final ReadStudentRepository readStudentRepository;
+    private final ReadTeacherRepository readTeacherRepository;
+    private final CalendarFeedTokenService calendarFeedTokenService;
+
+    @Override
+    public Optional<CalendarSubscription> getSubscription(CalendarOwner owner) {
+        boolean exists = owner.getId() != null && switch (owner.getType()) {
+            case STUDENT -> readStudentRepository.existsById(owner.getId());
+            case TEACHER -> readTeacherRepository.existsById(owner.getId());
+        };
+        if (!exists) {
+            log.warn("Suscripción a calendario de usuario inexistente: {} {}", owner.getType(), owner.getId());
+            return Optional.empty();
+        }
+
+        return Optional.of(CalendarSubscription.builder()
+                .owner(owner)
+                .token(calendarFeedTokenService.generateToken(owner))
+                .build());
+    }
+}
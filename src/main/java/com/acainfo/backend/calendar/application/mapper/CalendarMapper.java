@@ -0,0 +1,26 @@
+package com.acainfo.backend.calendar.application.mapper;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarSubscription;
+import com.acainfo.backend.calendar.infrastructure.controller.dto.CalendarSubscriptionOutputDto;
+import org.mapstruct.*;
+
+/**
+ * Mapper para convertir entre DTOs y entidades de dominio.
+ * MapStruct generará la implementación en tiempo de compilación.
+ */
+@Mapper(
+        componentModel = "spring",
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        unmappedTargetPolicy = ReportingPolicy.WARN
+)
+public interface CalendarMapper {
+
+    /**
+     * Convierte la suscripción a DTO de salida con la URL del calendario ya construida.
+     */
+    @Mapping(target = "ownerType", source = "subscription.owner.type")
+    @Mapping(target = "ownerId", source = "subscription.owner.id")
+    @Mapping(target = "token", source = "subscription.token")
+    @Mapping(target = "url", source = "url")
+    CalendarSubscriptionOutputDto toOutputDto(CalendarSubscription subscription, String url);
+}
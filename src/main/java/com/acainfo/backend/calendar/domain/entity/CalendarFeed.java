@@ -0,0 +1,22 @@
+package com.acainfo.backend.calendar.domain.entity;
+
+import lombok.*;
+
+/**
+ * Value Object con un calendario iCalendar ya generado.
+ *
+ * El ETag es un resumen del contenido: mientras no cambien las sesiones el contenido
+ * es idéntico byte a byte y el ETag también.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString(exclude = "content")
+public class CalendarFeed {
+
+    private final CalendarOwner owner;
+    private final String etag;
+    private final byte[] content;
+    private final int eventCount;
+}
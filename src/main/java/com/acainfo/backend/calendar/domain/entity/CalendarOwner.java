@@ -0,0 +1,26 @@
+package com.acainfo.backend.calendar.domain.entity;
+
+import com.acainfo.backend.calendar.domain.value.CalendarOwnerType;
+import lombok.*;
+
+/**
+ * Value Object que identifica al propietario de un calendario.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CalendarOwner {
+
+    private final CalendarOwnerType type;
+    private final Long id;
+
+    public static CalendarOwner student(Long studentId) {
+        return new CalendarOwner(CalendarOwnerType.STUDENT, studentId);
+    }
+
+    public static CalendarOwner teacher(Long teacherId) {
+        return new CalendarOwner(CalendarOwnerType.TEACHER, teacherId);
+    }
+}
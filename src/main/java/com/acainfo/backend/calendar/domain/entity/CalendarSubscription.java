@@ -0,0 +1,18 @@
+package com.acainfo.backend.calendar.domain.entity;
+
+import lombok.*;
+
+/**
+ * Value Object con los datos para suscribirse al calendario de un usuario.
+ * El token firma al propietario, así los clientes de calendario no necesitan autenticarse.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString(exclude = "token")
+public class CalendarSubscription {
+
+    private final CalendarOwner owner;
+    private final String token;
+}
@@ -0,0 +1,18 @@
+package com.acainfo.backend.calendar.domain.repository;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+
+/**
+ * Puerto de lectura de los calendarios iCalendar.
+ */
+public interface ReadCalendarFeedRepository {
+
+    /**
+     * Obtiene el calendario de un usuario, generándolo sólo si no está en caché.
+     *
+     * @param owner el propietario del calendario
+     * @return el calendario (sin eventos si el usuario no tiene sesiones)
+     */
+    CalendarFeed findFeed(CalendarOwner owner);
+}
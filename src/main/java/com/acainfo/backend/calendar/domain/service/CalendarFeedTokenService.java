@@ -0,0 +1,20 @@
+package com.acainfo.backend.calendar.domain.service;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+
+/**
+ * Puerto para firmar y verificar los tokens de las URLs de suscripción.
+ */
+public interface CalendarFeedTokenService {
+
+    /**
+     * Genera el token de suscripción de un propietario. Es determinista:
+     * el mismo propietario obtiene siempre el mismo token.
+     */
+    String generateToken(CalendarOwner owner);
+
+    /**
+     * Verifica que el token corresponde al propietario.
+     */
+    boolean isValid(CalendarOwner owner, String token);
+}
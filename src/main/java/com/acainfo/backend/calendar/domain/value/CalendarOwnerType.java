@@ -0,0 +1,15 @@
+package com.acainfo.backend.calendar.domain.value;
+
+/**
+ * Tipo de usuario propietario de un calendario.
+ */
+public enum CalendarOwnerType {
+    /**
+     * Sesiones de los grupos en los que el estudiante está inscrito (activo o pendiente de pago).
+     */
+    STUDENT,
+    /**
+     * Sesiones de los grupos que imparte el profesor.
+     */
+    TEACHER
+}
@@ -0,0 +1,147 @@
+package com.acainfo.backend.calendar.infrastructure.controller;
+
+import com.acainfo.backend.calendar.application.ReadCalendarFeedUseCase;
+import com.acainfo.backend.calendar.application.ReadCalendarSubscriptionUseCase;
+import com.acainfo.backend.calendar.application.mapper.CalendarMapper;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.entity.CalendarSubscription;
+import com.acainfo.backend.calendar.infrastructure.controller.dto.CalendarSubscriptionOutputDto;
+import com.acainfo.backend.config.properties.AppProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controlador REST de las suscripciones iCalendar a los horarios.
+ *
+ * Los calendarios (.ics) son públicos y se protegen con el token firmado de la URL, porque
+ * las aplicaciones de calendario no envían credenciales. Cada respuesta lleva un ETag: si el
+ * cliente repite la petición con If-None-Match y el calendario no ha cambiado se responde
+ * 304 sin cuerpo, y como el calendario sale de la caché no se consulta la base de datos.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@Slf4j
+@Tag(name = "Calendar", description = "Suscripciones iCalendar al horario de estudiantes y profesores")
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+    private static final String STUDENT_FEED_PATH = "/api/v1/public/calendar/students/{id}.ics";
+    private static final String TEACHER_FEED_PATH = "/api/v1/public/calendar/teachers/{id}.ics";
+
+    private final ReadCalendarFeedUseCase readCalendarFeedUseCase;
+    private final ReadCalendarSubscriptionUseCase readCalendarSubscriptionUseCase;
+    private final CalendarMapper calendarMapper;
+    private final CacheControl cacheControl;
+
+    public CalendarController(ReadCalendarFeedUseCase readCalendarFeedUseCase,
+                              ReadCalendarSubscriptionUseCase readCalendarSubscriptionUseCase,
+                              CalendarMapper calendarMapper,
+                              AppProperties appProperties) {
+        this.readCalendarFeedUseCase = readCalendarFeedUseCase;
+        this.readCalendarSubscriptionUseCase = readCalendarSubscriptionUseCase;
+        this.calendarMapper = calendarMapper;
+        this.cacheControl = CacheControl
+                .maxAge(appProperties.getCalendar().getMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePrivate();
+    }
+
+    @GetMapping(value = "/public/calendar/students/{studentId}.ics", produces = "text/calendar")
+    @Operation(summary = "Calendario iCalendar de un estudiante",
+            description = "Clases semanales de los grupos en los que está inscrito. Admite If-None-Match")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendario generado"),
+            @ApiResponse(responseCode = "304", description = "El calendario no ha cambiado"),
+            @ApiResponse(responseCode = "404", description = "Token no válido")
+    })
+    public ResponseEntity<byte[]> getStudentFeed(
+            @Parameter(description = "ID del estudiante") @PathVariable Long studentId,
+            @Parameter(description = "Token de suscripción") @RequestParam(required = false) String token) {
+        log.debug("GET /api/v1/public/calendar/students/{}.ics", studentId);
+        return serve(CalendarOwner.student(studentId), token);
+    }
+
+    @GetMapping(value = "/public/calendar/teachers/{teacherId}.ics", produces = "text/calendar")
+    @Operation(summary = "Calendario iCalendar de un profesor",
+            description = "Clases semanales de los grupos que imparte. Admite If-None-Match")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendario generado"),
+            @ApiResponse(responseCode = "304", description = "El calendario no ha cambiado"),
+            @ApiResponse(responseCode = "404", description = "Token no válido")
+    })
+    public ResponseEntity<byte[]> getTeacherFeed(
+            @Parameter(description = "ID del profesor") @PathVariable Long teacherId,
+            @Parameter(description = "Token de suscripción") @RequestParam(required = false) String token) {
+        log.debug("GET /api/v1/public/calendar/teachers/{}.ics", teacherId);
+        return serve(CalendarOwner.teacher(teacherId), token);
+    }
+
+    @GetMapping("/students/{studentId}/calendar-subscription")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and authentication.name == 'STUDENT_' + #studentId)")
+    @Operation(summary = "URL de suscripción al calendario de un estudiante")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suscripción obtenida"),
+            @ApiResponse(responseCode = "404", description = "Estudiante no encontrado")
+    })
+    public ResponseEntity<CalendarSubscriptionOutputDto> getStudentSubscription(
+            @Parameter(description = "ID del estudiante") @PathVariable Long studentId) {
+        log.info("GET /api/v1/students/{}/calendar-subscription", studentId);
+        return subscription(CalendarOwner.student(studentId), STUDENT_FEED_PATH);
+    }
+
+    @GetMapping("/teachers/{teacherId}/calendar-subscription")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('TEACHER') and authentication.name == 'TEACHER_' + #teacherId)")
+    @Operation(summary = "URL de suscripción al calendario de un profesor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suscripción obtenida"),
+            @ApiResponse(responseCode = "404", description = "Profesor no encontrado")
+    })
+    public ResponseEntity<CalendarSubscriptionOutputDto> getTeacherSubscription(
+            @Parameter(description = "ID del profesor") @PathVariable Long teacherId) {
+        log.info("GET /api/v1/teachers/{}/calendar-subscription", teacherId);
+        return subscription(CalendarOwner.teacher(teacherId), TEACHER_FEED_PATH);
+    }
+
+    /**
+     * Con el ETag en la respuesta, Spring contesta 304 sin cuerpo si coincide con If-None-Match.
+     */
+    private ResponseEntity<byte[]> serve(CalendarOwner owner, String token) {
+        return readCalendarFeedUseCase.getFeed(owner, token)
+                .map(feed -> ResponseEntity.ok()
+                        .contentType(TEXT_CALENDAR)
+                        .eTag(feed.getEtag())
+                        .cacheControl(cacheControl)
+                        .header("Content-Disposition", ContentDisposition.inline()
+                                .filename("horario.ics").build().toString())
+                        .body(feed.getContent()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<CalendarSubscriptionOutputDto> subscription(CalendarOwner owner, String feedPath) {
+        return readCalendarSubscriptionUseCase.getSubscription(owner)
+                .map(subscription -> calendarMapper.toOutputDto(subscription, feedUrl(subscription, feedPath)))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static String feedUrl(CalendarSubscription subscription, String feedPath) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path(feedPath)
+                .queryParam("token", subscription.getToken())
+                .buildAndExpand(subscription.getOwner().getId())
+                .toUriString();
+    }
+}
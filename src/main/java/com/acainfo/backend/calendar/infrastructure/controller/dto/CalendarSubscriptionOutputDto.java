@@ -0,0 +1,29 @@
+package com.acainfo.backend.calendar.infrastructure.controller.dto;
+
+import com.acainfo.backend.calendar.domain.value.CalendarOwnerType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de salida con la URL de suscripción al calendario de un usuario.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Suscripción iCalendar al horario de un usuario")
+public class CalendarSubscriptionOutputDto {
+
+    @Schema(description = "Tipo de usuario", example = "STUDENT")
+    private CalendarOwnerType ownerType;
+
+    @Schema(description = "ID del estudiante o profesor", example = "12")
+    private Long ownerId;
+
+    @Schema(description = "Token firmado incluido en la URL", example = "Yc3x0Qn2s9bV1kX4rT7mLw")
+    private String token;
+
+    @Schema(description = "URL para suscribirse desde cualquier aplicación de calendario",
+            example = "https://api.acainfo.com/api/v1/public/calendar/students/12.ics?token=Yc3x0Qn2s9bV1kX4rT7mLw")
+    private String url;
+}
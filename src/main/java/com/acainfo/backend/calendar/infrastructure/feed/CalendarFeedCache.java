@@ -0,0 +1,107 @@
+package com.acainfo.backend.calendar.infrastructure.feed;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.value.CalendarOwnerType;
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentChangedEvent;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Caché de los calendarios iCalendar ya generados, uno por estudiante o profesor.
+ *
+ * Cada entrada recuerda los grupos que cubre, así un cambio de sesiones, de inscripciones
+ * o de los datos de un grupo invalida sólo los calendarios afectados. Las entradas se
+ * invalidan al terminar la transacción que hizo el cambio; si el cambio llega mientras un
+ * calendario se está generando, el resultado se sirve pero no se guarda, porque puede
+ * haberse leído antes de la confirmación. La caducidad por tiempo sólo cubre los cambios
+ * que no publican eventos (por ejemplo, renombrar una asignatura).
+ */
+@Component
+@Slf4j
+public class CalendarFeedCache {
+
+    private final Cache<CalendarOwner, CachedFeed> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CalendarFeedCache(AppProperties appProperties) {
+        AppProperties.Calendar properties = appProperties.getCalendar();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedFeeds())
+                .expireAfterWrite(Duration.ofHours(properties.getCacheTtlHours()))
+                .build();
+    }
+
+    /**
+     * Calendario del propietario, generándolo con el loader si no está en caché.
+     * Las peticiones concurrentes del mismo propietario esperan a una única generación.
+     */
+    public CalendarFeed get(CalendarOwner owner, Function<CalendarOwner, CachedFeed> loader) {
+        CachedFeed cached = cache.getIfPresent(owner);
+        if (cached != null) {
+            return cached.feed();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        CachedFeed loaded = cache.get(owner, loader);
+        if (invalidations.get() != invalidationsBefore) {
+            cache.asMap().remove(owner, loaded);
+        }
+        return loaded.feed();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onGroupScheduleChanged(GroupScheduleChangedEvent event) {
+        if (event.allGroups()) {
+            invalidateIf(entry -> true);
+        } else {
+            invalidateIf(entry -> entry.getValue().groupIds().stream().anyMatch(event::affects));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        invalidateIf(entry -> entry.getKey().getType() == CalendarOwnerType.STUDENT
+                && event.affects(entry.getKey().getId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onGroupDetailsChanged(GroupDetailsChangedEvent event) {
+        invalidateIf(entry -> entry.getValue().groupIds().contains(event.groupId())
+                || (event.teacherChanged() && entry.getKey().getType() == CalendarOwnerType.TEACHER
+                && (entry.getKey().getId().equals(event.previousTeacherId())
+                || entry.getKey().getId().equals(event.teacherId()))));
+    }
+
+    private void invalidateIf(Predicate<Map.Entry<CalendarOwner, CachedFeed>> predicate) {
+        // Primero se marca la invalidación para que no se guarden las generaciones en curso
+        invalidations.incrementAndGet();
+        int before = cache.asMap().size();
+        cache.asMap().entrySet().removeIf(predicate);
+        log.debug("Calendarios invalidados: {}", before - cache.asMap().size());
+    }
+
+    /**
+     * Calendario generado junto con los grupos que cubre.
+     */
+    public record CachedFeed(CalendarFeed feed, Set<Long> groupIds) {
+
+        public CachedFeed {
+            groupIds = Set.copyOf(groupIds);
+        }
+    }
+}
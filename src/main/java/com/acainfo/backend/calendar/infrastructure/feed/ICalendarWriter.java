@@ -0,0 +1,240 @@
+package com.acainfo.backend.calendar.infrastructure.feed;
+
+import com.acainfo.backend.calendar.infrastructure.repository.jpa.projection.CalendarSessionView;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+
+/**
+ * Escritor de calendarios iCalendar (RFC 5545) que vuelca cada sesión según llega.
+ *
+ * Cada sesión es un evento semanal recurrente (RRULE) en la zona horaria del centro,
+ * que se declara en un VTIMEZONE generado a partir de las reglas de java.time. La salida
+ * es determinista: DTSTAMP sale de la fecha de modificación de la sesión, no del reloj,
+ * así que las mismas sesiones producen siempre los mismos bytes.
+ */
+public class ICalendarWriter implements Closeable {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String UID_DOMAIN = "acainfo";
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final DateTimeFormatter LOCAL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter OFFSET_FORMAT = DateTimeFormatter.ofPattern("xx");
+
+    private final Writer writer;
+    private final ZoneId zone;
+    private int eventCount;
+
+    public ICalendarWriter(OutputStream out, ZoneId zone) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.zone = zone;
+    }
+
+    /**
+     * Cabecera del calendario y definición de su zona horaria.
+     *
+     * @param name nombre que muestran las aplicaciones de calendario
+     * @param refreshInterval intervalo de sondeo sugerido a los clientes
+     */
+    public void beginCalendar(String name, Duration refreshInterval) {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//AcaInfo//Horarios//ES");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        text("X-WR-CALNAME", name);
+        line("X-WR-TIMEZONE:" + zone.getId());
+        line("REFRESH-INTERVAL;VALUE=DURATION:" + refreshInterval);
+        line("X-PUBLISHED-TTL:" + refreshInterval);
+        writeTimeZone();
+    }
+
+    /**
+     * Evento semanal de una sesión, desde la primera semana tras su creación.
+     */
+    public void writeEvent(CalendarSessionView session) {
+        LocalDate firstDay = (session.createdAt() != null ? session.createdAt().toLocalDate() : EPOCH.toLocalDate())
+                .with(TemporalAdjusters.nextOrSame(session.dayOfWeek()));
+        LocalDateTime modified = session.updatedAt() != null ? session.updatedAt()
+                : session.createdAt() != null ? session.createdAt() : EPOCH;
+        String stamp = modified.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+
+        line("BEGIN:VEVENT");
+        line("UID:session-" + session.id() + "@" + UID_DOMAIN);
+        line("DTSTAMP:" + stamp);
+        line("LAST-MODIFIED:" + stamp);
+        line("DTSTART;TZID=" + zone.getId() + ":" + firstDay.atTime(session.startTime()).format(LOCAL_FORMAT));
+        line("DTEND;TZID=" + zone.getId() + ":" + firstDay.atTime(session.endTime()).format(LOCAL_FORMAT));
+        line("RRULE:FREQ=WEEKLY;BYDAY=" + byDay(session.dayOfWeek()));
+        text("SUMMARY", session.subjectName() + " - " + session.groupName());
+        text("LOCATION", location(session));
+        text("DESCRIPTION", description(session.type()));
+        line("END:VEVENT");
+        eventCount++;
+    }
+
+    public void endCalendar() {
+        line("END:VCALENDAR");
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    @Override
+    public void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeTimeZone() {
+        ZoneRules rules = zone.getRules();
+        line("BEGIN:VTIMEZONE");
+        line("TZID:" + zone.getId());
+
+        if (rules.getTransitionRules().isEmpty()) {
+            // Sin cambios de hora: un único periodo con el desplazamiento vigente
+            ZoneOffset offset = rules.getStandardOffset(Instant.now());
+            writeObservance("STANDARD", EPOCH, offset, offset, null);
+        } else {
+            for (ZoneOffsetTransitionRule rule : rules.getTransitionRules()) {
+                ZoneOffsetTransition transition = rule.createTransition(EPOCH.getYear());
+                String kind = transition.getOffsetAfter().equals(rule.getStandardOffset()) ? "STANDARD" : "DAYLIGHT";
+                writeObservance(kind, transition.getDateTimeBefore(),
+                        transition.getOffsetBefore(), transition.getOffsetAfter(), yearlyRule(rule, transition));
+            }
+        }
+
+        line("END:VTIMEZONE");
+    }
+
+    private void writeObservance(String kind, LocalDateTime start, ZoneOffset from, ZoneOffset to, String rrule) {
+        line("BEGIN:" + kind);
+        line("DTSTART:" + start.format(LOCAL_FORMAT));
+        if (rrule != null) {
+            line("RRULE:" + rrule);
+        }
+        line("TZOFFSETFROM:" + OFFSET_FORMAT.format(from));
+        line("TZOFFSETTO:" + OFFSET_FORMAT.format(to));
+        line("END:" + kind);
+    }
+
+    /**
+     * Traduce la regla anual de java.time a RRULE. Las reglas "el domingo a partir del día N"
+     * sólo tienen equivalente cuando N cae al inicio de una semana del mes o en la última;
+     * en otro caso se omite la recurrencia.
+     */
+    private static String yearlyRule(ZoneOffsetTransitionRule rule, ZoneOffsetTransition transition) {
+        Month month = rule.getMonth();
+        int indicator = rule.getDayOfMonthIndicator();
+        DayOfWeek dayOfWeek = rule.getDayOfWeek();
+        String prefix = "FREQ=YEARLY;BYMONTH=" + month.getValue() + ";";
+
+        if (!transition.getDateTimeBefore().getMonth().equals(month)) {
+            return null;
+        }
+        if (dayOfWeek == null) {
+            return prefix + "BYMONTHDAY=" + indicator;
+        }
+        if (!transition.getDateTimeBefore().getDayOfWeek().equals(dayOfWeek)) {
+            return null;
+        }
+        if (indicator == -1 || (month.minLength() == month.maxLength() && indicator == month.maxLength() - 6)) {
+            return prefix + "BYDAY=-1" + byDay(dayOfWeek);
+        }
+        if (indicator > 0 && (indicator - 1) % 7 == 0) {
+            return prefix + "BYDAY=" + ((indicator - 1) / 7 + 1) + byDay(dayOfWeek);
+        }
+        return null;
+    }
+
+    private static String byDay(DayOfWeek dayOfWeek) {
+        return dayOfWeek.name().substring(0, 2);
+    }
+
+    private static String location(CalendarSessionView session) {
+        String classroom = null;
+        if (session.classroom() != null) {
+            String name = session.classroom().name().replace('_', ' ');
+            classroom = "Aula " + name.charAt(0) + name.substring(1).toLowerCase();
+        }
+        return switch (session.type()) {
+            case ONLINE -> "Online";
+            case DUAL -> classroom != null ? classroom + " / Online" : "Online";
+            case IN_PERSON -> classroom != null ? classroom : "";
+        };
+    }
+
+    private static String description(SessionType type) {
+        return switch (type) {
+            case IN_PERSON -> "Clase presencial";
+            case ONLINE -> "Clase online";
+            case DUAL -> "Clase presencial con seguimiento online";
+        };
+    }
+
+    /**
+     * Propiedad de texto, escapando los caracteres especiales de iCalendar.
+     */
+    private void text(String name, String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        line(name + ":" + escaped);
+    }
+
+    /**
+     * Escribe una línea terminada en CRLF, plegándola cada 75 octetos sin partir caracteres UTF-8.
+     */
+    private void line(String content) {
+        try {
+            int octets = 0;
+            for (int i = 0; i < content.length(); ) {
+                int codePoint = content.codePointAt(i);
+                int size = utf8Length(codePoint);
+                if (octets + size > MAX_LINE_OCTETS) {
+                    // La continuación empieza con un espacio, que cuenta para el límite
+                    writer.write(CRLF);
+                    writer.write(' ');
+                    octets = 1;
+                }
+                writer.write(Character.toChars(codePoint));
+                octets += size;
+                i += Character.charCount(codePoint);
+            }
+            writer.write(CRLF);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,120 @@
+package com.acainfo.backend.calendar.infrastructure.repository.imp;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.repository.ReadCalendarFeedRepository;
+import com.acainfo.backend.calendar.infrastructure.feed.CalendarFeedCache;
+import com.acainfo.backend.calendar.infrastructure.feed.CalendarFeedCache.CachedFeed;
+import com.acainfo.backend.calendar.infrastructure.feed.ICalendarWriter;
+import com.acainfo.backend.calendar.infrastructure.repository.jpa.CalendarSessionJpaRepository;
+import com.acainfo.backend.calendar.infrastructure.repository.jpa.projection.CalendarSessionView;
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Implementación del repositorio de calendarios iCalendar.
+ *
+ * Los calendarios se sirven desde {@link CalendarFeedCache}; sólo cuando faltan se abre una
+ * transacción de lectura y se recorren las sesiones mediante cursor, escribiendo cada evento
+ * directamente en el cuerpo sin construir listas intermedias.
+ */
+@Repository
+@Slf4j
+public class ReadCalendarFeedRepositoryImp implements ReadCalendarFeedRepository {
+
+    /**
+     * Inscripciones cuyas clases aparecen en el calendario del estudiante.
+     */
+    private static final Set<EnrollmentStatus> SUBSCRIBED_STATUSES =
+            EnumSet.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.PENDING_PAYMENT);
+
+    private static final int ETAG_BYTES = 16;
+
+    private final CalendarSessionJpaRepository jpaRepository;
+    private final CalendarFeedCache feedCache;
+    private final TransactionTemplate readTransaction;
+    private final ZoneId zone;
+    private final Duration refreshInterval;
+
+    public ReadCalendarFeedRepositoryImp(CalendarSessionJpaRepository jpaRepository,
+                                         CalendarFeedCache feedCache,
+                                         AppProperties appProperties,
+                                         PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        this.feedCache = feedCache;
+        // Lo generado se queda en caché hasta el siguiente cambio: se lee lo confirmado en el primario
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.zone = ZoneId.of(appProperties.getCalendar().getTimeZone());
+        this.refreshInterval = Duration.ofMinutes(appProperties.getCalendar().getRefreshIntervalMinutes());
+    }
+
+    @Override
+    public CalendarFeed findFeed(CalendarOwner owner) {
+        return feedCache.get(owner, this::render);
+    }
+
+    private CachedFeed render(CalendarOwner owner) {
+        log.debug("Generando calendario de {} {}", owner.getType(), owner.getId());
+
+        return ReadRouting.onPrimary(() -> readTransaction.execute(status -> {
+            List<Long> groupIds = switch (owner.getType()) {
+                case STUDENT -> jpaRepository.findGroupIdsByStudentId(owner.getId(), SUBSCRIBED_STATUSES);
+                case TEACHER -> jpaRepository.findGroupIdsByTeacherId(owner.getId());
+            };
+
+            ByteArrayOutputStream content = new ByteArrayOutputStream(4096);
+            int eventCount;
+            try (ICalendarWriter writer = new ICalendarWriter(content, zone)) {
+                writer.beginCalendar(calendarName(owner), refreshInterval);
+                if (!groupIds.isEmpty()) {
+                    try (Stream<CalendarSessionView> sessions = jpaRepository.streamByGroupIds(groupIds)) {
+                        sessions.forEach(writer::writeEvent);
+                    }
+                }
+                writer.endCalendar();
+                eventCount = writer.getEventCount();
+            }
+
+            byte[] bytes = content.toByteArray();
+            CalendarFeed feed = CalendarFeed.builder()
+                    .owner(owner)
+                    .etag(etagOf(bytes))
+                    .content(bytes)
+                    .eventCount(eventCount)
+                    .build();
+            return new CachedFeed(feed, new HashSet<>(groupIds));
+        }));
+    }
+
+    private static String calendarName(CalendarOwner owner) {
+        return switch (owner.getType()) {
+            case STUDENT -> "AcaInfo - Mis clases";
+            case TEACHER -> "AcaInfo - Mis grupos";
+        };
+    }
+
+    private static String etagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.acainfo.backend.calendar.infrastructure.repository.jpa;
+
+import com.acainfo.backend.calendar.infrastructure.repository.jpa.projection.CalendarSessionView;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de sólo lectura que forman los calendarios iCalendar.
+ */
+@Repository
+public interface CalendarSessionJpaRepository extends org.springframework.data.repository.Repository<GroupSessionJpa, Long> {
+
+    /**
+     * IDs de los grupos en los que el estudiante tiene una inscripción en los estados indicados
+     */
+    @Query("SELECT e.id.groupId FROM EnrollmentJpa e " +
+            "WHERE e.id.studentId = :studentId AND e.status IN :statuses")
+    List<Long> findGroupIdsByStudentId(@Param("studentId") Long studentId,
+                                       @Param("statuses") Collection<EnrollmentStatus> statuses);
+
+    /**
+     * IDs de los grupos que imparte el profesor
+     */
+    @Query("SELECT g.id FROM SubjectGroupJpa g WHERE g.teacher.id = :teacherId")
+    List<Long> findGroupIdsByTeacherId(@Param("teacherId") Long teacherId);
+
+    /**
+     * Recorre mediante cursor las sesiones de los grupos con los nombres de grupo y asignatura.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT new com.acainfo.backend.calendar.infrastructure.repository.jpa.projection.CalendarSessionView(" +
+            "s.id, g.id, g.name, sub.name, s.dayOfWeek, s.startTime, s.endTime, s.classroom, s.type, " +
+            "s.createdAt, s.updatedAt) " +
+            "FROM GroupSessionJpa s JOIN s.group g JOIN g.subject sub " +
+            "WHERE g.id IN :groupIds ORDER BY s.id")
+    Stream<CalendarSessionView> streamByGroupIds(@Param("groupIds") Collection<Long> groupIds);
+}
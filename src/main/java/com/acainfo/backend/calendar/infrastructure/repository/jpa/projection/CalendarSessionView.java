@@ -0,0 +1,25 @@
+package com.acainfo.backend.calendar.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Proyección de una sesión con los nombres de su grupo y asignatura, lo necesario para
+ * generar un evento de calendario sin cargar entidades.
+ */
+public record CalendarSessionView(Long id,
+                                  Long groupId,
+                                  String groupName,
+                                  String subjectName,
+                                  DayOfWeek dayOfWeek,
+                                  LocalTime startTime,
+                                  LocalTime endTime,
+                                  Classroom classroom,
+                                  SessionType type,
+                                  LocalDateTime createdAt,
+                                  LocalDateTime updatedAt) {
+}
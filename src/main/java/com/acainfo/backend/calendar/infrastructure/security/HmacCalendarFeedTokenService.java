@@ -0,0 +1,69 @@
+package com.acainfo.backend.calendar.infrastructure.security;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.service.CalendarFeedTokenService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Tokens de suscripción firmados con HMAC-SHA256 sobre el tipo y el ID del propietario.
+ *
+ * Los clientes de calendario no envían cabeceras de autenticación, por eso el token va en
+ * la URL. No caduca: para revocar todas las suscripciones basta con cambiar el secreto.
+ */
+@Service
+public class HmacCalendarFeedTokenService implements CalendarFeedTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int TOKEN_BYTES = 16;
+
+    private final Mac prototype;
+
+    public HmacCalendarFeedTokenService(
+            @Value("${app.calendar.feed-secret:${jwt.secret:404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970}}")
+            String secret) {
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar la firma de calendarios", e);
+        }
+    }
+
+    @Override
+    public String generateToken(CalendarOwner owner) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(owner));
+    }
+
+    @Override
+    public boolean isValid(CalendarOwner owner, String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            byte[] provided = Base64.getUrlDecoder().decode(token);
+            return MessageDigest.isEqual(sign(owner), provided);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private byte[] sign(CalendarOwner owner) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("El proveedor de " + ALGORITHM + " no admite clonado", e);
+        }
+        byte[] digest = mac.doFinal((owner.getType() + ":" + owner.getId()).getBytes(StandardCharsets.UTF_8));
+        return Arrays.copyOf(digest, TOKEN_BYTES);
+    }
+}
@@ -13,6 +13,7 @@ import com.acainfo.backend.config.properties.*;
 @EnableConfigurationProperties({
         AppProperties.class,
         CorsProperties.class,
+        IdempotencyProperties.class,
         RateLimitingProperties.class,
         SecurityProperties.class
 })
@@ -0,0 +1,15 @@
+package com.acainfo.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita la ejecución de tareas programadas.
+ * Se activa con la propiedad 'app.scheduled-tasks.enabled'.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.scheduled-tasks", name = "enabled", havingValue = "true")
+public class SchedulingConfig {
+}
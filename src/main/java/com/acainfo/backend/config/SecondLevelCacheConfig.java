@@ -0,0 +1,78 @@
+package com.acainfo.backend.config;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caché de segundo nivel de Hibernate sobre JCache (Caffeine).
+ *
+ * Las regiones se crean aquí, con tamaño y caducidad de 'app.second-level-cache', y
+ * Hibernate falla al arrancar si una entidad o consulta pide una región que no existe.
+ * Cada contexto tiene su propio CacheManager, que se cierra con él.
+ *
+ * Con 'hibernate.generate_statistics' activo, Micrometer publica los aciertos y fallos
+ * por región (hibernate.second.level.cache.requests, hibernate.cache.query.requests).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    // Regiones de entidad declaradas con @Cache en SubjectJpa, TeacherJpa y SubjectGroupJpa
+    static final List<String> ENTITY_REGIONS = List.of("subject", "teacher", "subjectGroup");
+
+    // Regiones de consulta: las de los listados de asignaturas y la de por defecto
+    static final List<String> QUERY_REGIONS = List.of(
+            "subjectQueries", RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+    @Bean
+    public CacheManager hibernateCacheManager(AppProperties appProperties) {
+        AppProperties.SecondLevelCache properties = appProperties.getSecondLevelCache();
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        ENTITY_REGIONS.forEach(region -> cacheManager.createCache(region,
+                regionConfiguration(properties.getMaxEntitiesPerRegion(), properties.getExpireAfterWriteMinutes())));
+        QUERY_REGIONS.forEach(region -> cacheManager.createCache(region,
+                regionConfiguration(properties.getMaxQueryResults(), properties.getExpireAfterWriteMinutes())));
+
+        // Una entrada por tabla; si se perdiera alguna, las consultas cacheadas dejarían de invalidarse
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>());
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(int maximumSize, int expireMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(expireMinutes)));
+        return configuration;
+    }
+}
@@ -0,0 +1,40 @@
+package com.acainfo.backend.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Permite forzar que las lecturas de un bloque de código vayan al primario aunque
+ * se hagan en transacciones de sólo lectura.
+ *
+ * Es para quien lee en otro hilo datos que acaba de confirmar otra transacción y no
+ * puede permitirse verlos con el retraso de la réplica. Sin réplica configurada no
+ * tiene ningún efecto.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_SCOPES = ThreadLocal.withInitial(() -> 0);
+
+    private ReadRouting() {
+    }
+
+    /**
+     * Ejecuta la acción leyendo siempre del primario.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        PRIMARY_SCOPES.set(PRIMARY_SCOPES.get() + 1);
+        try {
+            return action.get();
+        } finally {
+            int depth = PRIMARY_SCOPES.get() - 1;
+            if (depth == 0) {
+                PRIMARY_SCOPES.remove();
+            } else {
+                PRIMARY_SCOPES.set(depth);
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_SCOPES.get() > 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.acainfo.backend.config.datasource;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decide si una lectura debe ir al primario porque quien la hace acaba de escribir.
+ *
+ * Cada transacción de escritura confirmada abre una ventana (el retraso máximo esperado
+ * de la réplica) durante la que lee del primario:
+ * - el hilo que la confirmó: el resto de la petición y los listeners que se ejecutan al
+ *   terminar la transacción ven lo que se acaba de escribir;
+ * - el usuario autenticado: sus siguientes peticiones, atendidas por otros hilos.
+ *
+ * Las ventanas caducadas de los usuarios se limpian al superar el máximo configurado.
+ */
+public class ReadYourWritesGuard {
+
+    private final long windowNanos;
+    private final int maxTrackedUsers;
+
+    private final ThreadLocal<Long> threadDeadline = new ThreadLocal<>();
+    private final Map<String, Long> userDeadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWritesGuard(AppProperties.ReplicaRouting properties) {
+        this.windowNanos = properties.getReadYourWritesSeconds() * 1_000_000_000L;
+        this.maxTrackedUsers = properties.getMaxTrackedUsers();
+    }
+
+    /**
+     * Registra una escritura confirmada por el hilo y el usuario actuales.
+     */
+    public void recordWrite() {
+        long deadline = System.nanoTime() + windowNanos;
+        threadDeadline.set(deadline);
+
+        String user = currentUser();
+        if (user != null) {
+            if (userDeadlines.size() >= maxTrackedUsers) {
+                evictExpired();
+            }
+            userDeadlines.put(user, deadline);
+        }
+    }
+
+    /**
+     * true si el hilo o el usuario actuales han escrito dentro de la ventana.
+     */
+    public boolean mustReadFromPrimary() {
+        long now = System.nanoTime();
+
+        Long deadline = threadDeadline.get();
+        if (deadline != null) {
+            if (now - deadline < 0) {
+                return true;
+            }
+            threadDeadline.remove();
+        }
+
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long userDeadline = userDeadlines.get(user);
+        if (userDeadline == null) {
+            return false;
+        }
+        if (now - userDeadline < 0) {
+            return true;
+        }
+        userDeadlines.remove(user, userDeadline);
+        return false;
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        userDeadlines.values().removeIf(deadline -> now - deadline >= 0);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,79 @@
+package com.acainfo.backend.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * DataSource que envía las transacciones de sólo lectura a la réplica y todo lo demás
+ * (escrituras, trabajo fuera de transacción, migraciones) al primario.
+ *
+ * La decisión se toma al pedir la conexión, así que debe ir envuelto en un
+ * LazyConnectionDataSourceProxy: la conexión física se pide con la primera sentencia,
+ * cuando la transacción ya está marcada como de sólo lectura. Las lecturas van al
+ * primario si quien las hace acaba de escribir (ReadYourWritesGuard) o si se piden
+ * expresamente con ReadRouting.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesGuard guard;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesGuard guard) {
+        this.guard = guard;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        recordWriteOnCommit();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        recordWriteOnCommit();
+        return super.getConnection(username, password);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        if (ReadRouting.isPrimaryRequired() || guard.mustReadFromPrimary()) {
+            log.trace("Lectura enviada al primario (escritura reciente o forzada)");
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    /**
+     * Una transacción de escritura que llega a pedir conexión abre la ventana de
+     * lectura del primario al confirmarse.
+     */
+    private void recordWriteOnCommit() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guard.recordWrite();
+                }
+            });
+        }
+    }
+}
@@ -2,14 +2,15 @@ package com.acainfo.backend.config.properties;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Propiedades generales de la aplicación.
  * Se mapean desde application.yml con el prefijo 'app'
  */
 @Data
-@Configuration
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
 
@@ -17,6 +18,16 @@ public class AppProperties {
     private Monitoring monitoring = new Monitoring();
     private Notifications notifications = new Notifications();
     private ScheduledTasks scheduledTasks = new ScheduledTasks();
+    private SeatStream seatStream = new SeatStream();
+    private Calendar calendar = new Calendar();
+    private BulkDelete bulkDelete = new BulkDelete();
+    private ReplicaRouting replicaRouting = new ReplicaRouting();
+    private SecondLevelCache secondLevelCache = new SecondLevelCache();
+    private GroupTimetables groupTimetables = new GroupTimetables();
+    private Timetable timetable = new Timetable();
+    private SqlBudget sqlBudget = new SqlBudget();
+    private CacheInvalidation cacheInvalidation = new CacheInvalidation();
+    private DomainEvents domainEvents = new DomainEvents();
 
     @Data
     public static class InitData {
@@ -33,15 +44,183 @@ public class AppProperties {
         private Integer intervalSeconds = 60;
     }
 
+    /**
+     * Notificaciones por correo: cola en memoria, render en un pool y envío SMTP por lotes.
+     */
     @Data
     public static class Notifications {
         private Boolean enabled = false;
         private String fromEmail = "noreply@acainfo.com";
+        private String fromName = "AcaInfo";
+        private Integer queueCapacity = 10_000;
+        private Integer renderThreads = 2;
+        private Integer batchSize = 50;
+        private Integer batchWindowMillis = 200;
+        private Integer maxAttempts = 6;
+        private Integer initialBackoffMillis = 5_000;
+        private Integer maxBackoffMillis = 600_000;
     }
 
     @Data
     public static class ScheduledTasks {
         private Boolean enabled = false;
         private String cronExpression = "0 0 * * * *";
+        private EnrollmentExpiration enrollmentExpiration = new EnrollmentExpiration();
+        private PaymentReminder paymentReminder = new PaymentReminder();
+    }
+
+    /**
+     * Caducidad de inscripciones que no se pagan dentro del plazo.
+     */
+    @Data
+    public static class EnrollmentExpiration {
+        private String cronExpression = "0 */15 * * * *";
+        private Integer paymentDeadlineHours = 72;
+        private Integer chunkSize = 500;
+    }
+
+    /**
+     * Recordatorios de pago a las inscripciones que siguen pendientes cerca del plazo.
+     */
+    @Data
+    public static class PaymentReminder {
+        private String cronExpression = "0 0 * * * *";
+        private Integer hoursBeforeDeadline = 24;
+    }
+
+    /**
+     * Difusión en tiempo real (SSE) de las plazas disponibles de los grupos.
+     */
+    @Data
+    public static class SeatStream {
+        private Integer coalesceWindowMillis = 250;
+        private Integer subscriberBufferSize = 64;
+        private Integer heartbeatSeconds = 15;
+        private Integer timeoutMinutes = 30;
+    }
+
+    /**
+     * Suscripciones iCalendar (.ics) al horario de estudiantes y profesores.
+     */
+    @Data
+    public static class Calendar {
+        private String timeZone = "Europe/Madrid";
+        private Integer refreshIntervalMinutes = 60;
+        private Integer maxAgeSeconds = 900;
+        private Integer maxCachedFeeds = 20_000;
+        private Integer cacheTtlHours = 24;
+    }
+
+    /**
+     * Borrados masivos: se eliminan por bloques de IDs con sentencias DELETE,
+     * sin cargar las entidades.
+     */
+    @Data
+    public static class BulkDelete {
+        private Integer chunkSize = 1000;
+    }
+
+    /**
+     * Envío de las transacciones de sólo lectura a una réplica de la base de datos.
+     * La conexión a la réplica se configura en 'app.replica-routing.datasource'
+     * (url, username, password e hikari), igual que 'spring.datasource'.
+     */
+    @Data
+    public static class ReplicaRouting {
+        private Boolean enabled = false;
+        // Tiempo durante el que quien acaba de escribir lee del primario (retraso máximo esperado de la réplica)
+        private Integer readYourWritesSeconds = 5;
+        private Integer maxTrackedUsers = 10_000;
+    }
+
+    /**
+     * Caché de segundo nivel de Hibernate (JCache sobre Caffeine) para asignaturas,
+     * profesores y grupos, y caché de consultas para los listados de asignaturas.
+     */
+    @Data
+    public static class SecondLevelCache {
+        private Boolean enabled = true;
+        private Integer maxEntitiesPerRegion = 10_000;
+        private Integer maxQueryResults = 1_000;
+        // Acota lo que puede durar un dato obsoleto (p. ej. leído de la réplica antes de replicarse)
+        private Integer expireAfterWriteMinutes = 30;
+    }
+
+    /**
+     * Caché en memoria del horario semanal de cada grupo, usada al comprobar choques de horario.
+     */
+    @Data
+    public static class GroupTimetables {
+        private Integer maxCachedGroups = 10_000;
+        // Acota lo que dura un horario obsoleto si se pierde una invalidación (p. ej. de otro nodo)
+        private Integer expireAfterWriteMinutes = 30;
+    }
+
+    /**
+     * Generación automática de horarios.
+     */
+    @Data
+    public static class Timetable {
+        // Hilos del pool que comparten todas las búsquedas en curso
+        private Integer solverParallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Presupuesto de SQL por petición HTTP. Sentencias, filas y tiempo de base de datos
+     * se publican en Micrometer (sql.request.*) por método y ruta, y se avisa en el log
+     * de las peticiones que superan el presupuesto de su ruta.
+     * Las rutas se indican como "MÉTODO patrón": '[GET /api/v1/subjects/{id}/groups]'.
+     */
+    @Data
+    public static class SqlBudget {
+        private Boolean enabled = true;
+        private Integer maxStatements = 20;
+        private Integer maxDatabaseMillis = 500;
+        // Ejecuciones de una misma sentencia en una petición a partir de las que se sospecha un N+1
+        private Integer repeatedStatementThreshold = 10;
+        private Map<String, SqlRouteBudget> routes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Presupuesto de una ruta concreta; lo que no se indique se toma del general.
+     */
+    @Data
+    public static class SqlRouteBudget {
+        private Integer maxStatements;
+        private Integer maxDatabaseMillis;
+    }
+
+    /**
+     * Bus de invalidación de cachés entre nodos: los cambios confirmados se guardan en la
+     * tabla 'cache_invalidations' y el resto de nodos la leen para invalidar sus cachés en
+     * memoria y su caché de segundo nivel. Sólo hace falta con más de un nodo.
+     */
+    @Data
+    public static class CacheInvalidation {
+        private Boolean enabled = false;
+        // Espera máxima entre lecturas del outbox; con LISTEN/NOTIFY se lee en cuanto hay cambios
+        private Integer pollIntervalMillis = 1000;
+        // Tiempo durante el que se esperan filas de transacciones que confirman tarde
+        private Integer lookbackSeconds = 60;
+        private Integer retentionMinutes = 60;
+        private Integer batchSize = 500;
+        private Integer maxTrackedGaps = 10_000;
+    }
+
+    /**
+     * Outbox de eventos de dominio: los repositorios los guardan en la tabla
+     * 'domain_event_outbox' con su transacción y el relay los entrega después, por lotes,
+     * a los listeners de la aplicación.
+     */
+    @Data
+    public static class DomainEvents {
+        private Boolean relayEnabled = true;
+        private Integer pollIntervalMillis = 500;
+        private Integer batchSize = 100;
+        // Tiempo que un lote reservado queda fuera del alcance de otros nodos mientras se entrega
+        private Integer leaseSeconds = 60;
+        private Integer maxAttempts = 10;
+        private Integer initialBackoffSeconds = 5;
+        private Integer maxBackoffSeconds = 1800;
     }
-}
\ No newline at end of file
+}
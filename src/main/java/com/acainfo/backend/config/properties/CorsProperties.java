@@ -2,7 +2,6 @@ package com.acainfo.backend.config.properties;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 
@@ -11,7 +10,6 @@ import java.util.List;
  * Se mapean desde application.yml con el prefijo 'cors'
  */
 @Data
-@Configuration
 @ConfigurationProperties(prefix = "cors")
 public class CorsProperties {
 
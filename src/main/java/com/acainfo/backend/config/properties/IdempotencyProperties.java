@@ -0,0 +1,20 @@
+package com.acainfo.backend.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Propiedades de configuración para las claves de idempotencia (cabecera Idempotency-Key).
+ * Se mapean desde application.yml con el prefijo 'idempotency'
+ */
+@Data
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private Boolean enabled = true;
+    private Integer ttlHours = 24;
+    private Long maxCachedEntries = 10_000L;
+    private Integer maxRequestBytes = 1_048_576;
+    private Integer maxResponseBytes = 1_048_576;
+    private String purgeCronExpression = "0 30 * * * *";
+}
@@ -2,14 +2,12 @@ package com.acainfo.backend.config.properties;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
 
 /**
  * Propiedades adicionales de seguridad.
  * Se mapean desde application.yml con el prefijo 'security'
  */
 @Data
-@Configuration
 @ConfigurationProperties(prefix = "security")
 public class SecurityProperties {
 
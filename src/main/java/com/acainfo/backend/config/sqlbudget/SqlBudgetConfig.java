@@ -0,0 +1,54 @@
+package com.acainfo.backend.config.sqlbudget;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Conteo de SQL por petición HTTP (presupuesto SQL).
+ * Activo salvo que 'app.sql-budget.enabled' sea false.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlBudgetConfig {
+
+    // Nombre del DataSource que usan JPA, JdbcTemplate y Flyway, con o sin réplica
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * Envuelve sólo el DataSource principal: con réplica, los pools que hay debajo
+     * del enrutador no se envuelven otra vez.
+     */
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Se ejecuta antes que la cadena de seguridad, para contar también lo que consulta la autenticación.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(AppProperties appProperties,
+                                                                   MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(
+                new SqlBudgetFilter(appProperties.getSqlBudget(), meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,108 @@
+package com.acainfo.backend.config.sqlbudget;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el SQL de cada petición HTTP y lo compara con el presupuesto de su ruta.
+ *
+ * Publica por método y patrón de ruta:
+ * - sql.request.statements: sentencias ejecutadas (un lote JDBC cuenta como una);
+ * - sql.request.rows: filas leídas o modificadas;
+ * - sql.request.time: tiempo de ejecución en base de datos.
+ * Avisa en el log si se supera el presupuesto o si una misma sentencia se repite
+ * tantas veces que parece un N+1.
+ */
+@Slf4j
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "sql.request.statements";
+    static final String ROWS_METRIC = "sql.request.rows";
+    static final String TIME_METRIC = "sql.request.time";
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final AppProperties.SqlBudget properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(AppProperties.SqlBudget properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Snapshot snapshot;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                snapshot = scope.snapshot();
+            }
+        }
+        // El patrón de ruta lo deja el DispatcherServlet en la petición al elegir el controlador
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        record(request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN_ROUTE, snapshot);
+    }
+
+    private void record(String method, String route, SqlStatementCounter.Snapshot snapshot) {
+        Tags tags = Tags.of("method", method, "uri", route);
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("Sentencias SQL ejecutadas por petición")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(snapshot.statements());
+        DistributionSummary.builder(ROWS_METRIC)
+                .description("Filas leídas o modificadas por petición")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(snapshot.rows());
+        Timer.builder(TIME_METRIC)
+                .description("Tiempo de ejecución en base de datos por petición")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(snapshot.databaseNanos(), TimeUnit.NANOSECONDS);
+
+        checkBudget(method, route, snapshot);
+    }
+
+    private void checkBudget(String method, String route, SqlStatementCounter.Snapshot snapshot) {
+        AppProperties.SqlRouteBudget routeBudget = properties.getRoutes().get(method + " " + route);
+        int maxStatements = routeBudget != null && routeBudget.getMaxStatements() != null
+                ? routeBudget.getMaxStatements() : properties.getMaxStatements();
+        int maxDatabaseMillis = routeBudget != null && routeBudget.getMaxDatabaseMillis() != null
+                ? routeBudget.getMaxDatabaseMillis() : properties.getMaxDatabaseMillis();
+
+        if (snapshot.statements() > maxStatements || snapshot.databaseMillis() > maxDatabaseMillis) {
+            log.warn("Presupuesto SQL superado en {} {}: {} sentencias (máx. {}), {} ms en base de datos (máx. {}), {} filas",
+                    method, route, snapshot.statements(), maxStatements,
+                    snapshot.databaseMillis(), maxDatabaseMillis, snapshot.rows());
+        }
+
+        if (snapshot.mostRepeatedSql() != null
+                && snapshot.mostRepeatedCount() >= properties.getRepeatedStatementThreshold()) {
+            log.warn("Posible N+1 en {} {}: la misma sentencia se ejecutó {} veces: {}",
+                    method, route, snapshot.mostRepeatedCount(), abbreviate(snapshot.mostRepeatedSql()));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,108 @@
+package com.acainfo.backend.config.sqlbudget;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cuenta las sentencias SQL, las filas y el tiempo de base de datos del hilo actual
+ * mientras haya un ámbito abierto.
+ *
+ * Los ámbitos se anidan: lo que se ejecuta dentro de uno interno cuenta también en
+ * los externos. Sólo se cuenta lo que ejecuta el propio hilo; el trabajo que se
+ * lanza a otros hilos (tareas asíncronas, listeners en otro pool) queda fuera.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Abre un ámbito de conteo en el hilo actual. Debe cerrarse en el mismo hilo.
+     */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * true si el hilo actual tiene algún ámbito abierto.
+     */
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void recordExecution(String sql, long nanos, long rows) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.nanos += nanos;
+            scope.rows += rows;
+            if (sql != null) {
+                scope.executionsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void recordRows(long rows) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.rows += rows;
+        }
+    }
+
+    /**
+     * Resultado de un ámbito: sentencias ejecutadas (un lote JDBC cuenta como una),
+     * filas leídas o modificadas, tiempo de ejecución en base de datos y la sentencia
+     * que más veces se ha repetido, que delata los N+1.
+     */
+    public record Snapshot(int statements, long rows, long databaseNanos,
+                           String mostRepeatedSql, int mostRepeatedCount) {
+
+        public long databaseMillis() {
+            return databaseNanos / 1_000_000;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long nanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public Snapshot snapshot() {
+            String mostRepeatedSql = null;
+            int mostRepeatedCount = 0;
+            for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+                if (entry.getValue() > mostRepeatedCount) {
+                    mostRepeatedSql = entry.getKey();
+                    mostRepeatedCount = entry.getValue();
+                }
+            }
+            return new Snapshot(statements, rows, nanos, mostRepeatedSql, mostRepeatedCount);
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() != this) {
+                throw new IllegalStateException("Los ámbitos de conteo SQL deben cerrarse en orden inverso al de apertura");
+            }
+            if (parent != null) {
+                CURRENT.set(parent);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.acainfo.backend.config.sqlbudget;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource que informa a SqlStatementCounter de cada sentencia ejecutada, de su
+ * tiempo y de las filas que devuelve o modifica.
+ *
+ * Todas las conexiones se envuelven, porque una conexión puede tomarse antes de abrir el
+ * ámbito de conteo y usarse dentro (una transacción que empezó antes, la de un test).
+ * El envoltorio de la conexión sólo deja pasar las llamadas; las sentencias se envuelven
+ * únicamente si al crearlas el hilo tiene un ámbito abierto. Fuera de las peticiones HTTP
+ * (tareas programadas, migraciones) las sentencias y resultados son los del pool, sin
+ * intermediarios.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, invocation) -> {
+            Object result = invocation.proceed();
+            if (result instanceof Statement statement
+                    && STATEMENT_FACTORIES.contains(method)
+                    && SqlStatementCounter.isActive()) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return countingStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement countingStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return proxy(type, statement, (method, args, invocation) -> {
+            if (!method.startsWith("execute")) {
+                Object result = invocation.proceed();
+                return method.equals("getResultSet") && result instanceof ResultSet resultSet
+                        ? countingResultSet(resultSet)
+                        : result;
+            }
+
+            // Statement.execute*(sql) lleva la sentencia como argumento; PreparedStatement la trae de antes
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            long start = System.nanoTime();
+            Object result = invocation.proceed();
+            long elapsed = System.nanoTime() - start;
+
+            SqlStatementCounter.recordExecution(sql, elapsed, affectedRows(result));
+            return result instanceof ResultSet resultSet ? countingResultSet(resultSet) : result;
+        });
+    }
+
+    private static ResultSet countingResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, resultSet, (method, args, invocation) -> {
+            Object result = invocation.proceed();
+            if (method.equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementCounter.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    private static long affectedRows(Object result) {
+        return switch (result) {
+            case Integer count -> Math.max(count, 0);
+            case Long count -> Math.max(count, 0);
+            // Statement.SUCCESS_NO_INFO (-2) no dice cuántas filas: no se suma
+            case int[] counts -> {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                yield total;
+            }
+            case long[] counts -> {
+                long total = 0;
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+                yield total;
+            }
+            case null, default -> 0;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, T target, Interceptor interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            // Hibernate guarda sentencias y resultados en mapas: la identidad es la del proxy
+            if (method.getName().equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            return interceptor.intercept(method.getName(), args, () -> {
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object proceed() throws Throwable;
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object intercept(String method, Object[] args, Invocation invocation) throws Throwable;
+    }
+}
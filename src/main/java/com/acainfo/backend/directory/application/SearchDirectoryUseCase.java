@@ -0,0 +1,24 @@
+package com.acainfo.backend.directory.application;
+
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+
+import java.util.List;
+
+/**
+ * Caso de uso para buscar estudiantes y profesores en el directorio.
+ */
+public interface SearchDirectoryUseCase {
+
+    /**
+     * Busca por prefijo en nombre, apellido y email, sin distinguir mayúsculas ni acentos.
+     * Con varias palabras ("garc mar") cada una debe ser prefijo de alguna palabra del usuario.
+     *
+     * @param query palabras a buscar
+     * @param type tipo de usuario (null = estudiantes y profesores)
+     * @param limit número máximo de resultados
+     * @return usuarios encontrados
+     * @throws IllegalArgumentException si la consulta está vacía o el límite está fuera de rango
+     */
+    List<DirectoryEntry> search(String query, DirectoryEntryType type, int limit);
+}
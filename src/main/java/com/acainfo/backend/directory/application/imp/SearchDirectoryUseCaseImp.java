@@ -0,0 +1,36 @@
+package com.acainfo.backend.directory.application.imp;
+
+import com.acainfo.backend.directory.application.SearchDirectoryUseCase;
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.repository.ReadDirectoryRepository;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de búsqueda en el directorio.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchDirectoryUseCaseImp implements SearchDirectoryUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final ReadDirectoryRepository readDirectoryRepository;
+
+    @Override
+    public List<DirectoryEntry> search(String query, DirectoryEntryType type, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("El texto de búsqueda es requerido");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("El límite debe estar entre 1 y " + MAX_LIMIT);
+        }
+
+        return readDirectoryRepository.search(query, type, limit);
+    }
+}
@@ -0,0 +1,29 @@
+package com.acainfo.backend.directory.application.mapper;
+
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.infrastructure.controller.dto.DirectoryEntryOutputDto;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * Mapper para convertir entre DTOs y entidades de dominio.
+ * MapStruct generará la implementación en tiempo de compilación.
+ */
+@Mapper(
+        componentModel = "spring",
+        nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE,
+        unmappedTargetPolicy = ReportingPolicy.WARN
+)
+public interface DirectoryMapper {
+
+    /**
+     * Convierte una entrada del directorio a DTO de salida.
+     */
+    DirectoryEntryOutputDto toOutputDto(DirectoryEntry entry);
+
+    /**
+     * Convierte una lista de entradas a lista de DTOs de salida.
+     */
+    List<DirectoryEntryOutputDto> toOutputDtoList(List<DirectoryEntry> entries);
+}
@@ -0,0 +1,22 @@
+package com.acainfo.backend.directory.domain.entity;
+
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import lombok.*;
+
+/**
+ * Value Object con una entrada del directorio de estudiantes y profesores.
+ * Los profesores no tienen apellido separado del nombre.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class DirectoryEntry {
+
+    private final DirectoryEntryType type;
+    private final Long id;
+    private final String name;
+    private final String lastName;
+    private final String email;
+}
@@ -0,0 +1,23 @@
+package com.acainfo.backend.directory.domain.repository;
+
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+
+import java.util.List;
+
+/**
+ * Puerto de lectura del directorio de estudiantes y profesores.
+ */
+public interface ReadDirectoryRepository {
+
+    /**
+     * Busca por prefijo en nombre, apellido y email, sin distinguir mayúsculas ni acentos.
+     * Cada palabra de la consulta debe ser prefijo de alguna palabra de la entrada.
+     *
+     * @param query palabras a buscar, separadas por espacios
+     * @param type tipo de usuario (null = estudiantes y profesores)
+     * @param limit número máximo de resultados
+     * @return entradas encontradas, vacío si la consulta no tiene palabras
+     */
+    List<DirectoryEntry> search(String query, DirectoryEntryType type, int limit);
+}
@@ -0,0 +1,9 @@
+package com.acainfo.backend.directory.domain.value;
+
+/**
+ * Tipo de usuario de una entrada del directorio.
+ */
+public enum DirectoryEntryType {
+    STUDENT,
+    TEACHER
+}
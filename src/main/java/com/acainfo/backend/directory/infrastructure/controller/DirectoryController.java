@@ -0,0 +1,60 @@
+package com.acainfo.backend.directory.infrastructure.controller;
+
+import com.acainfo.backend.directory.application.SearchDirectoryUseCase;
+import com.acainfo.backend.directory.application.mapper.DirectoryMapper;
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import com.acainfo.backend.directory.infrastructure.controller.dto.DirectoryEntryOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST del directorio de estudiantes y profesores.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/directory")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Directory", description = "Búsqueda de estudiantes y profesores")
+public class DirectoryController {
+
+    private final SearchDirectoryUseCase searchDirectoryUseCase;
+    private final DirectoryMapper directoryMapper;
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Buscar estudiantes y profesores",
+            description = "Búsqueda por prefijo en nombre, apellidos y email, sin distinguir mayúsculas ni acentos. " +
+                    "Con varias palabras (\"garc mar\") cada una debe ser prefijo de alguna palabra del usuario")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Búsqueda realizada"),
+            @ApiResponse(responseCode = "400", description = "Texto vacío o límite fuera de rango")
+    })
+    public ResponseEntity<List<DirectoryEntryOutputDto>> search(
+            @Parameter(description = "Texto a buscar", example = "garc mar") @RequestParam("q") String query,
+            @Parameter(description = "Tipo de usuario (todos si se omite)") @RequestParam(required = false) DirectoryEntryType type,
+            @Parameter(description = "Número máximo de resultados") @RequestParam(defaultValue = "20") int limit) {
+        log.info("GET /api/v1/directory/search - Texto: '{}', tipo: {}", query, type);
+
+        try {
+            List<DirectoryEntry> entries = searchDirectoryUseCase.search(query, type, limit);
+            return ResponseEntity.ok(directoryMapper.toOutputDtoList(entries));
+        } catch (IllegalArgumentException e) {
+            log.warn("Búsqueda en el directorio inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.acainfo.backend.directory.infrastructure.controller.dto;
+
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de salida con un usuario encontrado en el directorio.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Usuario del directorio")
+public class DirectoryEntryOutputDto {
+
+    @Schema(description = "Tipo de usuario", example = "STUDENT")
+    private DirectoryEntryType type;
+
+    @Schema(description = "ID del estudiante o profesor", example = "42")
+    private Long id;
+
+    @Schema(description = "Nombre", example = "María")
+    private String name;
+
+    @Schema(description = "Apellidos (sólo estudiantes)", example = "García López")
+    private String lastName;
+
+    @Schema(description = "Email", example = "maria.garcia@example.com")
+    private String email;
+}
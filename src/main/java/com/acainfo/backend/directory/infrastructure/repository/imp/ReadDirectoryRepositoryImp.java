@@ -0,0 +1,36 @@
+package com.acainfo.backend.directory.infrastructure.repository.imp;
+
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.repository.ReadDirectoryRepository;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import com.acainfo.backend.directory.infrastructure.search.DirectorySearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Implementación del repositorio de lectura del directorio.
+ * Las búsquedas se resuelven sobre el índice en memoria, sin consultar la base de datos.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ReadDirectoryRepositoryImp implements ReadDirectoryRepository {
+
+    private final DirectorySearchIndex searchIndex;
+
+    @Override
+    public List<DirectoryEntry> search(String query, DirectoryEntryType type, int limit) {
+        log.debug("Buscando en el directorio: '{}' (tipo: {}, límite: {})", query, type, limit);
+
+        // Validación defensiva mínima
+        if (query == null) {
+            log.warn("Búsqueda con texto null, retornando lista vacía");
+            return List.of();
+        }
+
+        return searchIndex.search(query, type, limit);
+    }
+}
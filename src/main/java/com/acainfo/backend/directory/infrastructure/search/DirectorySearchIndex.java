@@ -0,0 +1,285 @@
+package com.acainfo.backend.directory.infrastructure.search;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.event.StudentChangedEvent;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.teacher.domain.entity.TeacherSummary;
+import com.acainfo.backend.teacher.domain.event.TeacherChangedEvent;
+import com.acainfo.backend.teacher.domain.repository.ReadTeacherRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice en memoria del directorio de estudiantes y profesores para búsquedas por prefijo.
+ *
+ * Indexa las palabras del nombre, del apellido y del email (completo y por partes), en
+ * minúsculas y sin acentos. Se carga entero en la primera búsqueda y después se mantiene
+ * con los eventos de cambio: al terminar cada transacción se releen sólo los usuarios
+ * afectados, ya confirmados. Las búsquedas comparten un bloqueo de lectura y sólo las
+ * actualizaciones lo toman en exclusiva.
+ *
+ * El índice es local a cada instancia y no incluye contraseñas: se carga desde los
+ * listados sin contraseña de los repositorios de estudiantes y profesores.
+ */
+@Component
+@Slf4j
+public class DirectorySearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NAME_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern EMAIL_SEPARATORS = Pattern.compile("[._+\\-]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ReadStudentRepository readStudentRepository;
+    private final ReadTeacherRepository readTeacherRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PrefixIndex<EntryKey> index = new PrefixIndex<>();
+    private final Map<EntryKey, DirectoryEntry> entries = new HashMap<>();
+    // Usuarios releídos mientras el índice no estaba cargado: la carga no debe pisarlos
+    private final Set<EntryKey> refreshedBeforeLoad = new HashSet<>();
+    private final Object loadMonitor = new Object();
+    // Lectura y aplicación de cada cambio van juntas: el último en entrar lee el estado más reciente
+    private final Object refreshMonitor = new Object();
+    private volatile boolean loaded;
+    private long generation;
+
+    public DirectorySearchIndex(ReadStudentRepository readStudentRepository,
+                                ReadTeacherRepository readTeacherRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.readStudentRepository = readStudentRepository;
+        this.readTeacherRepository = readTeacherRepository;
+        // Las lecturas deben ver sólo datos confirmados, nunca los de la transacción en curso,
+        // y hacerse en el primario: una réplica atrasada dejaría el índice desfasado
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Busca por prefijo: cada palabra de la consulta debe ser prefijo de alguna palabra
+     * de la entrada.
+     *
+     * @param type tipo de usuario (null = todos)
+     */
+    public List<DirectoryEntry> search(String query, DirectoryEntryType type, int limit) {
+        List<String> tokens = queryTokens(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return index.search(tokens, limit, key -> type == null || key.type() == type).stream()
+                    .map(entries::get)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (event.allStudents()) {
+            reset();
+            return;
+        }
+        synchronized (refreshMonitor) {
+            List<StudentSummary> students = ReadRouting.onPrimary(() -> readTransaction.execute(status ->
+                    readStudentRepository.findSummariesByIds(event.studentIds())));
+            refresh(DirectoryEntryType.STUDENT, event.studentIds(),
+                    students.stream().map(DirectorySearchIndex::toEntry).toList());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onTeacherChanged(TeacherChangedEvent event) {
+        if (event.allTeachers()) {
+            reset();
+            return;
+        }
+        synchronized (refreshMonitor) {
+            List<TeacherSummary> teachers = ReadRouting.onPrimary(() -> readTransaction.execute(status ->
+                    readTeacherRepository.findSummariesByIds(event.teacherIds())));
+            refresh(DirectoryEntryType.TEACHER, event.teacherIds(),
+                    teachers.stream().map(DirectorySearchIndex::toEntry).toList());
+        }
+    }
+
+    /**
+     * Sustituye las entradas de los IDs indicados por su estado actual;
+     * los que ya no existen desaparecen del índice.
+     */
+    private void refresh(DirectoryEntryType type, Set<Long> ids, List<DirectoryEntry> current) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                EntryKey key = new EntryKey(type, id);
+                index.remove(key);
+                entries.remove(key);
+                if (!loaded) {
+                    refreshedBeforeLoad.add(key);
+                }
+            }
+            current.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Directorio actualizado: {} {} releído(s)", ids.size(), type);
+    }
+
+    /**
+     * Vacía el índice tras un borrado masivo; la siguiente búsqueda lo vuelve a cargar.
+     */
+    private void reset() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            entries.clear();
+            refreshedBeforeLoad.clear();
+            loaded = false;
+            generation++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Directorio vaciado, se recargará en la próxima búsqueda");
+    }
+
+    private void ensureLoaded() {
+        while (!loaded) {
+            synchronized (loadMonitor) {
+                if (loaded) {
+                    return;
+                }
+                load();
+            }
+        }
+    }
+
+    private void load() {
+        long generationBefore;
+        lock.readLock().lock();
+        try {
+            generationBefore = generation;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<DirectoryEntry> all = ReadRouting.onPrimary(() -> readTransaction.execute(status -> {
+            List<DirectoryEntry> loadedEntries = new ArrayList<>();
+            readStudentRepository.findAll().forEach(student -> loadedEntries.add(toEntry(student)));
+            readTeacherRepository.findAll().forEach(teacher -> loadedEntries.add(toEntry(teacher)));
+            return loadedEntries;
+        }));
+
+        lock.writeLock().lock();
+        try {
+            if (generation != generationBefore) {
+                // Un borrado masivo durante la carga: lo leído puede no existir ya
+                return;
+            }
+            for (DirectoryEntry entry : all) {
+                if (!refreshedBeforeLoad.contains(keyOf(entry))) {
+                    put(entry);
+                }
+            }
+            refreshedBeforeLoad.clear();
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Directorio cargado en memoria: {} usuarios", all.size());
+    }
+
+    private void put(DirectoryEntry entry) {
+        EntryKey key = keyOf(entry);
+        entries.put(key, entry);
+        index.put(key, entryTokens(entry));
+    }
+
+    private static EntryKey keyOf(DirectoryEntry entry) {
+        return new EntryKey(entry.getType(), entry.getId());
+    }
+
+    private static DirectoryEntry toEntry(StudentSummary student) {
+        return new DirectoryEntry(DirectoryEntryType.STUDENT, student.getId(),
+                student.getName(), student.getLastName(), student.getEmail());
+    }
+
+    private static DirectoryEntry toEntry(TeacherSummary teacher) {
+        return new DirectoryEntry(DirectoryEntryType.TEACHER, teacher.getId(),
+                teacher.getName(), null, teacher.getEmail());
+    }
+
+    /**
+     * Palabras indexadas de una entrada: las del nombre y el apellido, el email completo
+     * y las partes de su usuario (lo que va antes de la arroba).
+     */
+    static List<String> entryTokens(DirectoryEntry entry) {
+        List<String> tokens = new ArrayList<>();
+        addWords(tokens, entry.getName(), NAME_SEPARATORS);
+        addWords(tokens, entry.getLastName(), NAME_SEPARATORS);
+        String email = fold(entry.getEmail());
+        if (!email.isEmpty()) {
+            tokens.add(email);
+            int at = email.indexOf('@');
+            addWords(tokens, at >= 0 ? email.substring(0, at) : email, EMAIL_SEPARATORS);
+        }
+        return tokens;
+    }
+
+    /**
+     * Palabras de la consulta, partidas igual que el nombre y el apellido al indexarlos:
+     * "garcía-lópez" busca "garcia" y "lopez". Una palabra con arroba es un email y se
+     * busca entera, como el email completo indexado.
+     */
+    static List<String> queryTokens(String query) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : WHITESPACE.split(fold(query))) {
+            if (word.indexOf('@') >= 0) {
+                tokens.add(word);
+            } else {
+                addWords(tokens, word, NAME_SEPARATORS);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWords(List<String> tokens, String text, Pattern separators) {
+        for (String word : separators.split(fold(text))) {
+            if (!word.isEmpty()) {
+                tokens.add(word);
+            }
+        }
+    }
+
+    /**
+     * Minúsculas y sin acentos ni diéresis: "García" y "garcia" dan lo mismo.
+     */
+    static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text.strip(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record EntryKey(DirectoryEntryType type, Long id) {
+    }
+}
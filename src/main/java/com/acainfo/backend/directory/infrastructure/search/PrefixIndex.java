@@ -0,0 +1,110 @@
+package com.acainfo.backend.directory.infrastructure.search;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Índice invertido ordenado de palabras a claves, para búsquedas por prefijo.
+ *
+ * Las palabras se guardan en un árbol ordenado, así todas las que empiezan por un prefijo
+ * forman un rango contiguo que se recorre sin mirar el resto. Con varias palabras en la
+ * consulta se recorre sólo el rango de la más larga (normalmente la más selectiva) y las
+ * demás se comprueban contra las palabras de cada candidato. No es thread-safe; la
+ * sincronización corre a cargo de quien lo usa.
+ *
+ * @param <K> clave de las entradas indexadas
+ */
+final class PrefixIndex<K> {
+
+    private final NavigableMap<String, Set<K>> postings = new TreeMap<>();
+    private final Map<K, String[]> tokensByKey = new HashMap<>();
+
+    int size() {
+        return tokensByKey.size();
+    }
+
+    /**
+     * Indexa una entrada con sus palabras, sustituyendo las que tuviera.
+     */
+    void put(K key, Collection<String> tokens) {
+        remove(key);
+        String[] distinct = new LinkedHashSet<>(tokens).toArray(String[]::new);
+        tokensByKey.put(key, distinct);
+        for (String token : distinct) {
+            postings.computeIfAbsent(token, t -> new LinkedHashSet<>(2)).add(key);
+        }
+    }
+
+    /**
+     * Elimina una entrada.
+     *
+     * @return true si existía
+     */
+    boolean remove(K key) {
+        String[] tokens = tokensByKey.remove(key);
+        if (tokens == null) {
+            return false;
+        }
+        for (String token : tokens) {
+            Set<K> keys = postings.get(token);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+        return true;
+    }
+
+    void clear() {
+        postings.clear();
+        tokensByKey.clear();
+    }
+
+    /**
+     * Claves cuyas palabras empiezan por cada una de las palabras de la consulta.
+     * Se devuelven en el orden de sus palabras y se deja de buscar al llegar al límite.
+     *
+     * @param queryTokens palabras de la consulta, ya normalizadas y sin vacías
+     * @param filter condición adicional sobre la clave
+     */
+    List<K> search(List<String> queryTokens, int limit, Predicate<K> filter) {
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<String> ordered = new ArrayList<>(queryTokens);
+        ordered.sort(Comparator.comparingInt(String::length).reversed());
+        String driver = ordered.get(0);
+        List<String> others = ordered.subList(1, ordered.size());
+
+        List<K> result = new ArrayList<>(Math.min(limit, 64));
+        Set<K> seen = new HashSet<>();
+        for (Set<K> keys : postings.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+            for (K key : keys) {
+                if (seen.add(key) && filter.test(key) && matchesAll(tokensByKey.get(key), others)) {
+                    result.add(key);
+                    if (result.size() == limit) {
+                        return result;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean matchesAll(String[] tokens, List<String> prefixes) {
+        for (String prefix : prefixes) {
+            boolean matched = false;
+            for (String token : tokens) {
+                if (token.startsWith(prefix)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
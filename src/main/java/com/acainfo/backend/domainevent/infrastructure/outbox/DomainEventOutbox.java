@@ -0,0 +1,172 @@
+package com.acainfo.backend.domainevent.infrastructure.outbox;
+
+import com.acainfo.backend.enrollment.domain.event.EnrollmentCreatedEvent;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentStatusChangedEvent;
+import com.acainfo.backend.subject.domain.event.SubjectDeactivatedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Outbox de eventos de dominio sobre la tabla 'domain_event_outbox'.
+ *
+ * Los repositorios guardan aquí los eventos en la misma transacción que el cambio que
+ * los provoca: si se deshace, el evento desaparece con él; si se confirma, el relay lo
+ * entregará aunque el nodo se caiga justo después. Sólo admite los tipos de evento
+ * registrados, para que el relay siempre sepa leerlos.
+ */
+@Component
+public class DomainEventOutbox {
+
+    private static final Map<String, Class<?>> EVENT_TYPES = Stream.of(
+                    EnrollmentCreatedEvent.class,
+                    EnrollmentStatusChangedEvent.class,
+                    GroupStatusChangedEvent.class,
+                    SubjectDeactivatedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO domain_event_outbox (event_type, payload, created_at, available_at, attempts) " +
+            "VALUES (?, ?, ?, ?, 0)";
+
+    // SKIP LOCKED: cada nodo reserva un lote distinto sin esperar a los demás
+    private static final String SELECT_AVAILABLE_SQL =
+            "SELECT id, event_type, payload, created_at, attempts FROM domain_event_outbox " +
+            "WHERE available_at <= ? AND attempts < ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String RESCHEDULE_SQL =
+            "UPDATE domain_event_outbox SET available_at = ?, last_error = ? WHERE id = ?";
+
+    private static final RowMapper<PendingEvent> ROW_MAPPER = (rs, rowNum) -> new PendingEvent(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getInt("attempts") + 1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Evento reservado para su entrega.
+     *
+     * @param attempts número de este intento, empezando en 1
+     */
+    public record PendingEvent(Long id, String eventType, String payload, LocalDateTime createdAt, int attempts) {
+    }
+
+    /**
+     * Guarda un evento en la transacción en curso, que debe existir.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * Guarda varios eventos, en un lote, en la transacción en curso, que debe existir.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (Object event : events) {
+            String eventType = event.getClass().getSimpleName();
+            if (EVENT_TYPES.get(eventType) != event.getClass()) {
+                throw new IllegalArgumentException("Tipo de evento no registrado en el outbox: " + event.getClass().getName());
+            }
+            batchArgs.add(new Object[]{eventType, toJson(event), now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * Reserva hasta 'limit' eventos disponibles, en orden, y los aplaza hasta
+     * 'leaseUntil' para que ningún otro nodo los entregue mientras tanto.
+     * Debe llamarse dentro de una transacción: la reserva dura lo que ella.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<PendingEvent> claim(int limit, int maxAttempts, LocalDateTime leaseUntil) {
+        List<PendingEvent> events = jdbcTemplate.query(SELECT_AVAILABLE_SQL, ROW_MAPPER,
+                Timestamp.valueOf(LocalDateTime.now()), maxAttempts, limit);
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        jdbcTemplate.update("UPDATE domain_event_outbox SET attempts = attempts + 1, available_at = ? " +
+                        "WHERE id IN (" + placeholders(events.size()) + ")",
+                Stream.concat(Stream.of(Timestamp.valueOf(leaseUntil)), events.stream().map(PendingEvent::id)).toArray());
+        return events;
+    }
+
+    /**
+     * Elimina los eventos ya entregados.
+     */
+    public void delete(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM domain_event_outbox WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+    }
+
+    /**
+     * Deja un evento cuya entrega ha fallado disponible de nuevo a partir de 'availableAt'.
+     */
+    public void reschedule(Long id, LocalDateTime availableAt, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(RESCHEDULE_SQL, Timestamp.valueOf(availableAt), truncated, id);
+    }
+
+    /**
+     * Reconstruye el evento guardado.
+     *
+     * @throws IllegalStateException si el tipo no está registrado o el contenido no es válido
+     */
+    public Object read(PendingEvent pending) {
+        Class<?> type = EVENT_TYPES.get(pending.eventType());
+        if (type == null) {
+            throw new IllegalStateException("Tipo de evento desconocido en el outbox: " + pending.eventType());
+        }
+        try {
+            return objectMapper.readValue(pending.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Evento del outbox con contenido no válido: " + pending.id(), e);
+        }
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,167 @@
+package com.acainfo.backend.domainevent.infrastructure.relay;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entrega los eventos del outbox a los listeners de la aplicación, fuera de las
+ * peticiones y de las transacciones que los guardaron.
+ *
+ * Cada vuelta reserva un lote de eventos en una transacción corta, los publica uno a
+ * uno en orden con el ApplicationEventPublisher desde su propio hilo y borra de una vez
+ * los entregados. Los listeners son @EventListener normales: se ejecutan sin transacción
+ * y, como la entrega es al menos una vez, deben tolerar recibir un evento repetido.
+ *
+ * Si un listener falla, el evento se reintenta con espera exponencial hasta
+ * 'max-attempts'; después se deja en la tabla con su último error. Con varios nodos,
+ * cada uno reserva lotes distintos, así que el orden sólo se garantiza dentro de un lote.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.domain-events", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class DomainEventRelay {
+
+    static final String RELAYED_METRIC = "domain.events.relayed";
+    static final String DELAY_METRIC = "domain.events.delay";
+
+    private final DomainEventOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties.DomainEvents properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer delay;
+
+    private ScheduledExecutorService relay;
+
+    public DomainEventRelay(DomainEventOutbox outbox,
+                            ApplicationEventPublisher eventPublisher,
+                            PlatformTransactionManager transactionManager,
+                            AppProperties appProperties,
+                            MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = appProperties.getDomainEvents();
+        this.meterRegistry = meterRegistry;
+        this.delay = Timer.builder(DELAY_METRIC)
+                .description("Tiempo desde que se guarda un evento de dominio hasta que se entrega")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Arranca cuando la aplicación ya está lista, con todos los listeners registrados.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (relay != null) {
+            return;
+        }
+        long interval = properties.getPollIntervalMillis();
+        relay = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("domain-event-relay").daemon().factory());
+        relay.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (relay != null) {
+            relay.shutdownNow();
+        }
+    }
+
+    /**
+     * Entrega lotes hasta vaciar el outbox.
+     */
+    void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == properties.getBatchSize() && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            // Se reintenta en la siguiente vuelta
+            log.warn("Error entregando eventos del outbox: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(properties.getLeaseSeconds());
+        List<DomainEventOutbox.PendingEvent> batch = transactionTemplate.execute(status ->
+                outbox.claim(properties.getBatchSize(), properties.getMaxAttempts(), leaseUntil));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        for (DomainEventOutbox.PendingEvent pending : batch) {
+            if (deliver(pending)) {
+                delivered.add(pending.id());
+            }
+        }
+        outbox.delete(delivered);
+
+        log.debug("Eventos del outbox entregados: {}/{}", delivered.size(), batch.size());
+        return batch.size();
+    }
+
+    private boolean deliver(DomainEventOutbox.PendingEvent pending) {
+        try {
+            eventPublisher.publishEvent(outbox.read(pending));
+        } catch (Exception e) {
+            failed(pending, e);
+            return false;
+        }
+
+        count(pending, "delivered");
+        Duration elapsed = Duration.between(pending.createdAt(), LocalDateTime.now());
+        delay.record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+        return true;
+    }
+
+    private void failed(DomainEventOutbox.PendingEvent pending, Exception e) {
+        count(pending, "failed");
+
+        if (pending.attempts() >= properties.getMaxAttempts()) {
+            log.error("Evento {} ({}) abandonado tras {} intentos: {}",
+                    pending.id(), pending.eventType(), pending.attempts(), e.getMessage(), e);
+        } else {
+            log.warn("Error entregando el evento {} ({}), intento {}: {}",
+                    pending.id(), pending.eventType(), pending.attempts(), e.getMessage());
+        }
+        outbox.reschedule(pending.id(), LocalDateTime.now().plus(backoff(pending.attempts())), e.getMessage());
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = (long) properties.getInitialBackoffSeconds() << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxBackoffSeconds()));
+    }
+
+    private void count(DomainEventOutbox.PendingEvent pending, String outcome) {
+        Counter.builder(RELAYED_METRIC)
+                .description("Eventos de dominio entregados desde el outbox")
+                .tag("type", pending.eventType())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,54 @@
+package com.acainfo.backend.domainevent.infrastructure.repository.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para el outbox de eventos de dominio.
+ * Mapea la tabla 'domain_event_outbox'; el acceso se realiza con JDBC desde DomainEventOutbox.
+ */
+@Entity
+@Table(name = "domain_event_outbox",
+        indexes = {
+                @Index(name = "idx_domain_event_available", columnList = "available_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "payload")
+public class DomainEventOutboxJpa {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Nombre simple del record del evento: "EnrollmentCreatedEvent".
+     */
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 1_048_576)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Momento a partir del cual el relay puede entregarlo: al reservarlo se aplaza
+     * durante la entrega y, si falla, hasta el siguiente reintento.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,33 @@
+package com.acainfo.backend.enrollment.application;
+
+import com.acainfo.backend.enrollment.domain.entity.ScheduleClash;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caso de uso para comprobar, antes de inscribirse, si el horario de un grupo
+ * choca con los grupos en los que el estudiante ya está inscrito (ACTIVE o PENDING_PAYMENT).
+ */
+public interface CheckScheduleClashesUseCase {
+
+    /**
+     * Comprueba un único grupo.
+     *
+     * @param studentId el ID del estudiante
+     * @param groupId el ID del grupo candidato
+     * @return el resultado, o vacío si el grupo no existe
+     * @throws IllegalArgumentException si algún ID no es válido
+     */
+    Optional<ScheduleClash> checkGroup(Long studentId, Long groupId);
+
+    /**
+     * Comprueba de una vez todos los grupos activos de una asignatura.
+     *
+     * @param studentId el ID del estudiante
+     * @param subjectId el ID de la asignatura
+     * @return un resultado por grupo activo de la asignatura, ordenados por ID de grupo
+     * @throws IllegalArgumentException si algún ID no es válido
+     */
+    List<ScheduleClash> checkSubject(Long studentId, Long subjectId);
+}
@@ -0,0 +1,37 @@
+package com.acainfo.backend.enrollment.application;
+
+import com.acainfo.backend.enrollment.domain.entity.MultiGroupEnrollment;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentMode;
+
+import java.util.List;
+
+/**
+ * Caso de uso para inscribir a un estudiante en varios grupos en una única operación.
+ */
+public interface EnrollInGroupsUseCase {
+
+    /**
+     * Número máximo de grupos admitidos en una misma operación.
+     */
+    int MAX_GROUPS_PER_REQUEST = 10;
+
+    /**
+     * Inscribe a un estudiante en varios grupos dentro de una única transacción.
+     *
+     * Todos los grupos se bloquean a la vez y en orden de ID antes de comprobar
+     * su estado y capacidad. Las inscripciones se crean en estado PENDING_PAYMENT.
+     *
+     * - ALL_OR_NOTHING: si algún grupo rechaza la inscripción no se crea ninguna
+     * - BEST_EFFORT: se crean las inscripciones en los grupos que las admiten
+     *
+     * @param studentId el ID del estudiante
+     * @param groupIds los IDs de los grupos (los duplicados se ignoran)
+     * @param mode el modo de inscripción
+     * @return el resultado por grupo, en el orden solicitado
+     *
+     * @throws IllegalArgumentException si faltan datos o se superan los grupos permitidos
+     * @throws com.acainfo.backend.enrollment.domain.exception.InvalidEnrollmentDataException
+     *         si el estudiante no existe
+     */
+    MultiGroupEnrollment enroll(Long studentId, List<Long> groupIds, EnrollmentMode mode);
+}
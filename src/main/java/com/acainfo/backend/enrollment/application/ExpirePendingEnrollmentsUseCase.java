@@ -0,0 +1,27 @@
+package com.acainfo.backend.enrollment.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso para la caducidad de inscripciones pendientes de pago.
+ *
+ * Las inscripciones que siguen en PENDING_PAYMENT pasado el plazo de pago
+ * pasan a EXPIRED y liberan su plaza en el grupo.
+ */
+public interface ExpirePendingEnrollmentsUseCase {
+
+    /**
+     * Caduca las inscripciones pendientes de pago realizadas antes de la fecha de corte.
+     *
+     * Las candidatas se leen y se procesan en bloques, cada uno en su propia transacción,
+     * por lo que la memoria usada no depende del número de inscripciones pendientes.
+     * Los bloques ya confirmados no se deshacen si falla uno posterior.
+     *
+     * @param cutoff fecha límite; caducan las inscripciones anteriores a ella
+     * @param chunkSize número de inscripciones procesadas por bloque
+     * @return el número de inscripciones caducadas
+     *
+     * @throws IllegalArgumentException si la fecha es null o el tamaño de bloque no es positivo
+     */
+    int expireEnrolledBefore(LocalDateTime cutoff, int chunkSize);
+}
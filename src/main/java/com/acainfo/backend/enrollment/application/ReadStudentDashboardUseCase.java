@@ -0,0 +1,22 @@
+package com.acainfo.backend.enrollment.application;
+
+import com.acainfo.backend.enrollment.domain.entity.StudentDashboard;
+
+/**
+ * Caso de uso para obtener el panel de inscripciones de un estudiante.
+ */
+public interface ReadStudentDashboardUseCase {
+
+    /**
+     * Obtiene las inscripciones de un estudiante con grupo, asignatura, profesor y horario.
+     *
+     * Por defecto solo incluye las inscripciones en curso (ACTIVE y PENDING_PAYMENT).
+     *
+     * @param studentId el ID del estudiante
+     * @param includeCompleted si deben incluirse también las inscripciones COMPLETED
+     * @return el panel del estudiante (vacío si no tiene inscripciones)
+     *
+     * @throws IllegalArgumentException si el ID no es válido
+     */
+    StudentDashboard getDashboard(Long studentId, boolean includeCompleted);
+}
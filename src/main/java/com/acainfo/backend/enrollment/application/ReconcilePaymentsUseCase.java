@@ -0,0 +1,35 @@
+package com.acainfo.backend.enrollment.application;
+
+import com.acainfo.backend.enrollment.domain.entity.PaymentReconciliation;
+
+import java.io.Reader;
+
+/**
+ * Caso de uso para la conciliación de pagos a partir de extractos bancarios.
+ *
+ * Cada pago del extracto se empareja con una inscripción pendiente de pago
+ * del mismo estudiante y grupo cuyo precio coincide con el importe abonado.
+ */
+public interface ReconcilePaymentsUseCase {
+
+    /**
+     * Concilia un extracto bancario en formato CSV.
+     *
+     * Formato esperado por línea: idEstudiante;idGrupo;importe[;otros campos]
+     * - Se admite ',' como separador si la línea no contiene ';'
+     * - Con separador ';' el importe puede usar coma decimal (150,00)
+     * - La primera línea se ignora si es una cabecera
+     * - Las columnas adicionales (fecha, concepto...) se ignoran
+     *
+     * El extracto se lee en streaming y se procesa por bloques.
+     * Las inscripciones emparejadas pasan a ACTIVE.
+     *
+     * @param statement el contenido del extracto
+     * @return el resultado de la conciliación con las líneas no emparejadas
+     *
+     * @throws IllegalArgumentException si el extracto es null
+     * @throws com.acainfo.backend.enrollment.application.exception.PaymentException
+     *         si no se puede leer el extracto
+     */
+    PaymentReconciliation reconcile(Reader statement);
+}
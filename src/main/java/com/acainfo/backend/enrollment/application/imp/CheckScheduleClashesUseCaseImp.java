@@ -0,0 +1,109 @@
+package com.acainfo.backend.enrollment.application.imp;
+
+import com.acainfo.backend.enrollment.application.CheckScheduleClashesUseCase;
+import com.acainfo.backend.enrollment.domain.entity.ScheduleClash;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
+import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Implementación del caso de uso de detección de choques de horario.
+ *
+ * El horario del estudiante es la unión (OR) de los horarios semanales en bitset de
+ * sus grupos, que vienen de caché. Un candidato sin intersección con esa unión se
+ * descarta con unas pocas operaciones AND; sólo si choca se compara grupo a grupo
+ * para saber con cuáles.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CheckScheduleClashesUseCaseImp implements CheckScheduleClashesUseCase {
+
+    private static final Set<EnrollmentStatus> BLOCKING_STATUSES =
+            EnumSet.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.PENDING_PAYMENT);
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final ReadGroupSessionRepository readGroupSessionRepository;
+
+    @Override
+    public Optional<ScheduleClash> checkGroup(Long studentId, Long groupId) {
+        validateId(studentId, "estudiante");
+        validateId(groupId, "grupo");
+
+        if (!readSubjectGroupRepository.existsById(groupId)) {
+            return Optional.empty();
+        }
+        return Optional.of(check(studentId, List.of(groupId)).get(0));
+    }
+
+    @Override
+    public List<ScheduleClash> checkSubject(Long studentId, Long subjectId) {
+        validateId(studentId, "estudiante");
+        validateId(subjectId, "asignatura");
+
+        List<Long> candidates = readSubjectGroupRepository.findBySubjectIdAndStatus(subjectId, GroupStatus.ACTIVE)
+                .stream()
+                .map(SubjectGroup::getId)
+                .sorted()
+                .toList();
+
+        log.debug("Comprobando choques de horario del estudiante {} con {} grupos de la asignatura {}",
+                studentId, candidates.size(), subjectId);
+        return check(studentId, candidates);
+    }
+
+    private List<ScheduleClash> check(Long studentId, List<Long> candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> enrolled = new LinkedHashSet<>(
+                readEnrollmentRepository.findGroupIdsByStudentId(studentId, BLOCKING_STATUSES));
+
+        Set<Long> groupIds = new HashSet<>(enrolled);
+        groupIds.addAll(candidates);
+        Map<Long, WeeklyTimetable> timetables = readGroupSessionRepository.findTimetablesByGroupIds(groupIds);
+
+        WeeklyTimetable studentTimetable = WeeklyTimetable.empty();
+        for (Long groupId : enrolled) {
+            studentTimetable = studentTimetable.or(timetables.get(groupId));
+        }
+
+        List<ScheduleClash> results = new ArrayList<>(candidates.size());
+        for (Long candidate : candidates) {
+            WeeklyTimetable candidateTimetable = timetables.get(candidate);
+            boolean alreadyEnrolled = enrolled.contains(candidate);
+
+            List<Long> clashing = new ArrayList<>();
+            // Si ya está inscrito su propio horario forma parte de la unión: no sirve el atajo
+            if (alreadyEnrolled || studentTimetable.intersects(candidateTimetable)) {
+                for (Long groupId : enrolled) {
+                    if (!groupId.equals(candidate) && timetables.get(groupId).intersects(candidateTimetable)) {
+                        clashing.add(groupId);
+                    }
+                }
+            }
+
+            results.add(new ScheduleClash(candidate, alreadyEnrolled, List.copyOf(clashing)));
+        }
+        return results;
+    }
+
+    private void validateId(Long id, String entity) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("Se requiere un ID de " + entity + " válido");
+        }
+    }
+}
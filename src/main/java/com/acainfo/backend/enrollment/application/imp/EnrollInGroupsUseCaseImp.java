@@ -0,0 +1,139 @@
+package com.acainfo.backend.enrollment.application.imp;
+
+import com.acainfo.backend.enrollment.application.EnrollInGroupsUseCase;
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.GroupEnrollmentResult;
+import com.acainfo.backend.enrollment.domain.entity.MultiGroupEnrollment;
+import com.acainfo.backend.enrollment.domain.repository.CreateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentMode;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.enrollment.domain.value.GroupEnrollmentOutcome;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Implementación del caso de uso para la inscripción en varios grupos.
+ *
+ * Bloquea todos los grupos con una sola consulta, decide el resultado de cada uno
+ * y crea las inscripciones y actualiza los contadores en lote.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EnrollInGroupsUseCaseImp implements EnrollInGroupsUseCase {
+
+    private final UpdateSubjectGroupRepository updateSubjectGroupRepository;
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final CreateEnrollmentRepository createEnrollmentRepository;
+
+    @Override
+    @Transactional
+    public MultiGroupEnrollment enroll(Long studentId, List<Long> groupIds, EnrollmentMode mode) {
+        if (studentId == null || studentId <= 0) {
+            throw new IllegalArgumentException("Se requiere un ID de estudiante válido");
+        }
+
+        if (groupIds == null || groupIds.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos un grupo");
+        }
+
+        if (groupIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Los IDs de grupo no pueden ser null");
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(groupIds);
+        if (requested.size() > MAX_GROUPS_PER_REQUEST) {
+            throw new IllegalArgumentException(
+                    "No se puede solicitar la inscripción en más de " + MAX_GROUPS_PER_REQUEST + " grupos a la vez");
+        }
+
+        EnrollmentMode effectiveMode = mode != null ? mode : EnrollmentMode.ALL_OR_NOTHING;
+        log.info("Inscribiendo al estudiante {} en {} grupos (modo {})", studentId, requested.size(), effectiveMode);
+
+        // Bloquear todos los grupos a la vez y en orden de ID
+        Map<Long, SubjectGroup> groups = new HashMap<>();
+        for (SubjectGroup group : updateSubjectGroupRepository.lockAllById(requested)) {
+            groups.put(group.getId(), group);
+        }
+
+        Set<Long> alreadyEnrolled = new HashSet<>();
+        for (Enrollment enrollment : readEnrollmentRepository.findByStudentIdAndGroupIds(studentId, requested)) {
+            alreadyEnrolled.add(enrollment.getId().getGroupId());
+        }
+
+        // Decidir el resultado de cada grupo con los datos bloqueados
+        Map<Long, GroupEnrollmentOutcome> outcomes = new LinkedHashMap<>();
+        for (Long groupId : requested) {
+            outcomes.put(groupId, evaluate(groups.get(groupId), alreadyEnrolled.contains(groupId)));
+        }
+
+        boolean anyRejected = outcomes.values().stream().anyMatch(o -> o != GroupEnrollmentOutcome.ENROLLED);
+        if (anyRejected && effectiveMode == EnrollmentMode.ALL_OR_NOTHING) {
+            outcomes.replaceAll((groupId, outcome) ->
+                    outcome == GroupEnrollmentOutcome.ENROLLED ? GroupEnrollmentOutcome.NOT_PROCESSED : outcome);
+            log.info("Inscripción múltiple rechazada para el estudiante {}: {}", studentId, outcomes);
+            return buildResult(studentId, effectiveMode, outcomes);
+        }
+
+        List<Enrollment> toCreate = new ArrayList<>();
+        Map<Long, Integer> seatsTaken = new HashMap<>();
+        outcomes.forEach((groupId, outcome) -> {
+            if (outcome == GroupEnrollmentOutcome.ENROLLED) {
+                toCreate.add(Enrollment.builder()
+                        .id(EnrollmentId.of(studentId, groupId))
+                        .status(EnrollmentStatus.PENDING_PAYMENT)
+                        .build());
+                seatsTaken.put(groupId, 1);
+            }
+        });
+
+        createEnrollmentRepository.saveAll(toCreate);
+        updateSubjectGroupRepository.adjustEnrollmentCounts(seatsTaken);
+
+        log.info("Estudiante {} inscrito en {}/{} grupos", studentId, toCreate.size(), requested.size());
+        return buildResult(studentId, effectiveMode, outcomes);
+    }
+
+    /**
+     * Determina si el grupo admite la inscripción del estudiante.
+     */
+    private GroupEnrollmentOutcome evaluate(SubjectGroup group, boolean alreadyEnrolled) {
+        if (group == null) {
+            return GroupEnrollmentOutcome.GROUP_NOT_FOUND;
+        }
+        if (alreadyEnrolled) {
+            return GroupEnrollmentOutcome.ALREADY_ENROLLED;
+        }
+        if (group.getStatus() != GroupStatus.ACTIVE) {
+            return GroupEnrollmentOutcome.GROUP_NOT_OPEN;
+        }
+
+        int current = group.getCurrentEnrollments() != null ? group.getCurrentEnrollments() : 0;
+        if (group.getMaxCapacity() != null && current >= group.getMaxCapacity()) {
+            return GroupEnrollmentOutcome.GROUP_FULL;
+        }
+        return GroupEnrollmentOutcome.ENROLLED;
+    }
+
+    private MultiGroupEnrollment buildResult(Long studentId,
+                                             EnrollmentMode mode,
+                                             Map<Long, GroupEnrollmentOutcome> outcomes) {
+        List<GroupEnrollmentResult> results = new ArrayList<>(outcomes.size());
+        outcomes.forEach((groupId, outcome) -> results.add(new GroupEnrollmentResult(groupId, outcome)));
+
+        return MultiGroupEnrollment.builder()
+                .studentId(studentId)
+                .mode(mode)
+                .results(results)
+                .build();
+    }
+}
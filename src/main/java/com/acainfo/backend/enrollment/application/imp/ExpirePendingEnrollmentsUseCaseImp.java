@@ -0,0 +1,104 @@
+package com.acainfo.backend.enrollment.application.imp;
+
+import com.acainfo.backend.enrollment.application.ExpirePendingEnrollmentsUseCase;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.UpdateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementación del caso de uso para la caducidad de inscripciones pendientes de pago.
+ *
+ * Recorre las candidatas por páginas de clave, cambia su estado en lotes JDBC
+ * y ajusta los contadores de los grupos una sola vez por bloque. Cada bloque va en
+ * su propia transacción, así que un barrido largo no retiene bloqueos ni una conexión
+ * de principio a fin, y un fallo sólo deshace el bloque en curso.
+ */
+@Service
+@Slf4j
+public class ExpirePendingEnrollmentsUseCaseImp implements ExpirePendingEnrollmentsUseCase {
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final UpdateEnrollmentRepository updateEnrollmentRepository;
+    private final UpdateSubjectGroupRepository updateSubjectGroupRepository;
+    private final TransactionTemplate chunkTransaction;
+
+    public ExpirePendingEnrollmentsUseCaseImp(ReadEnrollmentRepository readEnrollmentRepository,
+                                              UpdateEnrollmentRepository updateEnrollmentRepository,
+                                              UpdateSubjectGroupRepository updateSubjectGroupRepository,
+                                              PlatformTransactionManager transactionManager) {
+        this.readEnrollmentRepository = readEnrollmentRepository;
+        this.updateEnrollmentRepository = updateEnrollmentRepository;
+        this.updateSubjectGroupRepository = updateSubjectGroupRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public int expireEnrolledBefore(LocalDateTime cutoff, int chunkSize) {
+        if (cutoff == null) {
+            throw new IllegalArgumentException("La fecha de corte no puede ser null");
+        }
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo");
+        }
+
+        log.info("Caducando inscripciones pendientes de pago anteriores a: {}", cutoff);
+
+        int expired = 0;
+        EnrollmentId after = null;
+        while (true) {
+            EnrollmentId last = after;
+            ChunkResult result = chunkTransaction.execute(status -> expireChunk(cutoff, last, chunkSize));
+            expired += result.expired();
+            if (result.read() < chunkSize) {
+                break;
+            }
+            after = result.last();
+        }
+
+        log.info("Inscripciones caducadas: {}", expired);
+        return expired;
+    }
+
+    /**
+     * Resultado de un bloque: candidatas leídas, la última de ellas y cuántas caducaron.
+     */
+    private record ChunkResult(int read, EnrollmentId last, int expired) {
+    }
+
+    /**
+     * Lee el siguiente bloque de candidatas, lo caduca y libera sus plazas agrupando por grupo.
+     */
+    private ChunkResult expireChunk(LocalDateTime cutoff, EnrollmentId after, int chunkSize) {
+        List<EnrollmentId> chunk = readEnrollmentRepository.findPendingPaymentIdsEnrolledBefore(cutoff, after, chunkSize);
+        if (chunk.isEmpty()) {
+            return new ChunkResult(0, after, 0);
+        }
+
+        List<EnrollmentId> expired = updateEnrollmentRepository.updateStatusInBatch(
+                chunk, EnrollmentStatus.PENDING_PAYMENT, EnrollmentStatus.EXPIRED);
+
+        Map<Long, Integer> releasedSeats = new HashMap<>();
+        for (EnrollmentId id : expired) {
+            releasedSeats.merge(id.getGroupId(), -1, Integer::sum);
+        }
+        updateSubjectGroupRepository.adjustEnrollmentCounts(releasedSeats);
+
+        log.debug("Bloque procesado: {} inscripciones caducadas en {} grupos",
+                expired.size(), releasedSeats.size());
+        return new ChunkResult(chunk.size(), chunk.getLast(), expired.size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.acainfo.backend.enrollment.application.imp;
+
+import com.acainfo.backend.enrollment.application.ReadStudentDashboardUseCase;
+import com.acainfo.backend.enrollment.domain.entity.StudentDashboard;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Implementación del caso de uso para obtener el panel de un estudiante.
+ * Delega en una única consulta de proyección del repositorio.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ReadStudentDashboardUseCaseImp implements ReadStudentDashboardUseCase {
+
+    private static final Set<EnrollmentStatus> CURRENT_STATUSES =
+            EnumSet.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.PENDING_PAYMENT);
+
+    private static final Set<EnrollmentStatus> CURRENT_AND_COMPLETED_STATUSES =
+            EnumSet.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.PENDING_PAYMENT, EnrollmentStatus.COMPLETED);
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+
+    @Override
+    public StudentDashboard getDashboard(Long studentId, boolean includeCompleted) {
+        if (studentId == null || studentId <= 0) {
+            throw new IllegalArgumentException("Se requiere un ID de estudiante válido");
+        }
+
+        log.debug("Obteniendo panel del estudiante {} (incluir completadas: {})", studentId, includeCompleted);
+        return readEnrollmentRepository.findDashboardByStudentId(studentId,
+                includeCompleted ? CURRENT_AND_COMPLETED_STATUSES : CURRENT_STATUSES);
+    }
+}
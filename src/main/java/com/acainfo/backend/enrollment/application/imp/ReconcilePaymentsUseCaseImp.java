@@ -0,0 +1,206 @@
+package com.acainfo.backend.enrollment.application.imp;
+
+import com.acainfo.backend.enrollment.application.ReconcilePaymentsUseCase;
+import com.acainfo.backend.enrollment.application.exception.PaymentException;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.PaymentReconciliation;
+import com.acainfo.backend.enrollment.domain.entity.PendingPayment;
+import com.acainfo.backend.enrollment.domain.entity.UnmatchedPaymentLine;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.UpdateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Implementación del caso de uso para la conciliación de pagos.
+ *
+ * Lee el extracto por bloques. Para cada bloque carga en una tabla hash los pagos
+ * pendientes de los estudiantes que aparecen en él, empareja cada línea por
+ * (estudiante, grupo) comprobando el importe y activa las coincidencias en un lote JDBC.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcilePaymentsUseCaseImp implements ReconcilePaymentsUseCase {
+
+    private static final int BLOCK_SIZE = 1000;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final UpdateEnrollmentRepository updateEnrollmentRepository;
+
+    @Override
+    @Transactional
+    public PaymentReconciliation reconcile(Reader statement) {
+        if (statement == null) {
+            throw new IllegalArgumentException("El extracto no puede ser null");
+        }
+
+        log.info("Iniciando conciliación de extracto bancario");
+
+        List<EnrollmentId> activated = new ArrayList<>();
+        List<UnmatchedPaymentLine> unmatched = new ArrayList<>();
+        List<PaymentLine> block = new ArrayList<>(BLOCK_SIZE);
+        long processedLines = 0;
+        long lineNumber = 0;
+        boolean firstLine = true;
+        String skippedHeader = null;
+
+        try (BufferedReader reader = new BufferedReader(statement)) {
+            String raw;
+            while ((raw = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && raw.startsWith(BYTE_ORDER_MARK)) {
+                    // Excel y otras hojas de cálculo guardan el CSV en UTF-8 con BOM
+                    raw = raw.substring(BYTE_ORDER_MARK.length());
+                }
+                String line = raw.strip();
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                if (firstLine) {
+                    firstLine = false;
+                    if (isHeader(line)) {
+                        log.debug("Primera línea del extracto descartada como cabecera: {}", line);
+                        skippedHeader = line;
+                        continue;
+                    }
+                }
+
+                processedLines++;
+                PaymentLine paymentLine = parse(lineNumber, line, unmatched);
+                if (paymentLine == null) {
+                    continue;
+                }
+
+                block.add(paymentLine);
+                if (block.size() == BLOCK_SIZE) {
+                    matchBlock(block, activated, unmatched);
+                    block.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error leyendo el extracto bancario: {}", e.getMessage());
+            throw new PaymentException("No se pudo leer el extracto bancario", e);
+        }
+
+        if (!block.isEmpty()) {
+            matchBlock(block, activated, unmatched);
+        }
+
+        unmatched.sort(Comparator.comparingLong(UnmatchedPaymentLine::getLineNumber));
+
+        log.info("Conciliación completada. Líneas: {}, activadas: {}, sin conciliar: {}",
+                processedLines, activated.size(), unmatched.size());
+
+        return PaymentReconciliation.builder()
+                .processedLines(processedLines)
+                .skippedHeader(skippedHeader)
+                .activatedEnrollments(activated)
+                .unmatchedLines(unmatched)
+                .build();
+    }
+
+    /**
+     * Empareja un bloque de líneas con los pagos pendientes y activa las coincidencias.
+     */
+    private void matchBlock(List<PaymentLine> block,
+                            List<EnrollmentId> activated,
+                            List<UnmatchedPaymentLine> unmatched) {
+        Set<Long> studentIds = new HashSet<>();
+        for (PaymentLine line : block) {
+            studentIds.add(line.enrollmentId().getStudentId());
+        }
+
+        // Fase de construcción: pagos pendientes indexados por inscripción
+        Map<EnrollmentId, PendingPayment> pendingById = new HashMap<>();
+        for (PendingPayment pending : readEnrollmentRepository.findPendingPaymentsByStudentIds(studentIds)) {
+            pendingById.put(pending.getEnrollmentId(), pending);
+        }
+
+        // Fase de sondeo: cada línea consume como mucho un pago pendiente
+        List<EnrollmentId> toActivate = new ArrayList<>();
+        List<PaymentLine> matchedLines = new ArrayList<>();
+        for (PaymentLine line : block) {
+            PendingPayment pending = pendingById.get(line.enrollmentId());
+            if (pending == null) {
+                unmatched.add(line.unmatched("No hay ninguna inscripción pendiente de pago para ese estudiante y grupo"));
+            } else if (pending.getAmount() == null || pending.getAmount().compareTo(line.amount()) != 0) {
+                unmatched.add(line.unmatched("El importe no coincide con el precio del grupo (" + pending.getAmount() + ")"));
+            } else {
+                pendingById.remove(line.enrollmentId());
+                toActivate.add(line.enrollmentId());
+                matchedLines.add(line);
+            }
+        }
+
+        Set<EnrollmentId> updated = new HashSet<>(updateEnrollmentRepository.updateStatusInBatch(
+                toActivate, EnrollmentStatus.PENDING_PAYMENT, EnrollmentStatus.ACTIVE));
+
+        for (PaymentLine line : matchedLines) {
+            if (updated.contains(line.enrollmentId())) {
+                activated.add(line.enrollmentId());
+            } else {
+                unmatched.add(line.unmatched("La inscripción ya no está pendiente de pago"));
+            }
+        }
+    }
+
+    /**
+     * Interpreta una línea del extracto. Si no es válida la registra como no conciliada y devuelve null.
+     */
+    private PaymentLine parse(long lineNumber, String line, List<UnmatchedPaymentLine> unmatched) {
+        boolean semicolon = line.indexOf(';') >= 0;
+        String[] fields = line.split(semicolon ? ";" : ",", -1);
+
+        if (fields.length < 3) {
+            unmatched.add(new UnmatchedPaymentLine(lineNumber, line,
+                    "Formato inválido: se esperaba idEstudiante;idGrupo;importe"));
+            return null;
+        }
+
+        try {
+            Long studentId = Long.valueOf(clean(fields[0]));
+            Long groupId = Long.valueOf(clean(fields[1]));
+            String amount = clean(fields[2]).replace("€", "").strip();
+            if (semicolon && amount.indexOf(',') >= 0) {
+                // Formato europeo: punto de miles y coma decimal
+                amount = amount.replace(".", "").replace(',', '.');
+            }
+            return new PaymentLine(lineNumber, line, EnrollmentId.of(studentId, groupId), new BigDecimal(amount));
+        } catch (NumberFormatException e) {
+            unmatched.add(new UnmatchedPaymentLine(lineNumber, line,
+                    "Formato inválido: identificadores o importe no numéricos"));
+            return null;
+        }
+    }
+
+    /**
+     * Una línea es cabecera si su primer campo no es numérico.
+     */
+    private boolean isHeader(String line) {
+        String first = clean(line.split("[;,]", 2)[0]);
+        return first.isEmpty() || !first.chars().allMatch(Character::isDigit);
+    }
+
+    private String clean(String field) {
+        return field.strip().replace("\"", "");
+    }
+
+    private record PaymentLine(long lineNumber, String content, EnrollmentId enrollmentId, BigDecimal amount) {
+
+        UnmatchedPaymentLine unmatched(String reason) {
+            return new UnmatchedPaymentLine(lineNumber, content, reason);
+        }
+    }
+}
@@ -2,9 +2,21 @@ package com.acainfo.backend.enrollment.application.mapper;
 
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.GroupEnrollmentResult;
+import com.acainfo.backend.enrollment.domain.entity.MultiGroupEnrollment;
+import com.acainfo.backend.enrollment.domain.entity.PaymentReconciliation;
+import com.acainfo.backend.enrollment.domain.entity.ScheduleClash;
+import com.acainfo.backend.enrollment.domain.entity.StudentDashboard;
+import com.acainfo.backend.enrollment.domain.entity.UnmatchedPaymentLine;
 import com.acainfo.backend.enrollment.infrastructure.controller.dto.EnrollmentInputDto;
 import com.acainfo.backend.enrollment.infrastructure.controller.dto.EnrollmentOutputDto;
 import com.acainfo.backend.enrollment.infrastructure.controller.dto.EnrollmentStatusUpdateDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.GroupEnrollmentResultDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.MultiGroupEnrollmentOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.PaymentReconciliationOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.ScheduleClashOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.StudentDashboardOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.UnmatchedPaymentLineDto;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -60,6 +72,45 @@ public interface EnrollmentMapper {
      */
     List<EnrollmentOutputDto> toOutputDtoList(List<Enrollment> enrollments);
 
+    /**
+     * Convierte el resultado de una conciliación de pagos a DTO de salida.
+     */
+    @Mapping(target = "activatedCount", expression = "java(reconciliation.getActivatedEnrollments().size())")
+    @Mapping(target = "unmatchedCount", expression = "java(reconciliation.getUnmatchedLines().size())")
+    PaymentReconciliationOutputDto toOutputDto(PaymentReconciliation reconciliation);
+
+    /**
+     * Convierte una línea no conciliada a DTO de salida.
+     */
+    UnmatchedPaymentLineDto toOutputDto(UnmatchedPaymentLine unmatchedLine);
+
+    /**
+     * Convierte el resultado de una inscripción múltiple a DTO de salida.
+     */
+    MultiGroupEnrollmentOutputDto toOutputDto(MultiGroupEnrollment multiGroupEnrollment);
+
+    /**
+     * Convierte el resultado de la inscripción en un grupo a DTO de salida.
+     */
+    GroupEnrollmentResultDto toOutputDto(GroupEnrollmentResult groupEnrollmentResult);
+
+    /**
+     * Convierte el panel de un estudiante a DTO de salida.
+     */
+    StudentDashboardOutputDto toOutputDto(StudentDashboard dashboard);
+
+    StudentDashboardOutputDto.EnrolledGroupDto toOutputDto(StudentDashboard.EnrolledGroup enrolledGroup);
+
+    StudentDashboardOutputDto.SessionDto toOutputDto(StudentDashboard.Session session);
+
+    /**
+     * Convierte el resultado de una comprobación de choques de horario a DTO de salida.
+     */
+    @Mapping(target = "clash", expression = "java(scheduleClash.hasClash())")
+    ScheduleClashOutputDto toOutputDto(ScheduleClash scheduleClash);
+
+    List<ScheduleClashOutputDto> toScheduleClashOutputDtoList(List<ScheduleClash> scheduleClashes);
+
     // ============================================
     // Métodos auxiliares personalizados
     // ============================================
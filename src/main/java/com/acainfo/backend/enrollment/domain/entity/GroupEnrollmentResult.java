@@ -0,0 +1,22 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import com.acainfo.backend.enrollment.domain.value.GroupEnrollmentOutcome;
+import lombok.*;
+
+/**
+ * Value Object con el resultado de inscribir a un estudiante en un grupo concreto.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class GroupEnrollmentResult {
+
+    private final Long groupId;
+    private final GroupEnrollmentOutcome outcome;
+
+    public boolean isEnrolled() {
+        return outcome == GroupEnrollmentOutcome.ENROLLED;
+    }
+}
@@ -0,0 +1,35 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentMode;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Resultado de inscribir a un estudiante en varios grupos en una única operación.
+ * Contiene un resultado por grupo, en el orden en que se solicitaron.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class MultiGroupEnrollment {
+
+    private final Long studentId;
+    private final EnrollmentMode mode;
+    private final List<GroupEnrollmentResult> results;
+
+    /**
+     * Número de grupos en los que se ha inscrito al estudiante.
+     */
+    public long getEnrolledCount() {
+        return results.stream().filter(GroupEnrollmentResult::isEnrolled).count();
+    }
+
+    /**
+     * Indica si se ha inscrito al estudiante en todos los grupos solicitados.
+     */
+    public boolean isComplete() {
+        return results.stream().allMatch(GroupEnrollmentResult::isEnrolled);
+    }
+}
@@ -0,0 +1,35 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Resultado de conciliar un extracto bancario con las inscripciones pendientes de pago.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class PaymentReconciliation {
+
+    /**
+     * Número de líneas de pago procesadas (sin cabecera ni líneas vacías).
+     */
+    private final long processedLines;
+
+    /**
+     * Primera línea descartada por no empezar con un identificador numérico, o null si no se descartó ninguna.
+     */
+    private final String skippedHeader;
+
+    /**
+     * Inscripciones que han pasado a ACTIVE.
+     */
+    private final List<EnrollmentId> activatedEnrollments;
+
+    /**
+     * Líneas que no se han podido conciliar.
+     */
+    private final List<UnmatchedPaymentLine> unmatchedLines;
+}
@@ -0,0 +1,20 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Value Object que representa un pago pendiente: una inscripción en PENDING_PAYMENT
+ * junto con el importe que debe abonarse (el precio del grupo).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class PendingPayment {
+
+    private final EnrollmentId enrollmentId;
+    private final BigDecimal amount;
+}
@@ -0,0 +1,25 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con el resultado de comprobar si el horario de un grupo choca
+ * con los grupos en los que ya está inscrito un estudiante.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class ScheduleClash {
+
+    private final Long groupId;
+    private final boolean alreadyEnrolled;
+    private final List<Long> clashingGroupIds;
+
+    public boolean hasClash() {
+        return !clashingGroupIds.isEmpty();
+    }
+}
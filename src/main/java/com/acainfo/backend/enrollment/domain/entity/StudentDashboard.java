@@ -0,0 +1,72 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Modelo de lectura con todo lo que necesita la pantalla "mis inscripciones" de un estudiante:
+ * sus inscripciones en curso con el grupo, la asignatura, el profesor y el horario.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@ToString
+public class StudentDashboard {
+
+    private final Long studentId;
+    private final List<EnrolledGroup> enrollments;
+
+    /**
+     * Inscripción del estudiante en un grupo.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @ToString
+    public static class EnrolledGroup {
+        private final Long groupId;
+        private final String groupName;
+        private final GroupStatus groupStatus;
+        private final GroupType groupType;
+        private final BigDecimal price;
+        private final Integer currentEnrollments;
+        private final Integer maxCapacity;
+        private final EnrollmentStatus enrollmentStatus;
+        private final LocalDateTime enrolledAt;
+        private final Long subjectId;
+        private final String subjectName;
+        private final CourseYear courseYear;
+        private final Quarter quarter;
+        private final Long teacherId;
+        private final String teacherName;
+        private final List<Session> sessions;
+    }
+
+    /**
+     * Sesión semanal de un grupo.
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @ToString
+    public static class Session {
+        private final Long sessionId;
+        private final DayOfWeek dayOfWeek;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+        private final Classroom classroom;
+        private final SessionType type;
+    }
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.enrollment.domain.entity;
+
+import lombok.*;
+
+/**
+ * Value Object que representa una línea del extracto bancario
+ * que no se ha podido conciliar con ninguna inscripción.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class UnmatchedPaymentLine {
+
+    private final long lineNumber;
+    private final String content;
+    private final String reason;
+}
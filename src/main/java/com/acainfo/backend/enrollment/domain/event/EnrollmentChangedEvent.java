@@ -0,0 +1,34 @@
+package com.acainfo.backend.enrollment.domain.event;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evento publicado cuando se crean, modifican o eliminan inscripciones.
+ * Sólo transporta los IDs de los estudiantes afectados: quien lo consuma debe leer el estado actual.
+ *
+ * @param studentIds IDs de los estudiantes cuyas inscripciones han cambiado
+ * @param allStudents true si el cambio puede afectar a cualquier estudiante (borrados masivos)
+ */
+public record EnrollmentChangedEvent(Set<Long> studentIds, boolean allStudents) {
+
+    public EnrollmentChangedEvent {
+        studentIds = Set.copyOf(studentIds);
+    }
+
+    public static EnrollmentChangedEvent of(Long... studentIds) {
+        return new EnrollmentChangedEvent(new HashSet<>(Arrays.asList(studentIds)), false);
+    }
+
+    public static EnrollmentChangedEvent ofAllStudents() {
+        return new EnrollmentChangedEvent(Set.of(), true);
+    }
+
+    /**
+     * Indica si las inscripciones de un estudiante pueden haber cambiado.
+     */
+    public boolean affects(Long studentId) {
+        return allStudents || studentIds.contains(studentId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.acainfo.backend.enrollment.domain.event;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+
+/**
+ * Evento publicado por el outbox cuando se crea una inscripción.
+ * Se entrega después de confirmar, fuera de la transacción que la creó.
+ *
+ * @param studentId ID del estudiante
+ * @param groupId ID del grupo
+ * @param status estado con el que se creó la inscripción
+ */
+public record EnrollmentCreatedEvent(Long studentId, Long groupId, EnrollmentStatus status) {
+}
@@ -0,0 +1,16 @@
+package com.acainfo.backend.enrollment.domain.event;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+
+/**
+ * Evento publicado por el outbox cuando una inscripción cambia de estado.
+ * Se entrega después de confirmar, fuera de la transacción que hizo el cambio.
+ *
+ * @param studentId ID del estudiante
+ * @param groupId ID del grupo
+ * @param previousStatus estado anterior
+ * @param status estado nuevo
+ */
+public record EnrollmentStatusChangedEvent(Long studentId, Long groupId,
+                                           EnrollmentStatus previousStatus, EnrollmentStatus status) {
+}
@@ -2,6 +2,8 @@ package com.acainfo.backend.enrollment.domain.repository;
 
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 
+import java.util.List;
+
 /**
  * Interfaz que define las operaciones de creación para la entidad Enrollment.
  *
@@ -18,4 +20,13 @@ public interface CreateEnrollmentRepository {
      * @return la inscripción creada con su ID generado
      */
     Enrollment save(Enrollment enrollment);
-}
\ No newline at end of file
+
+    /**
+     * Persiste varias inscripciones nuevas en un único lote.
+     * No comprueba duplicados: el llamante debe haberlos descartado previamente.
+     *
+     * @param enrollments las inscripciones a crear
+     * @return las inscripciones creadas con sus fechas establecidas
+     */
+    List<Enrollment> saveAll(List<Enrollment> enrollments);
+}
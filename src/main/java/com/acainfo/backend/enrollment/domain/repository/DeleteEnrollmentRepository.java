@@ -6,7 +6,8 @@ import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
  * Interfaz que define las operaciones de eliminación para la entidad Enrollment.
  *
  * Las restricciones de integridad referencial se manejan mediante
- * foreign keys y constraints en la base de datos.
+ * foreign keys y constraints en la base de datos. Las inscripciones borradas
+ * que ocupaban plaza (pendientes de pago o activas) la devuelven a su grupo.
  */
 public interface DeleteEnrollmentRepository {
 
@@ -2,8 +2,12 @@ package com.acainfo.backend.enrollment.domain.repository;
 
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.PendingPayment;
+import com.acainfo.backend.enrollment.domain.entity.StudentDashboard;
 import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -66,6 +70,11 @@ public interface ReadEnrollmentRepository {
      */
     boolean existsByStudentIdAndGroupId(Long studentId, Long groupId);
 
+    /**
+     * Busca las inscripciones de un estudiante en un conjunto de grupos, sea cual sea su estado.
+     */
+    List<Enrollment> findByStudentIdAndGroupIds(Long studentId, Collection<Long> groupIds);
+
     /**
      * Busca inscripciones activas de un estudiante.
      * Útil para generar el horario del estudiante.
@@ -77,4 +86,38 @@ public interface ReadEnrollmentRepository {
      * Útil para procesos de gestión y recordatorios.
      */
     List<Enrollment> findPendingPaymentEnrollments();
-}
\ No newline at end of file
+
+    /**
+     * Busca las inscripciones pendientes de pago realizadas desde 'from' (incluida) hasta 'to' (excluida)
+     * que aún no han recibido el recordatorio de pago, de la más antigua a la más reciente.
+     * Útil para enviar recordatorios de pago por tramos de tiempo.
+     */
+    List<Enrollment> findPendingPaymentEnrollmentsEnrolledBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Busca como mucho 'limit' IDs de inscripciones pendientes de pago realizadas antes de la fecha de corte,
+     * ordenados por clave y posteriores a 'after'.
+     * Pasando como 'after' el último ID de la página anterior se recorren todas sin repetir ninguna.
+     *
+     * @param after el último ID ya procesado, o null para empezar por el principio
+     */
+    List<EnrollmentId> findPendingPaymentIdsEnrolledBefore(LocalDateTime cutoff, EnrollmentId after, int limit);
+
+    /**
+     * Busca los pagos pendientes de un conjunto de estudiantes.
+     * El importe de cada pago es el precio del grupo.
+     * Útil para conciliar extractos bancarios.
+     */
+    List<PendingPayment> findPendingPaymentsByStudentIds(Collection<Long> studentIds);
+
+    /**
+     * Obtiene el panel de un estudiante con una única consulta:
+     * sus inscripciones en los estados indicados con grupo, asignatura, profesor y horario.
+     */
+    StudentDashboard findDashboardByStudentId(Long studentId, Collection<EnrollmentStatus> statuses);
+
+    /**
+     * Obtiene los IDs de los grupos en los que está inscrito un estudiante con alguno de los estados indicados.
+     */
+    List<Long> findGroupIdsByStudentId(Long studentId, Collection<EnrollmentStatus> statuses);
+}
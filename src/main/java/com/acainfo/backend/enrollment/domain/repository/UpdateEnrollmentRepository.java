@@ -2,6 +2,10 @@ package com.acainfo.backend.enrollment.domain.repository;
 
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Interfaz que define las operaciones de actualización para la entidad Enrollment.
@@ -24,4 +28,29 @@ public interface UpdateEnrollmentRepository {
      * Útil para proporcionar mensajes de error más claros.
      */
     boolean existsById(EnrollmentId id);
-}
\ No newline at end of file
+
+    /**
+     * Cambia el estado de varias inscripciones en un único lote.
+     * Solo se modifican las inscripciones que siguen en el estado esperado,
+     * de modo que una inscripción modificada entretanto no se sobrescribe.
+     *
+     * @param ids los IDs de las inscripciones a modificar
+     * @param expectedStatus el estado que deben tener para ser modificadas
+     * @param newStatus el nuevo estado
+     * @return los IDs de las inscripciones que se modificaron realmente
+     */
+    List<EnrollmentId> updateStatusInBatch(List<EnrollmentId> ids,
+                                           EnrollmentStatus expectedStatus,
+                                           EnrollmentStatus newStatus);
+
+    /**
+     * Marca como recordadas las inscripciones que siguen pendientes de pago y aún no tenían
+     * recordatorio. Cada inscripción solo la marca una llamada, aunque varias se ejecuten a la vez
+     * desde distintos nodos: quien la marca es quien envía el recordatorio.
+     *
+     * @param ids los IDs de las inscripciones a marcar
+     * @param remindedAt el momento del recordatorio
+     * @return los IDs de las inscripciones que marcó esta llamada
+     */
+    List<EnrollmentId> markPaymentReminded(List<EnrollmentId> ids, LocalDateTime remindedAt);
+}
@@ -0,0 +1,15 @@
+package com.acainfo.backend.enrollment.domain.value;
+
+/**
+ * Modo de inscripción cuando un estudiante se inscribe en varios grupos a la vez.
+ */
+public enum EnrollmentMode {
+    /**
+     * Si algún grupo no admite la inscripción, no se inscribe en ninguno.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Se inscribe en los grupos que la admiten y se informa del resto.
+     */
+    BEST_EFFORT
+}
@@ -5,5 +5,6 @@ public enum EnrollmentStatus {
     ACTIVE,
     COMPLETED,
     CANCELLED_BY_ADMIN,
-    CANCELLED_BY_STUDENT
+    CANCELLED_BY_STUDENT,
+    EXPIRED
 }
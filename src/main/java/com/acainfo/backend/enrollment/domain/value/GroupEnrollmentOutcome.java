@@ -0,0 +1,17 @@
+package com.acainfo.backend.enrollment.domain.value;
+
+/**
+ * Resultado de la inscripción en un grupo dentro de una inscripción múltiple.
+ */
+public enum GroupEnrollmentOutcome {
+    ENROLLED,
+    ALREADY_ENROLLED,
+    GROUP_NOT_FOUND,
+    GROUP_NOT_OPEN,
+    GROUP_FULL,
+    /**
+     * El grupo admitía la inscripción, pero no se realizó porque otro grupo
+     * la rechazó en modo ALL_OR_NOTHING.
+     */
+    NOT_PROCESSED
+}
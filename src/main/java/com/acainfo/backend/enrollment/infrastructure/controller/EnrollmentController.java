@@ -0,0 +1,142 @@
+package com.acainfo.backend.enrollment.infrastructure.controller;
+
+import com.acainfo.backend.auth.domain.model.AuthUser;
+import com.acainfo.backend.enrollment.application.CheckScheduleClashesUseCase;
+import com.acainfo.backend.enrollment.application.EnrollInGroupsUseCase;
+import com.acainfo.backend.enrollment.application.ReadStudentDashboardUseCase;
+import com.acainfo.backend.enrollment.application.mapper.EnrollmentMapper;
+import com.acainfo.backend.enrollment.domain.entity.MultiGroupEnrollment;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.MultiGroupEnrollmentInputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.MultiGroupEnrollmentOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.ScheduleClashOutputDto;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.StudentDashboardOutputDto;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST para la gestión de inscripciones.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/enrollments")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Enrollments", description = "Gestión de inscripciones")
+public class EnrollmentController {
+
+    private final EnrollInGroupsUseCase enrollInGroupsUseCase;
+    private final ReadStudentDashboardUseCase readStudentDashboardUseCase;
+    private final CheckScheduleClashesUseCase checkScheduleClashesUseCase;
+    private final EnrollmentMapper enrollmentMapper;
+
+    // ============================================
+    // Endpoints de Creación
+    // ============================================
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and authentication.name == 'STUDENT_' + #inputDto.studentId)")
+    @Operation(
+            summary = "Inscribir a un estudiante en varios grupos",
+            description = "Crea todas las inscripciones en una única transacción. En modo ALL_OR_NOTHING " +
+                    "no se crea ninguna si algún grupo la rechaza; en BEST_EFFORT se crean las posibles"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Se ha creado al menos una inscripción"),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "409", description = "No se ha creado ninguna inscripción"),
+            @ApiResponse(responseCode = "403", description = "No tiene permisos para esta operación")
+    })
+    public ResponseEntity<MultiGroupEnrollmentOutputDto> enrollInGroups(
+            @Valid @RequestBody MultiGroupEnrollmentInputDto inputDto) {
+        log.info("POST /api/v1/enrollments/batch - Estudiante: {}, grupos: {}, modo: {}",
+                inputDto.getStudentId(), inputDto.getGroupIds(), inputDto.getMode());
+
+        MultiGroupEnrollment result = enrollInGroupsUseCase.enroll(
+                inputDto.getStudentId(), inputDto.getGroupIds(), inputDto.getMode());
+
+        HttpStatus status = result.getEnrolledCount() > 0 ? HttpStatus.CREATED : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(enrollmentMapper.toOutputDto(result));
+    }
+
+    // ============================================
+    // Endpoints de Lectura
+    // ============================================
+
+    @GetMapping("/me/dashboard")
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(summary = "Obtener mi panel de inscripciones",
+            description = "Inscripciones del estudiante autenticado con grupo, asignatura, profesor y horario")
+    public ResponseEntity<StudentDashboardOutputDto> getMyDashboard(
+            Authentication authentication,
+            @Parameter(description = "Incluir inscripciones completadas") @RequestParam(defaultValue = "false") boolean includeCompleted) {
+        Long studentId = AuthUser.builder().id(authentication.getName()).build().getNumericId();
+        log.info("GET /api/v1/enrollments/me/dashboard - Estudiante: {}", studentId);
+
+        return ResponseEntity.ok(enrollmentMapper.toOutputDto(
+                readStudentDashboardUseCase.getDashboard(studentId, includeCompleted)));
+    }
+
+    @GetMapping("/students/{studentId}/dashboard")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and authentication.name == 'STUDENT_' + #studentId)")
+    @Operation(summary = "Obtener el panel de inscripciones de un estudiante")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Panel obtenido"),
+            @ApiResponse(responseCode = "403", description = "No tiene permisos para esta operación")
+    })
+    public ResponseEntity<StudentDashboardOutputDto> getDashboard(
+            @Parameter(description = "ID del estudiante") @PathVariable Long studentId,
+            @Parameter(description = "Incluir inscripciones completadas") @RequestParam(defaultValue = "false") boolean includeCompleted) {
+        log.info("GET /api/v1/enrollments/students/{}/dashboard", studentId);
+
+        return ResponseEntity.ok(enrollmentMapper.toOutputDto(
+                readStudentDashboardUseCase.getDashboard(studentId, includeCompleted)));
+    }
+
+    @GetMapping("/students/{studentId}/schedule-clashes/groups/{groupId}")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and authentication.name == 'STUDENT_' + #studentId)")
+    @Operation(summary = "Comprobar si un grupo choca con el horario de un estudiante",
+            description = "Compara el horario del grupo con los grupos en los que el estudiante está inscrito")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Comprobación realizada"),
+            @ApiResponse(responseCode = "404", description = "Grupo no encontrado"),
+            @ApiResponse(responseCode = "403", description = "No tiene permisos para esta operación")
+    })
+    public ResponseEntity<ScheduleClashOutputDto> checkGroupScheduleClash(
+            @Parameter(description = "ID del estudiante") @PathVariable Long studentId,
+            @Parameter(description = "ID del grupo candidato") @PathVariable Long groupId) {
+        log.info("GET /api/v1/enrollments/students/{}/schedule-clashes/groups/{}", studentId, groupId);
+
+        return checkScheduleClashesUseCase.checkGroup(studentId, groupId)
+                .map(enrollmentMapper::toOutputDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/students/{studentId}/schedule-clashes")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('STUDENT') and authentication.name == 'STUDENT_' + #studentId)")
+    @Operation(summary = "Comprobar los grupos de una asignatura contra el horario de un estudiante",
+            description = "Devuelve un resultado por cada grupo activo de la asignatura")
+    public ResponseEntity<List<ScheduleClashOutputDto>> checkSubjectScheduleClashes(
+            @Parameter(description = "ID del estudiante") @PathVariable Long studentId,
+            @Parameter(description = "ID de la asignatura") @RequestParam Long subjectId) {
+        log.info("GET /api/v1/enrollments/students/{}/schedule-clashes - Asignatura: {}", studentId, subjectId);
+
+        return ResponseEntity.ok(enrollmentMapper.toScheduleClashOutputDtoList(
+                checkScheduleClashesUseCase.checkSubject(studentId, subjectId)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.acainfo.backend.enrollment.infrastructure.controller;
+
+import com.acainfo.backend.enrollment.application.ReconcilePaymentsUseCase;
+import com.acainfo.backend.enrollment.application.exception.PaymentException;
+import com.acainfo.backend.enrollment.application.mapper.EnrollmentMapper;
+import com.acainfo.backend.enrollment.domain.entity.PaymentReconciliation;
+import com.acainfo.backend.enrollment.infrastructure.controller.dto.PaymentReconciliationOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controlador REST para la conciliación de pagos de inscripciones.
+ *
+ * Recibe extractos bancarios y delega el emparejamiento al caso de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/payments")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Payments", description = "Conciliación de pagos de inscripciones")
+public class PaymentReconciliationController {
+
+    private final ReconcilePaymentsUseCase reconcilePaymentsUseCase;
+    private final EnrollmentMapper enrollmentMapper;
+
+    @PostMapping(value = "/reconciliation", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Conciliar extracto bancario",
+            description = "Activa las inscripciones pendientes cuyo pago aparece en el extracto CSV " +
+                    "(idEstudiante;idGrupo;importe) y devuelve las líneas no conciliadas"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Extracto conciliado"),
+            @ApiResponse(responseCode = "400", description = "Fichero vacío o ilegible"),
+            @ApiResponse(responseCode = "403", description = "No tiene permisos para esta operación")
+    })
+    public ResponseEntity<PaymentReconciliationOutputDto> reconcile(
+            @Parameter(description = "Extracto bancario en CSV (UTF-8)") @RequestParam("file") MultipartFile file) {
+        log.info("POST /api/v1/admin/payments/reconciliation - Fichero: {} ({} bytes)",
+                file.getOriginalFilename(), file.getSize());
+
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            PaymentReconciliation reconciliation = reconcilePaymentsUseCase.reconcile(reader);
+            return ResponseEntity.ok(enrollmentMapper.toOutputDto(reconciliation));
+        } catch (IOException e) {
+            throw new PaymentException("No se pudo leer el extracto bancario", e);
+        }
+    }
+}
@@ -51,7 +51,7 @@ public class EnrollmentOutputDto {
     @Schema(
             description = "Estado actual de la inscripción",
             example = "ACTIVE",
-            allowableValues = {"PENDING_PAYMENT", "ACTIVE", "COMPLETED", "CANCELLED_BY_ADMIN", "CANCELLED_BY_STUDENT"}
+            allowableValues = {"PENDING_PAYMENT", "ACTIVE", "COMPLETED", "CANCELLED_BY_ADMIN", "CANCELLED_BY_STUDENT", "EXPIRED"}
     )
     private EnrollmentStatus status;
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import com.acainfo.backend.enrollment.domain.value.GroupEnrollmentOutcome;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de salida con el resultado de la inscripción en un grupo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de la inscripción en un grupo")
+public class GroupEnrollmentResultDto {
+
+    @Schema(
+            description = "ID del grupo",
+            example = "7"
+    )
+    private Long groupId;
+
+    @Schema(
+            description = "Resultado de la inscripción",
+            example = "ENROLLED",
+            allowableValues = {"ENROLLED", "ALREADY_ENROLLED", "GROUP_NOT_FOUND", "GROUP_NOT_OPEN",
+                    "GROUP_FULL", "NOT_PROCESSED"}
+    )
+    private GroupEnrollmentOutcome outcome;
+}
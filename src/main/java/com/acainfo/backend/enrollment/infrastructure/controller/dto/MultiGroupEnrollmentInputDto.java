@@ -0,0 +1,46 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de entrada para inscribir a un estudiante en varios grupos a la vez.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Datos necesarios para inscribir a un estudiante en varios grupos")
+public class MultiGroupEnrollmentInputDto {
+
+    @NotNull(message = "El ID del estudiante es obligatorio")
+    @Schema(
+            description = "ID del estudiante que se inscribe",
+            example = "1",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Long studentId;
+
+    @NotEmpty(message = "Debe indicarse al menos un grupo")
+    @Size(max = 10, message = "No se puede solicitar la inscripción en más de 10 grupos a la vez")
+    @Schema(
+            description = "IDs de los grupos en los que se inscribe",
+            example = "[3, 7, 12, 15]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private List<@NotNull(message = "Los IDs de grupo no pueden ser nulos") Long> groupIds;
+
+    @Builder.Default
+    @Schema(
+            description = "Modo de inscripción",
+            example = "ALL_OR_NOTHING",
+            allowableValues = {"ALL_OR_NOTHING", "BEST_EFFORT"}
+    )
+    private EnrollmentMode mode = EnrollmentMode.ALL_OR_NOTHING;
+}
@@ -0,0 +1,45 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el resultado de una inscripción en varios grupos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de la inscripción en varios grupos")
+public class MultiGroupEnrollmentOutputDto {
+
+    @Schema(
+            description = "ID del estudiante",
+            example = "1"
+    )
+    private Long studentId;
+
+    @Schema(
+            description = "Modo de inscripción aplicado",
+            example = "ALL_OR_NOTHING"
+    )
+    private EnrollmentMode mode;
+
+    @Schema(
+            description = "Número de grupos en los que se ha inscrito",
+            example = "4"
+    )
+    private Long enrolledCount;
+
+    @Schema(
+            description = "Indica si se ha inscrito en todos los grupos solicitados",
+            example = "true"
+    )
+    private Boolean complete;
+
+    @Schema(description = "Resultado por grupo, en el orden solicitado")
+    private List<GroupEnrollmentResultDto> results;
+}
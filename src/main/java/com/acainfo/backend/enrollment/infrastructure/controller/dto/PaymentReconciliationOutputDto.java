@@ -0,0 +1,44 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el resultado de conciliar un extracto bancario.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de la conciliación de pagos")
+public class PaymentReconciliationOutputDto {
+
+    @Schema(
+            description = "Número de líneas de pago procesadas",
+            example = "250"
+    )
+    private Long processedLines;
+
+    @Schema(
+            description = "Primera línea descartada como cabecera, si la había",
+            example = "idEstudiante;idGrupo;importe"
+    )
+    private String skippedHeader;
+
+    @Schema(
+            description = "Número de inscripciones activadas",
+            example = "241"
+    )
+    private Integer activatedCount;
+
+    @Schema(
+            description = "Número de líneas sin conciliar",
+            example = "9"
+    )
+    private Integer unmatchedCount;
+
+    @Schema(description = "Líneas que no se han podido conciliar")
+    private List<UnmatchedPaymentLineDto> unmatchedLines;
+}
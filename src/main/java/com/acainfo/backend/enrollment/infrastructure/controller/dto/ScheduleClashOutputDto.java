@@ -0,0 +1,41 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el resultado de comprobar choques de horario con un grupo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Choques de horario de un grupo con las inscripciones del estudiante")
+public class ScheduleClashOutputDto {
+
+    @Schema(
+            description = "ID del grupo comprobado",
+            example = "7"
+    )
+    private Long groupId;
+
+    @Schema(
+            description = "Indica si el estudiante ya está inscrito en el grupo",
+            example = "false"
+    )
+    private Boolean alreadyEnrolled;
+
+    @Schema(
+            description = "Indica si el horario del grupo choca con alguna inscripción del estudiante",
+            example = "true"
+    )
+    private Boolean clash;
+
+    @Schema(
+            description = "IDs de los grupos del estudiante con los que choca",
+            example = "[3, 12]"
+    )
+    private List<Long> clashingGroupIds;
+}
@@ -0,0 +1,120 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO de salida con el panel de inscripciones de un estudiante.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Panel de inscripciones de un estudiante")
+public class StudentDashboardOutputDto {
+
+    @Schema(description = "ID del estudiante", example = "1")
+    private Long studentId;
+
+    @Schema(description = "Inscripciones del estudiante, de la más reciente a la más antigua")
+    private List<EnrolledGroupDto> enrollments;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Inscripción en un grupo con su asignatura, profesor y horario")
+    public static class EnrolledGroupDto {
+
+        @Schema(description = "ID del grupo", example = "3")
+        private Long groupId;
+
+        @Schema(description = "Nombre del grupo", example = "Programación I - Mañana")
+        private String groupName;
+
+        @Schema(description = "Estado del grupo", example = "ACTIVE")
+        private GroupStatus groupStatus;
+
+        @Schema(description = "Tipo de grupo", example = "REGULAR")
+        private GroupType groupType;
+
+        @Schema(description = "Precio del grupo", example = "150.00")
+        private BigDecimal price;
+
+        @Schema(description = "Plazas ocupadas", example = "18")
+        private Integer currentEnrollments;
+
+        @Schema(description = "Capacidad máxima", example = "24")
+        private Integer maxCapacity;
+
+        @Schema(description = "Estado de la inscripción", example = "ACTIVE")
+        private EnrollmentStatus enrollmentStatus;
+
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        @Schema(description = "Fecha de inscripción", example = "2024-03-20T10:30:00", type = "string", format = "date-time")
+        private LocalDateTime enrolledAt;
+
+        @Schema(description = "ID de la asignatura", example = "5")
+        private Long subjectId;
+
+        @Schema(description = "Nombre de la asignatura", example = "Programación I")
+        private String subjectName;
+
+        @Schema(description = "Curso de la asignatura", example = "FIRST")
+        private CourseYear courseYear;
+
+        @Schema(description = "Cuatrimestre de la asignatura", example = "FIRST")
+        private Quarter quarter;
+
+        @Schema(description = "ID del profesor", example = "2")
+        private Long teacherId;
+
+        @Schema(description = "Nombre del profesor", example = "Laura Pérez")
+        private String teacherName;
+
+        @Schema(description = "Sesiones semanales del grupo")
+        private List<SessionDto> sessions;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Sesión semanal de un grupo")
+    public static class SessionDto {
+
+        @Schema(description = "ID de la sesión", example = "11")
+        private Long sessionId;
+
+        @Schema(description = "Día de la semana", example = "MONDAY")
+        private DayOfWeek dayOfWeek;
+
+        @JsonFormat(pattern = "HH:mm")
+        @Schema(description = "Hora de inicio", example = "09:00", type = "string")
+        private LocalTime startTime;
+
+        @JsonFormat(pattern = "HH:mm")
+        @Schema(description = "Hora de fin", example = "11:00", type = "string")
+        private LocalTime endTime;
+
+        @Schema(description = "Aula", example = "PORTAL_1")
+        private Classroom classroom;
+
+        @Schema(description = "Modalidad de la sesión", example = "IN_PERSON")
+        private SessionType type;
+    }
+}
@@ -0,0 +1,33 @@
+package com.acainfo.backend.enrollment.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de salida para una línea del extracto bancario que no se ha conciliado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Línea del extracto bancario sin conciliar")
+public class UnmatchedPaymentLineDto {
+
+    @Schema(
+            description = "Número de línea en el fichero",
+            example = "12"
+    )
+    private Long lineNumber;
+
+    @Schema(
+            description = "Contenido original de la línea",
+            example = "15;3;120,00"
+    )
+    private String content;
+
+    @Schema(
+            description = "Motivo por el que no se ha conciliado",
+            example = "El importe no coincide con el precio del grupo (150.00)"
+    )
+    private String reason;
+}
@@ -1,6 +1,11 @@
 package com.acainfo.backend.enrollment.infrastructure.repository.imp;
 
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentChangedEvent;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentCreatedEvent;
+import com.acainfo.backend.enrollment.domain.exception.DuplicateEnrollmentException;
+import com.acainfo.backend.enrollment.domain.exception.InvalidEnrollmentDataException;
 import com.acainfo.backend.enrollment.domain.repository.CreateEnrollmentRepository;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.EnrollmentJpaRepository;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.EnrollmentJpa;
@@ -9,10 +14,24 @@ import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJ
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del repositorio de creación de inscripciones.
+ * Cada alta publica un {@link EnrollmentChangedEvent} con los estudiantes afectados y
+ * guarda un {@link EnrollmentCreatedEvent} por inscripción en el outbox.
+ */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
@@ -21,6 +40,13 @@ public class CreateEnrollmentRepositoryImp implements CreateEnrollmentRepository
 
     private final EnrollmentJpaRepository jpaRepository;
     private final EnrollmentJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO enrollments (student_id, group_id, status, enrolled_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
 
     @Override
     public Enrollment save(Enrollment enrollment) {
@@ -65,6 +91,9 @@ public class CreateEnrollmentRepositoryImp implements CreateEnrollmentRepository
             log.info("Inscripción creada exitosamente con ID: [{}, {}]",
                     savedEntity.getId().getStudentId(),
                     savedEntity.getId().getGroupId());
+            eventPublisher.publishEvent(EnrollmentChangedEvent.of(savedEntity.getId().getStudentId()));
+            domainEventOutbox.append(new EnrollmentCreatedEvent(savedEntity.getId().getStudentId(),
+                    savedEntity.getId().getGroupId(), savedEntity.getStatus()));
 
             // Convertir de vuelta a dominio
             return mapper.toDomain(savedEntity);
@@ -77,4 +106,60 @@ public class CreateEnrollmentRepositoryImp implements CreateEnrollmentRepository
             throw new RuntimeException("Error al crear la inscripción", e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Enrollment> saveAll(List<Enrollment> enrollments) {
+        if (enrollments == null || enrollments.isEmpty()) {
+            return List.of();
+        }
+
+        log.info("Creando {} inscripciones en lote", enrollments.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> batchArgs = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            batchArgs.add(new Object[]{
+                    enrollment.getId().getStudentId(),
+                    enrollment.getId().getGroupId(),
+                    enrollment.getStatus().name(),
+                    timestamp,
+                    timestamp
+            });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        } catch (DataIntegrityViolationException e) {
+            log.error("Error de integridad al crear inscripciones en lote: {}", e.getMessage());
+
+            if (e.getMessage() != null && e.getMessage().contains("fk_enrollment_student")) {
+                throw new InvalidEnrollmentDataException("El estudiante especificado no existe");
+            }
+            if (e.getMessage() != null && e.getMessage().contains("fk_enrollment_group")) {
+                throw new InvalidEnrollmentDataException("Alguno de los grupos especificados no existe");
+            }
+            throw new DuplicateEnrollmentException("El estudiante ya está inscrito en alguno de los grupos");
+        }
+
+        Set<Long> studentIds = enrollments.stream()
+                .map(enrollment -> enrollment.getId().getStudentId())
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(studentIds, false));
+        domainEventOutbox.appendAll(enrollments.stream()
+                .map(enrollment -> new EnrollmentCreatedEvent(enrollment.getId().getStudentId(),
+                        enrollment.getId().getGroupId(), enrollment.getStatus()))
+                .toList());
+
+        List<Enrollment> created = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            created.add(Enrollment.builder()
+                    .id(enrollment.getId())
+                    .status(enrollment.getStatus())
+                    .enrolledAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return created;
+    }
+}
@@ -1,22 +1,45 @@
 package com.acainfo.backend.enrollment.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentChangedEvent;
 import com.acainfo.backend.enrollment.domain.repository.DeleteEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.EnrollmentJpaRepository;
-import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.EnrollmentJpa;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.*;
+
+/**
+ * Implementación del repositorio de eliminación de inscripciones.
+ *
+ * Los borrados son sentencias DELETE sobre bloques de estudiantes, sin cargar las entidades.
+ * Antes de borrar cada bloque se bloquean (SELECT ... FOR UPDATE) las inscripciones que
+ * ocupaban plaza, se cuentan por grupo y se devuelven a los contadores de los grupos en la
+ * misma transacción; dos borrados concurrentes de la misma inscripción no liberan dos plazas.
+ * Cada borrado publica un {@link EnrollmentChangedEvent} con los estudiantes afectados;
+ * el borrado total se publica para todos.
+ */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class DeleteEnrollmentRepositoryImp implements DeleteEnrollmentRepository {
 
+    private static final Set<EnrollmentStatus> SEAT_HOLDING_STATUSES =
+            EnumSet.of(EnrollmentStatus.PENDING_PAYMENT, EnrollmentStatus.ACTIVE);
+
     private final EnrollmentJpaRepository jpaRepository;
+    private final UpdateSubjectGroupRepository updateSubjectGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppProperties appProperties;
 
     @Override
     public boolean deleteById(EnrollmentId id) {
@@ -24,20 +47,12 @@ public class DeleteEnrollmentRepositoryImp implements DeleteEnrollmentRepository
                 id.getStudentId(), id.getGroupId());
 
         try {
-            // Crear el ID embebido
-            EnrollmentJpa.EnrollmentId embeddedId = new EnrollmentJpa.EnrollmentId();
-            embeddedId.setStudentId(id.getStudentId());
-            embeddedId.setGroupId(id.getGroupId());
-
-            // Verificar si existe antes de eliminar
-            if (!jpaRepository.existsById(embeddedId)) {
+            if (deleteChunk(List.of(id.getStudentId()), id.getGroupId()) == 0) {
                 log.warn("No se encontró inscripción con ID: [{}, {}] para eliminar",
                         id.getStudentId(), id.getGroupId());
                 return false;
             }
-
-            // Eliminar usando el ID compuesto
-            jpaRepository.deleteById(embeddedId);
+            eventPublisher.publishEvent(EnrollmentChangedEvent.of(id.getStudentId()));
 
             log.info("Inscripción eliminada exitosamente con ID: [{}, {}]",
                     id.getStudentId(), id.getGroupId());
@@ -57,7 +72,8 @@ public class DeleteEnrollmentRepositoryImp implements DeleteEnrollmentRepository
         log.info("Eliminando todas las inscripciones del estudiante: {}", studentId);
 
         try {
-            int deletedCount = jpaRepository.deleteByStudent_Id(studentId);
+            int deletedCount = deleteChunk(List.of(studentId), null);
+            eventPublisher.publishEvent(EnrollmentChangedEvent.of(studentId));
             log.info("Se eliminaron {} inscripciones del estudiante: {}",
                     deletedCount, studentId);
             return deletedCount;
@@ -74,7 +90,11 @@ public class DeleteEnrollmentRepositoryImp implements DeleteEnrollmentRepository
         log.info("Eliminando todas las inscripciones del grupo: {}", groupId);
 
         try {
-            int deletedCount = jpaRepository.deleteByGroup_Id(groupId);
+            Set<Long> studentIds = new HashSet<>();
+            int deletedCount = deleteInChunks(groupId, studentIds);
+            if (!studentIds.isEmpty()) {
+                eventPublisher.publishEvent(new EnrollmentChangedEvent(studentIds, false));
+            }
             log.info("Se eliminaron {} inscripciones del grupo: {}",
                     deletedCount, groupId);
             return deletedCount;
@@ -91,12 +111,53 @@ public class DeleteEnrollmentRepositoryImp implements DeleteEnrollmentRepository
         log.warn("Eliminando TODAS las inscripciones del sistema");
 
         try {
-            jpaRepository.deleteAll();
-            log.info("Todas las inscripciones han sido eliminadas");
+            int deletedCount = deleteInChunks(null, new HashSet<>());
+            eventPublisher.publishEvent(EnrollmentChangedEvent.ofAllStudents());
+            log.info("Se eliminaron {} inscripciones", deletedCount);
 
         } catch (Exception e) {
             log.error("Error al eliminar todas las inscripciones: {}", e.getMessage(), e);
             throw new RuntimeException("Error al eliminar todas las inscripciones", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Borra por bloques de estudiantes las inscripciones del grupo (o todas si es null).
+     * Las filas borradas desaparecen de la consulta, así que cada bloque se pide desde el principio.
+     *
+     * @param deletedStudentIds se completa con los estudiantes afectados
+     * @return el número de inscripciones eliminadas
+     */
+    private int deleteInChunks(Long groupId, Set<Long> deletedStudentIds) {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> studentIds;
+        do {
+            studentIds = jpaRepository.findStudentIds(groupId, Limit.of(chunkSize));
+            if (!studentIds.isEmpty()) {
+                deleted += deleteChunk(studentIds, groupId);
+                deletedStudentIds.addAll(studentIds);
+            }
+        } while (studentIds.size() == chunkSize);
+        return deleted;
+    }
+
+    /**
+     * Borra las inscripciones de un bloque de estudiantes (sólo las del grupo, si se indica)
+     * y devuelve a cada grupo las plazas que ocupaban. Las filas quedan bloqueadas desde
+     * que se cuentan hasta el final de la transacción.
+     */
+    private int deleteChunk(Collection<Long> studentIds, Long groupId) {
+        Map<Long, Integer> releasedSeats = new HashMap<>();
+        for (Long seatGroupId : jpaRepository.lockSeatHoldingGroupIds(studentIds, groupId, SEAT_HOLDING_STATUSES)) {
+            releasedSeats.merge(seatGroupId, -1, Integer::sum);
+        }
+
+        int deleted = jpaRepository.deleteByStudentIds(studentIds, groupId);
+        updateSubjectGroupRepository.adjustEnrollmentCounts(releasedSeats);
+
+        log.debug("Bloque de {} estudiantes: {} inscripciones eliminadas, plazas liberadas en {} grupos",
+                studentIds.size(), deleted, releasedSeats.size());
+        return deleted;
+    }
+}
@@ -2,17 +2,27 @@ package com.acainfo.backend.enrollment.infrastructure.repository.imp;
 
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.PendingPayment;
+import com.acainfo.backend.enrollment.domain.entity.StudentDashboard;
 import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
 import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.EnrollmentJpaRepository;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.EnrollmentJpa;
+import com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection.StudentDashboardRowView;
 import com.acainfo.backend.enrollment.infrastructure.repository.mapper.EnrollmentJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -115,6 +125,26 @@ public class ReadEnrollmentRepositoryImp implements ReadEnrollmentRepository {
         return jpaRepository.existsByStudent_IdAndGroup_Id(studentId, groupId);
     }
 
+    @Override
+    public List<Enrollment> findByStudentIdAndGroupIds(Long studentId, Collection<Long> groupIds) {
+        if (groupIds == null || groupIds.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Buscando inscripciones del estudiante {} en {} grupos", studentId, groupIds.size());
+        return mapper.toDomainList(jpaRepository.findByStudent_IdAndGroup_IdIn(studentId, groupIds));
+    }
+
+    @Override
+    public List<Long> findGroupIdsByStudentId(Long studentId, Collection<EnrollmentStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Buscando grupos del estudiante {} con estados {}", studentId, statuses);
+        return jpaRepository.findGroupIdsByStudentIdAndStatusIn(studentId, statuses);
+    }
+
     @Override
     public List<Enrollment> findActiveEnrollmentsByStudentId(Long studentId) {
         log.debug("Buscando inscripciones activas del estudiante: {}", studentId);
@@ -130,4 +160,84 @@ public class ReadEnrollmentRepositoryImp implements ReadEnrollmentRepository {
                 jpaRepository.findPendingPaymentEnrollments();
         return mapper.toDomainList(jpaEntities);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Enrollment> findPendingPaymentEnrollmentsEnrolledBetween(LocalDateTime from, LocalDateTime to) {
+        log.debug("Buscando inscripciones pendientes de pago realizadas entre {} y {}", from, to);
+        List<EnrollmentJpa> jpaEntities =
+                jpaRepository.findPendingPaymentEnrollmentsEnrolledBetween(from, to);
+        return mapper.toDomainList(jpaEntities);
+    }
+
+    @Override
+    public List<EnrollmentId> findPendingPaymentIdsEnrolledBefore(LocalDateTime cutoff, EnrollmentId after, int limit) {
+        log.debug("Buscando {} inscripciones pendientes de pago anteriores a {} tras {}", limit, cutoff, after);
+        long afterStudentId = after != null ? after.getStudentId() : Long.MIN_VALUE;
+        long afterGroupId = after != null ? after.getGroupId() : Long.MIN_VALUE;
+        return jpaRepository.findPendingPaymentIdsEnrolledBefore(cutoff, afterStudentId, afterGroupId, Limit.of(limit))
+                .stream()
+                .map(id -> EnrollmentId.of(id.getStudentId(), id.getGroupId()))
+                .toList();
+    }
+
+    @Override
+    public List<PendingPayment> findPendingPaymentsByStudentIds(Collection<Long> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Buscando pagos pendientes de {} estudiantes", studentIds.size());
+        return jpaRepository.findPendingPaymentsByStudentIds(studentIds).stream()
+                .map(view -> new PendingPayment(
+                        EnrollmentId.of(view.studentId(), view.groupId()),
+                        view.price()))
+                .toList();
+    }
+
+    @Override
+    public StudentDashboard findDashboardByStudentId(Long studentId, Collection<EnrollmentStatus> statuses) {
+        log.debug("Obteniendo panel del estudiante: {}", studentId);
+
+        List<StudentDashboardRowView> rows = jpaRepository.findDashboardRowsByStudentId(studentId, statuses);
+
+        // Agrupar las filas (inscripción × sesión) por grupo manteniendo el orden de la consulta
+        Map<Long, List<StudentDashboardRowView>> rowsByGroup = new LinkedHashMap<>();
+        for (StudentDashboardRowView row : rows) {
+            rowsByGroup.computeIfAbsent(row.groupId(), id -> new ArrayList<>()).add(row);
+        }
+
+        List<StudentDashboard.EnrolledGroup> enrollments = new ArrayList<>(rowsByGroup.size());
+        for (List<StudentDashboardRowView> groupRows : rowsByGroup.values()) {
+            StudentDashboardRowView first = groupRows.get(0);
+
+            List<StudentDashboard.Session> sessions = groupRows.stream()
+                    .filter(row -> row.sessionId() != null)
+                    .map(row -> new StudentDashboard.Session(row.sessionId(), row.dayOfWeek(),
+                            row.startTime(), row.endTime(), row.classroom(), row.sessionType()))
+                    .sorted(Comparator.comparing(StudentDashboard.Session::getDayOfWeek)
+                            .thenComparing(StudentDashboard.Session::getStartTime))
+                    .toList();
+
+            enrollments.add(StudentDashboard.EnrolledGroup.builder()
+                    .groupId(first.groupId())
+                    .groupName(first.groupName())
+                    .groupStatus(first.groupStatus())
+                    .groupType(first.groupType())
+                    .price(first.price())
+                    .currentEnrollments(first.currentEnrollments())
+                    .maxCapacity(first.maxCapacity())
+                    .enrollmentStatus(first.enrollmentStatus())
+                    .enrolledAt(first.enrolledAt())
+                    .subjectId(first.subjectId())
+                    .subjectName(first.subjectName())
+                    .courseYear(first.courseYear())
+                    .quarter(first.quarter())
+                    .teacherId(first.teacherId())
+                    .teacherName(first.teacherName())
+                    .sessions(sessions)
+                    .build());
+        }
+
+        return new StudentDashboard(studentId, enrollments);
+    }
+}
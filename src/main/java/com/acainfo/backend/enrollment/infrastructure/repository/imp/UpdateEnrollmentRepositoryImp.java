@@ -1,17 +1,39 @@
 package com.acainfo.backend.enrollment.infrastructure.repository.imp;
 
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
 import com.acainfo.backend.enrollment.domain.entity.Enrollment;
 import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentChangedEvent;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentStatusChangedEvent;
 import com.acainfo.backend.enrollment.domain.repository.UpdateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.EnrollmentJpaRepository;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.EnrollmentJpa;
 import com.acainfo.backend.enrollment.infrastructure.repository.mapper.EnrollmentJpaMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del repositorio de actualización de inscripciones.
+ * Cada cambio publica un {@link EnrollmentChangedEvent} con los estudiantes afectados, y
+ * cada cambio de estado guarda un {@link EnrollmentStatusChangedEvent} en el outbox.
+ */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
@@ -20,6 +42,17 @@ public class UpdateEnrollmentRepositoryImp implements UpdateEnrollmentRepository
 
     private final EnrollmentJpaRepository jpaRepository;
     private final EnrollmentJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE enrollments SET status = ?, updated_at = ? " +
+            "WHERE student_id = ? AND group_id = ? AND status = ?";
+
+    private static final String MARK_PAYMENT_REMINDED_SQL =
+            "UPDATE enrollments SET payment_reminded_at = ? " +
+            "WHERE student_id = ? AND group_id = ? AND status = 'PENDING_PAYMENT' AND payment_reminded_at IS NULL";
 
     @Override
     public Enrollment update(Enrollment enrollment) {
@@ -47,6 +80,8 @@ public class UpdateEnrollmentRepositoryImp implements UpdateEnrollmentRepository
                         );
                     });
 
+            EnrollmentStatus previousStatus = existingEntity.getStatus();
+
             // Actualizar los campos modificables (no se actualizan IDs ni enrolledAt)
             mapper.updateJpaFromDomain(enrollment, existingEntity);
 
@@ -55,6 +90,11 @@ public class UpdateEnrollmentRepositoryImp implements UpdateEnrollmentRepository
 
             log.info("Inscripción actualizada exitosamente. Estado: {}",
                     updatedEntity.getStatus());
+            eventPublisher.publishEvent(EnrollmentChangedEvent.of(updatedEntity.getId().getStudentId()));
+            if (previousStatus != updatedEntity.getStatus()) {
+                domainEventOutbox.append(new EnrollmentStatusChangedEvent(updatedEntity.getId().getStudentId(),
+                        updatedEntity.getId().getGroupId(), previousStatus, updatedEntity.getStatus()));
+            }
 
             // Convertir de vuelta a dominio
             return mapper.toDomain(updatedEntity);
@@ -80,4 +120,108 @@ public class UpdateEnrollmentRepositoryImp implements UpdateEnrollmentRepository
 
         return jpaRepository.existsById(embeddedId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<EnrollmentId> updateStatusInBatch(List<EnrollmentId> ids,
+                                                  EnrollmentStatus expectedStatus,
+                                                  EnrollmentStatus newStatus) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Cambiando estado de {} inscripciones de {} a {}", ids.size(), expectedStatus, newStatus);
+
+        // Truncado a la precisión de la columna para poder volver a buscarlo tal cual
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (EnrollmentId id : ids) {
+            batchArgs.add(new Object[]{
+                    newStatus.name(), now, id.getStudentId(), id.getGroupId(), expectedStatus.name()
+            });
+        }
+
+        List<EnrollmentId> updated = executeBatch(UPDATE_STATUS_SQL, ids, batchArgs,
+                "status = ? AND updated_at = ?", newStatus.name(), now);
+
+        log.debug("Inscripciones modificadas en el lote: {}/{}", updated.size(), ids.size());
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(
+                    updated.stream().map(EnrollmentId::getStudentId).collect(Collectors.toSet()), false));
+            domainEventOutbox.appendAll(updated.stream()
+                    .map(id -> new EnrollmentStatusChangedEvent(id.getStudentId(), id.getGroupId(), expectedStatus, newStatus))
+                    .toList());
+        }
+        return updated;
+    }
+
+    @Override
+    public List<EnrollmentId> markPaymentReminded(List<EnrollmentId> ids, LocalDateTime remindedAt) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(remindedAt.truncatedTo(ChronoUnit.MICROS));
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (EnrollmentId id : ids) {
+            batchArgs.add(new Object[]{timestamp, id.getStudentId(), id.getGroupId()});
+        }
+
+        List<EnrollmentId> marked = executeBatch(MARK_PAYMENT_REMINDED_SQL, ids, batchArgs,
+                "payment_reminded_at = ?", timestamp);
+        log.debug("Inscripciones marcadas con recordatorio de pago: {}/{}", marked.size(), ids.size());
+        return marked;
+    }
+
+    /**
+     * Ejecuta una sentencia por inscripción en un único lote y devuelve las inscripciones que modificó.
+     *
+     * Algunos drivers no informan del número de filas por sentencia (SUCCESS_NO_INFO):
+     * esas inscripciones se comprueban releyéndolas con 'confirmCondition', que debe cumplirse
+     * solo con los valores que acaba de escribir el lote, en vez de darlas por modificadas.
+     */
+    private List<EnrollmentId> executeBatch(String sql, List<EnrollmentId> ids, List<Object[]> batchArgs,
+                                            String confirmCondition, Object... confirmArgs) {
+        int[] rowsAffected = jdbcTemplate.batchUpdate(sql, batchArgs);
+
+        List<EnrollmentId> unknown = new ArrayList<>();
+        for (int i = 0; i < rowsAffected.length; i++) {
+            if (rowsAffected[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(ids.get(i));
+            }
+        }
+        Set<EnrollmentId> confirmed = unknown.isEmpty() ? Set.of() : findMatching(unknown, confirmCondition, confirmArgs);
+
+        List<EnrollmentId> updated = new ArrayList<>(ids.size());
+        for (int i = 0; i < rowsAffected.length; i++) {
+            if (rowsAffected[i] > 0 || confirmed.contains(ids.get(i))) {
+                updated.add(ids.get(i));
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Devuelve, de entre las inscripciones indicadas, las que cumplen la condición.
+     */
+    private Set<EnrollmentId> findMatching(List<EnrollmentId> ids, String condition, Object... conditionArgs) {
+        Set<Long> studentIds = ids.stream().map(EnrollmentId::getStudentId).collect(Collectors.toSet());
+        String sql = "SELECT student_id, group_id FROM enrollments WHERE " + condition + " " +
+                "AND student_id IN (" + String.join(", ", Collections.nCopies(studentIds.size(), "?")) + ")";
+
+        List<Object> args = new ArrayList<>(studentIds.size() + conditionArgs.length);
+        args.addAll(List.of(conditionArgs));
+        args.addAll(studentIds);
+
+        Set<EnrollmentId> candidates = new HashSet<>(ids);
+        Set<EnrollmentId> matching = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            EnrollmentId id = EnrollmentId.of(rs.getLong("student_id"), rs.getLong("group_id"));
+            if (candidates.contains(id)) {
+                matching.add(id);
+            }
+        }, args.toArray());
+
+        log.debug("Inscripciones sin recuento del driver confirmadas al releer: {}/{}", matching.size(), ids.size());
+        return matching;
+    }
+}
@@ -2,11 +2,19 @@ package com.acainfo.backend.enrollment.infrastructure.repository.jpa;
 
 import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
 import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.EnrollmentJpa;
+import com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection.PendingPaymentView;
+import com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection.StudentDashboardRowView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,22 +42,113 @@ public interface EnrollmentJpaRepository extends JpaRepository<EnrollmentJpa, En
 
     boolean existsByStudent_IdAndGroup_Id(Long studentId, Long groupId);
 
-    // Método para eliminar por componentes del ID
-    void deleteByStudent_IdAndGroup_Id(Long studentId, Long groupId);
-
-    int deleteByStudent_Id(Long studentId);
-
-    int deleteByGroup_Id(Long groupId);
+    List<EnrollmentJpa> findByStudent_IdAndGroup_IdIn(Long studentId, Collection<Long> groupIds);
+
+    // Borrados por bloques de estudiantes, sin cargar las entidades
+
+    /**
+     * IDs de los estudiantes con inscripciones (en el grupo, si se indica), en orden.
+     * Sirve para recorrer las inscripciones por bloques mientras se borran.
+     */
+    @Query("SELECT DISTINCT e.id.studentId FROM EnrollmentJpa e " +
+            "WHERE (:groupId IS NULL OR e.id.groupId = :groupId) " +
+            "ORDER BY e.id.studentId")
+    List<Long> findStudentIds(@Param("groupId") Long groupId, Limit limit);
+
+    /**
+     * Bloquea con SELECT ... FOR UPDATE las inscripciones de los estudiantes indicados
+     * (en el grupo, si se indica) que están en alguno de los estados dados, y devuelve
+     * el grupo de cada una: una fila por plaza ocupada.
+     * Un borrado concurrente de las mismas filas espera al bloqueo y ya no las ve, así
+     * que cada plaza se devuelve al grupo una sola vez. Se ordenan por ID para que el
+     * orden de bloqueo sea siempre el mismo y no haya interbloqueos.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e.id.groupId FROM EnrollmentJpa e " +
+            "WHERE e.id.studentId IN :studentIds " +
+            "AND (:groupId IS NULL OR e.id.groupId = :groupId) " +
+            "AND e.status IN :statuses " +
+            "ORDER BY e.id.studentId, e.id.groupId")
+    List<Long> lockSeatHoldingGroupIds(@Param("studentIds") Collection<Long> studentIds,
+                                       @Param("groupId") Long groupId,
+                                       @Param("statuses") Collection<EnrollmentStatus> statuses);
+
+    /**
+     * Elimina con una única sentencia las inscripciones de los estudiantes indicados
+     * (en el grupo, si se indica).
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EnrollmentJpa e " +
+            "WHERE e.id.studentId IN :studentIds " +
+            "AND (:groupId IS NULL OR e.id.groupId = :groupId)")
+    int deleteByStudentIds(@Param("studentIds") Collection<Long> studentIds,
+                           @Param("groupId") Long groupId);
 
     // Queries personalizadas
     @Query("SELECT e FROM EnrollmentJpa e WHERE e.student.id = :studentId " +
             "AND e.status = 'ACTIVE' ORDER BY e.enrolledAt DESC")
     List<EnrollmentJpa> findActiveEnrollmentsByStudentId(@Param("studentId") Long studentId);
 
+    @Query("SELECT e.id.groupId FROM EnrollmentJpa e " +
+            "WHERE e.id.studentId = :studentId AND e.status IN :statuses")
+    List<Long> findGroupIdsByStudentIdAndStatusIn(@Param("studentId") Long studentId,
+                                                   @Param("statuses") Collection<EnrollmentStatus> statuses);
+
     @Query("SELECT e FROM EnrollmentJpa e WHERE e.status = 'PENDING_PAYMENT' " +
             "ORDER BY e.enrolledAt ASC")
     List<EnrollmentJpa> findPendingPaymentEnrollments();
 
+    @Query("SELECT e FROM EnrollmentJpa e WHERE e.status = 'PENDING_PAYMENT' AND e.paymentRemindedAt IS NULL " +
+            "AND e.enrolledAt >= :from AND e.enrolledAt < :to ORDER BY e.enrolledAt ASC")
+    List<EnrollmentJpa> findPendingPaymentEnrollmentsEnrolledBetween(@Param("from") LocalDateTime from,
+                                                                     @Param("to") LocalDateTime to);
+
+    /**
+     * Obtiene una página de IDs de inscripciones pendientes de pago anteriores a la fecha de corte,
+     * ordenada por clave y empezando después de la clave indicada (paginación por clave).
+     * Solo proyecta la clave, por lo que no se cargan entidades en el contexto de persistencia.
+     */
+    @Query("SELECT e.id FROM EnrollmentJpa e WHERE e.status = 'PENDING_PAYMENT' " +
+            "AND e.enrolledAt < :cutoff " +
+            "AND (e.id.studentId > :afterStudentId " +
+            "OR (e.id.studentId = :afterStudentId AND e.id.groupId > :afterGroupId)) " +
+            "ORDER BY e.id.studentId ASC, e.id.groupId ASC")
+    List<EnrollmentJpa.EnrollmentId> findPendingPaymentIdsEnrolledBefore(@Param("cutoff") LocalDateTime cutoff,
+                                                                        @Param("afterStudentId") Long afterStudentId,
+                                                                        @Param("afterGroupId") Long afterGroupId,
+                                                                        Limit limit);
+
+    /**
+     * Obtiene las inscripciones pendientes de pago de varios estudiantes junto con el precio del grupo.
+     */
+    @Query("SELECT new com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection.PendingPaymentView(" +
+            "e.student.id, g.id, g.price) " +
+            "FROM EnrollmentJpa e JOIN e.group g " +
+            "WHERE e.status = 'PENDING_PAYMENT' AND e.student.id IN :studentIds")
+    List<PendingPaymentView> findPendingPaymentsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Obtiene en una sola consulta las inscripciones de un estudiante con su grupo,
+     * asignatura, profesor y sesiones. Devuelve una fila por inscripción y sesión.
+     */
+    @Query("SELECT new com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection.StudentDashboardRowView(" +
+            "g.id, g.name, g.status, g.type, g.price, g.currentEnrollments, g.maxCapacity, " +
+            "e.status, e.enrolledAt, " +
+            "s.id, s.name, s.courseYear, s.quarter, " +
+            "t.id, t.name, " +
+            "gs.id, gs.dayOfWeek, gs.startTime, gs.endTime, gs.classroom, gs.type) " +
+            "FROM EnrollmentJpa e " +
+            "JOIN e.group g " +
+            "JOIN g.subject s " +
+            "JOIN g.teacher t " +
+            "LEFT JOIN g.sessions gs " +
+            "WHERE e.student.id = :studentId AND e.status IN :statuses " +
+            "ORDER BY e.enrolledAt DESC, g.id")
+    List<StudentDashboardRowView> findDashboardRowsByStudentId(
+            @Param("studentId") Long studentId,
+            @Param("statuses") Collection<EnrollmentStatus> statuses
+    );
+
     @Query("SELECT e FROM EnrollmentJpa e " +
             "JOIN e.group g " +
             "WHERE e.student.id = :studentId " +
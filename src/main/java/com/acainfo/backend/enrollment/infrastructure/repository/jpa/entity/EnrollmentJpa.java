@@ -14,10 +14,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "enrollments",
+        // Reservas pendientes de pago (parcial): V4__performance_indexes.sql
         indexes = {
-                @Index(name = "idx_enrollment_student", columnList = "student_id"),
-                @Index(name = "idx_enrollment_group", columnList = "group_id"),
-                @Index(name = "idx_enrollment_status", columnList = "status"),
                 @Index(name = "idx_enrollment_student_status", columnList = "student_id, status"),
                 @Index(name = "idx_enrollment_group_status", columnList = "group_id, status")
         }
@@ -58,6 +56,11 @@ public class EnrollmentJpa {
     @Builder.Default
     private EnrollmentStatus status = EnrollmentStatus.PENDING_PAYMENT;
 
+    // Solo lo escribe el recordatorio de pago con su propia sentencia (UpdateEnrollmentRepository):
+    // guardar la entidad no debe borrarlo
+    @Column(name = "payment_reminded_at", insertable = false, updatable = false)
+    private LocalDateTime paymentRemindedAt;
+
     @PrePersist
     protected void onCreate() {
         if (status == null) {
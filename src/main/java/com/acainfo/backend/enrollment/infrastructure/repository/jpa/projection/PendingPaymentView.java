@@ -0,0 +1,9 @@
+package com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Proyección de una inscripción pendiente de pago con el precio de su grupo.
+ */
+public record PendingPaymentView(Long studentId, Long groupId, BigDecimal price) {
+}
@@ -0,0 +1,43 @@
+package com.acainfo.backend.enrollment.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Proyección plana de una fila del panel del estudiante: inscripción × sesión.
+ * Los campos de sesión son null si el grupo no tiene sesiones.
+ */
+public record StudentDashboardRowView(
+        Long groupId,
+        String groupName,
+        GroupStatus groupStatus,
+        GroupType groupType,
+        BigDecimal price,
+        Integer currentEnrollments,
+        Integer maxCapacity,
+        EnrollmentStatus enrollmentStatus,
+        LocalDateTime enrolledAt,
+        Long subjectId,
+        String subjectName,
+        CourseYear courseYear,
+        Quarter quarter,
+        Long teacherId,
+        String teacherName,
+        Long sessionId,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        Classroom classroom,
+        SessionType sessionType
+) {
+}
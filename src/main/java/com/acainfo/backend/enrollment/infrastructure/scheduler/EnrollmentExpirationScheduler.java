@@ -0,0 +1,40 @@
+package com.acainfo.backend.enrollment.infrastructure.scheduler;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.enrollment.application.ExpirePendingEnrollmentsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tarea programada que caduca las inscripciones no pagadas dentro del plazo.
+ * Solo se registra si las tareas programadas están habilitadas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.scheduled-tasks", name = "enabled", havingValue = "true")
+public class EnrollmentExpirationScheduler {
+
+    private final ExpirePendingEnrollmentsUseCase expirePendingEnrollmentsUseCase;
+    private final AppProperties appProperties;
+
+    @Scheduled(cron = "${app.scheduled-tasks.enrollment-expiration.cron-expression:0 */15 * * * *}")
+    public void expireOverduePendingPayments() {
+        AppProperties.EnrollmentExpiration config = appProperties.getScheduledTasks().getEnrollmentExpiration();
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(config.getPaymentDeadlineHours());
+
+        try {
+            int expired = expirePendingEnrollmentsUseCase.expireEnrolledBefore(cutoff, config.getChunkSize());
+            if (expired > 0) {
+                log.info("Barrido de inscripciones completado. Caducadas: {}", expired);
+            }
+        } catch (Exception e) {
+            log.error("Error en el barrido de inscripciones pendientes de pago: {}", e.getMessage(), e);
+        }
+    }
+}
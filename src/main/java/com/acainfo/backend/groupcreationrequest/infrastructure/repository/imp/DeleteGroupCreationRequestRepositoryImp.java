@@ -1,18 +1,22 @@
 package com.acainfo.backend.groupcreationrequest.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
 import com.acainfo.backend.groupcreationrequest.domain.repository.DeleteGroupCreationRequestRepository;
 import com.acainfo.backend.groupcreationrequest.domain.value.RequestStatus;
 import com.acainfo.backend.groupcreationrequest.infrastructure.repository.jpa.GroupCreationRequestJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Implementación del repositorio de eliminación de solicitudes de creación de grupo.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
+ * Los borrados son sentencias DELETE por ID, por bloques en la limpieza de antiguas.
  */
 @Repository
 @RequiredArgsConstructor
@@ -21,17 +25,17 @@ import java.time.LocalDateTime;
 public class DeleteGroupCreationRequestRepositoryImp implements DeleteGroupCreationRequestRepository {
 
     private final GroupCreationRequestJpaRepository jpaRepository;
+    private final AppProperties appProperties;
 
     @Override
     public boolean deleteById(Long id) {
         log.debug("Eliminando solicitud de grupo con ID: {}", id);
 
-        if (!jpaRepository.existsById(id)) {
+        if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
             log.warn("Intento de eliminar solicitud inexistente con ID: {}", id);
             return false;
         }
 
-        jpaRepository.deleteById(id);
         log.info("Solicitud de grupo eliminada con ID: {}", id);
         return true;
     }
@@ -41,7 +45,15 @@ public class DeleteGroupCreationRequestRepositoryImp implements DeleteGroupCreat
         log.debug("Eliminando solicitudes procesadas con más de {} días de antigüedad", daysOld);
 
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        int deletedCount = jpaRepository.deleteOldProcessedRequests(cutoffDate);
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deletedCount = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findOldProcessedRequestIds(cutoffDate, Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deletedCount += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
 
         log.info("Eliminadas {} solicitudes antiguas procesadas", deletedCount);
         return deletedCount;
@@ -51,14 +63,14 @@ public class DeleteGroupCreationRequestRepositoryImp implements DeleteGroupCreat
     public boolean canBeDeleted(Long id) {
         log.debug("Verificando si la solicitud {} puede ser eliminada", id);
 
-        return jpaRepository.findById(id)
-                .map(request -> {
+        return jpaRepository.findStatusById(id)
+                .map(status -> {
                     // Solo se pueden eliminar solicitudes que no están pendientes
-                    boolean canDelete = request.getStatus() != RequestStatus.PENDING;
+                    boolean canDelete = status != RequestStatus.PENDING;
                     log.debug("Solicitud {} {} ser eliminada (estado: {})",
                             id,
                             canDelete ? "puede" : "no puede",
-                            request.getStatus());
+                            status);
                     return canDelete;
                 })
                 .orElse(false);
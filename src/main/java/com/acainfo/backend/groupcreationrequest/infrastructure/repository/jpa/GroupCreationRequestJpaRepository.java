@@ -2,6 +2,7 @@ package com.acainfo.backend.groupcreationrequest.infrastructure.repository.jpa;
 
 import com.acainfo.backend.groupcreationrequest.domain.value.RequestStatus;
 import com.acainfo.backend.groupcreationrequest.infrastructure.repository.jpa.entity.GroupCreationRequestJpa;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +10,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para la entidad GroupCreationRequest.
@@ -95,14 +98,27 @@ public interface GroupCreationRequestJpaRepository extends JpaRepository<GroupCr
     );
 
     /**
-     * Elimina solicitudes antiguas que ya fueron procesadas.
-     * Útil para limpieza de base de datos.
+     * IDs de las solicitudes antiguas que ya fueron procesadas, ordenados.
+     * Útil para limpieza de base de datos por bloques.
      */
-    @Modifying
-    @Query("DELETE FROM GroupCreationRequestJpa gcr " +
+    @Query("SELECT gcr.id FROM GroupCreationRequestJpa gcr " +
             "WHERE gcr.status IN ('REJECTED', 'CANCELLED') " +
-            "AND gcr.updatedAt < :cutoffDate")
-    int deleteOldProcessedRequests(@Param("cutoffDate") LocalDateTime cutoffDate);
+            "AND gcr.updatedAt < :cutoffDate " +
+            "ORDER BY gcr.id")
+    List<Long> findOldProcessedRequestIds(@Param("cutoffDate") LocalDateTime cutoffDate, Limit limit);
+
+    /**
+     * Elimina las solicitudes indicadas con un único DELETE, sin cargarlas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupCreationRequestJpa gcr WHERE gcr.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Estado de una solicitud, sin cargarla.
+     */
+    @Query("SELECT gcr.status FROM GroupCreationRequestJpa gcr WHERE gcr.id = :id")
+    Optional<RequestStatus> findStatusById(@Param("id") Long id);
 
     /**
      * Busca todas las solicitudes pendientes ordenadas por antigüedad.
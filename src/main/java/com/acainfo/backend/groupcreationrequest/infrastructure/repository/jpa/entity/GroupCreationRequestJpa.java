@@ -15,11 +15,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "group_creation_requests",
+        // Pendientes, procesadas y por estudiante (parciales): V4__performance_indexes.sql
         indexes = {
-                @Index(name = "idx_gcr_student", columnList = "student_id"),
-                @Index(name = "idx_gcr_subject", columnList = "subject_id"),
-                @Index(name = "idx_gcr_status", columnList = "status"),
-                @Index(name = "idx_gcr_student_subject_status", columnList = "student_id,subject_id,status")
+                @Index(name = "idx_gcr_subject", columnList = "subject_id")
         }
 )
 @EntityListeners(AuditingEntityListener.class)
@@ -33,7 +31,8 @@ import java.time.LocalDateTime;
 public class GroupCreationRequestJpa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_creation_requests_id_seq")
+    @SequenceGenerator(name = "group_creation_requests_id_seq", sequenceName = "group_creation_requests_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,22 @@
+package com.acainfo.backend.groupsession.application;
+
+import com.acainfo.backend.groupsession.domain.entity.RecurringSessionPattern;
+import com.acainfo.backend.groupsession.domain.entity.RecurringSessionsResult;
+
+/**
+ * Caso de uso para crear de una vez las sesiones semanales de un grupo.
+ */
+public interface CreateRecurringSessionsUseCase {
+
+    /**
+     * Comprueba todo el patrón y, si ninguna franja choca, crea sus sesiones en un único lote.
+     * Si hay conflictos no se crea ninguna sesión y se devuelven todos.
+     *
+     * @param pattern días, franja, aula y tipo de las sesiones
+     * @return las sesiones creadas o los conflictos encontrados
+     * @throws IllegalArgumentException si el patrón es inválido o el grupo no existe
+     * @throws com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException
+     *         si otra petición ocupa alguna franja entre la comprobación y la inserción
+     */
+    RecurringSessionsResult create(RecurringSessionPattern pattern);
+}
@@ -0,0 +1,25 @@
+package com.acainfo.backend.groupsession.application;
+
+import com.acainfo.backend.groupsession.domain.entity.TimetableProblem;
+import com.acainfo.backend.groupsession.domain.entity.TimetableSolution;
+
+/**
+ * Caso de uso para generar automáticamente el horario de varios grupos.
+ */
+public interface GenerateTimetableUseCase {
+
+    /**
+     * Busca un horario sin conflictos para los grupos indicados.
+     *
+     * Sólo hace falta indicar en cada requisito el grupo, las horas semanales y la duración
+     * de las sesiones: el profesor se obtiene del grupo y las sesiones del resto de grupos
+     * se respetan como ocupadas. Las aulas, los días, la franja del día, el paso entre horas
+     * de inicio y el límite de tiempo tienen valores por defecto si vienen a null.
+     *
+     * @param request los grupos a programar y sus restricciones
+     * @param apply si es true y hay solución, sustituye las sesiones actuales de esos grupos
+     * @return el horario encontrado (con IDs si se ha aplicado) o el motivo por el que no lo hay
+     * @throws IllegalArgumentException si la petición no es válida o algún grupo no existe
+     */
+    TimetableSolution generate(TimetableProblem request, boolean apply);
+}
@@ -0,0 +1,38 @@
+package com.acainfo.backend.groupsession.application;
+
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Caso de uso para consultar la disponibilidad de las aulas.
+ */
+public interface ReadClassroomAvailabilityUseCase {
+
+    /**
+     * Obtiene las franjas libres de un aula en un día.
+     *
+     * @param classroom el aula
+     * @param dayOfWeek el día de la semana
+     * @param from inicio del intervalo a consultar (null = apertura del centro)
+     * @param to fin del intervalo a consultar (null = cierre del centro)
+     * @param minDuration duración mínima de las franjas (null = cualquiera)
+     * @return franjas libres ordenadas por hora de inicio
+     * @throws IllegalArgumentException si faltan el aula o el día, o si from no es anterior a to
+     */
+    List<TimeSlot> findFreeSlots(Classroom classroom, DayOfWeek dayOfWeek,
+                                 LocalTime from, LocalTime to, Duration minDuration);
+
+    /**
+     * Obtiene la ocupación semanal de las aulas.
+     *
+     * @param classroom el aula a consultar (null = todas las aulas)
+     * @return una ocupación semanal por aula, en el orden de {@link Classroom}
+     */
+    List<ClassroomWeek> getWeeklyOccupancy(Classroom classroom);
+}
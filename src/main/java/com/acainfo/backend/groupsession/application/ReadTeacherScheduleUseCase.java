@@ -0,0 +1,19 @@
+package com.acainfo.backend.groupsession.application;
+
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+
+import java.util.Optional;
+
+/**
+ * Caso de uso para consultar el horario semanal de un profesor.
+ */
+public interface ReadTeacherScheduleUseCase {
+
+    /**
+     * Obtiene las sesiones de todos los grupos del profesor y su número de grupos activos.
+     *
+     * @param teacherId el ID del profesor
+     * @return el horario, o vacío si el profesor no existe
+     */
+    Optional<TeacherSchedule> getSchedule(Long teacherId);
+}
@@ -0,0 +1,66 @@
+package com.acainfo.backend.groupsession.application.imp;
+
+import com.acainfo.backend.groupsession.application.CreateRecurringSessionsUseCase;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.RecurringSessionPattern;
+import com.acainfo.backend.groupsession.domain.entity.RecurringSessionsResult;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de creación de sesiones semanales.
+ *
+ * Los conflictos se buscan en los índices en memoria de aulas y profesores, sin una
+ * consulta por sesión. La inserción es un único lote JDBC que vuelve a reservar cada
+ * franja de forma atómica, así que una petición concurrente no puede colarse entre
+ * la comprobación y la inserción.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CreateRecurringSessionsUseCaseImp implements CreateRecurringSessionsUseCase {
+
+    private final CreateGroupSessionRepository createGroupSessionRepository;
+    private final ReadGroupSessionRepository readGroupSessionRepository;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+
+    @Override
+    @Transactional
+    public RecurringSessionsResult create(RecurringSessionPattern pattern) {
+        validate(pattern);
+
+        List<GroupSession> sessions = pattern.toSessions();
+        List<SessionConflict> conflicts = readGroupSessionRepository.findConflicts(sessions);
+        if (!conflicts.isEmpty()) {
+            log.warn("Patrón semanal del grupo {} rechazado: {} conflictos", pattern.getGroupId(), conflicts.size());
+            return RecurringSessionsResult.rejected(conflicts);
+        }
+
+        List<GroupSession> created = createGroupSessionRepository.saveAll(sessions);
+        log.info("Creadas {} sesiones semanales del grupo {}", created.size(), pattern.getGroupId());
+        return RecurringSessionsResult.created(created);
+    }
+
+    private void validate(RecurringSessionPattern pattern) {
+        if (pattern.getDays() == null || pattern.getDays().isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos un día");
+        }
+        if (pattern.getStartTime() == null || pattern.getEndTime() == null || pattern.getClassroom() == null) {
+            throw new IllegalArgumentException("La franja y el aula de las sesiones son requeridas");
+        }
+        if (!pattern.getStartTime().isBefore(pattern.getEndTime())) {
+            throw new IllegalArgumentException("La hora de fin debe ser posterior a la hora de inicio");
+        }
+        if (pattern.getGroupId() == null || !readSubjectGroupRepository.existsById(pattern.getGroupId())) {
+            throw new IllegalArgumentException("El grupo " + pattern.getGroupId() + " no existe");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.acainfo.backend.groupsession.application.imp;
+
+import com.acainfo.backend.groupsession.application.GenerateTimetableUseCase;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.SessionRequirement;
+import com.acainfo.backend.groupsession.domain.entity.TimetableProblem;
+import com.acainfo.backend.groupsession.domain.entity.TimetableSolution;
+import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.repository.DeleteGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.service.TimetableSolver;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Implementación del caso de uso de generación de horarios.
+ *
+ * La búsqueda se hace fuera de transacción para no retener una conexión mientras dura;
+ * sólo la sustitución de las sesiones (borrado e inserción en lote) es transaccional.
+ * Si entre tanto alguien ocupa una de las franjas elegidas, el índice de aulas rechaza
+ * la inserción y no se aplica nada.
+ */
+@Service
+@Slf4j
+public class GenerateTimetableUseCaseImp implements GenerateTimetableUseCase {
+
+    static final Set<DayOfWeek> DEFAULT_DAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    static final int DEFAULT_STEP_MINUTES = 30;
+    static final Duration DEFAULT_TIME_LIMIT = Duration.ofSeconds(10);
+    static final Duration MAX_TIME_LIMIT = Duration.ofSeconds(60);
+
+    private final TimetableSolver timetableSolver;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final ReadGroupSessionRepository readGroupSessionRepository;
+    private final CreateGroupSessionRepository createGroupSessionRepository;
+    private final DeleteGroupSessionRepository deleteGroupSessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public GenerateTimetableUseCaseImp(TimetableSolver timetableSolver,
+                                       ReadSubjectGroupRepository readSubjectGroupRepository,
+                                       ReadGroupSessionRepository readGroupSessionRepository,
+                                       CreateGroupSessionRepository createGroupSessionRepository,
+                                       DeleteGroupSessionRepository deleteGroupSessionRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.timetableSolver = timetableSolver;
+        this.readSubjectGroupRepository = readSubjectGroupRepository;
+        this.readGroupSessionRepository = readGroupSessionRepository;
+        this.createGroupSessionRepository = createGroupSessionRepository;
+        this.deleteGroupSessionRepository = deleteGroupSessionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public TimetableSolution generate(TimetableProblem request, boolean apply) {
+        TimetableProblem problem = complete(request);
+        List<Long> groupIds = problem.getRequirements().stream().map(SessionRequirement::getGroupId).toList();
+
+        log.info("Generando horario para los grupos {} (aplicar: {})", groupIds, apply);
+
+        TimetableSolution solution = timetableSolver.solve(problem);
+        if (!apply || !solution.isSolved()) {
+            return solution;
+        }
+
+        List<GroupSession> saved = transactionTemplate.execute(status -> {
+            groupIds.forEach(deleteGroupSessionRepository::deleteByGroupId);
+            return createGroupSessionRepository.saveAll(solution.getSessions());
+        });
+
+        log.info("Horario aplicado: {} sesiones para {} grupos", saved.size(), groupIds.size());
+        return solution.toBuilder().sessions(saved).applied(true).build();
+    }
+
+    /**
+     * Valida la petición y la completa con los profesores, las sesiones ocupadas y los valores por defecto.
+     */
+    private TimetableProblem complete(TimetableProblem request) {
+        if (request == null || request.getRequirements() == null || request.getRequirements().isEmpty()) {
+            throw new IllegalArgumentException("Debe indicarse al menos un grupo");
+        }
+
+        LocalTime dayStart = request.getDayStart() != null ? request.getDayStart() : ReadClassroomAvailabilityUseCaseImp.OPENING_TIME;
+        LocalTime dayEnd = request.getDayEnd() != null ? request.getDayEnd() : ReadClassroomAvailabilityUseCaseImp.CLOSING_TIME;
+        if (!dayStart.isBefore(dayEnd)) {
+            throw new IllegalArgumentException("La hora de inicio del día debe ser anterior a la de fin");
+        }
+        long windowMinutes = Duration.between(dayStart, dayEnd).toMinutes();
+
+        int step = request.getStepMinutes() > 0 ? request.getStepMinutes() : DEFAULT_STEP_MINUTES;
+        Duration timeLimit = request.getTimeLimit() != null ? request.getTimeLimit() : DEFAULT_TIME_LIMIT;
+        if (timeLimit.isNegative() || timeLimit.isZero() || timeLimit.compareTo(MAX_TIME_LIMIT) > 0) {
+            throw new IllegalArgumentException("El límite de tiempo debe estar entre 1 y " + MAX_TIME_LIMIT.toSeconds() + " segundos");
+        }
+
+        Set<Long> groupIds = new LinkedHashSet<>();
+        for (SessionRequirement requirement : request.getRequirements()) {
+            if (requirement.getGroupId() == null || !groupIds.add(requirement.getGroupId())) {
+                throw new IllegalArgumentException("Cada grupo debe indicarse una sola vez");
+            }
+            if (requirement.getWeeklyMinutes() <= 0 || requirement.getSessionMinutes() <= 0) {
+                throw new IllegalArgumentException("Las horas semanales y la duración de las sesiones deben ser positivas");
+            }
+            if (requirement.getSessionMinutes() > windowMinutes) {
+                throw new IllegalArgumentException(String.format(
+                        "Las sesiones del grupo %d no caben entre las %s y las %s",
+                        requirement.getGroupId(), dayStart, dayEnd));
+            }
+        }
+
+        Map<Long, Long> teacherByGroup = new HashMap<>();
+        for (SubjectGroup group : readSubjectGroupRepository.findAllByIds(groupIds)) {
+            teacherByGroup.put(group.getId(), group.getTeacherId());
+        }
+        List<Long> missing = groupIds.stream().filter(id -> !teacherByGroup.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Los grupos " + missing + " no existen");
+        }
+
+        return request.toBuilder()
+                .requirements(request.getRequirements().stream()
+                        .map(requirement -> requirement.toBuilder()
+                                .teacherId(teacherByGroup.get(requirement.getGroupId()))
+                                .build())
+                        .toList())
+                .unavailabilities(request.getUnavailabilities() != null ? request.getUnavailabilities() : List.of())
+                .occupiedSlots(readGroupSessionRepository.findOccupiedSlotsExcludingGroups(groupIds))
+                .classrooms(request.getClassrooms() != null && !request.getClassrooms().isEmpty()
+                        ? request.getClassrooms() : EnumSet.allOf(Classroom.class))
+                .days(request.getDays() != null && !request.getDays().isEmpty() ? request.getDays() : DEFAULT_DAYS)
+                .dayStart(dayStart)
+                .dayEnd(dayEnd)
+                .stepMinutes(step)
+                .timeLimit(timeLimit)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.acainfo.backend.groupsession.application.imp;
+
+import com.acainfo.backend.groupsession.application.ReadClassroomAvailabilityUseCase;
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de disponibilidad de aulas.
+ * Las franjas se calculan sobre el índice en memoria de ocupación, sin consultar la base de datos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadClassroomAvailabilityUseCaseImp implements ReadClassroomAvailabilityUseCase {
+
+    static final LocalTime OPENING_TIME = LocalTime.of(8, 0);
+    static final LocalTime CLOSING_TIME = LocalTime.of(22, 0);
+
+    private final ReadGroupSessionRepository readGroupSessionRepository;
+
+    @Override
+    public List<TimeSlot> findFreeSlots(Classroom classroom, DayOfWeek dayOfWeek,
+                                        LocalTime from, LocalTime to, Duration minDuration) {
+        if (classroom == null || dayOfWeek == null) {
+            throw new IllegalArgumentException("El aula y el día son requeridos");
+        }
+
+        LocalTime start = from != null ? from : OPENING_TIME;
+        LocalTime end = to != null ? to : CLOSING_TIME;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("La hora de inicio debe ser anterior a la de fin");
+        }
+        if (minDuration != null && minDuration.isNegative()) {
+            throw new IllegalArgumentException("La duración mínima no puede ser negativa");
+        }
+
+        log.debug("Consultando franjas libres del aula {} el {} entre {} y {}", classroom, dayOfWeek, start, end);
+        return readGroupSessionRepository.findFreeSlots(classroom, dayOfWeek, start, end, minDuration);
+    }
+
+    @Override
+    public List<ClassroomWeek> getWeeklyOccupancy(Classroom classroom) {
+        List<Classroom> classrooms = classroom != null ? List.of(classroom) : List.of(Classroom.values());
+
+        log.debug("Consultando la ocupación semanal de {} aula(s)", classrooms.size());
+        return classrooms.stream()
+                .map(readGroupSessionRepository::findClassroomWeek)
+                .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.acainfo.backend.groupsession.application.imp;
+
+import com.acainfo.backend.groupsession.application.ReadTeacherScheduleUseCase;
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
+import com.acainfo.backend.teacher.domain.repository.ReadTeacherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso de horario de profesor.
+ * El horario se sirve desde el índice en memoria de ocupación de profesores, sin joins.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReadTeacherScheduleUseCaseImp implements ReadTeacherScheduleUseCase {
+
+    private final ReadGroupSessionRepository readGroupSessionRepository;
+    private final ReadTeacherRepository readTeacherRepository;
+
+    @Override
+    public Optional<TeacherSchedule> getSchedule(Long teacherId) {
+        if (teacherId == null || !readTeacherRepository.existsById(teacherId)) {
+            log.warn("Consulta de horario de profesor inexistente. ID: {}", teacherId);
+            return Optional.empty();
+        }
+
+        return Optional.of(readGroupSessionRepository.findTeacherSchedule(teacherId));
+    }
+}
@@ -1,9 +1,7 @@
 package com.acainfo.backend.groupsession.application.mapper;
 
-import com.acainfo.backend.groupsession.domain.entity.GroupSession;
-import com.acainfo.backend.groupsession.infrastructure.controller.dto.GroupSessionEditInputDto;
-import com.acainfo.backend.groupsession.infrastructure.controller.dto.GroupSessionInputDto;
-import com.acainfo.backend.groupsession.infrastructure.controller.dto.GroupSessionOutputDto;
+import com.acainfo.backend.groupsession.domain.entity.*;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.*;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -52,6 +50,28 @@ public interface GroupSessionMapper {
     @Mapping(target = "updatedAt", ignore = true)
     void updateDomainFromEditDto(GroupSessionEditInputDto editDto, @MappingTarget GroupSession groupSession);
 
+    /**
+     * Convierte la petición de generación de horario a problema de dominio.
+     * Los profesores y las sesiones ocupadas los completa el caso de uso.
+     */
+    @Mapping(target = "requirements", source = "groups")
+    @Mapping(target = "unavailabilities", source = "teacherUnavailability")
+    @Mapping(target = "occupiedSlots", ignore = true)
+    @Mapping(target = "stepMinutes", expression = "java(inputDto.getStepMinutes() != null ? inputDto.getStepMinutes() : 0)")
+    @Mapping(target = "timeLimit", expression = "java(inputDto.getTimeLimitSeconds() != null ? java.time.Duration.ofSeconds(inputDto.getTimeLimitSeconds()) : null)")
+    TimetableProblem toDomain(TimetableGenerationInputDto inputDto);
+
+    @Mapping(target = "teacherId", ignore = true)
+    SessionRequirement toDomain(SessionRequirementInputDto inputDto);
+
+    TeacherUnavailability toDomain(TeacherUnavailabilityInputDto inputDto);
+
+    /**
+     * Convierte el patrón semanal de entrada a entidad de dominio.
+     */
+    @Mapping(target = "groupId", source = "groupId")
+    RecurringSessionPattern toDomain(RecurringSessionsInputDto inputDto, Long groupId);
+
     // ============================================
     // Conversiones de salida (Domain → DTOs)
     // ============================================
@@ -66,6 +86,58 @@ public interface GroupSessionMapper {
      */
     List<GroupSessionOutputDto> toOutputDtoList(List<GroupSession> groupSessions);
 
+    /**
+     * Convierte una franja horaria a DTO de salida.
+     */
+    @Mapping(target = "durationMinutes", expression = "java(timeSlot.getDuration().toMinutes())")
+    TimeSlotOutputDto toOutputDto(TimeSlot timeSlot);
+
+    /**
+     * Convierte una lista de franjas horarias a lista de DTOs de salida.
+     */
+    List<TimeSlotOutputDto> toTimeSlotOutputDtoList(List<TimeSlot> timeSlots);
+
+    /**
+     * Convierte el horario generado a DTO de salida.
+     */
+    @Mapping(target = "elapsedMillis", expression = "java(solution.getElapsed().toMillis())")
+    TimetableSolutionOutputDto toOutputDto(TimetableSolution solution);
+
+    /**
+     * Convierte el horario de un profesor a DTO de salida.
+     */
+    TeacherScheduleOutputDto toOutputDto(TeacherSchedule schedule);
+
+    /**
+     * Convierte el resultado de crear un patrón semanal a DTO de salida.
+     */
+    RecurringSessionsOutputDto toOutputDto(RecurringSessionsResult result);
+
+    /**
+     * Convierte un conflicto de sesión a DTO de salida.
+     */
+    SessionConflictOutputDto toOutputDto(SessionConflict conflict);
+
+    /**
+     * Convierte la ocupación semanal de un aula a DTO de salida.
+     */
+    ClassroomWeekOutputDto toOutputDto(ClassroomWeek week);
+
+    /**
+     * Convierte la ocupación semanal de varias aulas a lista de DTOs de salida.
+     */
+    List<ClassroomWeekOutputDto> toClassroomWeekOutputDtoList(List<ClassroomWeek> weeks);
+
+    /**
+     * Convierte la ocupación diaria de un aula a DTO de salida.
+     */
+    ClassroomDayOutputDto toOutputDto(ClassroomDay day);
+
+    /**
+     * Convierte una franja ocupada a DTO de salida.
+     */
+    BookedSlotOutputDto toOutputDto(BookedSlot slot);
+
     // ============================================
     // Métodos auxiliares personalizados
     // ============================================
@@ -0,0 +1,21 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * Value Object con la franja que ocupa una sesión en un aula.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class BookedSlot {
+
+    private final Long sessionId;
+    private final Long groupId;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
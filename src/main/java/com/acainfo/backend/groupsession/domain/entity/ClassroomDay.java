@@ -0,0 +1,21 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * Value Object con la ocupación de un aula en un día: sus sesiones ordenadas por hora.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class ClassroomDay {
+
+    private final DayOfWeek dayOfWeek;
+    private final List<BookedSlot> sessions;
+    private final int occupiedMinutes;
+}
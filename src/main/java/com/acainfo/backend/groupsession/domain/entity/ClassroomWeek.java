@@ -0,0 +1,22 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con la ocupación semanal de un aula: un día por cada día de la semana,
+ * de lunes a domingo, aunque no tenga sesiones.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class ClassroomWeek {
+
+    private final Classroom classroom;
+    private final List<ClassroomDay> days;
+    private final int occupiedMinutes;
+}
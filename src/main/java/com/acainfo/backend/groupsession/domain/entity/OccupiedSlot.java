@@ -0,0 +1,25 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Value Object con una sesión ya programada: ocupa su aula y a su profesor en esa franja.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class OccupiedSlot {
+
+    private final Long groupId;
+    private final Long teacherId;
+    private final Classroom classroom;
+    private final DayOfWeek dayOfWeek;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
@@ -0,0 +1,40 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Value Object con el patrón semanal de un grupo: la misma franja y aula en varios días
+ * (por ejemplo lunes y miércoles de 16:00 a 18:00).
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class RecurringSessionPattern {
+
+    private final Long groupId;
+    private final Set<DayOfWeek> days;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Classroom classroom;
+    private final SessionType type;
+
+    /**
+     * Una sesión por día, ordenadas de lunes a domingo.
+     */
+    public List<GroupSession> toSessions() {
+        return days.stream()
+                .sorted()
+                .map(day -> new GroupSession(null, startTime, endTime, null, null, day, classroom, groupId,
+                        type != null ? type : SessionType.IN_PERSON))
+                .toList();
+    }
+}
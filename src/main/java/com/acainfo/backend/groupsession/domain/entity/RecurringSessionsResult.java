@@ -0,0 +1,32 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con el resultado de crear un patrón semanal: las sesiones creadas o,
+ * si alguna franja choca, todos los conflictos encontrados y ninguna sesión.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class RecurringSessionsResult {
+
+    private final List<GroupSession> sessions;
+    private final List<SessionConflict> conflicts;
+
+    public static RecurringSessionsResult created(List<GroupSession> sessions) {
+        return new RecurringSessionsResult(sessions, List.of());
+    }
+
+    public static RecurringSessionsResult rejected(List<SessionConflict> conflicts) {
+        return new RecurringSessionsResult(List.of(), conflicts);
+    }
+
+    public boolean isCreated() {
+        return conflicts.isEmpty();
+    }
+}
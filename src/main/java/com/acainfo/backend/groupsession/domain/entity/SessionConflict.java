@@ -0,0 +1,27 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Value Object que describe el choque de una sesión propuesta con una sesión existente.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class SessionConflict {
+
+    private final SessionConflictType type;
+    private final DayOfWeek dayOfWeek;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final Long conflictingSessionId;
+    private final Long conflictingGroupId;
+    private final LocalTime conflictingStartTime;
+    private final LocalTime conflictingEndTime;
+}
@@ -0,0 +1,24 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import lombok.*;
+
+/**
+ * Value Object con la carga semanal que hay que programar para un grupo.
+ *
+ * Las horas semanales se reparten en sesiones de {@code sessionMinutes}; si no son
+ * divisibles, la última sesión es más corta.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class SessionRequirement {
+
+    private final Long groupId;
+    private final Long teacherId;
+    private final int weeklyMinutes;
+    private final int sessionMinutes;
+    private final SessionType type;
+}
@@ -0,0 +1,21 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con el horario semanal de un profesor: sus sesiones ordenadas por
+ * día y hora, y el número de grupos activos que imparte.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TeacherSchedule {
+
+    private final Long teacherId;
+    private final int activeGroupCount;
+    private final List<GroupSession> sessions;
+}
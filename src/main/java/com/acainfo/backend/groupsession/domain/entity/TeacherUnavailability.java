@@ -0,0 +1,22 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Value Object con una franja [startTime, endTime) en la que un profesor no puede dar clase.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TeacherUnavailability {
+
+    private final Long teacherId;
+    private final DayOfWeek dayOfWeek;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+}
@@ -0,0 +1,27 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * Value Object que representa una franja horaria [startTime, endTime) dentro de un día.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TimeSlot {
+
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Duración de la franja.
+     */
+    public Duration getDuration() {
+        return Duration.between(startTime, endTime);
+    }
+}
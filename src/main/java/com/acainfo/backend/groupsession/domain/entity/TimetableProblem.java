@@ -0,0 +1,38 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Value Object con todo lo que necesita el generador de horarios.
+ *
+ * Restricciones duras:
+ * <ul>
+ *   <li>Un aula no puede tener dos sesiones solapadas.</li>
+ *   <li>Un profesor no puede dar dos sesiones solapadas ni en sus franjas no disponibles.</li>
+ *   <li>Las sesiones ya ocupadas ({@code occupiedSlots}) no se mueven.</li>
+ *   <li>Las sesiones de un mismo grupo van en días distintos siempre que haya días suficientes.</li>
+ * </ul>
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@ToString
+public class TimetableProblem {
+
+    private final List<SessionRequirement> requirements;
+    private final List<TeacherUnavailability> unavailabilities;
+    private final List<OccupiedSlot> occupiedSlots;
+    private final Set<Classroom> classrooms;
+    private final Set<DayOfWeek> days;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final int stepMinutes;
+    private final Duration timeLimit;
+}
@@ -0,0 +1,28 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import com.acainfo.backend.groupsession.domain.value.TimetableStatus;
+import lombok.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Value Object con el horario generado.
+ * Si el estado no es SOLVED la lista de sesiones está vacía.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@ToString
+public class TimetableSolution {
+
+    private final TimetableStatus status;
+    private final List<GroupSession> sessions;
+    private final long exploredNodes;
+    private final Duration elapsed;
+    private final boolean applied;
+
+    public boolean isSolved() {
+        return status == TimetableStatus.SOLVED;
+    }
+}
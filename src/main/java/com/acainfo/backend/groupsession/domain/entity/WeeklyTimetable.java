@@ -0,0 +1,147 @@
+package com.acainfo.backend.groupsession.domain.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Value Object que representa la ocupación semanal como un bitset de tamaño fijo:
+ * 7 días × 288 franjas de 5 minutos, empaquetado en 32 {@code long}.
+ *
+ * Las sesiones que no empiezan o terminan en múltiplos de 5 minutos se redondean
+ * hacia fuera, de modo que nunca se pasa por alto un solape. Es inmutable: combinar
+ * horarios o comprobar choques son unas pocas operaciones OR/AND sobre los words.
+ */
+public final class WeeklyTimetable {
+
+    public static final int SLOT_MINUTES = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int SLOTS_PER_WEEK = 7 * SLOTS_PER_DAY;
+
+    private static final int WORDS = (SLOTS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+    private static final WeeklyTimetable EMPTY = new WeeklyTimetable(new long[WORDS]);
+
+    private final long[] words;
+
+    private WeeklyTimetable(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Horario sin ninguna franja ocupada.
+     */
+    public static WeeklyTimetable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Construye el horario ocupado por un conjunto de sesiones.
+     * Las sesiones sin día u horario válido se ignoran.
+     */
+    public static WeeklyTimetable of(Collection<GroupSession> sessions) {
+        long[] words = new long[WORDS];
+        for (GroupSession session : sessions) {
+            set(words, session.getDayOfWeek(), session.getStartTime(), session.getEndTime());
+        }
+        return new WeeklyTimetable(words);
+    }
+
+    /**
+     * Unión de dos horarios.
+     */
+    public WeeklyTimetable or(WeeklyTimetable other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new WeeklyTimetable(result);
+    }
+
+    /**
+     * Indica si ambos horarios comparten alguna franja.
+     */
+    public boolean intersects(WeeklyTimetable other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Minutos semanales ocupados (en franjas de 5 minutos).
+     */
+    public int getOccupiedMinutes() {
+        int slots = 0;
+        for (long word : words) {
+            slots += Long.bitCount(word);
+        }
+        return slots * SLOT_MINUTES;
+    }
+
+    /**
+     * Indica si la franja que contiene el instante dado está ocupada.
+     */
+    public boolean isOccupied(DayOfWeek dayOfWeek, LocalTime time) {
+        int slot = dayOffset(dayOfWeek) + minuteOfDay(time) / SLOT_MINUTES;
+        return (words[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    private static void set(long[] words, DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+        if (dayOfWeek == null || start == null || end == null || !start.isBefore(end)) {
+            return;
+        }
+
+        int from = dayOffset(dayOfWeek) + minuteOfDay(start) / SLOT_MINUTES;
+        int to = dayOffset(dayOfWeek) + (minuteOfDay(end) + SLOT_MINUTES - 1) / SLOT_MINUTES;
+
+        // Rango [from, to): se rellenan los words completos de una vez
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    private static int dayOffset(DayOfWeek dayOfWeek) {
+        return (dayOfWeek.getValue() - 1) * SLOTS_PER_DAY;
+    }
+
+    private static int minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof WeeklyTimetable other && Arrays.equals(words, other.words));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return "WeeklyTimetable(occupiedMinutes=" + getOccupiedMinutes() + ")";
+    }
+}
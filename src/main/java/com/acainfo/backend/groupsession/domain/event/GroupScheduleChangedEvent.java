@@ -0,0 +1,34 @@
+package com.acainfo.backend.groupsession.domain.event;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evento publicado cuando se crean, modifican o eliminan sesiones.
+ * Sólo transporta los IDs de los grupos afectados: quien lo consuma debe leer el estado actual.
+ *
+ * @param groupIds IDs de los grupos cuyo horario ha cambiado
+ * @param allGroups true si el cambio afecta a todos los grupos (borrado masivo)
+ */
+public record GroupScheduleChangedEvent(Set<Long> groupIds, boolean allGroups) {
+
+    public GroupScheduleChangedEvent {
+        groupIds = Set.copyOf(groupIds);
+    }
+
+    public static GroupScheduleChangedEvent of(Long... groupIds) {
+        return new GroupScheduleChangedEvent(new HashSet<>(Arrays.asList(groupIds)), false);
+    }
+
+    public static GroupScheduleChangedEvent ofAllGroups() {
+        return new GroupScheduleChangedEvent(Set.of(), true);
+    }
+
+    /**
+     * Indica si el horario de un grupo puede haber cambiado.
+     */
+    public boolean affects(Long groupId) {
+        return allGroups || groupIds.contains(groupId);
+    }
+}
@@ -2,6 +2,8 @@ package com.acainfo.backend.groupsession.domain.repository;
 
 import com.acainfo.backend.groupsession.domain.entity.GroupSession;
 
+import java.util.List;
+
 /**
  * Interfaz que define las operaciones de creación para la entidad GroupSession.
  *
@@ -18,4 +20,12 @@ public interface CreateGroupSessionRepository {
      * @return la sesión creada con su ID generado
      */
     GroupSession save(GroupSession groupSession);
-}
\ No newline at end of file
+
+    /**
+     * Persiste varias sesiones en un único lote.
+     *
+     * @param groupSessions las sesiones a crear
+     * @return las sesiones creadas con sus IDs generados, en el mismo orden
+     */
+    List<GroupSession> saveAll(List<GroupSession> groupSessions);
+}
@@ -1,11 +1,21 @@
 package com.acainfo.backend.groupsession.domain.repository;
 
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
 import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.OccupiedSlot;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
 import com.acainfo.backend.groupsession.domain.value.Classroom;
 import com.acainfo.backend.groupsession.domain.value.SessionType;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -70,4 +80,48 @@ public interface ReadGroupSessionRepository {
      * Cuenta el número de sesiones de un grupo.
      */
     long countByGroupId(Long groupId);
-}
\ No newline at end of file
+
+    /**
+     * Busca las franjas libres de un aula en un día dentro del intervalo [from, to).
+     *
+     * @param minDuration duración mínima de las franjas devueltas
+     * @return franjas libres ordenadas por hora de inicio
+     */
+    List<TimeSlot> findFreeSlots(Classroom classroom, DayOfWeek dayOfWeek,
+                                 LocalTime from, LocalTime to, Duration minDuration);
+
+    /**
+     * Ocupación semanal de un aula con las sesiones ya confirmadas, ordenadas por hora.
+     */
+    ClassroomWeek findClassroomWeek(Classroom classroom);
+
+    /**
+     * Obtiene el horario semanal de varios grupos.
+     * Los grupos sin sesiones (o inexistentes) tienen un horario vacío.
+     *
+     * @return horario por ID de grupo, con una entrada para cada ID solicitado
+     */
+    Map<Long, WeeklyTimetable> findTimetablesByGroupIds(Collection<Long> groupIds);
+
+    /**
+     * Franjas ocupadas por las sesiones de todos los grupos salvo los indicados.
+     * Cada franja incluye el profesor de su grupo.
+     */
+    List<OccupiedSlot> findOccupiedSlotsExcludingGroups(Collection<Long> groupIds);
+
+    /**
+     * Horario semanal de un profesor: las sesiones de todos sus grupos y el número
+     * de grupos activos. Un profesor sin grupos tiene un horario vacío.
+     */
+    TeacherSchedule findTeacherSchedule(Long teacherId);
+
+    /**
+     * Comprueba en memoria todas las sesiones propuestas contra las ya programadas:
+     * las del propio grupo, las del aula y las del profesor del grupo.
+     * Las sesiones propuestas no se comparan entre sí.
+     *
+     * @param candidates sesiones aún no persistidas
+     * @return todos los conflictos encontrados, vacío si todas caben
+     */
+    List<SessionConflict> findConflicts(List<GroupSession> candidates);
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.groupsession.domain.service;
+
+import com.acainfo.backend.groupsession.domain.entity.TimetableProblem;
+import com.acainfo.backend.groupsession.domain.entity.TimetableSolution;
+
+/**
+ * Servicio de dominio que asigna día, franja y aula a las sesiones de los grupos.
+ */
+public interface TimetableSolver {
+
+    /**
+     * Busca un horario que cumpla todas las restricciones del problema.
+     * Nunca tarda mucho más que el límite de tiempo del problema.
+     *
+     * @param problem los grupos a programar y sus restricciones
+     * @return el horario encontrado o el motivo por el que no lo hay
+     */
+    TimetableSolution solve(TimetableProblem problem);
+}
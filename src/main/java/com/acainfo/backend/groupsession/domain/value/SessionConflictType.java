@@ -0,0 +1,19 @@
+package com.acainfo.backend.groupsession.domain.value;
+
+/**
+ * Motivo por el que una sesión propuesta choca con otra ya programada.
+ */
+public enum SessionConflictType {
+    /**
+     * El grupo ya tiene una sesión que se solapa con la franja.
+     */
+    GROUP,
+    /**
+     * El aula está ocupada por una sesión de otro grupo.
+     */
+    CLASSROOM,
+    /**
+     * El profesor del grupo imparte otra sesión en la franja.
+     */
+    TEACHER
+}
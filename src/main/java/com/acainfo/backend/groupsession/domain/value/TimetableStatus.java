@@ -0,0 +1,19 @@
+package com.acainfo.backend.groupsession.domain.value;
+
+/**
+ * Resultado de la generación de un horario.
+ */
+public enum TimetableStatus {
+    /**
+     * Se ha encontrado un horario sin conflictos.
+     */
+    SOLVED,
+    /**
+     * Se ha recorrido todo el espacio de búsqueda y no existe ningún horario válido.
+     */
+    INFEASIBLE,
+    /**
+     * Se agotó el tiempo antes de encontrar un horario o de descartarlos todos.
+     */
+    TIMED_OUT
+}
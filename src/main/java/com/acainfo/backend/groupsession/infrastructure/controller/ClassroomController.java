@@ -0,0 +1,84 @@
+package com.acainfo.backend.groupsession.infrastructure.controller;
+
+import com.acainfo.backend.groupsession.application.ReadClassroomAvailabilityUseCase;
+import com.acainfo.backend.groupsession.application.mapper.GroupSessionMapper;
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.ClassroomWeekOutputDto;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.TimeSlotOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Controlador REST para consultar la ocupación de las aulas.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/classrooms")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Classrooms", description = "Disponibilidad de las aulas")
+public class ClassroomController {
+
+    private final ReadClassroomAvailabilityUseCase readClassroomAvailabilityUseCase;
+    private final GroupSessionMapper groupSessionMapper;
+
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Obtener la ocupación semanal de las aulas",
+            description = "Sesiones programadas de lunes a domingo en el aula indicada, o en todas si no se indica")
+    @ApiResponse(responseCode = "200", description = "Ocupación obtenida")
+    public ResponseEntity<List<ClassroomWeekOutputDto>> getWeeklyOccupancy(
+            @Parameter(description = "Aula (todas si se omite)") @RequestParam(required = false) Classroom classroom) {
+        log.info("GET /api/v1/classrooms/occupancy - Aula: {}", classroom);
+
+        List<ClassroomWeek> weeks = readClassroomAvailabilityUseCase.getWeeklyOccupancy(classroom);
+        return ResponseEntity.ok(groupSessionMapper.toClassroomWeekOutputDtoList(weeks));
+    }
+
+    @GetMapping("/{classroom}/free-slots")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER')")
+    @Operation(summary = "Obtener las franjas libres de un aula",
+            description = "Huecos sin sesiones programadas en el aula y día indicados. " +
+                    "Por defecto se consulta el horario de apertura del centro (08:00 a 22:00)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Franjas obtenidas"),
+            @ApiResponse(responseCode = "400", description = "Intervalo horario inválido")
+    })
+    public ResponseEntity<List<TimeSlotOutputDto>> getFreeSlots(
+            @Parameter(description = "Aula") @PathVariable Classroom classroom,
+            @Parameter(description = "Día de la semana", example = "MONDAY") @RequestParam DayOfWeek day,
+            @Parameter(description = "Hora de inicio", example = "08:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @Parameter(description = "Hora de fin", example = "22:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to,
+            @Parameter(description = "Duración mínima en minutos") @RequestParam(defaultValue = "0") int minMinutes) {
+        log.info("GET /api/v1/classrooms/{}/free-slots - Día: {}, desde: {}, hasta: {}", classroom, day, from, to);
+
+        try {
+            List<TimeSlot> slots = readClassroomAvailabilityUseCase.findFreeSlots(
+                    classroom, day, from, to, Duration.ofMinutes(minMinutes));
+            return ResponseEntity.ok(groupSessionMapper.toTimeSlotOutputDtoList(slots));
+        } catch (IllegalArgumentException e) {
+            log.warn("Consulta de franjas libres inválida: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.acainfo.backend.groupsession.infrastructure.controller;
+
+import com.acainfo.backend.groupsession.application.CreateRecurringSessionsUseCase;
+import com.acainfo.backend.groupsession.application.mapper.GroupSessionMapper;
+import com.acainfo.backend.groupsession.domain.entity.RecurringSessionsResult;
+import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.RecurringSessionsInputDto;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.RecurringSessionsOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para programar las sesiones de los grupos.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/groups")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Group Sessions", description = "Programación de las sesiones de los grupos")
+public class GroupSessionController {
+
+    private final CreateRecurringSessionsUseCase createRecurringSessionsUseCase;
+    private final GroupSessionMapper groupSessionMapper;
+
+    @PostMapping("/{groupId}/sessions/recurring")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Crear las sesiones semanales de un grupo",
+            description = "Crea una sesión por cada día indicado con la misma franja y aula. Se comprueba todo el " +
+                    "patrón antes de insertar: si alguna franja choca con el grupo, el aula o el profesor no se " +
+                    "crea ninguna sesión y se devuelven todos los conflictos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Sesiones creadas"),
+            @ApiResponse(responseCode = "400", description = "Patrón inválido o grupo inexistente"),
+            @ApiResponse(responseCode = "409", description = "Alguna franja choca; el cuerpo lista todos los conflictos")
+    })
+    public ResponseEntity<RecurringSessionsOutputDto> createRecurring(
+            @Parameter(description = "ID del grupo") @PathVariable Long groupId,
+            @Valid @RequestBody RecurringSessionsInputDto inputDto) {
+        log.info("POST /api/v1/groups/{}/sessions/recurring - días: {}", groupId, inputDto.getDays());
+
+        try {
+            RecurringSessionsResult result = createRecurringSessionsUseCase.create(
+                    groupSessionMapper.toDomain(inputDto, groupId));
+            return ResponseEntity.status(result.isCreated() ? HttpStatus.CREATED : HttpStatus.CONFLICT)
+                    .body(groupSessionMapper.toOutputDto(result));
+        } catch (IllegalArgumentException e) {
+            log.warn("Patrón semanal inválido para el grupo {}: {}", groupId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (DuplicateGroupSessionException e) {
+            log.warn("Franja ocupada mientras se creaban las sesiones del grupo {}: {}", groupId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
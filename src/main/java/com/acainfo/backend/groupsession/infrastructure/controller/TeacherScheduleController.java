@@ -0,0 +1,51 @@
+package com.acainfo.backend.groupsession.infrastructure.controller;
+
+import com.acainfo.backend.groupsession.application.ReadTeacherScheduleUseCase;
+import com.acainfo.backend.groupsession.application.mapper.GroupSessionMapper;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.TeacherScheduleOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para consultar el horario de los profesores.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/teachers")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Teacher Schedule", description = "Horario semanal de los profesores")
+public class TeacherScheduleController {
+
+    private final ReadTeacherScheduleUseCase readTeacherScheduleUseCase;
+    private final GroupSessionMapper groupSessionMapper;
+
+    @GetMapping("/{teacherId}/schedule")
+    @PreAuthorize("hasRole('ADMIN') or (hasRole('TEACHER') and authentication.name == 'TEACHER_' + #teacherId)")
+    @Operation(summary = "Obtener el horario semanal de un profesor",
+            description = "Sesiones de todos los grupos del profesor ordenadas por día y hora, " +
+                    "y número de grupos activos. Se sirve desde memoria, sin consultar la base de datos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Horario obtenido"),
+            @ApiResponse(responseCode = "404", description = "Profesor no encontrado")
+    })
+    public ResponseEntity<TeacherScheduleOutputDto> getSchedule(
+            @Parameter(description = "ID del profesor") @PathVariable Long teacherId) {
+        log.info("GET /api/v1/teachers/{}/schedule", teacherId);
+
+        return readTeacherScheduleUseCase.getSchedule(teacherId)
+                .map(groupSessionMapper::toOutputDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.acainfo.backend.groupsession.infrastructure.controller;
+
+import com.acainfo.backend.groupsession.application.GenerateTimetableUseCase;
+import com.acainfo.backend.groupsession.application.mapper.GroupSessionMapper;
+import com.acainfo.backend.groupsession.domain.entity.TimetableSolution;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.TimetableGenerationInputDto;
+import com.acainfo.backend.groupsession.infrastructure.controller.dto.TimetableSolutionOutputDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Controlador REST para la generación automática de horarios.
+ *
+ * Maneja las conversiones DTO ↔ Domain y delega la lógica
+ * de negocio a los casos de uso.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/timetable")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Timetable", description = "Generación automática de horarios")
+public class TimetableController {
+
+    private final GenerateTimetableUseCase generateTimetableUseCase;
+    private final GroupSessionMapper groupSessionMapper;
+
+    @PostMapping("/generate")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Generar el horario de varios grupos",
+            description = "Asigna día, franja y aula a las sesiones de los grupos indicados sin solapes de aula " +
+                    "ni de profesor, respetando las sesiones del resto de grupos y las franjas no disponibles " +
+                    "de los profesores. Con apply=true sustituye las sesiones actuales de esos grupos")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Búsqueda terminada; el estado indica si hay horario"),
+            @ApiResponse(responseCode = "400", description = "Petición inválida o grupos inexistentes"),
+            @ApiResponse(responseCode = "409", description = "Alguna franja se ocupó mientras se aplicaba el horario")
+    })
+    public ResponseEntity<TimetableSolutionOutputDto> generate(@Valid @RequestBody TimetableGenerationInputDto inputDto) {
+        log.info("POST /api/v1/admin/timetable/generate - {} grupos, aplicar: {}",
+                inputDto.getGroups().size(), inputDto.isApply());
+
+        // Las peticiones inválidas y las franjas ocupadas las responde TimetableExceptionHandler
+        TimetableSolution solution = generateTimetableUseCase.generate(
+                groupSessionMapper.toDomain(inputDto), inputDto.isApply());
+        return ResponseEntity.ok(groupSessionMapper.toOutputDto(solution));
+    }
+}
@@ -0,0 +1,75 @@
+package com.acainfo.backend.groupsession.infrastructure.controller;
+
+import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Manejador de excepciones de la generación de horarios.
+ * Devuelve el motivo del rechazo en el cuerpo, con el mismo formato que el módulo de autenticación.
+ */
+@RestControllerAdvice(assignableTypes = TimetableController.class)
+@Slf4j
+public class TimetableExceptionHandler {
+
+    /**
+     * Maneja peticiones inválidas o con grupos inexistentes
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            IllegalArgumentException ex, WebRequest request) {
+
+        log.warn("Petición de generación de horario inválida: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Petición inválida")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    /**
+     * Maneja franjas ocupadas mientras se aplicaba el horario generado
+     */
+    @ExceptionHandler(DuplicateGroupSessionException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateSession(
+            DuplicateGroupSessionException ex, WebRequest request) {
+
+        log.warn("No se pudo aplicar el horario generado: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .error("Franja ocupada")
+                .message(ex.getMessage())
+                .timestamp(LocalDateTime.now())
+                .path(request.getDescription(false).replace("uri=", ""))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * DTO de respuesta de error
+     */
+    @lombok.Data
+    @lombok.Builder
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class ErrorResponse {
+        private int status;
+        private String error;
+        private String message;
+        private LocalDateTime timestamp;
+        private String path;
+    }
+}
@@ -0,0 +1,32 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * DTO de salida para representar una franja ocupada de un aula.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sesión programada en un aula")
+public class BookedSlotOutputDto {
+
+    @Schema(description = "ID de la sesión", example = "42")
+    private Long sessionId;
+
+    @Schema(description = "ID del grupo", example = "7")
+    private Long groupId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Hora de inicio", example = "16:00", type = "string", format = "time")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Hora de fin", example = "18:00", type = "string", format = "time")
+    private LocalTime endTime;
+}
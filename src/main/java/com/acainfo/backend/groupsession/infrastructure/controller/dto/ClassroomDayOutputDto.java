@@ -0,0 +1,27 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * DTO de salida con la ocupación de un aula en un día.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ocupación de un aula en un día")
+public class ClassroomDayOutputDto {
+
+    @Schema(description = "Día de la semana", example = "MONDAY")
+    private DayOfWeek dayOfWeek;
+
+    @Schema(description = "Sesiones del día ordenadas por hora")
+    private List<BookedSlotOutputDto> sessions;
+
+    @Schema(description = "Minutos ocupados", example = "240")
+    private int occupiedMinutes;
+}
@@ -0,0 +1,27 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con la ocupación semanal de un aula.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ocupación semanal de un aula")
+public class ClassroomWeekOutputDto {
+
+    @Schema(description = "Aula", example = "PORTAL_1")
+    private Classroom classroom;
+
+    @Schema(description = "Ocupación de lunes a domingo")
+    private List<ClassroomDayOutputDto> days;
+
+    @Schema(description = "Minutos ocupados en la semana", example = "1200")
+    private int occupiedMinutes;
+}
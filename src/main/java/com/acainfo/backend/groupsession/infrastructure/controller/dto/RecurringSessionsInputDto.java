@@ -0,0 +1,70 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * DTO de entrada con el patrón semanal de sesiones de un grupo.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Patrón semanal: la misma franja y aula en varios días")
+public class RecurringSessionsInputDto {
+
+    @NotEmpty(message = "Debe indicarse al menos un día")
+    @Schema(
+            description = "Días de la semana en que se imparte la sesión",
+            example = "[\"MONDAY\", \"WEDNESDAY\"]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Set<DayOfWeek> days;
+
+    @NotNull(message = "La hora de inicio es obligatoria")
+    @Schema(
+            description = "Hora de inicio de las sesiones",
+            example = "16:00",
+            type = "string",
+            format = "time",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private LocalTime startTime;
+
+    @NotNull(message = "La hora de fin es obligatoria")
+    @Schema(
+            description = "Hora de fin de las sesiones",
+            example = "18:00",
+            type = "string",
+            format = "time",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private LocalTime endTime;
+
+    @NotNull(message = "El aula es obligatoria")
+    @Schema(
+            description = "Aula donde se imparten las sesiones",
+            example = "PORTAL_1",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            allowableValues = {"PORTAL_1", "PORTAL_2"}
+    )
+    private Classroom classroom;
+
+    @Builder.Default
+    @Schema(
+            description = "Tipo de sesión (presencial, online o dual)",
+            example = "IN_PERSON",
+            defaultValue = "IN_PERSON",
+            allowableValues = {"IN_PERSON", "DUAL", "ONLINE"},
+            requiredMode = Schema.RequiredMode.NOT_REQUIRED
+    )
+    private SessionType type = SessionType.IN_PERSON;
+}
@@ -0,0 +1,26 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el resultado de crear un patrón semanal de sesiones.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Sesiones creadas o conflictos que lo impidieron")
+public class RecurringSessionsOutputDto {
+
+    @Schema(description = "true si se crearon todas las sesiones", example = "true")
+    private boolean created;
+
+    @Schema(description = "Sesiones creadas, vacío si hubo conflictos")
+    private List<GroupSessionOutputDto> sessions;
+
+    @Schema(description = "Todos los conflictos encontrados, vacío si se crearon las sesiones")
+    private List<SessionConflictOutputDto> conflicts;
+}
@@ -0,0 +1,48 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO de salida con el choque de una sesión propuesta con otra ya programada.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Conflicto de una sesión propuesta")
+public class SessionConflictOutputDto {
+
+    @Schema(description = "Motivo del conflicto", example = "CLASSROOM")
+    private SessionConflictType type;
+
+    @Schema(description = "Día de la sesión propuesta", example = "MONDAY")
+    private DayOfWeek dayOfWeek;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Inicio de la sesión propuesta", example = "16:00", type = "string", format = "time")
+    private LocalTime startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Fin de la sesión propuesta", example = "18:00", type = "string", format = "time")
+    private LocalTime endTime;
+
+    @Schema(description = "ID de la sesión con la que choca", example = "42")
+    private Long conflictingSessionId;
+
+    @Schema(description = "ID del grupo de esa sesión", example = "7")
+    private Long conflictingGroupId;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Inicio de esa sesión", example = "17:00", type = "string", format = "time")
+    private LocalTime conflictingStartTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    @Schema(description = "Fin de esa sesión", example = "19:00", type = "string", format = "time")
+    private LocalTime conflictingEndTime;
+}
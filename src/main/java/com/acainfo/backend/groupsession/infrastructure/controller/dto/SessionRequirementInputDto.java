@@ -0,0 +1,45 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * DTO de entrada con la carga semanal de un grupo a programar.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Carga semanal de un grupo")
+public class SessionRequirementInputDto {
+
+    @NotNull(message = "El grupo es obligatorio")
+    @Schema(description = "ID del grupo", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long groupId;
+
+    @NotNull(message = "Los minutos semanales son obligatorios")
+    @Positive(message = "Los minutos semanales deben ser positivos")
+    @Schema(description = "Minutos de clase a la semana", example = "240", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer weeklyMinutes;
+
+    @NotNull(message = "La duración de las sesiones es obligatoria")
+    @Positive(message = "La duración de las sesiones debe ser positiva")
+    @Schema(
+            description = "Duración de cada sesión en minutos; si no divide a los minutos semanales la última sesión es más corta",
+            example = "120",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Integer sessionMinutes;
+
+    @Builder.Default
+    @Schema(
+            description = "Tipo de las sesiones generadas",
+            example = "IN_PERSON",
+            defaultValue = "IN_PERSON",
+            allowableValues = {"IN_PERSON", "DUAL", "ONLINE"}
+    )
+    private SessionType type = SessionType.IN_PERSON;
+}
@@ -0,0 +1,26 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el horario semanal de un profesor.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Horario semanal de un profesor")
+public class TeacherScheduleOutputDto {
+
+    @Schema(description = "ID del profesor", example = "3")
+    private Long teacherId;
+
+    @Schema(description = "Número de grupos activos que imparte", example = "4")
+    private int activeGroupCount;
+
+    @Schema(description = "Sesiones de sus grupos ordenadas por día y hora")
+    private List<GroupSessionOutputDto> sessions;
+}
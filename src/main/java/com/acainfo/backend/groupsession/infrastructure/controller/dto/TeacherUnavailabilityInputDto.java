@@ -0,0 +1,37 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * DTO de entrada con una franja en la que un profesor no puede dar clase.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Franja no disponible de un profesor")
+public class TeacherUnavailabilityInputDto {
+
+    @NotNull(message = "El profesor es obligatorio")
+    @Schema(description = "ID del profesor", example = "3", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long teacherId;
+
+    @NotNull(message = "El día de la semana es obligatorio")
+    @Schema(description = "Día de la semana", example = "FRIDAY", requiredMode = Schema.RequiredMode.REQUIRED)
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "La hora de inicio es obligatoria")
+    @Schema(description = "Hora de inicio", example = "16:00", type = "string", format = "time",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalTime startTime;
+
+    @NotNull(message = "La hora de fin es obligatoria")
+    @Schema(description = "Hora de fin", example = "22:00", type = "string", format = "time",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalTime endTime;
+}
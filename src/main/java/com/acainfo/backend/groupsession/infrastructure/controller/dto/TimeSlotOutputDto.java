@@ -0,0 +1,26 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalTime;
+
+/**
+ * DTO de salida para representar una franja horaria libre.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Franja horaria [inicio, fin)")
+public class TimeSlotOutputDto {
+
+    @Schema(description = "Hora de inicio", example = "10:00", type = "string", format = "time")
+    private LocalTime startTime;
+
+    @Schema(description = "Hora de fin", example = "12:30", type = "string", format = "time")
+    private LocalTime endTime;
+
+    @Schema(description = "Duración en minutos", example = "150")
+    private Long durationMinutes;
+}
@@ -0,0 +1,57 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DTO de entrada para generar automáticamente el horario de varios grupos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Grupos a programar y restricciones del horario")
+public class TimetableGenerationInputDto {
+
+    @NotEmpty(message = "Debe indicarse al menos un grupo")
+    @Schema(description = "Carga semanal de cada grupo", requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@Valid SessionRequirementInputDto> groups;
+
+    @Schema(description = "Franjas en las que los profesores no pueden dar clase")
+    private List<@Valid TeacherUnavailabilityInputDto> teacherUnavailability;
+
+    @Schema(description = "Aulas utilizables (por defecto todas)", example = "[\"PORTAL_1\", \"PORTAL_2\"]")
+    private Set<Classroom> classrooms;
+
+    @Schema(description = "Días utilizables (por defecto de lunes a viernes)", example = "[\"MONDAY\", \"WEDNESDAY\"]")
+    private Set<DayOfWeek> days;
+
+    @Schema(description = "Hora más temprana de inicio (por defecto 08:00)", example = "08:00", type = "string", format = "time")
+    private LocalTime dayStart;
+
+    @Schema(description = "Hora más tardía de fin (por defecto 22:00)", example = "22:00", type = "string", format = "time")
+    private LocalTime dayEnd;
+
+    @Positive(message = "El paso entre horas de inicio debe ser positivo")
+    @Schema(description = "Minutos entre horas de inicio candidatas (por defecto 30)", example = "30")
+    private Integer stepMinutes;
+
+    @Positive(message = "El límite de tiempo debe ser positivo")
+    @Max(value = 60, message = "El límite de tiempo no puede superar los 60 segundos")
+    @Schema(description = "Límite de tiempo de la búsqueda en segundos (por defecto 10)", example = "10")
+    private Integer timeLimitSeconds;
+
+    @Builder.Default
+    @Schema(description = "Si es true y hay solución, sustituye las sesiones actuales de los grupos", defaultValue = "false")
+    private boolean apply = false;
+}
@@ -0,0 +1,34 @@
+package com.acainfo.backend.groupsession.infrastructure.controller.dto;
+
+import com.acainfo.backend.groupsession.domain.value.TimetableStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO de salida con el horario generado.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de la generación de un horario")
+public class TimetableSolutionOutputDto {
+
+    @Schema(description = "Resultado de la búsqueda", example = "SOLVED",
+            allowableValues = {"SOLVED", "INFEASIBLE", "TIMED_OUT"})
+    private TimetableStatus status;
+
+    @Schema(description = "Si las sesiones se han guardado sustituyendo a las anteriores", example = "false")
+    private boolean applied;
+
+    @Schema(description = "Sesiones generadas (con ID sólo si se han guardado)")
+    private List<GroupSessionOutputDto> sessions;
+
+    @Schema(description = "Nodos explorados por la búsqueda", example = "1532")
+    private long exploredNodes;
+
+    @Schema(description = "Duración de la búsqueda en milisegundos", example = "84")
+    private long elapsedMillis;
+}
@@ -1,21 +1,32 @@
 package com.acainfo.backend.groupsession.infrastructure.repository.imp;
 
 import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
 import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
 import com.acainfo.backend.groupsession.domain.exception.InvalidGroupSessionDataException;
 import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
 import com.acainfo.backend.groupsession.infrastructure.repository.mapper.GroupSessionJpaMapper;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Implementación del repositorio de creación de sesiones de grupo.
  * Adapta la interfaz del dominio a la infraestructura de persistencia.
+ * Los solapes de aula y de profesor se detectan con el {@link ClassroomScheduleIndex}
+ * y el {@link TeacherScheduleIndex}.
  */
 @Repository
 @RequiredArgsConstructor
@@ -24,6 +35,9 @@ public class CreateGroupSessionRepositoryImp implements CreateGroupSessionReposi
 
     private final GroupSessionJpaRepository jpaRepository;
     private final GroupSessionJpaMapper mapper;
+    private final ClassroomScheduleIndex scheduleIndex;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Persiste una nueva sesión de grupo en el sistema.
@@ -32,6 +46,7 @@ public class CreateGroupSessionRepositoryImp implements CreateGroupSessionReposi
      * @param groupSession la sesión a crear
      * @return la sesión creada con su ID generado
      * @throws DuplicateGroupSessionException si ya existe una sesión con el mismo horario
+     *         o el aula o el profesor están ocupados en alguna parte de la franja
      * @throws InvalidGroupSessionDataException si ocurre un error de persistencia
      */
     @Override
@@ -49,12 +64,17 @@ public class CreateGroupSessionRepositoryImp implements CreateGroupSessionReposi
             GroupSessionJpa jpaEntity = mapper.toJpa(groupSession);
 
             // Persistir en base de datos
-            GroupSessionJpa savedEntity = jpaRepository.save(jpaEntity);
+            GroupSessionJpa savedEntity = jpaRepository.saveAndFlush(jpaEntity);
+            GroupSession savedSession = mapper.toDomain(savedEntity);
+
+            // Reservar la franja del aula y del profesor; falla si se solapa con otra sesión
+            scheduleIndex.reserve(savedSession);
+            teacherScheduleIndex.reserve(savedSession);
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.of(savedSession.getGroupId()));
 
             log.info("Sesión creada exitosamente con ID: {}", savedEntity.getId());
 
-            // Convertir de vuelta a dominio y retornar
-            return mapper.toDomain(savedEntity);
+            return savedSession;
 
         } catch (DataIntegrityViolationException e) {
             log.error("Error de integridad al crear sesión: {}", e.getMessage());
@@ -87,4 +107,53 @@ public class CreateGroupSessionRepositoryImp implements CreateGroupSessionReposi
             throw new InvalidGroupSessionDataException("Error de integridad en los datos");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Persiste varias sesiones en lotes JDBC. Los IDs salen de la secuencia con optimizador
+     * pooled, así que Hibernate agrupa los INSERT. Los borrados pendientes del contexto de
+     * persistencia se vuelcan antes para que no choquen con las nuevas filas.
+     *
+     * @param groupSessions las sesiones a crear
+     * @return las sesiones creadas con sus IDs generados, en el mismo orden
+     * @throws DuplicateGroupSessionException si alguna sesión se solapa con otra
+     * @throws InvalidGroupSessionDataException si alguno de los grupos no existe
+     */
+    @Override
+    @Transactional
+    public List<GroupSession> saveAll(List<GroupSession> groupSessions) {
+        if (groupSessions == null || groupSessions.isEmpty()) {
+            return List.of();
+        }
+
+        log.info("Creando {} sesiones en lote", groupSessions.size());
+
+        jpaRepository.flush();
+
+        List<GroupSessionJpa> savedEntities;
+        try {
+            savedEntities = jpaRepository.saveAllAndFlush(mapper.toJpaList(groupSessions));
+        } catch (DataIntegrityViolationException e) {
+            log.error("Error de integridad al crear sesiones en lote: {}", e.getMessage());
+
+            if (e.getMessage() != null && e.getMessage().contains("fk_session_group")) {
+                throw new InvalidGroupSessionDataException("Alguno de los grupos especificados no existe");
+            }
+            throw new DuplicateGroupSessionException("Alguna de las sesiones se solapa con otra sesión existente");
+        }
+
+        List<GroupSession> created = new ArrayList<>(savedEntities.size());
+        Set<Long> groupIds = new HashSet<>();
+        for (GroupSessionJpa entity : savedEntities) {
+            GroupSession saved = mapper.toDomain(entity);
+
+            scheduleIndex.reserve(saved);
+            teacherScheduleIndex.reserve(saved);
+            created.add(saved);
+            groupIds.add(saved.getGroupId());
+        }
+
+        eventPublisher.publishEvent(GroupScheduleChangedEvent.of(groupIds.toArray(Long[]::new)));
+
+        return created;
+    }
+}
@@ -1,14 +1,22 @@
 package com.acainfo.backend.groupsession.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
 import com.acainfo.backend.groupsession.domain.exception.InvalidGroupSessionDataException;
 import com.acainfo.backend.groupsession.domain.repository.DeleteGroupSessionRepository;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementación del repositorio de eliminación de sesiones de grupo.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
@@ -19,6 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteGroupSessionRepositoryImp implements DeleteGroupSessionRepository {
 
     private final GroupSessionJpaRepository jpaRepository;
+    private final ClassroomScheduleIndex scheduleIndex;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppProperties appProperties;
 
     /**
      * Elimina una sesión por su ID.
@@ -32,14 +44,21 @@ public class DeleteGroupSessionRepositoryImp implements DeleteGroupSessionReposi
     public boolean deleteById(Long id) {
         log.debug("Iniciando eliminación de sesión con ID: {}", id);
 
-        // Verificar si existe antes de intentar eliminar
-        if (!jpaRepository.existsById(id)) {
+        // Sólo se lee el grupo, para el evento; la sesión no se carga
+        Long groupId = jpaRepository.findGroupIdById(id).orElse(null);
+        if (groupId == null) {
             log.warn("Intento de eliminar sesión inexistente. ID: {}", id);
             return false;
         }
 
         try {
-            jpaRepository.deleteById(id);
+            if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
+                log.warn("Intento de eliminar sesión inexistente. ID: {}", id);
+                return false;
+            }
+            scheduleIndex.release(id);
+            teacherScheduleIndex.release(id);
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.of(groupId));
             log.info("Sesión eliminada exitosamente. ID: {}", id);
             return true;
 
@@ -63,8 +82,10 @@ public class DeleteGroupSessionRepositoryImp implements DeleteGroupSessionReposi
         log.debug("Eliminando todas las sesiones del grupo ID: {}", groupId);
 
         try {
-            long count = jpaRepository.countByGroupId(groupId);
-            jpaRepository.deleteByGroupId(groupId);
+            int count = jpaRepository.deleteByGroupId(groupId);
+            scheduleIndex.releaseGroup(groupId);
+            teacherScheduleIndex.releaseGroup(groupId);
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.of(groupId));
             log.info("Se eliminaron {} sesiones del grupo ID: {}", count, groupId);
 
         } catch (DataIntegrityViolationException e) {
@@ -88,8 +109,10 @@ public class DeleteGroupSessionRepositoryImp implements DeleteGroupSessionReposi
         log.warn("Iniciando eliminación de TODAS las sesiones");
 
         try {
-            long count = jpaRepository.count();
-            jpaRepository.deleteAll();
+            int count = deleteInChunks();
+            scheduleIndex.clear();
+            teacherScheduleIndex.clear();
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.ofAllGroups());
             log.info("Se eliminaron {} sesiones", count);
 
         } catch (DataIntegrityViolationException e) {
@@ -100,4 +123,22 @@ public class DeleteGroupSessionRepositoryImp implements DeleteGroupSessionReposi
             );
         }
     }
+
+    /**
+     * Borra todas las sesiones por bloques de IDs, con un DELETE por bloque y sin cargar las entidades.
+     *
+     * @return el número de sesiones eliminadas
+     */
+    private int deleteInChunks() {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findIds(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -1,20 +1,32 @@
 package com.acainfo.backend.groupsession.infrastructure.repository.imp;
 
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
 import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.OccupiedSlot;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
 import com.acainfo.backend.groupsession.domain.repository.ReadGroupSessionRepository;
 import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
 import com.acainfo.backend.groupsession.domain.value.SessionType;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
 import com.acainfo.backend.groupsession.infrastructure.repository.mapper.GroupSessionJpaMapper;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.GroupTimetableCache;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
-import java.util.List;
-import java.util.Optional;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Implementación del repositorio de lectura de sesiones de grupo.
@@ -28,6 +40,9 @@ public class ReadGroupSessionRepositoryImp implements ReadGroupSessionRepository
 
     private final GroupSessionJpaRepository jpaRepository;
     private final GroupSessionJpaMapper mapper;
+    private final ClassroomScheduleIndex scheduleIndex;
+    private final GroupTimetableCache timetableCache;
+    private final TeacherScheduleIndex teacherScheduleIndex;
 
     @Override
     public Optional<GroupSession> findById(Long id) {
@@ -139,4 +154,79 @@ public class ReadGroupSessionRepositoryImp implements ReadGroupSessionRepository
 
         return jpaRepository.countByGroupId(groupId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<TimeSlot> findFreeSlots(Classroom classroom, DayOfWeek dayOfWeek,
+                                        LocalTime from, LocalTime to, Duration minDuration) {
+        log.debug("Buscando franjas libres del aula {} el {} entre {} y {}", classroom, dayOfWeek, from, to);
+
+        return scheduleIndex.findFreeSlots(classroom, dayOfWeek, from, to, minDuration);
+    }
+
+    @Override
+    public ClassroomWeek findClassroomWeek(Classroom classroom) {
+        log.debug("Obteniendo la ocupación semanal del aula {}", classroom);
+        return scheduleIndex.getWeek(classroom);
+    }
+
+    @Override
+    public Map<Long, WeeklyTimetable> findTimetablesByGroupIds(Collection<Long> groupIds) {
+        if (groupIds == null || groupIds.isEmpty()) {
+            return Map.of();
+        }
+
+        log.debug("Obteniendo el horario semanal de {} grupos", groupIds.size());
+        return timetableCache.getAll(groupIds);
+    }
+
+    @Override
+    public List<OccupiedSlot> findOccupiedSlotsExcludingGroups(Collection<Long> groupIds) {
+        log.debug("Obteniendo las franjas ocupadas por los grupos distintos de {}", groupIds);
+
+        // NOT IN con una lista vacía no es válido en todas las bases de datos
+        Collection<Long> excluded = groupIds == null || groupIds.isEmpty() ? List.of(-1L) : groupIds;
+        return jpaRepository.findOccupiedSlotsExcludingGroups(excluded).stream()
+                .map(view -> new OccupiedSlot(view.groupId(), view.teacherId(), view.classroom(),
+                        view.dayOfWeek(), view.startTime(), view.endTime()))
+                .toList();
+    }
+
+    @Override
+    public TeacherSchedule findTeacherSchedule(Long teacherId) {
+        log.debug("Obteniendo el horario del profesor ID: {}", teacherId);
+        return teacherScheduleIndex.getSchedule(teacherId);
+    }
+
+    @Override
+    public List<SessionConflict> findConflicts(List<GroupSession> candidates) {
+        log.debug("Comprobando conflictos de {} sesiones propuestas", candidates.size());
+
+        // Sesiones actuales de los grupos afectados, en una única consulta
+        Set<Long> groupIds = candidates.stream().map(GroupSession::getGroupId).collect(Collectors.toSet());
+        Map<Long, List<GroupSessionJpa>> existingByGroup = jpaRepository.findByGroupIdIn(groupIds).stream()
+                .collect(Collectors.groupingBy(session -> session.getGroup().getId()));
+
+        List<SessionConflict> conflicts = new ArrayList<>();
+        for (GroupSession candidate : candidates) {
+            for (GroupSessionJpa existing : existingByGroup.getOrDefault(candidate.getGroupId(), List.of())) {
+                if (existing.getDayOfWeek() == candidate.getDayOfWeek()
+                        && existing.getStartTime().isBefore(candidate.getEndTime())
+                        && candidate.getStartTime().isBefore(existing.getEndTime())) {
+                    conflicts.add(SessionConflict.builder()
+                            .type(SessionConflictType.GROUP)
+                            .dayOfWeek(candidate.getDayOfWeek())
+                            .startTime(candidate.getStartTime())
+                            .endTime(candidate.getEndTime())
+                            .conflictingSessionId(existing.getId())
+                            .conflictingGroupId(candidate.getGroupId())
+                            .conflictingStartTime(existing.getStartTime())
+                            .conflictingEndTime(existing.getEndTime())
+                            .build());
+                }
+            }
+            conflicts.addAll(scheduleIndex.findConflicts(candidate));
+            conflicts.addAll(teacherScheduleIndex.findConflicts(candidate));
+        }
+        return conflicts;
+    }
+}
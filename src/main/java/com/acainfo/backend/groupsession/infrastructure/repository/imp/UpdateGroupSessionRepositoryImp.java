@@ -1,6 +1,7 @@
 package com.acainfo.backend.groupsession.infrastructure.repository.imp;
 
 import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
 import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
 import com.acainfo.backend.groupsession.domain.exception.GroupSessionNotFoundException;
 import com.acainfo.backend.groupsession.domain.exception.InvalidGroupSessionDataException;
@@ -8,8 +9,11 @@ import com.acainfo.backend.groupsession.domain.repository.UpdateGroupSessionRepo
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
 import com.acainfo.backend.groupsession.infrastructure.repository.mapper.GroupSessionJpaMapper;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Implementación del repositorio de actualización de sesiones de grupo.
  * Adapta las operaciones de actualización del dominio a la infraestructura JPA.
+ * Los solapes de aula y de profesor se detectan con el {@link ClassroomScheduleIndex}
+ * y el {@link TeacherScheduleIndex}.
  */
 @Repository
 @RequiredArgsConstructor
@@ -25,6 +31,9 @@ public class UpdateGroupSessionRepositoryImp implements UpdateGroupSessionReposi
 
     private final GroupSessionJpaRepository jpaRepository;
     private final GroupSessionJpaMapper mapper;
+    private final ClassroomScheduleIndex scheduleIndex;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Actualiza una sesión existente.
@@ -34,6 +43,7 @@ public class UpdateGroupSessionRepositoryImp implements UpdateGroupSessionReposi
      * @return la sesión actualizada
      * @throws GroupSessionNotFoundException si la sesión no existe
      * @throws DuplicateGroupSessionException si la actualización viola constraints únicos
+     *         o el aula o el profesor están ocupados en alguna parte de la nueva franja
      */
     @Override
     @Transactional
@@ -59,16 +69,24 @@ public class UpdateGroupSessionRepositoryImp implements UpdateGroupSessionReposi
                         );
                     });
 
+            GroupSession previousSession = mapper.toDomain(existingEntity);
+
             // Actualizar los campos usando el mapper
             mapper.updateJpaFromDomain(groupSession, existingEntity);
 
             // Persistir los cambios
             GroupSessionJpa updatedEntity = jpaRepository.save(existingEntity);
+            GroupSession updatedSession = mapper.toDomain(updatedEntity);
+
+            // Mover la reserva del aula y del profesor; falla si la nueva franja se solapa con otra sesión
+            scheduleIndex.move(previousSession, updatedSession);
+            teacherScheduleIndex.move(previousSession, updatedSession);
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.of(
+                    previousSession.getGroupId(), updatedSession.getGroupId()));
 
             log.info("Sesión actualizada exitosamente. ID: {}", updatedEntity.getId());
 
-            // Convertir de vuelta a dominio y retornar
-            return mapper.toDomain(updatedEntity);
+            return updatedSession;
 
         } catch (DataIntegrityViolationException e) {
             log.error("Error de integridad al actualizar sesión: {}", e.getMessage());
@@ -3,11 +3,19 @@ package com.acainfo.backend.groupsession.infrastructure.repository.jpa;
 import com.acainfo.backend.groupsession.domain.value.Classroom;
 import com.acainfo.backend.groupsession.domain.value.SessionType;
 import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.OccupiedSlotView;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.SessionSlotView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.DayOfWeek;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface GroupSessionJpaRepository extends JpaRepository<GroupSessionJpa, Long> {
@@ -17,6 +25,35 @@ public interface GroupSessionJpaRepository extends JpaRepository<GroupSessionJpa
      */
     List<GroupSessionJpa> findByGroupId(Long groupId);
 
+    /**
+     * Busca las sesiones de varios grupos
+     */
+    List<GroupSessionJpa> findByGroupIdIn(Collection<Long> groupIds);
+
+    /**
+     * Franjas ocupadas por las sesiones de todos los grupos salvo los indicados,
+     * con el profesor de cada grupo
+     */
+    @Query("SELECT new com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.OccupiedSlotView(" +
+            "s.group.id, s.group.teacher.id, s.classroom, s.dayOfWeek, s.startTime, s.endTime) " +
+            "FROM GroupSessionJpa s WHERE s.group.id NOT IN :groupIds")
+    List<OccupiedSlotView> findOccupiedSlotsExcludingGroups(@Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * Franjas de todas las sesiones, sin cargar los grupos
+     */
+    @Query("SELECT new com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.SessionSlotView(" +
+            "s.id, s.group.id, s.classroom, s.dayOfWeek, s.startTime, s.endTime, s.type) FROM GroupSessionJpa s")
+    List<SessionSlotView> findAllSlots();
+
+    /**
+     * Franjas de las sesiones de varios grupos, sin cargar los grupos
+     */
+    @Query("SELECT new com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.SessionSlotView(" +
+            "s.id, s.group.id, s.classroom, s.dayOfWeek, s.startTime, s.endTime, s.type) " +
+            "FROM GroupSessionJpa s WHERE s.group.id IN :groupIds")
+    List<SessionSlotView> findSlotsByGroupIdIn(@Param("groupIds") Collection<Long> groupIds);
+
     /**
      * Busca sesiones por día de la semana
      */
@@ -53,7 +90,28 @@ public interface GroupSessionJpaRepository extends JpaRepository<GroupSessionJpa
     long countByGroupId(Long groupId);
 
     /**
-     * Elimina todas las sesiones de un grupo
+     * Elimina todas las sesiones de un grupo con un único DELETE, sin cargarlas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupSessionJpa s WHERE s.group.id = :groupId")
+    int deleteByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * ID del grupo de una sesión, sin cargar la sesión
+     */
+    @Query("SELECT s.group.id FROM GroupSessionJpa s WHERE s.id = :id")
+    Optional<Long> findGroupIdById(@Param("id") Long id);
+
+    /**
+     * IDs ordenados, para borrar las sesiones por bloques
+     */
+    @Query("SELECT s.id FROM GroupSessionJpa s ORDER BY s.id")
+    List<Long> findIds(Limit limit);
+
+    /**
+     * Elimina las sesiones indicadas con un único DELETE, sin cargarlas
      */
-    void deleteByGroupId(Long groupId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupSessionJpa s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -15,11 +15,8 @@ import java.time.LocalTime;
 @Entity
 @Table(name = "group_sessions",
         indexes = {
-                @Index(name = "idx_session_group", columnList = "group_id"),
                 @Index(name = "idx_session_day", columnList = "day_of_week"),
-                @Index(name = "idx_session_classroom", columnList = "classroom"),
-                @Index(name = "idx_session_type", columnList = "type"),
-                @Index(name = "idx_session_group_day", columnList = "group_id, day_of_week")
+                @Index(name = "idx_session_type", columnList = "type")
         },
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -42,7 +39,8 @@ import java.time.LocalTime;
 public class GroupSessionJpa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "group_sessions_id_seq")
+    @SequenceGenerator(name = "group_sessions_id_seq", sequenceName = "group_sessions_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
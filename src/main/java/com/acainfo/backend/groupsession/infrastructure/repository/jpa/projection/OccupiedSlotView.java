@@ -0,0 +1,17 @@
+package com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Proyección con la franja de una sesión y el profesor de su grupo.
+ */
+public record OccupiedSlotView(Long groupId,
+                               Long teacherId,
+                               Classroom classroom,
+                               DayOfWeek dayOfWeek,
+                               LocalTime startTime,
+                               LocalTime endTime) {
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Proyección con la franja de una sesión, sin cargar su grupo.
+ */
+public record SessionSlotView(Long id,
+                              Long groupId,
+                              Classroom classroom,
+                              DayOfWeek dayOfWeek,
+                              LocalTime startTime,
+                              LocalTime endTime,
+                              SessionType type) {
+}
@@ -0,0 +1,35 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
+
+import java.time.LocalTime;
+
+/**
+ * Ocupación de un aula o de un profesor por una sesión, en minutos desde medianoche.
+ * El intervalo es semiabierto [start, end): una sesión que termina a las 10:00
+ * no se solapa con otra que empieza a las 10:00.
+ */
+record ClassroomBooking(Long sessionId, Long groupId, int start, int end) {
+
+    boolean overlaps(int otherStart, int otherEnd) {
+        return start < otherEnd && otherStart < end;
+    }
+
+    /**
+     * Describe el choque de una sesión propuesta con esta ocupación.
+     */
+    SessionConflict toConflict(SessionConflictType type, GroupSession candidate) {
+        return SessionConflict.builder()
+                .type(type)
+                .dayOfWeek(candidate.getDayOfWeek())
+                .startTime(candidate.getStartTime())
+                .endTime(candidate.getEndTime())
+                .conflictingSessionId(sessionId)
+                .conflictingGroupId(groupId)
+                .conflictingStartTime(LocalTime.of(start / 60, start % 60))
+                .conflictingEndTime(LocalTime.of(end / 60, end % 60))
+                .build();
+    }
+}
@@ -0,0 +1,515 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.groupsession.domain.entity.BookedSlot;
+import com.acainfo.backend.groupsession.domain.entity.ClassroomDay;
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.entity.TimeSlot;
+import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
+import com.acainfo.backend.groupsession.domain.exception.InvalidGroupSessionDataException;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.SessionSlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Índice en memoria de la ocupación de las aulas: un árbol de intervalos por (aula, día).
+ *
+ * Cada árbol se carga de base de datos la primera vez que se usa y a partir de ahí lo
+ * mantienen los repositorios de escritura de sesiones. La comprobación de solapes y la
+ * reserva se hacen de forma atómica bajo el bloqueo del árbol, así que dos transacciones
+ * concurrentes no pueden reservar la misma franja. Si la transacción se deshace la
+ * reserva se libera; las liberaciones sólo se aplican cuando la transacción se confirma,
+ * pero dentro de la propia transacción las sesiones liberadas ya no cuentan como conflicto
+ * (borrar el horario de un grupo y volver a crearlo en la misma transacción).
+ *
+ * Además de los árboles se mantiene una fila ya ordenada por (aula, día) sólo con las
+ * sesiones confirmadas: es la rejilla semanal que se sirve sin bloqueos ni consultas.
+ * Cada escritura confirmada rehace únicamente la fila de su aula y día.
+ *
+ * El índice es local a cada instancia. Con el bus de invalidación activo, los cambios de
+ * sesiones de otras instancias se releen del primario al recibirlos; aun así, entre que
+ * se confirman y llegan el constraint uk_classroom_day_time sigue siendo la última barrera.
+ */
+@Component
+@Slf4j
+public class ClassroomScheduleIndex {
+
+    private final GroupSessionJpaRepository jpaRepository;
+    private final TransactionTemplate loadTransaction;
+
+    private final Map<ScheduleKey, IntervalTree> schedules = new ConcurrentHashMap<>();
+    // Días que algún hilo está cargando; quien llegue después espera a esa carga
+    private final Map<ScheduleKey, CompletableFuture<IntervalTree>> loading = new ConcurrentHashMap<>();
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+    private final Map<ScheduleKey, List<ClassroomBooking>> committedRows = new ConcurrentHashMap<>();
+    private final ScheduleTransactions transactions = new ScheduleTransactions();
+
+    private static final Comparator<ClassroomBooking> ROW_ORDER = Comparator
+            .comparingInt(ClassroomBooking::start)
+            .thenComparingInt(ClassroomBooking::end)
+            .thenComparing(ClassroomBooking::sessionId);
+
+    public ClassroomScheduleIndex(GroupSessionJpaRepository jpaRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.jpaRepository = jpaRepository;
+        // La carga inicial debe ver sólo datos confirmados, nunca los de la transacción en curso,
+        // y leerse del primario: lo que siembre una réplica atrasada se quedaría en el índice
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Registra la ocupación de una sesión recién insertada.
+     *
+     * @param session la sesión ya persistida (con ID)
+     * @throws DuplicateGroupSessionException si el aula ya está ocupada en esa franja
+     */
+    public void reserve(GroupSession session) {
+        Placement placement = placementOf(session);
+        book(placement);
+
+        ScheduleTransactions.afterCompletion(
+                () -> place(session.getId(), placement),
+                () -> unbook(placement)
+        );
+    }
+
+    /**
+     * Registra el cambio de franja, día o aula de una sesión existente.
+     *
+     * @param previous la sesión antes de la actualización
+     * @param updated la sesión ya actualizada
+     * @throws DuplicateGroupSessionException si el aula ya está ocupada en la nueva franja
+     */
+    public void move(GroupSession previous, GroupSession updated) {
+        Placement before = placementOf(previous);
+        Placement after = placementOf(updated);
+        if (before.equals(after)) {
+            return;
+        }
+
+        book(after);
+
+        ScheduleTransactions.afterCompletion(
+                () -> {
+                    unbook(before);
+                    place(updated.getId(), after);
+                },
+                () -> unbook(after)
+        );
+    }
+
+    /**
+     * Libera la ocupación de una sesión cuando se confirme su borrado.
+     */
+    public void release(Long sessionId) {
+        transactions.releaseSession(sessionId);
+        ScheduleTransactions.afterCompletion(() -> {
+            Placement placement = placements.remove(sessionId);
+            if (placement != null) {
+                unbook(placement);
+                removeFromRow(placement);
+            }
+        }, () -> { });
+    }
+
+    /**
+     * Libera la ocupación de todas las sesiones de un grupo cuando se confirme su borrado.
+     */
+    public void releaseGroup(Long groupId) {
+        transactions.releaseGroup(groupId);
+        ScheduleTransactions.afterCompletion(() -> placements.values().removeIf(placement -> {
+            if (groupId.equals(placement.booking().groupId())) {
+                unbook(placement);
+                removeFromRow(placement);
+                return true;
+            }
+            return false;
+        }), () -> { });
+    }
+
+    /**
+     * Vacía el índice cuando se confirme el borrado de todas las sesiones.
+     */
+    public void clear() {
+        transactions.releaseAll();
+        ScheduleTransactions.afterCompletion(() -> {
+            schedules.clear();
+            placements.clear();
+            committedRows.clear();
+        }, () -> { });
+    }
+
+    /**
+     * Aplica los cambios de sesiones que otro nodo ha confirmado en los grupos indicados.
+     *
+     * Las sesiones de esos grupos se releen del primario y sustituyen a las confirmadas que
+     * tenía el índice. Sólo se tocan los días ya cargados; el resto se leerá al cargarlos.
+     */
+    public void refreshGroups(Set<Long> groupIds) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        List<SessionSlotView> slots = ReadRouting.onPrimary(() -> loadTransaction.execute(status ->
+                jpaRepository.findSlotsByGroupIdIn(groupIds)));
+
+        Map<Long, Placement> current = new HashMap<>();
+        for (SessionSlotView slot : slots) {
+            if (slot.startTime() != null && slot.endTime() != null && slot.startTime().isBefore(slot.endTime())) {
+                current.put(slot.id(), new Placement(new ScheduleKey(slot.classroom(), slot.dayOfWeek()),
+                        new ClassroomBooking(slot.id(), slot.groupId(),
+                                toMinutes(slot.startTime()), toMinutes(slot.endTime()))));
+            }
+        }
+
+        // Las que ya no existen o han cambiado de franja
+        for (Placement placement : List.copyOf(placements.values())) {
+            Long sessionId = placement.booking().sessionId();
+            if (groupIds.contains(placement.booking().groupId()) && !placement.equals(current.get(sessionId))
+                    && placements.remove(sessionId, placement)) {
+                unbook(placement);
+                removeFromRow(placement);
+            }
+        }
+
+        for (Map.Entry<Long, Placement> entry : current.entrySet()) {
+            Placement placement = entry.getValue();
+            // Una carga en curso pudo leer antes de este cambio: se aplica sobre su resultado
+            awaitLoading(placement.key());
+            // Sin conflictos que comprobar: el cambio ya está confirmado
+            schedules.computeIfPresent(placement.key(), (key, tree) -> {
+                if (!placement.equals(placements.get(entry.getKey()))) {
+                    synchronized (tree) {
+                        tree.insert(placement.booking());
+                    }
+                    place(entry.getKey(), placement);
+                }
+                return tree;
+            });
+        }
+        log.debug("Ocupación de aulas releída para {} grupos cambiados en otro nodo", groupIds.size());
+    }
+
+    /**
+     * Descarta todo el índice tras un cambio masivo confirmado en otro nodo; cada día se
+     * vuelve a cargar la próxima vez que se use.
+     */
+    public void refreshAll() {
+        loading.keySet().forEach(this::awaitLoading);
+        schedules.clear();
+        placements.clear();
+        committedRows.clear();
+        log.debug("Ocupación de aulas descartada por un cambio masivo en otro nodo");
+    }
+
+    /**
+     * IDs de las sesiones que ocupan el aula en alguna parte de la franja indicada.
+     *
+     * @param excludedSessionId sesión a ignorar (la propia sesión al actualizar), puede ser null
+     */
+    public List<Long> findConflictingSessionIds(Classroom classroom, DayOfWeek dayOfWeek,
+                                                LocalTime startTime, LocalTime endTime,
+                                                Long excludedSessionId) {
+        IntervalTree tree = scheduleOf(new ScheduleKey(classroom, dayOfWeek));
+        synchronized (tree) {
+            return tree.findOverlapping(toMinutes(startTime), toMinutes(endTime)).stream()
+                    .map(ClassroomBooking::sessionId)
+                    .filter(id -> !id.equals(excludedSessionId))
+                    .toList();
+        }
+    }
+
+    /**
+     * Choques de una sesión propuesta con las sesiones de otros grupos en su aula,
+     * sin reservar nada. Las sesiones liberadas en la transacción en curso no cuentan.
+     */
+    public List<SessionConflict> findConflicts(GroupSession candidate) {
+        IntervalTree tree = scheduleOf(new ScheduleKey(candidate.getClassroom(), candidate.getDayOfWeek()));
+        List<ClassroomBooking> overlapping;
+        synchronized (tree) {
+            overlapping = tree.findOverlapping(toMinutes(candidate.getStartTime()), toMinutes(candidate.getEndTime()));
+        }
+        return overlapping.stream()
+                .filter(other -> !candidate.getGroupId().equals(other.groupId()) && !transactions.isReleased(other))
+                .map(other -> other.toConflict(SessionConflictType.CLASSROOM, candidate))
+                .toList();
+    }
+
+    /**
+     * Ocupación semanal confirmada de un aula. Si falta algún día por cargar, se cargan
+     * todos los que falten con una única consulta.
+     */
+    public ClassroomWeek getWeek(Classroom classroom) {
+        loadWeek(classroom);
+
+        List<ClassroomDay> days = new ArrayList<>(DayOfWeek.values().length);
+        int weekMinutes = 0;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            List<ClassroomBooking> row = committedRows.getOrDefault(new ScheduleKey(classroom, dayOfWeek), List.of());
+            List<BookedSlot> slots = new ArrayList<>(row.size());
+            int dayMinutes = 0;
+            for (ClassroomBooking booking : row) {
+                slots.add(new BookedSlot(booking.sessionId(), booking.groupId(),
+                        toTime(booking.start()), toTime(booking.end())));
+                dayMinutes += booking.end() - booking.start();
+            }
+            days.add(new ClassroomDay(dayOfWeek, slots, dayMinutes));
+            weekMinutes += dayMinutes;
+        }
+        return new ClassroomWeek(classroom, days, weekMinutes);
+    }
+
+    /**
+     * Franjas libres de un aula en un día, dentro de [from, to).
+     *
+     * @param minDuration duración mínima de las franjas devueltas
+     */
+    public List<TimeSlot> findFreeSlots(Classroom classroom, DayOfWeek dayOfWeek,
+                                        LocalTime from, LocalTime to, Duration minDuration) {
+        int windowStart = toMinutes(from);
+        int windowEnd = toMinutes(to);
+        long minMinutes = minDuration != null ? minDuration.toMinutes() : 1;
+
+        List<ClassroomBooking> busy;
+        IntervalTree tree = scheduleOf(new ScheduleKey(classroom, dayOfWeek));
+        synchronized (tree) {
+            busy = tree.findOverlapping(windowStart, windowEnd);
+        }
+
+        // Las ocupaciones vienen ordenadas por inicio: los huecos quedan entre ellas
+        List<TimeSlot> free = new ArrayList<>();
+        int cursor = windowStart;
+        for (ClassroomBooking booking : busy) {
+            addSlot(free, cursor, booking.start(), minMinutes);
+            cursor = Math.max(cursor, booking.end());
+        }
+        addSlot(free, cursor, windowEnd, minMinutes);
+        return free;
+    }
+
+    private void addSlot(List<TimeSlot> slots, int start, int end, long minMinutes) {
+        if (end - start >= Math.max(minMinutes, 1)) {
+            slots.add(new TimeSlot(toTime(start), toTime(end)));
+        }
+    }
+
+    private void book(Placement placement) {
+        ClassroomBooking booking = placement.booking();
+        IntervalTree tree = scheduleOf(placement.key());
+        synchronized (tree) {
+            for (ClassroomBooking other : tree.findOverlapping(booking.start(), booking.end())) {
+                if (!other.sessionId().equals(booking.sessionId())
+                        && !transactions.isReleased(other)) {
+                    log.warn("Conflicto de aula {} el {}: la sesión {} se solapa con la sesión {}",
+                            placement.key().classroom(), placement.key().dayOfWeek(),
+                            booking.sessionId(), other.sessionId());
+                    throw new DuplicateGroupSessionException(String.format(
+                            "El aula %s ya está ocupada el %s de %s a %s por la sesión %d",
+                            placement.key().classroom(), placement.key().dayOfWeek(),
+                            toTime(other.start()), toTime(other.end()), other.sessionId()));
+                }
+            }
+            tree.insert(booking);
+        }
+    }
+
+    private void unbook(Placement placement) {
+        IntervalTree tree = schedules.get(placement.key());
+        if (tree != null) {
+            synchronized (tree) {
+                tree.remove(placement.booking());
+            }
+        }
+    }
+
+    /**
+     * Registra la ocupación confirmada de una sesión y rehace la fila de su aula y día
+     * (y la de su posición anterior si se ha movido).
+     */
+    private void place(Long sessionId, Placement placement) {
+        Placement previous = placements.put(sessionId, placement);
+        if (previous != null && !previous.key().equals(placement.key())) {
+            removeFromRow(previous);
+        }
+        committedRows.compute(placement.key(), (key, row) -> {
+            List<ClassroomBooking> updated = new ArrayList<>(row != null ? row.size() + 1 : 1);
+            if (row != null) {
+                row.stream().filter(booking -> !booking.sessionId().equals(sessionId)).forEach(updated::add);
+            }
+            updated.add(placement.booking());
+            updated.sort(ROW_ORDER);
+            return List.copyOf(updated);
+        });
+    }
+
+    private void removeFromRow(Placement placement) {
+        committedRows.computeIfPresent(placement.key(), (key, row) -> {
+            List<ClassroomBooking> updated = row.stream()
+                    .filter(booking -> !booking.sessionId().equals(placement.booking().sessionId()))
+                    .toList();
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private IntervalTree scheduleOf(ScheduleKey key) {
+        IntervalTree tree;
+        while ((tree = schedules.get(key)) == null) {
+            load(List.of(key), () -> jpaRepository.findByClassroomAndDayOfWeek(key.classroom(), key.dayOfWeek()));
+        }
+        return tree;
+    }
+
+    private void loadWeek(Classroom classroom) {
+        List<ScheduleKey> keys = Arrays.stream(DayOfWeek.values())
+                .map(day -> new ScheduleKey(classroom, day))
+                .toList();
+        load(keys, () -> jpaRepository.findByClassroom(classroom));
+    }
+
+    /**
+     * Carga los días indicados que aún no estén cargados.
+     *
+     * Cada día se reserva en 'loading' con un futuro antes de consultar, así que la
+     * consulta se hace fuera de los mapas y sin bloqueos: quien pide un día que otro
+     * hilo ya está cargando espera a esa misma carga en lugar de repetirla. El árbol se
+     * publica en 'schedules' cuando está completo.
+     *
+     * @param query sesiones de, al menos, todos los días indicados
+     */
+    private void load(List<ScheduleKey> keys, Supplier<List<GroupSessionJpa>> query) {
+        Map<ScheduleKey, CompletableFuture<IntervalTree>> owned = new HashMap<>();
+        List<CompletableFuture<IntervalTree>> pending = new ArrayList<>();
+        for (ScheduleKey key : keys) {
+            if (schedules.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<IntervalTree> future = new CompletableFuture<>();
+            CompletableFuture<IntervalTree> current = loading.putIfAbsent(key, future);
+            if (current != null) {
+                pending.add(current);
+            } else if (schedules.containsKey(key)) {
+                // Otra carga terminó entre la comprobación y la reserva
+                loading.remove(key, future);
+                future.complete(schedules.get(key));
+            } else {
+                owned.put(key, future);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            try {
+                List<GroupSessionJpa> sessions = ReadRouting.onPrimary(() -> loadTransaction.execute(status ->
+                        query.get()));
+                Map<ScheduleKey, List<GroupSessionJpa>> sessionsByKey = sessions.stream()
+                        .collect(Collectors.groupingBy(session ->
+                                new ScheduleKey(session.getClassroom(), session.getDayOfWeek())));
+                owned.forEach((key, future) -> {
+                    IntervalTree tree = build(key, sessionsByKey.getOrDefault(key, List.of()));
+                    schedules.put(key, tree);
+                    future.complete(tree);
+                });
+            } catch (RuntimeException e) {
+                owned.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                owned.forEach(loading::remove);
+            }
+        }
+
+        pending.forEach(ClassroomScheduleIndex::await);
+    }
+
+    /**
+     * Espera a que termine la carga en curso de un día, si la hay. Si falla, quien la
+     * lanzó ya ha recibido el error y el día sigue sin cargar.
+     */
+    private void awaitLoading(ScheduleKey key) {
+        CompletableFuture<IntervalTree> future = loading.get(key);
+        if (future != null) {
+            future.exceptionally(e -> null).join();
+        }
+    }
+
+    private static IntervalTree await(CompletableFuture<IntervalTree> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private IntervalTree build(ScheduleKey key, List<GroupSessionJpa> sessions) {
+        IntervalTree tree = new IntervalTree();
+        List<ClassroomBooking> row = new ArrayList<>(sessions.size());
+        for (GroupSessionJpa session : sessions) {
+            if (session.getStartTime() == null || session.getEndTime() == null
+                    || !session.getStartTime().isBefore(session.getEndTime())) {
+                continue;
+            }
+            ClassroomBooking booking = new ClassroomBooking(session.getId(), session.getGroup().getId(),
+                    toMinutes(session.getStartTime()), toMinutes(session.getEndTime()));
+            tree.insert(booking);
+            if (placements.putIfAbsent(session.getId(), new Placement(key, booking)) == null) {
+                row.add(booking);
+            }
+        }
+        if (!row.isEmpty()) {
+            row.sort(ROW_ORDER);
+            committedRows.put(key, List.copyOf(row));
+        }
+        log.debug("Cargada la ocupación del aula {} el {}: {} sesiones", key.classroom(), key.dayOfWeek(), tree.size());
+        return tree;
+    }
+
+    private Placement placementOf(GroupSession session) {
+        if (session.getClassroom() == null || session.getDayOfWeek() == null
+                || session.getStartTime() == null || session.getEndTime() == null) {
+            throw new InvalidGroupSessionDataException("El aula, el día y el horario de la sesión son requeridos");
+        }
+        if (!session.getStartTime().isBefore(session.getEndTime())) {
+            throw new InvalidGroupSessionDataException("La hora de fin debe ser posterior a la hora de inicio");
+        }
+
+        return new Placement(
+                new ScheduleKey(session.getClassroom(), session.getDayOfWeek()),
+                new ClassroomBooking(session.getId(), session.getGroupId(),
+                        toMinutes(session.getStartTime()), toMinutes(session.getEndTime())));
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+
+    private record ScheduleKey(Classroom classroom, DayOfWeek dayOfWeek) {
+    }
+
+    private record Placement(ScheduleKey key, ClassroomBooking booking) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.mapper.GroupSessionJpaMapper;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Caché del horario semanal ({@link WeeklyTimetable}) de cada grupo.
+ *
+ * Los grupos que faltan se cargan todos juntos con una única consulta. Las entradas
+ * se invalidan cuando termina una transacción que ha modificado sesiones del grupo,
+ * tanto si se confirma como si se deshace, para no conservar datos no confirmados.
+ * La caducidad por tiempo sólo acota lo que dura una entrada si se pierde una invalidación.
+ */
+@Component
+@Slf4j
+public class GroupTimetableCache {
+
+    private final GroupSessionJpaRepository jpaRepository;
+    private final GroupSessionJpaMapper mapper;
+    private final TransactionTemplate loadTransaction;
+    private final LoadingCache<Long, WeeklyTimetable> cache;
+
+    public GroupTimetableCache(GroupSessionJpaRepository jpaRepository,
+                               GroupSessionJpaMapper mapper,
+                               PlatformTransactionManager transactionManager,
+                               AppProperties appProperties) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        // Las cargas ven sólo lo confirmado y se leen del primario: la transacción de quien
+        // consulta puede ir a una réplica atrasada y lo cargado se queda en caché
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        AppProperties.GroupTimetables properties = appProperties.getGroupTimetables();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedGroups())
+                .expireAfterWrite(Duration.ofMinutes(properties.getExpireAfterWriteMinutes()))
+                .build(new CacheLoader<>() {
+                    @Override
+                    public WeeklyTimetable load(Long groupId) {
+                        return loadAll(Set.of(groupId)).get(groupId);
+                    }
+
+                    @Override
+                    public Map<Long, WeeklyTimetable> loadAll(Set<? extends Long> groupIds) {
+                        return loadTimetables(groupIds);
+                    }
+                });
+    }
+
+    /**
+     * Horario semanal de un grupo (vacío si no tiene sesiones o no existe).
+     */
+    public WeeklyTimetable get(Long groupId) {
+        return cache.get(groupId);
+    }
+
+    /**
+     * Horarios semanales de varios grupos, cargando de una vez los que no estén en caché.
+     */
+    public Map<Long, WeeklyTimetable> getAll(Collection<Long> groupIds) {
+        return cache.getAll(groupIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onGroupScheduleChanged(GroupScheduleChangedEvent event) {
+        if (event.allGroups()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.groupIds());
+        }
+    }
+
+    private Map<Long, WeeklyTimetable> loadTimetables(Set<? extends Long> groupIds) {
+        log.debug("Cargando el horario semanal de {} grupos", groupIds.size());
+
+        List<GroupSession> sessions = ReadRouting.onPrimary(() -> loadTransaction.execute(status ->
+                mapper.toDomainList(jpaRepository.findByGroupIdIn(new ArrayList<Long>(groupIds)))));
+        Map<Long, List<GroupSession>> sessionsByGroup = sessions.stream()
+                .collect(Collectors.groupingBy(GroupSession::getGroupId));
+
+        Map<Long, WeeklyTimetable> timetables = new HashMap<>();
+        for (Long groupId : groupIds) {
+            List<GroupSession> groupSessions = sessionsByGroup.get(groupId);
+            timetables.put(groupId, groupSessions != null ? WeeklyTimetable.of(groupSessions) : WeeklyTimetable.empty());
+        }
+        return timetables;
+    }
+}
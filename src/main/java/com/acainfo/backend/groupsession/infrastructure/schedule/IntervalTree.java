@@ -0,0 +1,217 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Árbol de intervalos sobre un árbol AVL ordenado por (inicio, fin, sesión).
+ *
+ * Cada nodo guarda el mayor fin de su subárbol, lo que permite descartar ramas
+ * completas: la búsqueda de solapes cuesta O(log n + k) y las inserciones y
+ * borrados O(log n). No es thread-safe; la sincronización corre a cargo de quien lo usa.
+ */
+final class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserta una ocupación. Si ya existe una idéntica no hace nada.
+     */
+    void insert(ClassroomBooking booking) {
+        root = insert(root, booking);
+    }
+
+    /**
+     * Elimina una ocupación.
+     *
+     * @return true si existía
+     */
+    boolean remove(ClassroomBooking booking) {
+        int before = size;
+        root = remove(root, booking);
+        return size < before;
+    }
+
+    /**
+     * Ocupaciones que se solapan con [start, end), ordenadas por inicio.
+     */
+    List<ClassroomBooking> findOverlapping(int start, int end) {
+        List<ClassroomBooking> result = new ArrayList<>();
+        collectOverlapping(root, start, end, result);
+        return result;
+    }
+
+    /**
+     * Todas las ocupaciones ordenadas por inicio.
+     */
+    List<ClassroomBooking> toList() {
+        List<ClassroomBooking> result = new ArrayList<>(size);
+        collectAll(root, result);
+        return result;
+    }
+
+    private Node insert(Node node, ClassroomBooking booking) {
+        if (node == null) {
+            size++;
+            return new Node(booking);
+        }
+
+        int cmp = compare(booking, node.booking);
+        if (cmp < 0) {
+            node.left = insert(node.left, booking);
+        } else if (cmp > 0) {
+            node.right = insert(node.right, booking);
+        } else {
+            return node;
+        }
+        return balance(node);
+    }
+
+    private Node remove(Node node, ClassroomBooking booking) {
+        if (node == null) {
+            return null;
+        }
+
+        int cmp = compare(booking, node.booking);
+        if (cmp < 0) {
+            node.left = remove(node.left, booking);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, booking);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.booking);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            node = replacement;
+        }
+        return balance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return balance(node);
+    }
+
+    private void collectOverlapping(Node node, int start, int end, List<ClassroomBooking> result) {
+        // Ninguna ocupación del subárbol termina después de 'start'
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+
+        collectOverlapping(node.left, start, end, result);
+        if (node.booking.overlaps(start, end)) {
+            result.add(node.booking);
+        }
+        // A la derecha todas empiezan igual o más tarde que este nodo
+        if (node.booking.start() < end) {
+            collectOverlapping(node.right, start, end, result);
+        }
+    }
+
+    private void collectAll(Node node, List<ClassroomBooking> result) {
+        if (node != null) {
+            collectAll(node.left, result);
+            result.add(node.booking);
+            collectAll(node.right, result);
+        }
+    }
+
+    private static int compare(ClassroomBooking a, ClassroomBooking b) {
+        int cmp = Integer.compare(a.start(), b.start());
+        if (cmp == 0) {
+            cmp = Integer.compare(a.end(), b.end());
+        }
+        if (cmp == 0) {
+            cmp = Long.compare(a.sessionId(), b.sessionId());
+        }
+        return cmp;
+    }
+
+    // ============================================
+    // Equilibrado AVL
+    // ============================================
+
+    private static Node balance(Node node) {
+        update(node);
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (factor < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        int maxEnd = node.booking.end();
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node {
+
+        private final ClassroomBooking booking;
+        private Node left;
+        private Node right;
+        private int height = 1;
+        private int maxEnd;
+
+        private Node(ClassroomBooking booking) {
+            this.booking = booking;
+            this.maxEnd = booking.end();
+        }
+    }
+}
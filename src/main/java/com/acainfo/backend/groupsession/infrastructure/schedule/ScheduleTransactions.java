@@ -0,0 +1,100 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Soporte transaccional común a los índices de horarios.
+ *
+ * Las reservas se aplican al momento y se deshacen si la transacción se revierte; las
+ * liberaciones se aplican al confirmar. Para que dentro de la misma transacción se pueda
+ * borrar un horario y volver a crearlo, cada índice recuerda qué sesiones y grupos ha
+ * liberado la transacción en curso y no los cuenta como conflicto.
+ */
+final class ScheduleTransactions {
+
+    private final Object resourceKey = new Object();
+
+    void releaseSession(Long sessionId) {
+        Released released = current(true);
+        if (released != null) {
+            released.sessionIds.add(sessionId);
+        }
+    }
+
+    void releaseGroup(Long groupId) {
+        Released released = current(true);
+        if (released != null) {
+            released.groupIds.add(groupId);
+        }
+    }
+
+    void releaseAll() {
+        Released released = current(true);
+        if (released != null) {
+            released.all = true;
+        }
+    }
+
+    /**
+     * Si la transacción en curso ya ha liberado la reserva.
+     */
+    boolean isReleased(ClassroomBooking booking) {
+        Released released = current(false);
+        return released != null && released.contains(booking);
+    }
+
+    /**
+     * Ejecuta una acción al confirmar la transacción en curso y otra si se revierte.
+     * Sin transacción la confirmación es inmediata.
+     */
+    static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    private Released current(boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        Released released = (Released) TransactionSynchronizationManager.getResource(resourceKey);
+        if (released == null && create) {
+            released = new Released();
+            TransactionSynchronizationManager.bindResource(resourceKey, released);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                }
+            });
+        }
+        return released;
+    }
+
+    private static final class Released {
+        private final Set<Long> sessionIds = new HashSet<>();
+        private final Set<Long> groupIds = new HashSet<>();
+        private boolean all;
+
+        boolean contains(ClassroomBooking booking) {
+            return all || sessionIds.contains(booking.sessionId()) || groupIds.contains(booking.groupId());
+        }
+    }
+}
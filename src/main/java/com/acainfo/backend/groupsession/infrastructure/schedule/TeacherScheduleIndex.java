@@ -0,0 +1,639 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.SessionConflict;
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
+import com.acainfo.backend.groupsession.domain.exception.InvalidGroupSessionDataException;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionConflictType;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.projection.SessionSlotView;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.GroupTeacherView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Índice en memoria de la ocupación semanal de cada profesor.
+ *
+ * Guarda el profesor y el estado de cada grupo, y por profesor un árbol de intervalos
+ * por día con sus sesiones y el número de grupos activos. Se carga entero la primera
+ * vez que se usa (dos consultas sin joins) y a partir de ahí lo mantienen los
+ * repositorios de escritura de sesiones y de grupos, con las mismas reglas
+ * transaccionales que el {@link ClassroomScheduleIndex}.
+ *
+ * El índice es local a cada instancia. Con el bus de invalidación activo, los cambios de
+ * sesiones y grupos confirmados en otras instancias se releen del primario al recibirlos.
+ */
+@Component
+@Slf4j
+public class TeacherScheduleIndex {
+
+    private final GroupSessionJpaRepository sessionRepository;
+    private final SubjectGroupJpaRepository groupRepository;
+    private final TransactionTemplate loadTransaction;
+    private final ScheduleTransactions transactions = new ScheduleTransactions();
+
+    private final Map<Long, GroupAssignment> groups = new ConcurrentHashMap<>();
+    private final Map<Long, TeacherWeek> teachers = new ConcurrentHashMap<>();
+    private final Map<Long, Placement> placements = new ConcurrentHashMap<>();
+    // Protege el paso de "sin cargar" a "cargado" frente a los cambios que se confirman a la vez
+    private final Object stateLock = new Object();
+    private final AtomicReference<CompletableFuture<Void>> loading = new AtomicReference<>();
+    private volatile boolean loaded;
+    // Cambios confirmados sin el índice cargado; si cambia durante una carga, la carga se repite
+    private long changesWhileUnloaded;
+
+    public TeacherScheduleIndex(GroupSessionJpaRepository sessionRepository,
+                                SubjectGroupJpaRepository groupRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.sessionRepository = sessionRepository;
+        this.groupRepository = groupRepository;
+        // La carga inicial debe ver sólo datos confirmados, nunca los de la transacción en curso,
+        // y leerse del primario: lo que siembre una réplica atrasada se quedaría en el índice
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    // ============================================
+    // Sesiones
+    // ============================================
+
+    /**
+     * Registra una sesión recién insertada en el horario del profesor de su grupo.
+     *
+     * @param session la sesión ya persistida (con ID)
+     * @throws DuplicateGroupSessionException si el profesor ya tiene clase en esa franja
+     */
+    public void reserve(GroupSession session) {
+        ensureLoaded();
+        Long teacherId = teacherOf(session.getGroupId());
+        if (teacherId == null) {
+            return;
+        }
+
+        Placement placement = placementOf(session, teacherId);
+        book(placement);
+
+        afterCompletion(
+                () -> placements.put(session.getId(), placement),
+                () -> unbook(placement)
+        );
+    }
+
+    /**
+     * Registra el cambio de franja, día o aula de una sesión existente.
+     *
+     * @throws DuplicateGroupSessionException si el profesor ya tiene clase en la nueva franja
+     */
+    public void move(GroupSession previous, GroupSession updated) {
+        ensureLoaded();
+        Long teacherId = teacherOf(updated.getGroupId());
+        if (teacherId == null) {
+            return;
+        }
+
+        Placement before = placements.get(previous.getId());
+        Placement after = placementOf(updated, teacherId);
+        if (before != null && before.sameSlot(after)) {
+            // Sólo cambia el aula o el tipo: no hay nada que validar
+            afterCompletion(() -> placements.put(updated.getId(), after), () -> { });
+            return;
+        }
+
+        book(after);
+
+        afterCompletion(
+                () -> {
+                    Placement current = placements.put(updated.getId(), after);
+                    if (current != null) {
+                        unbook(current);
+                    }
+                },
+                () -> unbook(after)
+        );
+    }
+
+    /**
+     * Libera la franja de una sesión cuando se confirme su borrado.
+     */
+    public void release(Long sessionId) {
+        transactions.releaseSession(sessionId);
+        afterCompletion(() -> {
+            Placement placement = placements.remove(sessionId);
+            if (placement != null) {
+                unbook(placement);
+            }
+        }, () -> { });
+    }
+
+    /**
+     * Libera las franjas de todas las sesiones de un grupo cuando se confirme su borrado.
+     */
+    public void releaseGroup(Long groupId) {
+        transactions.releaseGroup(groupId);
+        afterCompletion(() -> removePlacementsOfGroup(groupId), () -> { });
+    }
+
+    /**
+     * Libera todas las sesiones cuando se confirme su borrado.
+     */
+    public void clear() {
+        transactions.releaseAll();
+        afterCompletion(() -> {
+            placements.values().forEach(this::unbook);
+            placements.clear();
+        }, () -> { });
+    }
+
+    // ============================================
+    // Grupos
+    // ============================================
+
+    /**
+     * Registra un grupo recién creado cuando se confirme la transacción. Si el índice se
+     * está cargando en ese momento, la carga se repite para no perder el grupo.
+     */
+    public void registerGroup(Long groupId, Long teacherId, GroupStatus status) {
+        afterCompletion(() -> assign(groupId, new GroupAssignment(teacherId, status)), () -> { });
+    }
+
+    /**
+     * Registra el cambio de profesor o de estado de un grupo.
+     *
+     * Si cambia el profesor, todas las sesiones del grupo se reservan al momento en el
+     * horario del nuevo profesor y se liberan del anterior cuando se confirme.
+     *
+     * @throws DuplicateGroupSessionException si el nuevo profesor ya tiene clase en alguna de esas franjas
+     */
+    public void reassignGroup(Long groupId, Long teacherId, GroupStatus status) {
+        ensureLoaded();
+        GroupAssignment previous = groups.get(groupId);
+        GroupAssignment updated = new GroupAssignment(teacherId, status);
+
+        List<Placement> moved = new ArrayList<>();
+        if (previous != null && teacherId != null && !teacherId.equals(previous.teacherId())) {
+            try {
+                for (Placement placement : placements.values()) {
+                    if (groupId.equals(placement.booking().groupId())) {
+                        Placement target = placement.withTeacher(teacherId);
+                        book(target);
+                        moved.add(target);
+                    }
+                }
+            } catch (DuplicateGroupSessionException e) {
+                moved.forEach(this::unbook);
+                throw e;
+            }
+        }
+
+        afterCompletion(
+                () -> {
+                    for (Placement target : moved) {
+                        Placement current = placements.put(target.booking().sessionId(), target);
+                        if (current != null) {
+                            unbook(current);
+                        }
+                    }
+                    assign(groupId, updated);
+                },
+                () -> moved.forEach(this::unbook)
+        );
+    }
+
+    /**
+     * Elimina un grupo y sus sesiones del índice cuando se confirme su borrado.
+     */
+    public void removeGroup(Long groupId) {
+        transactions.releaseGroup(groupId);
+        afterCompletion(() -> {
+            removePlacementsOfGroup(groupId);
+            assign(groupId, null);
+        }, () -> { });
+    }
+
+    /**
+     * Vacía el índice de grupos cuando se confirme el borrado de todos ellos.
+     */
+    public void clearGroups() {
+        transactions.releaseAll();
+        afterCompletion(this::unload, () -> { });
+    }
+
+    // ============================================
+    // Cambios de otros nodos
+    // ============================================
+
+    /**
+     * Aplica los cambios que otro nodo ha confirmado en los grupos indicados: su profesor,
+     * su estado y sus sesiones se releen del primario y sustituyen a lo que tenía el índice.
+     * Si el índice aún no está cargado no hay nada que hacer: la carga ya los leerá.
+     */
+    public void refreshGroups(Set<Long> groupIds) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        synchronized (stateLock) {
+            if (!loaded) {
+                // Una carga en curso pudo leer antes del cambio: se repetirá
+                changesWhileUnloaded++;
+                return;
+            }
+        }
+
+        Map<Long, GroupAssignment> assignments = new HashMap<>();
+        List<SessionSlotView> slots = ReadRouting.onPrimary(() -> loadTransaction.execute(status -> {
+            for (GroupTeacherView group : groupRepository.findTeacherAssignmentsByIdIn(groupIds)) {
+                assignments.put(group.groupId(), new GroupAssignment(group.teacherId(), group.status()));
+            }
+            return sessionRepository.findSlotsByGroupIdIn(groupIds);
+        }));
+
+        Map<Long, Placement> current = new HashMap<>();
+        for (SessionSlotView slot : slots) {
+            Placement placement = placementOf(slot, assignments.get(slot.groupId()));
+            if (placement != null) {
+                current.put(slot.id(), placement);
+            }
+        }
+
+        applyCommitted(() -> {
+            groupIds.forEach(groupId -> assign(groupId, assignments.get(groupId)));
+            for (Placement placement : List.copyOf(placements.values())) {
+                Long sessionId = placement.booking().sessionId();
+                if (groupIds.contains(placement.booking().groupId()) && !placement.equals(current.get(sessionId))
+                        && placements.remove(sessionId, placement)) {
+                    unbook(placement);
+                }
+            }
+            // Sin conflictos que comprobar: los cambios ya están confirmados
+            current.values().stream()
+                    .filter(placement -> !placement.equals(placements.get(placement.booking().sessionId())))
+                    .forEach(this::placeCommitted);
+        });
+        log.debug("Horario de profesores releído para {} grupos cambiados en otro nodo", groupIds.size());
+    }
+
+    /**
+     * Descarta todo el índice tras un cambio masivo confirmado en otro nodo; se vuelve a
+     * cargar la próxima vez que se use.
+     */
+    public void refreshAll() {
+        unload();
+        log.debug("Horario de profesores descartado por un cambio masivo en otro nodo");
+    }
+
+    // ============================================
+    // Consultas
+    // ============================================
+
+    /**
+     * Horario semanal de un profesor, sin consultar la base de datos.
+     */
+    public TeacherSchedule getSchedule(Long teacherId) {
+        ensureLoaded();
+        TeacherWeek week = teachers.get(teacherId);
+        if (week == null) {
+            return new TeacherSchedule(teacherId, 0, List.of());
+        }
+
+        List<GroupSession> sessions = new ArrayList<>();
+        int activeGroups;
+        synchronized (week) {
+            activeGroups = week.activeGroups;
+            for (int day = 0; day < week.days.length; day++) {
+                for (ClassroomBooking booking : week.days[day].toList()) {
+                    Placement placement = placements.get(booking.sessionId());
+                    if (placement != null) {
+                        sessions.add(placement.toSession());
+                    }
+                }
+            }
+        }
+        sessions.sort(Comparator.comparing(GroupSession::getDayOfWeek).thenComparing(GroupSession::getStartTime));
+        return new TeacherSchedule(teacherId, activeGroups, sessions);
+    }
+
+    /**
+     * Choques de una sesión propuesta con las sesiones de otros grupos de su profesor,
+     * sin reservar nada. Las sesiones liberadas en la transacción en curso no cuentan.
+     */
+    public List<SessionConflict> findConflicts(GroupSession candidate) {
+        ensureLoaded();
+        Long teacherId = teacherOf(candidate.getGroupId());
+        TeacherWeek week = teacherId != null ? teachers.get(teacherId) : null;
+        if (week == null) {
+            return List.of();
+        }
+
+        List<ClassroomBooking> overlapping;
+        synchronized (week) {
+            overlapping = week.days[candidate.getDayOfWeek().ordinal()]
+                    .findOverlapping(toMinutes(candidate.getStartTime()), toMinutes(candidate.getEndTime()));
+        }
+        return overlapping.stream()
+                .filter(other -> !candidate.getGroupId().equals(other.groupId()) && !transactions.isReleased(other))
+                .map(other -> other.toConflict(SessionConflictType.TEACHER, candidate))
+                .toList();
+    }
+
+    // ============================================
+    // Internos
+    // ============================================
+
+    private void book(Placement placement) {
+        ClassroomBooking booking = placement.booking();
+        TeacherWeek week = teachers.computeIfAbsent(placement.teacherId(), id -> new TeacherWeek());
+        synchronized (week) {
+            IntervalTree tree = week.days[placement.dayOfWeek().ordinal()];
+            for (ClassroomBooking other : tree.findOverlapping(booking.start(), booking.end())) {
+                if (!other.sessionId().equals(booking.sessionId()) && !transactions.isReleased(other)) {
+                    log.warn("Conflicto de horario del profesor {} el {}: la sesión {} se solapa con la sesión {}",
+                            placement.teacherId(), placement.dayOfWeek(), booking.sessionId(), other.sessionId());
+                    throw new DuplicateGroupSessionException(String.format(
+                            "El profesor %d ya tiene clase el %s de %s a %s (sesión %d del grupo %d)",
+                            placement.teacherId(), placement.dayOfWeek(),
+                            toTime(other.start()), toTime(other.end()), other.sessionId(), other.groupId()));
+                }
+            }
+            tree.insert(booking);
+        }
+    }
+
+    private void unbook(Placement placement) {
+        TeacherWeek week = teachers.get(placement.teacherId());
+        if (week != null) {
+            synchronized (week) {
+                week.days[placement.dayOfWeek().ordinal()].remove(placement.booking());
+            }
+        }
+    }
+
+    private void removePlacementsOfGroup(Long groupId) {
+        placements.values().removeIf(placement -> {
+            if (groupId.equals(placement.booking().groupId())) {
+                unbook(placement);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Cambia la asignación de un grupo manteniendo los contadores de grupos activos.
+     */
+    private void assign(Long groupId, GroupAssignment updated) {
+        GroupAssignment previous = updated != null ? groups.put(groupId, updated) : groups.remove(groupId);
+        if (previous != null && previous.isActive()) {
+            adjustActiveGroups(previous.teacherId(), -1);
+        }
+        if (updated != null && updated.isActive()) {
+            adjustActiveGroups(updated.teacherId(), 1);
+        }
+    }
+
+    private void adjustActiveGroups(Long teacherId, int delta) {
+        if (teacherId == null) {
+            return;
+        }
+        TeacherWeek week = teachers.computeIfAbsent(teacherId, id -> new TeacherWeek());
+        synchronized (week) {
+            week.activeGroups += delta;
+        }
+    }
+
+    /**
+     * Profesor del grupo. Si el grupo se ha creado en la transacción en curso todavía no
+     * está en el índice y se consulta directamente.
+     */
+    private Long teacherOf(Long groupId) {
+        GroupAssignment assignment = groups.get(groupId);
+        if (assignment != null) {
+            return assignment.teacherId();
+        }
+        return groupRepository.findTeacherAssignmentById(groupId)
+                .map(GroupTeacherView::teacherId)
+                .orElse(null);
+    }
+
+    /**
+     * Carga el índice si no lo está. Un solo hilo consulta, sin bloqueos y fuera de la
+     * transacción de quien llama; los demás esperan a esa misma carga.
+     */
+    private void ensureLoaded() {
+        while (!loaded) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            CompletableFuture<Void> current = loading.compareAndExchange(null, future);
+            if (current != null) {
+                await(current);
+                continue;
+            }
+            try {
+                load();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                loading.set(null);
+            }
+        }
+    }
+
+    /**
+     * Lee todos los grupos y sesiones y los publica en el índice, salvo que mientras tanto
+     * se haya confirmado algún cambio que la lectura pueda no incluir.
+     */
+    private void load() {
+        long changesBefore;
+        synchronized (stateLock) {
+            if (loaded) {
+                return;
+            }
+            changesBefore = changesWhileUnloaded;
+        }
+
+        List<GroupTeacherView> assignments = new ArrayList<>();
+        List<SessionSlotView> slots = ReadRouting.onPrimary(() -> loadTransaction.execute(status -> {
+            assignments.addAll(groupRepository.findAllTeacherAssignments());
+            return sessionRepository.findAllSlots();
+        }));
+
+        synchronized (stateLock) {
+            if (changesWhileUnloaded != changesBefore) {
+                log.debug("Cambios confirmados durante la carga del horario de profesores; se vuelve a cargar");
+                return;
+            }
+            groups.clear();
+            teachers.clear();
+            placements.clear();
+            for (GroupTeacherView group : assignments) {
+                assign(group.groupId(), new GroupAssignment(group.teacherId(), group.status()));
+            }
+            int sessions = 0;
+            for (SessionSlotView slot : slots) {
+                Placement placement = placementOf(slot, groups.get(slot.groupId()));
+                if (placement != null) {
+                    placeCommitted(placement);
+                    sessions++;
+                }
+            }
+            loaded = true;
+            log.info("Cargado el horario de {} profesores: {} grupos, {} sesiones",
+                    teachers.size(), groups.size(), sessions);
+        }
+    }
+
+    /**
+     * Vacía el índice; se vuelve a cargar la próxima vez que se use.
+     */
+    private void unload() {
+        synchronized (stateLock) {
+            loaded = false;
+            changesWhileUnloaded++;
+            groups.clear();
+            teachers.clear();
+            placements.clear();
+        }
+    }
+
+    /**
+     * Ejecuta una acción al confirmar la transacción en curso y otra si se revierte. Lo
+     * confirmado se aplica con {@link #applyCommitted}.
+     */
+    private void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        ScheduleTransactions.afterCompletion(() -> applyCommitted(onCommit), onRollback);
+    }
+
+    /**
+     * Aplica un cambio confirmado. Sin el índice cargado no hay nada que actualizar, pero
+     * se anota: una carga en curso puede haber leído antes del cambio y debe repetirse.
+     */
+    private void applyCommitted(Runnable change) {
+        synchronized (stateLock) {
+            if (loaded) {
+                change.run();
+            } else {
+                changesWhileUnloaded++;
+            }
+        }
+    }
+
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Registra una sesión ya confirmada, sin comprobar conflictos.
+     */
+    private void placeCommitted(Placement placement) {
+        TeacherWeek week = teachers.computeIfAbsent(placement.teacherId(), id -> new TeacherWeek());
+        synchronized (week) {
+            week.days[placement.dayOfWeek().ordinal()].insert(placement.booking());
+        }
+        placements.put(placement.booking().sessionId(), placement);
+    }
+
+    /**
+     * Franja leída de base de datos, o null si el grupo no tiene profesor o la franja no es válida.
+     */
+    private static Placement placementOf(SessionSlotView slot, GroupAssignment assignment) {
+        if (assignment == null || assignment.teacherId() == null || slot.startTime() == null
+                || slot.endTime() == null || !slot.startTime().isBefore(slot.endTime())) {
+            return null;
+        }
+        return new Placement(assignment.teacherId(), slot.dayOfWeek(),
+                new ClassroomBooking(slot.id(), slot.groupId(), toMinutes(slot.startTime()), toMinutes(slot.endTime())),
+                slot.classroom(), slot.type());
+    }
+
+    private static Placement placementOf(GroupSession session, Long teacherId) {
+        if (session.getDayOfWeek() == null || session.getStartTime() == null || session.getEndTime() == null) {
+            throw new InvalidGroupSessionDataException("El día y el horario de la sesión son requeridos");
+        }
+        if (!session.getStartTime().isBefore(session.getEndTime())) {
+            throw new InvalidGroupSessionDataException("La hora de fin debe ser posterior a la hora de inicio");
+        }
+
+        return new Placement(teacherId, session.getDayOfWeek(),
+                new ClassroomBooking(session.getId(), session.getGroupId(),
+                        toMinutes(session.getStartTime()), toMinutes(session.getEndTime())),
+                session.getClassroom(), session.getType());
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+
+    private record GroupAssignment(Long teacherId, GroupStatus status) {
+
+        boolean isActive() {
+            return status == GroupStatus.ACTIVE;
+        }
+    }
+
+    private record Placement(Long teacherId, DayOfWeek dayOfWeek, ClassroomBooking booking,
+                             Classroom classroom, SessionType type) {
+
+        boolean sameSlot(Placement other) {
+            return Objects.equals(teacherId, other.teacherId) && dayOfWeek == other.dayOfWeek
+                    && booking.equals(other.booking);
+        }
+
+        Placement withTeacher(Long newTeacherId) {
+            return new Placement(newTeacherId, dayOfWeek, booking, classroom, type);
+        }
+
+        GroupSession toSession() {
+            return new GroupSession(booking.sessionId(), toTime(booking.start()), toTime(booking.end()),
+                    null, null, dayOfWeek, classroom, booking.groupId(), type);
+        }
+    }
+
+    /**
+     * Ocupación semanal de un profesor: un árbol de intervalos por día.
+     */
+    private static final class TeacherWeek {
+        private final IntervalTree[] days = new IntervalTree[DayOfWeek.values().length];
+        private int activeGroups;
+
+        private TeacherWeek() {
+            for (int i = 0; i < days.length; i++) {
+                days[i] = new IntervalTree();
+            }
+        }
+    }
+}
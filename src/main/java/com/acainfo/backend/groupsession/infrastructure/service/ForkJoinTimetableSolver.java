@@ -0,0 +1,496 @@
+package com.acainfo.backend.groupsession.infrastructure.service;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.groupsession.domain.entity.*;
+import com.acainfo.backend.groupsession.domain.service.TimetableSolver;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.groupsession.domain.value.TimetableStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generador de horarios por búsqueda con vuelta atrás y propagación de restricciones.
+ *
+ * Cada sesión a programar es una variable cuyo dominio son las combinaciones
+ * (día, hora de inicio, aula) posibles, ya filtradas por la disponibilidad del profesor
+ * y por las sesiones que no se mueven. En cada paso se elige la variable con menos
+ * valores (MRV) y, al asignarla, se eliminan de las demás los valores incompatibles
+ * (forward checking); si alguna se queda sin valores se descarta la rama.
+ *
+ * Los primeros niveles del árbol se reparten como tareas en un ForkJoinPool compartido
+ * por todas las búsquedas, con tantos hilos como indique 'app.timetable.solver-parallelism';
+ * por debajo cada tarea busca de forma secuencial. La primera solución encontrada
+ * detiene al resto, igual que el límite de tiempo. Varias búsquedas a la vez se reparten
+ * los mismos hilos en lugar de crear cada una los suyos.
+ */
+@Service
+@Slf4j
+public class ForkJoinTimetableSolver implements TimetableSolver {
+
+    /**
+     * Tareas por hilo que se intentan crear al repartir los primeros niveles del árbol.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+
+    public ForkJoinTimetableSolver(AppProperties appProperties) {
+        this.pool = new ForkJoinPool(appProperties.getTimetable().getSolverParallelism(), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("timetable-solver-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public TimetableSolution solve(TimetableProblem problem) {
+        long startNanos = System.nanoTime();
+        Model model = new Model(problem);
+
+        log.info("Generando horario: {} sesiones de {} grupos, {} valores posibles",
+                model.blockCount(), problem.getRequirements().size(), model.candidateCount());
+
+        BitSet[] domains = model.initialDomains();
+        int[] assignment = new int[model.blockCount()];
+        Arrays.fill(assignment, -1);
+
+        Search search = new Search(model, startNanos + problem.getTimeLimit().toNanos());
+        if (Arrays.stream(domains).noneMatch(BitSet::isEmpty)) {
+            pool.invoke(new SearchTask(search, domains, assignment, 0, pool.getParallelism() * TASKS_PER_THREAD));
+        }
+
+        int[] solution = search.solution.get();
+        TimetableStatus status = solution != null ? TimetableStatus.SOLVED
+                : search.timedOut ? TimetableStatus.TIMED_OUT
+                : TimetableStatus.INFEASIBLE;
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        log.info("Generación de horario terminada: {} tras {} nodos en {} ms",
+                status, search.nodes.sum(), elapsed.toMillis());
+
+        return TimetableSolution.builder()
+                .status(status)
+                .sessions(solution != null ? model.toSessions(solution) : List.of())
+                .exploredNodes(search.nodes.sum())
+                .elapsed(elapsed)
+                .build();
+    }
+
+    /**
+     * Estado compartido entre todas las tareas de una búsqueda.
+     */
+    private static final class Search {
+
+        private final Model model;
+        private final long deadlineNanos;
+        private final AtomicReference<int[]> solution = new AtomicReference<>();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final LongAdder nodes = new LongAdder();
+        private volatile boolean timedOut;
+
+        private Search(Model model, long deadlineNanos) {
+            this.model = model;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Cuenta un nodo y dice si hay que abandonar la búsqueda.
+         */
+        boolean enterNode() {
+            if (stopped.get()) {
+                return false;
+            }
+            nodes.increment();
+            if (System.nanoTime() - deadlineNanos > 0) {
+                timedOut = true;
+                stopped.set(true);
+                return false;
+            }
+            return true;
+        }
+
+        void accept(int[] assignment) {
+            if (solution.compareAndSet(null, assignment.clone())) {
+                stopped.set(true);
+            }
+        }
+
+        /**
+         * Búsqueda secuencial en profundidad a partir de un nodo.
+         *
+         * @return true si se ha encontrado solución (aquí o en otra tarea)
+         */
+        boolean searchFrom(BitSet[] domains, int[] assignment, int assigned) {
+            if (assigned == assignment.length) {
+                accept(assignment);
+                return true;
+            }
+            if (!enterNode()) {
+                return stopped.get();
+            }
+
+            int block = model.selectBlock(domains, assignment);
+            BitSet values = domains[block];
+            for (int value = values.nextSetBit(0); value >= 0; value = values.nextSetBit(value + 1)) {
+                BitSet[] next = model.propagate(domains, assignment, block, value);
+                if (next == null) {
+                    continue;
+                }
+                assignment[block] = value;
+                if (searchFrom(next, assignment, assigned + 1)) {
+                    return true;
+                }
+                assignment[block] = -1;
+            }
+            return stopped.get();
+        }
+    }
+
+    /**
+     * Nodo del árbol de búsqueda. Mientras quede presupuesto de tareas reparte sus
+     * ramas entre el pool; después busca de forma secuencial.
+     */
+    private static final class SearchTask extends RecursiveAction {
+
+        private final Search search;
+        private final BitSet[] domains;
+        private final int[] assignment;
+        private final int assigned;
+        private final int taskBudget;
+
+        private SearchTask(Search search, BitSet[] domains, int[] assignment, int assigned, int taskBudget) {
+            this.search = search;
+            this.domains = domains;
+            this.assignment = assignment;
+            this.assigned = assigned;
+            this.taskBudget = taskBudget;
+        }
+
+        @Override
+        protected void compute() {
+            if (taskBudget <= 1 || assigned == assignment.length) {
+                search.searchFrom(domains, assignment, assigned);
+                return;
+            }
+            if (!search.enterNode()) {
+                return;
+            }
+
+            Model model = search.model;
+            int block = model.selectBlock(domains, assignment);
+            BitSet values = domains[block];
+            List<BitSet[]> childDomains = new ArrayList<>();
+            List<int[]> childAssignments = new ArrayList<>();
+            for (int value = values.nextSetBit(0); value >= 0; value = values.nextSetBit(value + 1)) {
+                BitSet[] next = model.propagate(domains, assignment, block, value);
+                if (next != null) {
+                    int[] childAssignment = assignment.clone();
+                    childAssignment[block] = value;
+                    childDomains.add(next);
+                    childAssignments.add(childAssignment);
+                }
+            }
+
+            int childBudget = childDomains.isEmpty() ? 0 : taskBudget / childDomains.size();
+            List<SearchTask> tasks = new ArrayList<>(childDomains.size());
+            for (int i = 0; i < childDomains.size(); i++) {
+                tasks.add(new SearchTask(search, childDomains.get(i), childAssignments.get(i), assigned + 1, childBudget));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    /**
+     * Representación compacta del problema: bloques (sesiones a programar) y sus
+     * valores posibles codificados en arrays de enteros.
+     */
+    private static final class Model {
+
+        private final List<DayOfWeek> days;
+        private final List<Classroom> classrooms;
+
+        // Datos de cada bloque
+        private final Long[] blockGroupId;
+        private final SessionType[] blockType;
+        private final int[] blockGroup;
+        private final int[] blockTeacher;
+        private final int[] blockDuration;
+        private final int[] blockOrdinal;
+        private final boolean[] blockDistinctDays;
+        private final Candidates[] blockCandidates;
+
+        private Model(TimetableProblem problem) {
+            this.days = problem.getDays().stream().sorted().toList();
+            this.classrooms = problem.getClassrooms().stream().sorted().toList();
+
+            Map<Long, Integer> teacherIndex = new HashMap<>();
+            List<SessionRequirement> requirements = problem.getRequirements();
+
+            List<int[]> blocks = new ArrayList<>();
+            for (int g = 0; g < requirements.size(); g++) {
+                SessionRequirement requirement = requirements.get(g);
+                int full = requirement.getWeeklyMinutes() / requirement.getSessionMinutes();
+                int remainder = requirement.getWeeklyMinutes() % requirement.getSessionMinutes();
+                int teacher = requirement.getTeacherId() == null ? -1
+                        : teacherIndex.computeIfAbsent(requirement.getTeacherId(), id -> teacherIndex.size());
+                for (int i = 0; i < full; i++) {
+                    blocks.add(new int[]{g, teacher, requirement.getSessionMinutes(), i});
+                }
+                if (remainder > 0) {
+                    blocks.add(new int[]{g, teacher, remainder, full});
+                }
+            }
+
+            int n = blocks.size();
+            blockGroupId = new Long[n];
+            blockType = new SessionType[n];
+            blockGroup = new int[n];
+            blockTeacher = new int[n];
+            blockDuration = new int[n];
+            blockOrdinal = new int[n];
+            blockDistinctDays = new boolean[n];
+            blockCandidates = new Candidates[n];
+
+            int[] blocksPerGroup = new int[requirements.size()];
+            for (int[] block : blocks) {
+                blocksPerGroup[block[0]]++;
+            }
+
+            Map<String, Candidates> candidatesCache = new HashMap<>();
+            for (int b = 0; b < n; b++) {
+                int[] block = blocks.get(b);
+                SessionRequirement requirement = requirements.get(block[0]);
+                blockGroupId[b] = requirement.getGroupId();
+                blockType[b] = requirement.getType() != null ? requirement.getType() : SessionType.IN_PERSON;
+                blockGroup[b] = block[0];
+                blockTeacher[b] = block[1];
+                blockDuration[b] = block[2];
+                blockOrdinal[b] = block[3];
+                blockDistinctDays[b] = blocksPerGroup[block[0]] <= days.size();
+                blockCandidates[b] = candidatesCache.computeIfAbsent(block[0] + ":" + block[2],
+                        key -> Candidates.generate(problem, days, classrooms, requirement.getTeacherId(), block[2]));
+            }
+        }
+
+        int blockCount() {
+            return blockGroup.length;
+        }
+
+        long candidateCount() {
+            long total = 0;
+            for (Candidates candidates : blockCandidates) {
+                total += candidates.size();
+            }
+            return total;
+        }
+
+        BitSet[] initialDomains() {
+            BitSet[] domains = new BitSet[blockCount()];
+            for (int b = 0; b < domains.length; b++) {
+                domains[b] = new BitSet(blockCandidates[b].size());
+                domains[b].set(0, blockCandidates[b].size());
+            }
+            return domains;
+        }
+
+        /**
+         * Bloque sin asignar con menos valores posibles; a igualdad, el más largo.
+         */
+        int selectBlock(BitSet[] domains, int[] assignment) {
+            int best = -1;
+            int bestSize = Integer.MAX_VALUE;
+            for (int b = 0; b < domains.length; b++) {
+                if (assignment[b] >= 0) {
+                    continue;
+                }
+                int size = domains[b].cardinality();
+                if (size < bestSize || (size == bestSize && blockDuration[b] > blockDuration[best])) {
+                    best = b;
+                    bestSize = size;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Elimina de los bloques sin asignar los valores incompatibles con asignar
+         * {@code value} a {@code block}. Sólo se copian los dominios que cambian.
+         *
+         * @return los nuevos dominios, o null si algún bloque se queda sin valores
+         */
+        BitSet[] propagate(BitSet[] domains, int[] assignment, int block, int value) {
+            Candidates own = blockCandidates[block];
+            int day = own.day[value];
+            int start = own.start[value];
+            int end = own.end[value];
+            int room = own.room[value];
+
+            BitSet[] next = domains.clone();
+            for (int other = 0; other < domains.length; other++) {
+                if (other == block || assignment[other] >= 0) {
+                    continue;
+                }
+
+                boolean sameGroup = blockGroup[other] == blockGroup[block];
+                boolean sameTeacher = blockTeacher[block] >= 0 && blockTeacher[other] == blockTeacher[block];
+                boolean distinctDays = sameGroup && blockDistinctDays[block];
+                // Los bloques iguales de un grupo son intercambiables: se fuerza que vayan en orden de día
+                boolean ordered = distinctDays && blockDuration[other] == blockDuration[block];
+                boolean after = blockOrdinal[other] > blockOrdinal[block];
+
+                Candidates candidates = blockCandidates[other];
+                BitSet values = domains[other];
+                BitSet pruned = null;
+                for (int v = values.nextSetBit(0); v >= 0; v = values.nextSetBit(v + 1)) {
+                    int otherDay = candidates.day[v];
+                    boolean overlap = otherDay == day && candidates.start[v] < end && start < candidates.end[v];
+                    boolean conflict = overlap && (sameGroup || sameTeacher || candidates.room[v] == room);
+                    if (!conflict && ordered) {
+                        conflict = after ? otherDay <= day : otherDay >= day;
+                    } else if (!conflict && distinctDays) {
+                        conflict = otherDay == day;
+                    }
+
+                    if (conflict) {
+                        if (pruned == null) {
+                            pruned = (BitSet) values.clone();
+                        }
+                        pruned.clear(v);
+                    }
+                }
+
+                if (pruned != null) {
+                    if (pruned.isEmpty()) {
+                        return null;
+                    }
+                    next[other] = pruned;
+                }
+            }
+            return next;
+        }
+
+        List<GroupSession> toSessions(int[] solution) {
+            List<GroupSession> sessions = new ArrayList<>(solution.length);
+            for (int b = 0; b < solution.length; b++) {
+                Candidates candidates = blockCandidates[b];
+                int v = solution[b];
+                sessions.add(new GroupSession(null,
+                        toTime(candidates.start[v]), toTime(candidates.end[v]), null, null,
+                        days.get(candidates.day[v]), classrooms.get(candidates.room[v]),
+                        blockGroupId[b], blockType[b]));
+            }
+            sessions.sort(Comparator.comparing(GroupSession::getDayOfWeek)
+                    .thenComparing(GroupSession::getStartTime)
+                    .thenComparing(GroupSession::getClassroom));
+            return sessions;
+        }
+    }
+
+    /**
+     * Valores posibles de un bloque: (día, inicio, fin, aula) en minutos desde las 00:00.
+     */
+    private record Candidates(int[] day, int[] start, int[] end, int[] room) {
+
+        int size() {
+            return day.length;
+        }
+
+        static Candidates generate(TimetableProblem problem, List<DayOfWeek> days, List<Classroom> classrooms,
+                                   Long teacherId, int duration) {
+            int windowStart = toMinutes(problem.getDayStart());
+            int windowEnd = toMinutes(problem.getDayEnd());
+            int step = problem.getStepMinutes();
+
+            List<int[]> values = new ArrayList<>();
+            for (int d = 0; d < days.size(); d++) {
+                DayOfWeek dayOfWeek = days.get(d);
+                for (int start = windowStart; start + duration <= windowEnd; start += step) {
+                    int end = start + duration;
+                    if (teacherBusy(problem, teacherId, dayOfWeek, start, end)) {
+                        continue;
+                    }
+                    for (int r = 0; r < classrooms.size(); r++) {
+                        if (!classroomBusy(problem, classrooms.get(r), dayOfWeek, start, end)) {
+                            values.add(new int[]{d, start, end, r});
+                        }
+                    }
+                }
+            }
+
+            int size = values.size();
+            int[] day = new int[size];
+            int[] start = new int[size];
+            int[] end = new int[size];
+            int[] room = new int[size];
+            for (int i = 0; i < size; i++) {
+                int[] value = values.get(i);
+                day[i] = value[0];
+                start[i] = value[1];
+                end[i] = value[2];
+                room[i] = value[3];
+            }
+            return new Candidates(day, start, end, room);
+        }
+
+        private static boolean teacherBusy(TimetableProblem problem, Long teacherId,
+                                           DayOfWeek dayOfWeek, int start, int end) {
+            if (teacherId == null) {
+                return false;
+            }
+            for (TeacherUnavailability unavailable : problem.getUnavailabilities()) {
+                if (teacherId.equals(unavailable.getTeacherId()) && unavailable.getDayOfWeek() == dayOfWeek
+                        && overlaps(start, end, unavailable.getStartTime(), unavailable.getEndTime())) {
+                    return true;
+                }
+            }
+            for (OccupiedSlot occupied : problem.getOccupiedSlots()) {
+                if (teacherId.equals(occupied.getTeacherId()) && occupied.getDayOfWeek() == dayOfWeek
+                        && overlaps(start, end, occupied.getStartTime(), occupied.getEndTime())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean classroomBusy(TimetableProblem problem, Classroom classroom,
+                                             DayOfWeek dayOfWeek, int start, int end) {
+            for (OccupiedSlot occupied : problem.getOccupiedSlots()) {
+                if (occupied.getClassroom() == classroom && occupied.getDayOfWeek() == dayOfWeek
+                        && overlaps(start, end, occupied.getStartTime(), occupied.getEndTime())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean overlaps(int start, int end, LocalTime otherStart, LocalTime otherEnd) {
+            return start < toMinutes(otherEnd) && toMinutes(otherStart) < end;
+        }
+    }
+
+    private static int toMinutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
@@ -0,0 +1,328 @@
+package com.acainfo.backend.idempotency.infrastructure.filter;
+
+import com.acainfo.backend.config.properties.IdempotencyProperties;
+import com.acainfo.backend.idempotency.infrastructure.store.IdempotencyStore;
+import com.acainfo.backend.idempotency.infrastructure.store.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Filtro que hace idempotentes las peticiones de escritura que incluyen la cabecera Idempotency-Key.
+ *
+ * La primera petición con una clave se ejecuta y su respuesta se guarda.
+ * Los reintentos con la misma clave reciben la respuesta guardada sin volver a ejecutar
+ * el caso de uso. Las claves se aíslan por usuario autenticado.
+ * Las respuestas 5xx no se guardan para que el cliente pueda reintentar.
+ *
+ * Cada clave queda ligada a la huella de su petición (método, ruta y cuerpo): reutilizarla
+ * con otra petición se rechaza con 422. Para calcularla el cuerpo se lee antes de ejecutar
+ * la petición, hasta idempotency.max-request-bytes; los más grandes se rechazan con 413.
+ * Los formularios y los multipart no se leen a mano: el contenedor los lee al resolver sus
+ * parámetros y partes, y la huella se calcula sobre ellos. Así siguen disponibles con
+ * getParameter() y getParts() al ejecutar la petición.
+ *
+ * Solo debe ejecutarse dentro de la cadena de seguridad, tras la autenticación; su registro
+ * como filtro del contenedor está desactivado en SecurityConfig.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !Boolean.TRUE.equals(properties.getEnabled())
+                || !WRITE_METHODS.contains(request.getMethod())
+                || !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String clientKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (clientKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "La cabecera " + IDEMPOTENCY_KEY_HEADER + " no puede superar " + MAX_KEY_LENGTH + " caracteres");
+            return;
+        }
+
+        String key = currentUser() + ":" + clientKey;
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        HttpServletRequest executedRequest;
+        byte[] body;
+        try {
+            if (isFormOrMultipart(request)) {
+                executedRequest = request;
+                body = formContent(request);
+            } else {
+                body = readBody(request);
+                executedRequest = body != null ? new CachedBodyRequest(request, body) : null;
+            }
+        } catch (IllegalStateException e) {
+            // El contenedor rechaza las partes que superan los límites de multipart
+            log.debug("Multipart demasiado grande para la clave de idempotencia {}: {}", clientKey, e.getMessage());
+            body = null;
+            executedRequest = null;
+        }
+        if (body == null) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "El cuerpo de la petición supera el tamaño máximo admitido con " + IDEMPOTENCY_KEY_HEADER);
+            return;
+        }
+        String fingerprint = fingerprint(method, path, request.getQueryString(), body);
+
+        IdempotencyStore.Lookup lookup = idempotencyStore.begin(key, method, path, fingerprint);
+        switch (lookup) {
+            case IdempotencyStore.Lookup.Replay replay -> {
+                log.debug("Reintento con clave de idempotencia {}: devolviendo respuesta guardada", clientKey);
+                replay(replay.response(), response);
+            }
+            case IdempotencyStore.Lookup.InProgress inProgress -> writeError(request, response, HttpStatus.CONFLICT,
+                    "Ya se está procesando una petición con la misma clave de idempotencia");
+            case IdempotencyStore.Lookup.Mismatch mismatch -> writeError(request, response,
+                    HttpStatus.UNPROCESSABLE_ENTITY,
+                    "La clave de idempotencia ya se usó para otra petición: "
+                            + mismatch.requestMethod() + " " + mismatch.requestPath());
+            case IdempotencyStore.Lookup.Claimed claimed ->
+                    execute(executedRequest, response, filterChain, key, method, path, fingerprint);
+        }
+    }
+
+    /**
+     * Ejecuta la petición reservada y guarda su respuesta si procede.
+     */
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         String key,
+                         String method,
+                         String path,
+                         String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            int status = responseWrapper.getStatus();
+            byte[] body = responseWrapper.getContentAsByteArray();
+            if (status < 500 && body.length <= properties.getMaxResponseBytes()) {
+                idempotencyStore.complete(key, new StoredResponse(
+                        method, path, fingerprint, status, responseWrapper.getContentType(), body));
+                stored = true;
+            } else if (status < 500) {
+                log.warn("Respuesta de {} bytes demasiado grande para guardarse con la clave de idempotencia",
+                        body.length);
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body() != null ? stored.body() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletRequest request,
+                            HttpServletResponse response,
+                            HttpStatus status,
+                            String message) throws IOException {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("status", status.value());
+        error.put("error", status.getReasonPhrase());
+        error.put("message", message);
+        error.put("timestamp", LocalDateTime.now().toString());
+        error.put("path", request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * SHA-256 en hexadecimal del método, la ruta con su query string y el cuerpo.
+     */
+    static String fingerprint(String method, String path, String queryString, byte[] body) {
+        MessageDigest digest = sha256();
+        digest.update((method + " " + path + (queryString != null ? "?" + queryString : "") + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest(body));
+    }
+
+    /**
+     * Lee el cuerpo entero si no supera el máximo configurado; si lo supera devuelve null.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        int maxBytes = properties.getMaxRequestBytes();
+        if (request.getContentLengthLong() > maxBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBytes + 1);
+        return body.length <= maxBytes ? body : null;
+    }
+
+    private static boolean isFormOrMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return StringUtils.startsWithIgnoreCase(contentType, "multipart/")
+                || StringUtils.startsWithIgnoreCase(contentType, MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    /**
+     * Resumen de los parámetros y las partes de un formulario o un multipart, resueltos por
+     * el contenedor, que sustituye al cuerpo en la huella. De cada parte se toman el nombre,
+     * el nombre del fichero, el tipo y el contenido.
+     */
+    private static byte[] formContent(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest = sha256();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            digest.update((parameter.getKey() + "=" + String.join(",", parameter.getValue()) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        if (StringUtils.startsWithIgnoreCase(request.getContentType(), "multipart/")) {
+            for (Part part : request.getParts()) {
+                digest.update((part.getName() + ";" + part.getSubmittedFileName() + ";" + part.getContentType() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                try (InputStream content = part.getInputStream()) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = content.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Petición con el cuerpo ya leído, que puede volver a leerse al ejecutarla.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // El cuerpo ya está en memoria: todo está disponible desde el principio
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
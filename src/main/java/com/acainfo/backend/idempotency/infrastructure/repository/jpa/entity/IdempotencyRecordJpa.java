@@ -0,0 +1,65 @@
+package com.acainfo.backend.idempotency.infrastructure.repository.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para la persistencia de claves de idempotencia.
+ * Mapea la tabla 'idempotency_keys'; el acceso se realiza con JDBC desde IdempotencyStore.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = {
+                @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "key")
+@ToString(exclude = "responseBody")
+public class IdempotencyRecordJpa {
+
+    /**
+     * Usuario y clave enviada por el cliente: "STUDENT_12:5f1c...".
+     */
+    @Id
+    @Column(name = "idempotency_key", length = 320)
+    private String key;
+
+    @Column(name = "request_method", nullable = false, length = 10)
+    private String requestMethod;
+
+    @Column(name = "request_path", nullable = false, length = 500)
+    private String requestPath;
+
+    /**
+     * SHA-256 en hexadecimal del método, la ruta y el cuerpo de la petición.
+     */
+    @Column(name = "request_fingerprint", length = 64)
+    private String requestFingerprint;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 255)
+    private String contentType;
+
+    @JdbcTypeCode(SqlTypes.VARBINARY)
+    @Column(name = "response_body", length = 1_048_576)
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,33 @@
+package com.acainfo.backend.idempotency.infrastructure.scheduler;
+
+import com.acainfo.backend.idempotency.infrastructure.store.IdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tarea programada que elimina las claves de idempotencia caducadas.
+ * Solo se registra si las tareas programadas están habilitadas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.scheduled-tasks", name = "enabled", havingValue = "true")
+public class IdempotencyKeyPurgeScheduler {
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Scheduled(cron = "${idempotency.purge-cron-expression:0 30 * * * *}")
+    public void purgeExpiredKeys() {
+        try {
+            int purged = idempotencyStore.purgeExpired();
+            if (purged > 0) {
+                log.info("Claves de idempotencia caducadas eliminadas: {}", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error eliminando claves de idempotencia caducadas: {}", e.getMessage(), e);
+        }
+    }
+}
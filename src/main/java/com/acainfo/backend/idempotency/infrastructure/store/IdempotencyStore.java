@@ -0,0 +1,189 @@
+package com.acainfo.backend.idempotency.infrastructure.store;
+
+import com.acainfo.backend.config.properties.IdempotencyProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Almacén de respuestas asociadas a claves de idempotencia.
+ *
+ * Las respuestas completadas se guardan en la tabla 'idempotency_keys', compartida por
+ * todos los nodos, y en una caché Caffeine acotada delante de ella. La reserva de una
+ * clave se hace con un INSERT, de modo que solo una petición puede ejecutar la operación.
+ * Cada clave guarda la huella de su petición; reutilizarla con otra petición es un error.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final String SELECT_SQL =
+            "SELECT request_method, request_path, request_fingerprint, completed, response_status, content_type, " +
+            "response_body " +
+            "FROM idempotency_keys WHERE idempotency_key = ? AND expires_at > ?";
+
+    private static final String CLAIM_SQL =
+            "INSERT INTO idempotency_keys (idempotency_key, request_method, request_path, request_fingerprint, " +
+            "completed, created_at, expires_at) VALUES (?, ?, ?, ?, FALSE, ?, ?)";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE idempotency_keys SET completed = TRUE, response_status = ?, content_type = ?, response_body = ? " +
+            "WHERE idempotency_key = ?";
+
+    private static final String RELEASE_SQL =
+            "DELETE FROM idempotency_keys WHERE idempotency_key = ? AND completed = FALSE";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM idempotency_keys WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Cache<String, StoredResponse> cache;
+
+    public IdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofHours(properties.getTtlHours());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedEntries())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Resultado de intentar comenzar una operación con una clave de idempotencia.
+     */
+    public sealed interface Lookup {
+
+        /**
+         * La clave se ha reservado: la petición debe ejecutarse y completarse o liberarse.
+         */
+        record Claimed() implements Lookup {
+        }
+
+        /**
+         * La operación ya se completó: debe devolverse la respuesta almacenada.
+         */
+        record Replay(StoredResponse response) implements Lookup {
+        }
+
+        /**
+         * Otra petición con la misma clave se está ejecutando.
+         */
+        record InProgress() implements Lookup {
+        }
+
+        /**
+         * La clave ya se usó para una petición distinta: otro método, otra ruta u otro cuerpo.
+         */
+        record Mismatch(String requestMethod, String requestPath) implements Lookup {
+        }
+    }
+
+    /**
+     * Consulta la clave y, si no existe, la reserva para la petición actual.
+     *
+     * @param fingerprint huella de la petición, que debe coincidir con la de la petición que usó la clave
+     */
+    public Lookup begin(String key, String method, String path, String fingerprint) {
+        StoredResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.matches(method, path, fingerprint) ? new Lookup.Replay(cached) : mismatch(cached);
+        }
+
+        Lookup existing = findInDatabase(key, method, path, fingerprint);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (tryClaim(key, method, path, fingerprint)) {
+            return new Lookup.Claimed();
+        }
+
+        // Otra petición reservó la clave entre la consulta y el INSERT, o quedó un registro caducado
+        existing = findInDatabase(key, method, path, fingerprint);
+        if (existing != null) {
+            return existing;
+        }
+
+        purgeExpired();
+        return tryClaim(key, method, path, fingerprint) ? new Lookup.Claimed() : new Lookup.InProgress();
+    }
+
+    /**
+     * Guarda la respuesta de una operación reservada.
+     */
+    public void complete(String key, StoredResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(), key);
+        cache.put(key, response);
+    }
+
+    /**
+     * Libera una clave reservada sin respuesta para que la operación pueda reintentarse.
+     */
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    /**
+     * Elimina las claves caducadas.
+     *
+     * @return el número de claves eliminadas
+     */
+    public int purgeExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private boolean tryClaim(String key, String method, String path, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(CLAIM_SQL, key, method, path, fingerprint,
+                    Timestamp.valueOf(now), Timestamp.valueOf(now.plus(ttl)));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private Lookup findInDatabase(String key, String method, String path, String fingerprint) {
+        List<Lookup> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            String storedMethod = rs.getString("request_method");
+            String storedPath = rs.getString("request_path");
+            String storedFingerprint = rs.getString("request_fingerprint");
+
+            if (!rs.getBoolean("completed")) {
+                return sameRequest(storedMethod, storedPath, storedFingerprint, method, path, fingerprint)
+                        ? new Lookup.InProgress()
+                        : new Lookup.Mismatch(storedMethod, storedPath);
+            }
+
+            StoredResponse response = new StoredResponse(storedMethod, storedPath, storedFingerprint,
+                    rs.getInt("response_status"), rs.getString("content_type"), rs.getBytes("response_body"));
+            cache.put(key, response);
+            return response.matches(method, path, fingerprint) ? new Lookup.Replay(response) : mismatch(response);
+        }, key, Timestamp.valueOf(LocalDateTime.now()));
+
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * Compara una petición guardada con la actual. Las claves guardadas sin huella
+     * (anteriores a V7) solo comparan método y ruta.
+     */
+    static boolean sameRequest(String storedMethod, String storedPath, String storedFingerprint,
+                               String method, String path, String fingerprint) {
+        return storedMethod.equals(method) && storedPath.equals(path)
+                && (storedFingerprint == null || storedFingerprint.equals(fingerprint));
+    }
+
+    private Lookup mismatch(StoredResponse response) {
+        return new Lookup.Mismatch(response.requestMethod(), response.requestPath());
+    }
+}
@@ -0,0 +1,27 @@
+package com.acainfo.backend.idempotency.infrastructure.store;
+
+/**
+ * Respuesta almacenada para una clave de idempotencia.
+ *
+ * @param requestMethod método de la petición original
+ * @param requestPath ruta de la petición original
+ * @param requestFingerprint huella de la petición original (método, ruta y cuerpo), o null en las
+ *                           claves guardadas antes de que existiera
+ * @param status código HTTP de la respuesta
+ * @param contentType tipo de contenido de la respuesta (puede ser null)
+ * @param body cuerpo de la respuesta
+ */
+public record StoredResponse(String requestMethod,
+                             String requestPath,
+                             String requestFingerprint,
+                             int status,
+                             String contentType,
+                             byte[] body) {
+
+    /**
+     * Indica si la respuesta corresponde a la misma petición.
+     */
+    public boolean matches(String method, String path, String fingerprint) {
+        return IdempotencyStore.sameRequest(requestMethod, requestPath, requestFingerprint, method, path, fingerprint);
+    }
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.notification.application;
+
+/**
+ * Caso de uso para avisar al estudiante de que su inscripción en un grupo está confirmada.
+ */
+public interface NotifyEnrollmentConfirmedUseCase {
+
+    /**
+     * Encola la confirmación si la inscripción sigue activa.
+     *
+     * Se invoca de forma asíncrona, cuando la inscripción puede haber cambiado desde
+     * que se activó: si ya no está activa, o el estudiante no está activo, no se avisa.
+     *
+     * @return true si se ha encolado la notificación
+     *
+     * @throws IllegalArgumentException si alguno de los IDs es null
+     */
+    boolean notifyConfirmed(Long studentId, Long groupId);
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.notification.application;
+
+/**
+ * Caso de uso para avisar a los inscritos en un grupo de que el grupo ha abierto.
+ */
+public interface NotifyGroupOpenedUseCase {
+
+    /**
+     * Encola un aviso para cada estudiante activo inscrito en el grupo,
+     * con la inscripción activa o pendiente de pago.
+     * Quien lo llama ya sabe que el grupo ha abierto (el evento de cambio de estado);
+     * sólo si el grupo ya no existe no se avisa a nadie.
+     *
+     * @return el número de notificaciones encoladas
+     *
+     * @throws IllegalArgumentException si el ID es null
+     */
+    int notifyGroupOpened(Long groupId);
+}
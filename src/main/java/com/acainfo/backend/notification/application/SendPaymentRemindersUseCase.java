@@ -0,0 +1,24 @@
+package com.acainfo.backend.notification.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * Caso de uso para recordar el pago a los estudiantes con inscripciones pendientes.
+ *
+ * Cada llamada cubre un tramo de fechas de inscripción. Una inscripción recibe un único
+ * recordatorio aunque la cubran varias llamadas, de este nodo o de otro.
+ */
+public interface SendPaymentRemindersUseCase {
+
+    /**
+     * Encola un recordatorio para cada inscripción pendiente de pago realizada
+     * desde 'from' (incluida) hasta 'to' (excluida) que aún no lo había recibido.
+     *
+     * @param paymentDeadlineHours plazo de pago desde la inscripción, para indicar la fecha límite
+     * @return el número de recordatorios encolados
+     *
+     * @throws IllegalArgumentException si alguna fecha es null, 'from' es posterior a 'to'
+     *         o el plazo no es positivo
+     */
+    int remindEnrolledBetween(LocalDateTime from, LocalDateTime to, int paymentDeadlineHours);
+}
@@ -0,0 +1,80 @@
+package com.acainfo.backend.notification.application.imp;
+
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.notification.application.NotifyEnrollmentConfirmedUseCase;
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.service.NotificationQueue;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.subject.domain.entity.Subject;
+import com.acainfo.backend.subject.domain.repository.ReadSubjectRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso para confirmar inscripciones por correo.
+ *
+ * Comprueba el estado actual de la inscripción antes de avisar: el evento que la
+ * dispara puede llegar con retraso o repetido.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class NotifyEnrollmentConfirmedUseCaseImp implements NotifyEnrollmentConfirmedUseCase {
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final ReadStudentRepository readStudentRepository;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final ReadSubjectRepository readSubjectRepository;
+    private final NotificationQueue notificationQueue;
+
+    @Override
+    public boolean notifyConfirmed(Long studentId, Long groupId) {
+        if (studentId == null || groupId == null) {
+            throw new IllegalArgumentException("Los IDs de estudiante y grupo no pueden ser null");
+        }
+
+        boolean active = readEnrollmentRepository.findById(EnrollmentId.of(studentId, groupId))
+                .map(Enrollment::getStatus)
+                .filter(EnrollmentStatus.ACTIVE::equals)
+                .isPresent();
+        if (!active) {
+            log.debug("La inscripción [{}, {}] ya no está activa; no se confirma", studentId, groupId);
+            return false;
+        }
+
+        Optional<StudentSummary> student = readStudentRepository.findSummariesByIds(List.of(studentId)).stream()
+                .filter(StudentSummary::isActive)
+                .findFirst();
+        Optional<SubjectGroup> group = readSubjectGroupRepository.findById(groupId);
+        if (student.isEmpty() || group.isEmpty()) {
+            log.debug("Estudiante {} o grupo {} no disponibles; no se confirma la inscripción", studentId, groupId);
+            return false;
+        }
+
+        String subjectName = readSubjectRepository.findById(group.get().getSubjectId())
+                .map(Subject::getName)
+                .orElse("");
+
+        return notificationQueue.enqueue(Notification.builder()
+                .type(NotificationType.ENROLLMENT_CONFIRMATION)
+                .recipientEmail(student.get().getEmail())
+                .recipientName(student.get().getName() + " " + student.get().getLastName())
+                .param("studentName", student.get().getName())
+                .param("groupName", group.get().getName())
+                .param("subjectName", subjectName)
+                .build());
+    }
+}
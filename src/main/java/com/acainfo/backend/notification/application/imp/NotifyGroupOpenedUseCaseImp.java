@@ -0,0 +1,92 @@
+package com.acainfo.backend.notification.application.imp;
+
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.notification.application.NotifyGroupOpenedUseCase;
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.service.NotificationQueue;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.subject.domain.entity.Subject;
+import com.acainfo.backend.subject.domain.repository.ReadSubjectRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementación del caso de uso para avisar de la apertura de un grupo.
+ *
+ * Carga los estudiantes inscritos con una sola consulta y encola un aviso por cada uno.
+ * No vuelve a comprobar el estado del grupo: lo que se lee puede ir por detrás del
+ * evento que confirmó la apertura (caché, réplica), y descartar el aviso por ello lo
+ * perdería sin dejar rastro.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class NotifyGroupOpenedUseCaseImp implements NotifyGroupOpenedUseCase {
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final ReadStudentRepository readStudentRepository;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final ReadSubjectRepository readSubjectRepository;
+    private final NotificationQueue notificationQueue;
+
+    @Override
+    public int notifyGroupOpened(Long groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("El ID del grupo no puede ser null");
+        }
+
+        // La apertura la decide el evento; el grupo sólo se lee para el nombre y la asignatura
+        Optional<SubjectGroup> group = readSubjectGroupRepository.findById(groupId);
+        if (group.isEmpty()) {
+            log.warn("El grupo {} ya no existe; no se avisa de su apertura", groupId);
+            return 0;
+        }
+
+        List<Long> studentIds = new ArrayList<>();
+        for (EnrollmentStatus status : List.of(EnrollmentStatus.ACTIVE, EnrollmentStatus.PENDING_PAYMENT)) {
+            readEnrollmentRepository.findByGroupIdAndStatus(groupId, status).stream()
+                    .map(enrollment -> enrollment.getId().getStudentId())
+                    .forEach(studentIds::add);
+        }
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+
+        String subjectName = readSubjectRepository.findById(group.get().getSubjectId())
+                .map(Subject::getName)
+                .orElse("");
+
+        int enqueued = 0;
+        for (StudentSummary student : readStudentRepository.findSummariesByIds(studentIds)) {
+            if (!student.isActive()) {
+                continue;
+            }
+            boolean accepted = notificationQueue.enqueue(Notification.builder()
+                    .type(NotificationType.GROUP_OPENED)
+                    .recipientEmail(student.getEmail())
+                    .recipientName(student.getName() + " " + student.getLastName())
+                    .param("studentName", student.getName())
+                    .param("groupName", group.get().getName())
+                    .param("subjectName", subjectName)
+                    .build());
+            if (accepted) {
+                enqueued++;
+            }
+        }
+
+        log.info("Avisos de apertura del grupo {} encolados: {}/{}", groupId, enqueued, studentIds.size());
+        return enqueued;
+    }
+}
@@ -0,0 +1,119 @@
+package com.acainfo.backend.notification.application.imp;
+
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.repository.ReadEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.UpdateEnrollmentRepository;
+import com.acainfo.backend.notification.application.SendPaymentRemindersUseCase;
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.service.NotificationQueue;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.subject.domain.entity.Subject;
+import com.acainfo.backend.subject.domain.repository.ReadSubjectRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación del caso de uso para los recordatorios de pago.
+ *
+ * Carga las inscripciones del tramo y, de una vez, sus estudiantes y grupos;
+ * las asignaturas se buscan una vez por asignatura distinta. Cada inscripción se marca
+ * como recordada antes de encolar su recordatorio, y solo se encolan las que marca esta llamada.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class SendPaymentRemindersUseCaseImp implements SendPaymentRemindersUseCase {
+
+    private static final Locale LOCALE = Locale.of("es", "ES");
+    private static final DateTimeFormatter DEADLINE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm", LOCALE);
+
+    private final ReadEnrollmentRepository readEnrollmentRepository;
+    private final UpdateEnrollmentRepository updateEnrollmentRepository;
+    private final ReadStudentRepository readStudentRepository;
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final ReadSubjectRepository readSubjectRepository;
+    private final NotificationQueue notificationQueue;
+
+    @Override
+    public int remindEnrolledBetween(LocalDateTime from, LocalDateTime to, int paymentDeadlineHours) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Las fechas del tramo no pueden ser null");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("El inicio del tramo no puede ser posterior al final");
+        }
+
+        if (paymentDeadlineHours <= 0) {
+            throw new IllegalArgumentException("El plazo de pago debe ser positivo");
+        }
+
+        List<Enrollment> pending = readEnrollmentRepository.findPendingPaymentEnrollmentsEnrolledBetween(from, to);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, StudentSummary> students = readStudentRepository.findSummariesByIds(
+                        pending.stream().map(enrollment -> enrollment.getId().getStudentId()).collect(Collectors.toSet()))
+                .stream()
+                .filter(StudentSummary::isActive)
+                .collect(Collectors.toMap(StudentSummary::getId, Function.identity()));
+        Map<Long, SubjectGroup> groups = readSubjectGroupRepository.findAllByIds(
+                        pending.stream().map(enrollment -> enrollment.getId().getGroupId()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(SubjectGroup::getId, Function.identity()));
+        Map<Long, String> subjectNames = new HashMap<>();
+
+        // Se marcan antes de encolar: si otro nodo cubre el mismo tramo, cada inscripción
+        // la marca solo uno de los dos y solo ese envía el recordatorio
+        List<EnrollmentId> reminderIds = pending.stream()
+                .map(Enrollment::getId)
+                .filter(id -> students.containsKey(id.getStudentId()) && groups.containsKey(id.getGroupId()))
+                .toList();
+        Set<EnrollmentId> claimed = new HashSet<>(
+                updateEnrollmentRepository.markPaymentReminded(reminderIds, LocalDateTime.now()));
+
+        int enqueued = 0;
+        for (Enrollment enrollment : pending) {
+            if (!claimed.contains(enrollment.getId())) {
+                continue;
+            }
+            StudentSummary student = students.get(enrollment.getId().getStudentId());
+            SubjectGroup group = groups.get(enrollment.getId().getGroupId());
+
+            String subjectName = subjectNames.computeIfAbsent(group.getSubjectId(),
+                    subjectId -> readSubjectRepository.findById(subjectId).map(Subject::getName).orElse(""));
+            boolean accepted = notificationQueue.enqueue(Notification.builder()
+                    .type(NotificationType.PAYMENT_REMINDER)
+                    .recipientEmail(student.getEmail())
+                    .recipientName(student.getName() + " " + student.getLastName())
+                    .param("studentName", student.getName())
+                    .param("groupName", group.getName())
+                    .param("subjectName", subjectName)
+                    .param("amount", String.format(LOCALE, "%,.2f €", group.getPrice()))
+                    .param("deadline", enrollment.getEnrolledAt().plusHours(paymentDeadlineHours).format(DEADLINE_FORMAT))
+                    .build());
+            if (accepted) {
+                enqueued++;
+            }
+        }
+
+        log.info("Recordatorios de pago encolados: {}/{} (inscripciones entre {} y {})",
+                enqueued, pending.size(), from, to);
+        return enqueued;
+    }
+}
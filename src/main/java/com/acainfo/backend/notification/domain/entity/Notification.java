@@ -0,0 +1,24 @@
+package com.acainfo.backend.notification.domain.entity;
+
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Value Object con una notificación pendiente de enviar: su tipo, el destinatario
+ * y los valores que se sustituyen en la plantilla.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class Notification {
+
+    private final NotificationType type;
+    private final String recipientEmail;
+    private final String recipientName;
+    @Singular
+    private final Map<String, String> params;
+}
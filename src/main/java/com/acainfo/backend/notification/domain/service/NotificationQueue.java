@@ -0,0 +1,16 @@
+package com.acainfo.backend.notification.domain.service;
+
+import com.acainfo.backend.notification.domain.entity.Notification;
+
+/**
+ * Puerto para encolar notificaciones. El envío se hace después, fuera del hilo que encola.
+ */
+public interface NotificationQueue {
+
+    /**
+     * Encola una notificación sin bloquear.
+     *
+     * @return false si la cola está llena y la notificación se ha descartado
+     */
+    boolean enqueue(Notification notification);
+}
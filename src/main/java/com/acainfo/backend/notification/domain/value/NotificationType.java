@@ -0,0 +1,19 @@
+package com.acainfo.backend.notification.domain.value;
+
+/**
+ * Tipo de notificación. Cada tipo tiene su propia plantilla.
+ */
+public enum NotificationType {
+    /**
+     * La inscripción de un estudiante en un grupo ha quedado activa.
+     */
+    ENROLLMENT_CONFIRMATION,
+    /**
+     * Una inscripción sigue pendiente de pago y se acerca el plazo.
+     */
+    PAYMENT_REMINDER,
+    /**
+     * Un grupo en el que el estudiante está inscrito ha pasado a estar activo.
+     */
+    GROUP_OPENED
+}
@@ -0,0 +1,52 @@
+package com.acainfo.backend.notification.infrastructure.listener;
+
+import com.acainfo.backend.enrollment.domain.event.EnrollmentCreatedEvent;
+import com.acainfo.backend.enrollment.domain.event.EnrollmentStatusChangedEvent;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.notification.application.NotifyEnrollmentConfirmedUseCase;
+import com.acainfo.backend.notification.application.NotifyGroupOpenedUseCase;
+import com.acainfo.backend.subjectgroup.domain.event.GroupStatusChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Traduce los eventos de dominio en notificaciones.
+ *
+ * Los eventos llegan desde el outbox, en el hilo del relay y ya confirmados, así que
+ * nada de esto se ejecuta en la petición que los produjo. Si la consulta de los datos
+ * falla, la excepción llega al relay y el evento se reintenta.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class NotificationEventListener {
+
+    private final NotifyEnrollmentConfirmedUseCase notifyEnrollmentConfirmedUseCase;
+    private final NotifyGroupOpenedUseCase notifyGroupOpenedUseCase;
+
+    @EventListener
+    public void onEnrollmentCreated(EnrollmentCreatedEvent event) {
+        if (event.status() == EnrollmentStatus.ACTIVE) {
+            notifyEnrollmentConfirmedUseCase.notifyConfirmed(event.studentId(), event.groupId());
+        }
+    }
+
+    @EventListener
+    public void onEnrollmentStatusChanged(EnrollmentStatusChangedEvent event) {
+        if (event.status() == EnrollmentStatus.ACTIVE && event.previousStatus() != EnrollmentStatus.ACTIVE) {
+            notifyEnrollmentConfirmedUseCase.notifyConfirmed(event.studentId(), event.groupId());
+        }
+    }
+
+    @EventListener
+    public void onGroupStatusChanged(GroupStatusChangedEvent event) {
+        // Un grupo creado ya activo no tiene inscritos a los que avisar
+        if (event.status() == GroupStatus.ACTIVE && event.previousStatus() != null
+                && event.previousStatus() != GroupStatus.ACTIVE) {
+            notifyGroupOpenedUseCase.notifyGroupOpened(event.groupId());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.acainfo.backend.notification.infrastructure.mail;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.service.NotificationQueue;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import com.acainfo.backend.notification.infrastructure.template.NotificationTemplates;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cola de notificaciones en memoria con envío SMTP por lotes.
+ *
+ * Encolar no bloquea: la notificación se renderiza en un pool de hilos propio y el
+ * mensaje resultante pasa a la cola de envío. Un único hilo toma de ella lotes de
+ * hasta 'batch-size' mensajes, esperando como mucho 'batch-window-millis' a que el
+ * lote se llene, y los envía por una sola conexión SMTP. Los mensajes que fallan
+ * vuelven a la cola con espera exponencial hasta 'max-attempts'.
+ *
+ * La capacidad cuenta todas las notificaciones aún no entregadas, en render, en
+ * espera o reintentándose; con la cola llena, las nuevas se descartan. Lo pendiente
+ * se pierde si el nodo se para: los eventos que disparan las notificaciones son
+ * duraderos, los correos no.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class SmtpNotificationQueue implements NotificationQueue {
+
+    static final String NOTIFICATIONS_METRIC = "notifications";
+    static final String PENDING_METRIC = "notifications.pending";
+
+    private final JavaMailSender mailSender;
+    private final NotificationTemplates templates;
+    private final AppProperties.Notifications properties;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore capacity;
+    private final ExecutorService renderers;
+    private final DelayQueue<PendingMail> outgoing = new DelayQueue<>();
+
+    private Thread sender;
+
+    public SmtpNotificationQueue(JavaMailSender mailSender,
+                                 NotificationTemplates templates,
+                                 AppProperties appProperties,
+                                 MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.templates = templates;
+        this.properties = appProperties.getNotifications();
+        this.meterRegistry = meterRegistry;
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+        this.renderers = Executors.newFixedThreadPool(properties.getRenderThreads(),
+                Thread.ofPlatform().name("notification-render-", 1).daemon().factory());
+        Gauge.builder(PENDING_METRIC, capacity, permits -> properties.getQueueCapacity() - permits.availablePermits())
+                .description("Notificaciones encoladas pendientes de entregar")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Mensaje listo para enviar, disponible a partir de 'dueNanos'.
+     *
+     * @param attempts número del próximo intento, empezando en 1
+     */
+    private record PendingMail(NotificationType type, MimeMessage message, int attempts, long dueNanos)
+            implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * Arranca el hilo de envío cuando la aplicación ya está lista.
+     * Lo encolado antes se renderiza y espera en la cola.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (sender != null) {
+            return;
+        }
+        sender = Thread.ofPlatform().name("notification-sender").daemon().start(this::sendLoop);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        renderers.shutdownNow();
+        if (sender != null) {
+            sender.interrupt();
+        }
+
+        int pending = properties.getQueueCapacity() - capacity.availablePermits();
+        if (pending > 0) {
+            log.warn("Se descartan {} notificaciones pendientes al parar", pending);
+        }
+    }
+
+    @Override
+    public boolean enqueue(Notification notification) {
+        if (!capacity.tryAcquire()) {
+            count(notification.getType(), "dropped");
+            log.warn("Cola de notificaciones llena; se descarta una notificación {}", notification.getType());
+            return false;
+        }
+
+        try {
+            renderers.execute(() -> render(notification));
+        } catch (RejectedExecutionException e) {
+            capacity.release();
+            count(notification.getType(), "dropped");
+            return false;
+        }
+        return true;
+    }
+
+    private void render(Notification notification) {
+        try {
+            NotificationTemplates.Rendered rendered = templates.render(notification);
+
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+            helper.setFrom(properties.getFromEmail(), properties.getFromName());
+            helper.setTo(new InternetAddress(notification.getRecipientEmail(), notification.getRecipientName(),
+                    StandardCharsets.UTF_8.name()));
+            helper.setSubject(rendered.subject());
+            helper.setText(rendered.body());
+
+            outgoing.put(new PendingMail(notification.getType(), message, 1, System.nanoTime()));
+        } catch (MessagingException | UnsupportedEncodingException | RuntimeException e) {
+            // Un error al preparar el mensaje no se arregla reintentando
+            capacity.release();
+            count(notification.getType(), "abandoned");
+            log.error("No se pudo preparar la notificación {}: {}", notification.getType(), e.getMessage(), e);
+        }
+    }
+
+    private void sendLoop() {
+        int batchSize = properties.getBatchSize();
+        long window = TimeUnit.MILLISECONDS.toNanos(properties.getBatchWindowMillis());
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(outgoing.take());
+                long windowEnd = System.nanoTime() + window;
+                outgoing.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize) {
+                    PendingMail next = outgoing.poll(windowEnd - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    outgoing.drainTo(batch, batchSize - batch.size());
+                }
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // El hilo de envío no debe morir por un error inesperado
+                log.error("Error inesperado en el envío de notificaciones: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Envía un lote por una sola conexión y reprograma los mensajes que fallan.
+     */
+    private void send(List<PendingMail> batch) {
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(batch.stream().map(PendingMail::message).toArray(MimeMessage[]::new));
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(batch, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(batch, e);
+        }
+
+        for (PendingMail pending : batch) {
+            // JavaMailSender indexa los fallos por el propio mensaje, que no redefine equals
+            Exception error = failures.get(pending.message());
+            if (error == null) {
+                capacity.release();
+                count(pending.type(), "sent");
+            } else {
+                failed(pending, error);
+            }
+        }
+
+        log.debug("Lote de notificaciones enviado: {}/{}", batch.size() - failures.size(), batch.size());
+    }
+
+    private void failed(PendingMail pending, Exception error) {
+        if (pending.attempts() >= properties.getMaxAttempts()) {
+            capacity.release();
+            count(pending.type(), "abandoned");
+            log.error("Notificación {} abandonada tras {} intentos: {}",
+                    pending.type(), pending.attempts(), error.getMessage());
+            return;
+        }
+
+        count(pending.type(), "retried");
+        log.warn("Error enviando una notificación {}, intento {}: {}",
+                pending.type(), pending.attempts(), error.getMessage());
+        long backoff = TimeUnit.MILLISECONDS.toNanos(backoffMillis(pending.attempts()));
+        outgoing.put(new PendingMail(pending.type(), pending.message(), pending.attempts() + 1,
+                System.nanoTime() + backoff));
+    }
+
+    private long backoffMillis(int attempts) {
+        long millis = (long) properties.getInitialBackoffMillis() << Math.min(attempts - 1, 20);
+        return Math.min(millis, properties.getMaxBackoffMillis());
+    }
+
+    private static Map<Object, Exception> allFailed(List<PendingMail> batch, Exception error) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        batch.forEach(pending -> failures.put(pending.message(), error));
+        return failures;
+    }
+
+    private void count(NotificationType type, String outcome) {
+        Counter.builder(NOTIFICATIONS_METRIC)
+                .description("Notificaciones por tipo y resultado")
+                .tag("type", type.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
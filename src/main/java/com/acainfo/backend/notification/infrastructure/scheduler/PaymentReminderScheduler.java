@@ -0,0 +1,102 @@
+package com.acainfo.backend.notification.infrastructure.scheduler;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.notification.application.SendPaymentRemindersUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Tarea programada que recuerda el pago de las inscripciones pendientes
+ * 'hours-before-deadline' horas antes de que caduquen.
+ *
+ * Cada ejecución cubre las inscripciones realizadas entre la ejecución anterior del cron
+ * y esta, contadas hacia atrás desde el momento del recordatorio. Los tramos se calculan
+ * con las horas de disparo del cron, no con el intervalo entre dos de ellas, porque en un
+ * cron irregular (p. ej. "0 0 8,14 * * MON-FRI") ese intervalo cambia de una ejecución a otra.
+ * Mientras el nodo sigue en marcha, cada tramo empieza donde terminó el último completado,
+ * de modo que una ejecución que falla o no llega a hacerse se recupera en la siguiente.
+ *
+ * Los tramos de varios nodos se solapan; cada inscripción se marca al encolar su
+ * recordatorio y no se vuelve a recordar.
+ * Solo se registra con las tareas programadas y las notificaciones habilitadas.
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${app.scheduled-tasks.enabled:false} and ${app.notifications.enabled:false}")
+public class PaymentReminderScheduler {
+
+    // CronExpression solo calcula la siguiente hora de disparo: para la anterior se retrocede hasta un año
+    private static final Duration MAX_LOOK_BACK = Duration.ofDays(366);
+
+    private final SendPaymentRemindersUseCase sendPaymentRemindersUseCase;
+    private final AppProperties appProperties;
+    private final CronExpression cron;
+
+    // Final del último tramo completado por este nodo
+    private LocalDateTime lastWindowEnd;
+
+    public PaymentReminderScheduler(SendPaymentRemindersUseCase sendPaymentRemindersUseCase,
+                                    AppProperties appProperties) {
+        this.sendPaymentRemindersUseCase = sendPaymentRemindersUseCase;
+        this.appProperties = appProperties;
+        this.cron = CronExpression.parse(appProperties.getScheduledTasks().getPaymentReminder().getCronExpression());
+    }
+
+    @Scheduled(cron = "${app.scheduled-tasks.payment-reminder.cron-expression:0 0 * * * *}")
+    public synchronized void remindPendingPayments() {
+        AppProperties.ScheduledTasks config = appProperties.getScheduledTasks();
+        int deadlineHours = config.getEnrollmentExpiration().getPaymentDeadlineHours();
+        int hoursBefore = config.getPaymentReminder().getHoursBeforeDeadline();
+
+        // La hora de disparo de esta ejecución, no la de arranque: así el retraso con que
+        // arranca no abre huecos entre tramos
+        LocalDateTime fireTime = previousFireTime(cron, LocalDateTime.now().plusNanos(1));
+
+        // Las inscripciones realizadas en 'to' caducan dentro de 'hoursBefore' horas
+        LocalDateTime to = fireTime.minusHours(deadlineHours - hoursBefore);
+        LocalDateTime from = lastWindowEnd != null
+                ? lastWindowEnd
+                : previousFireTime(cron, fireTime).minusHours(deadlineHours - hoursBefore);
+        if (!from.isBefore(to)) {
+            return;
+        }
+
+        try {
+            int reminded = sendPaymentRemindersUseCase.remindEnrolledBetween(from, to, deadlineHours);
+            lastWindowEnd = to;
+            if (reminded > 0) {
+                log.info("Recordatorios de pago encolados: {}", reminded);
+            }
+        } catch (Exception e) {
+            log.error("Error enviando los recordatorios de pago: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Devuelve la última hora de disparo del cron estrictamente anterior a 'time'.
+     *
+     * @throws IllegalStateException si el cron no se dispara en el año anterior a 'time'
+     */
+    public static LocalDateTime previousFireTime(CronExpression cron, LocalDateTime time) {
+        Duration lookBack = Duration.ofMinutes(1);
+        LocalDateTime previous = cron.next(time.minus(lookBack));
+        while (previous == null || !previous.isBefore(time)) {
+            if (lookBack.compareTo(MAX_LOOK_BACK) >= 0) {
+                throw new IllegalStateException("El cron no se dispara en el año anterior a " + time);
+            }
+            lookBack = lookBack.multipliedBy(2);
+            previous = cron.next(time.minus(lookBack));
+        }
+
+        for (LocalDateTime next = cron.next(previous); next != null && next.isBefore(time); next = cron.next(next)) {
+            previous = next;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,92 @@
+package com.acainfo.backend.notification.infrastructure.template;
+
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plantillas de texto plano de las notificaciones, en 'templates/notifications/'.
+ *
+ * Cada tipo tiene un fichero con el nombre del tipo en minúsculas y guiones
+ * (ENROLLMENT_CONFIRMATION → enrollment-confirmation.txt). La primera línea es el
+ * asunto y el resto, tras una línea en blanco, el cuerpo. Los marcadores ${nombre}
+ * se sustituyen por los parámetros de la notificación; los valores se insertan tal
+ * cual, sin volver a interpretarse. Las plantillas se cargan al arrancar, así que si
+ * falta alguna la aplicación no llega a iniciarse.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true")
+public class NotificationTemplates {
+
+    private static final String LOCATION = "templates/notifications/";
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z][A-Za-z0-9]*)}");
+
+    private final Map<NotificationType, Template> templates = new EnumMap<>(NotificationType.class);
+
+    /**
+     * Asunto y cuerpo ya renderizados.
+     */
+    public record Rendered(String subject, String body) {
+    }
+
+    private record Template(String subject, String body) {
+    }
+
+    public NotificationTemplates() {
+        for (NotificationType type : NotificationType.values()) {
+            templates.put(type, load(type));
+        }
+    }
+
+    /**
+     * Renderiza la plantilla del tipo de la notificación con sus parámetros.
+     *
+     * @throws IllegalArgumentException si la plantilla usa un parámetro que la notificación no trae
+     */
+    public Rendered render(Notification notification) {
+        Template template = templates.get(notification.getType());
+        return new Rendered(
+                replace(template.subject(), notification.getParams()),
+                replace(template.body(), notification.getParams()));
+    }
+
+    private static String replace(String text, Map<String, String> params) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        return matcher.replaceAll(match -> {
+            String value = params.get(match.group(1));
+            if (value == null) {
+                throw new IllegalArgumentException("Falta el parámetro de plantilla: " + match.group(1));
+            }
+            return Matcher.quoteReplacement(value);
+        });
+    }
+
+    private static Template load(NotificationType type) {
+        String fileName = type.name().toLowerCase(Locale.ROOT).replace('_', '-') + ".txt";
+        String content;
+        try (InputStream input = new ClassPathResource(LOCATION + fileName).getInputStream()) {
+            content = StreamUtils.copyToString(input, StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar la plantilla de notificación " + fileName, e);
+        }
+
+        int endOfSubject = content.indexOf('\n');
+        if (endOfSubject < 0) {
+            throw new IllegalStateException("La plantilla " + fileName + " no tiene cuerpo");
+        }
+        return new Template(content.substring(0, endOfSubject).strip(), content.substring(endOfSubject + 1).strip() + "\n");
+    }
+}
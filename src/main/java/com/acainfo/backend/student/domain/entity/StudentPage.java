@@ -0,0 +1,24 @@
+package com.acainfo.backend.student.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con una página de estudiantes ordenada por ID.
+ * La siguiente página se pide con {@code nextCursor}, que es null en la última.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class StudentPage {
+
+    private final List<StudentSummary> students;
+    private final Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.acainfo.backend.student.domain.entity;
+
+import com.acainfo.backend.globalenum.Major;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object con los datos de un estudiante para listados y búsquedas.
+ * No incluye la contraseña: sólo {@link Student} la transporta, para autenticación.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class StudentSummary {
+
+    private final Long id;
+    private final String name;
+    private final String lastName;
+    private final String email;
+    private final String phoneNumber;
+    private final Major major;
+    private final boolean active;
+    private final LocalDateTime registeredAt;
+}
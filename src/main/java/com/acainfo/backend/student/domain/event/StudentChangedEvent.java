@@ -0,0 +1,27 @@
+package com.acainfo.backend.student.domain.event;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evento publicado cuando se crean, modifican o eliminan estudiantes.
+ * Sólo transporta los IDs afectados: quien lo consuma debe leer el estado actual.
+ *
+ * @param studentIds IDs de los estudiantes que han cambiado
+ * @param allStudents true si el cambio puede afectar a cualquier estudiante (borrados masivos)
+ */
+public record StudentChangedEvent(Set<Long> studentIds, boolean allStudents) {
+
+    public StudentChangedEvent {
+        studentIds = Set.copyOf(studentIds);
+    }
+
+    public static StudentChangedEvent of(Long... studentIds) {
+        return new StudentChangedEvent(new HashSet<>(Arrays.asList(studentIds)), false);
+    }
+
+    public static StudentChangedEvent ofAllStudents() {
+        return new StudentChangedEvent(Set.of(), true);
+    }
+}
@@ -1,8 +1,11 @@
 package com.acainfo.backend.student.domain.repository;
 
 import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.entity.StudentPage;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
 import com.acainfo.backend.globalenum.Major;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +13,8 @@ import java.util.Optional;
  * Interfaz que define las operaciones de lectura para la entidad Student.
  *
  * Contiene operaciones de consulta sin efectos secundarios.
+ * Los listados y búsquedas devuelven {@link StudentSummary}, sin contraseña;
+ * sólo las búsquedas por ID o email cargan el estudiante completo.
  * Los filtrados complejos y validaciones se manejan en la capa de servicio.
  */
 public interface ReadStudentRepository {
@@ -20,9 +25,9 @@ public interface ReadStudentRepository {
     Optional<Student> findById(Long id);
 
     /**
-     * Obtiene todos los estudiantes.
+     * Obtiene todos los estudiantes, sin contraseña, ordenados por ID.
      */
-    List<Student> findAll();
+    List<StudentSummary> findAll();
 
     /**
      * Verifica si existe un estudiante con el ID dado.
@@ -43,31 +48,48 @@ public interface ReadStudentRepository {
     /**
      * Busca estudiantes por carrera.
      */
-    List<Student> findByMajor(Major major);
+    List<StudentSummary> findByMajor(Major major);
 
     /**
      * Busca estudiantes activos.
      */
-    List<Student> findByIsActiveTrue();
+    List<StudentSummary> findByIsActiveTrue();
 
     /**
      * Busca estudiantes activos por carrera.
      */
-    List<Student> findByMajorAndIsActiveTrue(Major major);
+    List<StudentSummary> findByMajorAndIsActiveTrue(Major major);
+
+    /**
+     * Obtiene una página de estudiantes ordenada por ID. Los filtros se aplican en la consulta.
+     *
+     * @param major carrera (null = todas)
+     * @param active estado (null = activos e inactivos)
+     * @param afterId cursor devuelto por la página anterior (null = primera página)
+     * @param size número máximo de estudiantes de la página
+     * @return la página, vacía si size no es positivo
+     */
+    StudentPage findPage(Major major, Boolean active, Long afterId, int size);
+
+    /**
+     * Obtiene los estudiantes indicados, sin contraseña, ordenados por ID.
+     * Los IDs inexistentes se ignoran.
+     */
+    List<StudentSummary> findSummariesByIds(Collection<Long> ids);
 
     /**
      * Búsqueda por texto en el nombre (case-insensitive).
      */
-    List<Student> findByNameContainingIgnoreCase(String name);
+    List<StudentSummary> findByNameContainingIgnoreCase(String name);
 
     /**
      * Búsqueda por texto en el apellido (case-insensitive).
      */
-    List<Student> findByLastNameContainingIgnoreCase(String lastName);
+    List<StudentSummary> findByLastNameContainingIgnoreCase(String lastName);
 
     /**
      * Búsqueda por nombre y apellido (case-insensitive).
      */
-    List<Student> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
+    List<StudentSummary> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
             String name, String lastName);
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.acainfo.backend.student.infrastructure.repository.imp;
 
 import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.event.StudentChangedEvent;
 import com.acainfo.backend.student.domain.exception.DuplicateStudentException;
 import com.acainfo.backend.student.domain.exception.InvalidStudentDataException;
 import com.acainfo.backend.student.domain.repository.CreateStudentRepository;
@@ -9,6 +10,7 @@ import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJ
 import com.acainfo.backend.student.infrastructure.repository.mapper.StudentJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,7 @@ public class CreateStudentRepositoryImp implements CreateStudentRepository {
 
     private final StudentJpaRepository jpaRepository;
     private final StudentJpaMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Persiste un nuevo estudiante en el sistema.
@@ -49,9 +52,10 @@ public class CreateStudentRepositoryImp implements CreateStudentRepository {
             StudentJpa jpaEntity = mapper.toJpa(student);
 
             // Persistir en base de datos
-            StudentJpa savedEntity = jpaRepository.save(jpaEntity);
+            StudentJpa savedEntity = jpaRepository.saveAndFlush(jpaEntity);
 
             log.info("Estudiante creado exitosamente con ID: {}", savedEntity.getId());
+            eventPublisher.publishEvent(StudentChangedEvent.of(savedEntity.getId()));
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(savedEntity);
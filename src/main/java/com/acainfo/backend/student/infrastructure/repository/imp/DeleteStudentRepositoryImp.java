@@ -1,14 +1,20 @@
 package com.acainfo.backend.student.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.student.domain.event.StudentChangedEvent;
 import com.acainfo.backend.student.domain.exception.InvalidStudentDataException;
 import com.acainfo.backend.student.domain.repository.DeleteStudentRepository;
 import com.acainfo.backend.student.infrastructure.repository.jpa.StudentJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementación del repositorio de eliminación de estudiantes.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
@@ -19,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteStudentRepositoryImp implements DeleteStudentRepository {
 
     private final StudentJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppProperties appProperties;
 
     /**
      * Elimina un estudiante por su ID.
@@ -32,15 +40,13 @@ public class DeleteStudentRepositoryImp implements DeleteStudentRepository {
     public boolean deleteById(Long id) {
         log.debug("Iniciando eliminación de estudiante con ID: {}", id);
 
-        // Verificar si existe antes de intentar eliminar
-        if (!jpaRepository.existsById(id)) {
-            log.warn("Intento de eliminar estudiante inexistente. ID: {}", id);
-            return false;
-        }
-
         try {
-            jpaRepository.deleteById(id);
+            if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
+                log.warn("Intento de eliminar estudiante inexistente. ID: {}", id);
+                return false;
+            }
             log.info("Estudiante eliminado exitosamente. ID: {}", id);
+            eventPublisher.publishEvent(StudentChangedEvent.of(id));
             return true;
 
         } catch (DataIntegrityViolationException e) {
@@ -64,9 +70,9 @@ public class DeleteStudentRepositoryImp implements DeleteStudentRepository {
         log.warn("Iniciando eliminación de TODOS los estudiantes");
 
         try {
-            long count = jpaRepository.count();
-            jpaRepository.deleteAll();
+            int count = deleteInChunks();
             log.info("Se eliminaron {} estudiantes", count);
+            eventPublisher.publishEvent(StudentChangedEvent.ofAllStudents());
 
         } catch (DataIntegrityViolationException e) {
             log.error("No se pueden eliminar los estudiantes debido a restricciones de integridad");
@@ -76,4 +82,22 @@ public class DeleteStudentRepositoryImp implements DeleteStudentRepository {
             );
         }
     }
+
+    /**
+     * Borra todos los estudiantes por bloques de IDs, con un DELETE por bloque y sin cargar las entidades.
+     *
+     * @return el número de estudiantes eliminados
+     */
+    private int deleteInChunks() {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findIds(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -2,21 +2,28 @@ package com.acainfo.backend.student.infrastructure.repository.imp;
 
 import com.acainfo.backend.globalenum.Major;
 import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.entity.StudentPage;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
 import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
 import com.acainfo.backend.student.infrastructure.repository.jpa.StudentJpaRepository;
-import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.student.infrastructure.repository.jpa.projection.StudentSummaryView;
 import com.acainfo.backend.student.infrastructure.repository.mapper.StudentJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementación del repositorio de lectura de estudiantes.
  * Adapta las consultas del dominio a la infraestructura JPA.
+ *
+ * Los listados y búsquedas leen proyecciones sin la contraseña; la entidad completa
+ * sólo se carga al buscar por ID o email.
  */
 @Repository
 @RequiredArgsConstructor
@@ -36,11 +43,10 @@ public class ReadStudentRepositoryImp implements ReadStudentRepository {
     }
 
     @Override
-    public List<Student> findAll() {
+    public List<StudentSummary> findAll() {
         log.debug("Obteniendo todos los estudiantes");
 
-        List<StudentJpa> jpaEntities = jpaRepository.findAll();
-        return mapper.toDomainList(jpaEntities);
+        return summaries(null, null);
     }
 
     @Override
@@ -76,31 +82,69 @@ public class ReadStudentRepositoryImp implements ReadStudentRepository {
     }
 
     @Override
-    public List<Student> findByMajor(Major major) {
+    public List<StudentSummary> findByMajor(Major major) {
         log.debug("Buscando estudiantes por carrera: {}", major);
 
-        List<StudentJpa> jpaEntities = jpaRepository.findByMajor(major);
-        return mapper.toDomainList(jpaEntities);
+        if (major == null) {
+            return List.of();
+        }
+
+        return summaries(major, null);
     }
 
     @Override
-    public List<Student> findByIsActiveTrue() {
+    public List<StudentSummary> findByIsActiveTrue() {
         log.debug("Obteniendo estudiantes activos");
 
-        List<StudentJpa> jpaEntities = jpaRepository.findByIsActiveTrue();
-        return mapper.toDomainList(jpaEntities);
+        return summaries(null, true);
     }
 
     @Override
-    public List<Student> findByMajorAndIsActiveTrue(Major major) {
+    public List<StudentSummary> findByMajorAndIsActiveTrue(Major major) {
         log.debug("Obteniendo estudiantes activos por carrera: {}", major);
 
-        List<StudentJpa> jpaEntities = jpaRepository.findByMajorAndIsActiveTrue(major);
-        return mapper.toDomainList(jpaEntities);
+        if (major == null) {
+            return List.of();
+        }
+
+        return summaries(major, true);
     }
 
     @Override
-    public List<Student> findByNameContainingIgnoreCase(String name) {
+    public StudentPage findPage(Major major, Boolean active, Long afterId, int size) {
+        log.debug("Obteniendo página de estudiantes - carrera: {}, activos: {}, tras ID: {}, tamaño: {}",
+                major, active, afterId, size);
+
+        // Validación defensiva mínima
+        if (size <= 0) {
+            log.warn("Página con tamaño no positivo: {}, retornando página vacía", size);
+            return new StudentPage(List.of(), null);
+        }
+
+        // Se pide un registro de más para saber si hay página siguiente sin contar
+        List<StudentSummaryView> views = jpaRepository.findSummaries(major, active, afterId, Limit.of(size + 1));
+        boolean hasNext = views.size() > size;
+        List<StudentSummary> students = mapper.toSummaryList(hasNext ? views.subList(0, size) : views);
+
+        return StudentPage.builder()
+                .students(students)
+                .nextCursor(hasNext ? students.get(size - 1).getId() : null)
+                .build();
+    }
+
+    @Override
+    public List<StudentSummary> findSummariesByIds(Collection<Long> ids) {
+        log.debug("Obteniendo {} estudiantes por ID", ids != null ? ids.size() : 0);
+
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return mapper.toSummaryList(jpaRepository.findSummariesByIdIn(ids));
+    }
+
+    @Override
+    public List<StudentSummary> findByNameContainingIgnoreCase(String name) {
         log.debug("Buscando estudiantes por nombre que contenga: {}", name);
 
         // Validación defensiva mínima
@@ -109,12 +153,11 @@ public class ReadStudentRepositoryImp implements ReadStudentRepository {
             return List.of();
         }
 
-        List<StudentJpa> jpaEntities = jpaRepository.findByNameContainingIgnoreCase(name);
-        return mapper.toDomainList(jpaEntities);
+        return mapper.toSummaryList(jpaRepository.findSummariesByNameContaining(name));
     }
 
     @Override
-    public List<Student> findByLastNameContainingIgnoreCase(String lastName) {
+    public List<StudentSummary> findByLastNameContainingIgnoreCase(String lastName) {
         log.debug("Buscando estudiantes por apellido que contenga: {}", lastName);
 
         // Validación defensiva mínima
@@ -123,12 +166,11 @@ public class ReadStudentRepositoryImp implements ReadStudentRepository {
             return List.of();
         }
 
-        List<StudentJpa> jpaEntities = jpaRepository.findByLastNameContainingIgnoreCase(lastName);
-        return mapper.toDomainList(jpaEntities);
+        return mapper.toSummaryList(jpaRepository.findSummariesByLastNameContaining(lastName));
     }
 
     @Override
-    public List<Student> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
+    public List<StudentSummary> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
             String name, String lastName) {
         log.debug("Buscando estudiantes por nombre o apellido que contenga: {} o {}", name, lastName);
 
@@ -142,8 +184,10 @@ public class ReadStudentRepositoryImp implements ReadStudentRepository {
         String searchName = name != null ? name : lastName;
         String searchLastName = lastName != null ? lastName : name;
 
-        List<StudentJpa> jpaEntities = jpaRepository
-                .findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(searchName, searchLastName);
-        return mapper.toDomainList(jpaEntities);
+        return mapper.toSummaryList(jpaRepository.findSummariesByNameOrLastNameContaining(searchName, searchLastName));
+    }
+
+    private List<StudentSummary> summaries(Major major, Boolean active) {
+        return mapper.toSummaryList(jpaRepository.findSummaries(major, active, null, Limit.unlimited()));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.acainfo.backend.student.infrastructure.repository.imp;
 
 import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.event.StudentChangedEvent;
 import com.acainfo.backend.student.domain.exception.DuplicateStudentException;
 import com.acainfo.backend.student.domain.exception.InvalidStudentDataException;
 import com.acainfo.backend.student.domain.exception.StudentNotFoundException;
@@ -10,6 +11,7 @@ import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJ
 import com.acainfo.backend.student.infrastructure.repository.mapper.StudentJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class UpdateStudentRepositoryImp implements UpdateStudentRepository {
 
     private final StudentJpaRepository jpaRepository;
     private final StudentJpaMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Actualiza un estudiante existente.
@@ -66,6 +69,7 @@ public class UpdateStudentRepositoryImp implements UpdateStudentRepository {
             StudentJpa updatedEntity = jpaRepository.save(existingEntity);
 
             log.info("Estudiante actualizado exitosamente. ID: {}", updatedEntity.getId());
+            eventPublisher.publishEvent(StudentChangedEvent.of(updatedEntity.getId()));
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(updatedEntity);
@@ -2,15 +2,28 @@ package com.acainfo.backend.student.infrastructure.repository.jpa;
 
 import com.acainfo.backend.globalenum.Major;
 import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.student.infrastructure.repository.jpa.projection.StudentSummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface StudentJpaRepository extends JpaRepository<StudentJpa, Long> {
 
+    /**
+     * Columnas de los listados: todas salvo la contraseña.
+     */
+    String SUMMARY_SELECT = "SELECT new com.acainfo.backend.student.infrastructure.repository.jpa.projection.StudentSummaryView(" +
+            "s.id, s.name, s.lastName, s.email, s.phoneNumber, s.major, s.isActive, s.registeredAt) " +
+            "FROM StudentJpa s ";
+
     /**
      * Busca un estudiante por su email
      */
@@ -22,40 +35,50 @@ public interface StudentJpaRepository extends JpaRepository<StudentJpa, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * Busca estudiantes por carrera
-     */
-    List<StudentJpa> findByMajor(Major major);
-
-    /**
-     * Busca estudiantes activos
+     * Listado de estudiantes ordenado por ID, con paginación por clave (keyset).
+     * Los filtros a null no se aplican; afterId es el último ID de la página anterior.
      */
-    List<StudentJpa> findByIsActiveTrue();
+    @Query(SUMMARY_SELECT +
+            "WHERE (:major IS NULL OR s.major = :major) " +
+            "AND (:active IS NULL OR s.isActive = :active) " +
+            "AND (:afterId IS NULL OR s.id > :afterId) " +
+            "ORDER BY s.id")
+    List<StudentSummaryView> findSummaries(@Param("major") Major major,
+                                           @Param("active") Boolean active,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
 
     /**
-     * Busca estudiantes inactivos
+     * Listado de los estudiantes indicados, ordenado por ID
      */
-    List<StudentJpa> findByIsActiveFalse();
-
-    /**
-     * Busca estudiantes activos por carrera
-     */
-    List<StudentJpa> findByMajorAndIsActiveTrue(Major major);
+    @Query(SUMMARY_SELECT + "WHERE s.id IN :ids ORDER BY s.id")
+    List<StudentSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Búsqueda por texto en el nombre (case-insensitive)
      */
-    List<StudentJpa> findByNameContainingIgnoreCase(String name);
+    @Query(SUMMARY_SELECT +
+            "WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
+            "ORDER BY s.id")
+    List<StudentSummaryView> findSummariesByNameContaining(@Param("name") String name);
 
     /**
      * Búsqueda por texto en el apellido (case-insensitive)
      */
-    List<StudentJpa> findByLastNameContainingIgnoreCase(String lastName);
+    @Query(SUMMARY_SELECT +
+            "WHERE LOWER(s.lastName) LIKE LOWER(CONCAT('%', :lastName, '%')) " +
+            "ORDER BY s.id")
+    List<StudentSummaryView> findSummariesByLastNameContaining(@Param("lastName") String lastName);
 
     /**
      * Búsqueda por texto en nombre o apellido (case-insensitive)
      */
-    List<StudentJpa> findByNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-            String name, String lastName);
+    @Query(SUMMARY_SELECT +
+            "WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
+            "OR LOWER(s.lastName) LIKE LOWER(CONCAT('%', :lastName, '%')) " +
+            "ORDER BY s.id")
+    List<StudentSummaryView> findSummariesByNameOrLastNameContaining(@Param("name") String name,
+                                                                     @Param("lastName") String lastName);
 
     /**
      * Cuenta estudiantes por carrera
@@ -66,4 +89,17 @@ public interface StudentJpaRepository extends JpaRepository<StudentJpa, Long> {
      * Cuenta estudiantes activos
      */
     long countByIsActiveTrue();
-}
\ No newline at end of file
+
+    /**
+     * IDs ordenados, para borrar los estudiantes por bloques
+     */
+    @Query("SELECT s.id FROM StudentJpa s ORDER BY s.id")
+    List<Long> findIds(Limit limit);
+
+    /**
+     * Elimina los estudiantes indicados con un único DELETE, sin cargarlos
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM StudentJpa s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -4,6 +4,7 @@ import com.acainfo.backend.enrollment.infrastructure.repository.jpa.entity.Enrol
 import com.acainfo.backend.globalenum.Major;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +13,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@BatchSize(size = 50)
 @Table(name = "students",
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -19,13 +21,9 @@ import java.util.Set;
                         columnNames = {"email"}
                 )
         },
+        // Activos por carrera (parcial) y nombre/apellido (trigramas): V4__performance_indexes.sql
         indexes = {
-                @Index(name = "idx_student_email", columnList = "email"),
-                @Index(name = "idx_student_major", columnList = "major"),
-                @Index(name = "idx_student_is_active", columnList = "is_active"),
-                @Index(name = "idx_student_name", columnList = "name"),
-                @Index(name = "idx_student_last_name", columnList = "last_name"),
-                @Index(name = "idx_student_major_active", columnList = "major, is_active")
+                @Index(name = "idx_student_major", columnList = "major")
         }
 )
 @Getter
@@ -38,7 +36,8 @@ import java.util.Set;
 public class StudentJpa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_id_seq")
+    @SequenceGenerator(name = "students_id_seq", sequenceName = "students_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -74,6 +73,7 @@ public class StudentJpa {
     private Boolean isActive = true;
 
     @OneToMany(mappedBy = "student", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @Builder.Default
     private Set<EnrollmentJpa> enrollments = new HashSet<>();
 
@@ -0,0 +1,18 @@
+package com.acainfo.backend.student.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.globalenum.Major;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de un estudiante sin la contraseña, para listados y búsquedas.
+ */
+public record StudentSummaryView(Long id,
+                                 String name,
+                                 String lastName,
+                                 String email,
+                                 String phoneNumber,
+                                 Major major,
+                                 Boolean active,
+                                 LocalDateTime registeredAt) {
+}
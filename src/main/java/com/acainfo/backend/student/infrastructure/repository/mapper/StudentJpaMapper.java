@@ -1,7 +1,9 @@
 package com.acainfo.backend.student.infrastructure.repository.mapper;
 
 import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
 import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.student.infrastructure.repository.jpa.projection.StudentSummaryView;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -35,9 +37,15 @@ public interface StudentJpaMapper {
     @Mapping(target = "isActive", source = "active")
     void updateJpaFromDomain(Student domain, @MappingTarget StudentJpa jpa);
 
+    /**
+     * Convierte una proyección de listado a dominio
+     */
+    StudentSummary toSummary(StudentSummaryView view);
+
     /**
      * Conversión de listas
      */
     List<Student> toDomainList(List<StudentJpa> jpaList);
+    List<StudentSummary> toSummaryList(List<StudentSummaryView> views);
     List<StudentJpa> toJpaList(List<Student> domainList);
 }
\ No newline at end of file
@@ -170,25 +170,26 @@ public class ReadSubjectUseCaseImp implements ReadSubjectUseCase {
     public List<SubjectGroup> findGroupsBySubjectId(Long subjectId) {
         log.debug("Buscando grupos de la asignatura con ID: {}", subjectId);
 
-        if (!existsById(subjectId)) {
+        if (subjectId == null || subjectId <= 0) {
             throw new SubjectNotFoundException("Asignatura no encontrada con ID: " + subjectId);
         }
 
-        return readSubjectGroupRepository.findBySubjectId(subjectId);
+        return readSubjectGroupRepository.findBySubjectIdIfSubjectExists(subjectId)
+                .orElseThrow(() -> new SubjectNotFoundException("Asignatura no encontrada con ID: " + subjectId));
     }
 
     @Override
     public List<SubjectGroup> findGroupsBySubjectId(Long subjectId, GroupStatus status) {
         log.debug("Buscando grupos de la asignatura {} con estado: {}", subjectId, status);
 
-        if (!existsById(subjectId)) {
-            throw new SubjectNotFoundException("Asignatura no encontrada con ID: " + subjectId);
-        }
-
+        List<SubjectGroup> groups = findGroupsBySubjectId(subjectId);
         if (status == null) {
-            return findGroupsBySubjectId(subjectId);
+            return groups;
         }
 
-        return readSubjectGroupRepository.findBySubjectIdAndStatus(subjectId, status);
+        // Una asignatura tiene pocos grupos: se filtran aquí en lugar de hacer otra consulta
+        return groups.stream()
+                .filter(group -> group.getStatus() == status)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.acainfo.backend.subject.domain.event;
+
+/**
+ * Evento publicado por el outbox cuando una asignatura activa se desactiva.
+ * Se entrega después de confirmar, fuera de la transacción que hizo el cambio.
+ *
+ * @param subjectId ID de la asignatura
+ */
+public record SubjectDeactivatedEvent(Long subjectId) {
+}
@@ -49,7 +49,7 @@ public class CreateSubjectRepositoryImp implements CreateSubjectRepository {
             SubjectJpa jpaEntity = mapper.toJpa(subject);
 
             // Persistir en base de datos
-            SubjectJpa savedEntity = jpaRepository.save(jpaEntity);
+            SubjectJpa savedEntity = jpaRepository.saveAndFlush(jpaEntity);
 
             log.info("Asignatura creada exitosamente con ID: {}", savedEntity.getId());
 
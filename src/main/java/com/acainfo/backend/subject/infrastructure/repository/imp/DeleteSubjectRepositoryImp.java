@@ -1,14 +1,18 @@
 package com.acainfo.backend.subject.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
 import com.acainfo.backend.subject.domain.exception.InvalidSubjectDataException;
 import com.acainfo.backend.subject.domain.repository.DeleteSubjectRepository;
 import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementación del repositorio de eliminación de asignaturas.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
@@ -19,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteSubjectRepositoryImp implements DeleteSubjectRepository {
 
     private final SubjectJpaRepository jpaRepository;
+    private final AppProperties appProperties;
 
     /**
      * Elimina una asignatura por su ID.
@@ -32,14 +37,11 @@ public class DeleteSubjectRepositoryImp implements DeleteSubjectRepository {
     public boolean deleteById(Long id) {
         log.debug("Iniciando eliminación de asignatura con ID: {}", id);
 
-        // Verificar si existe antes de intentar eliminar
-        if (!jpaRepository.existsById(id)) {
-            log.warn("Intento de eliminar asignatura inexistente. ID: {}", id);
-            return false;
-        }
-
         try {
-            jpaRepository.deleteById(id);
+            if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
+                log.warn("Intento de eliminar asignatura inexistente. ID: {}", id);
+                return false;
+            }
             log.info("Asignatura eliminada exitosamente. ID: {}", id);
             return true;
 
@@ -64,8 +66,7 @@ public class DeleteSubjectRepositoryImp implements DeleteSubjectRepository {
         log.warn("Iniciando eliminación de TODAS las asignaturas");
 
         try {
-            long count = jpaRepository.count();
-            jpaRepository.deleteAll();
+            int count = deleteInChunks();
             log.info("Se eliminaron {} asignaturas", count);
 
         } catch (DataIntegrityViolationException e) {
@@ -76,4 +77,22 @@ public class DeleteSubjectRepositoryImp implements DeleteSubjectRepository {
             );
         }
     }
+
+    /**
+     * Borra todas las asignaturas por bloques de IDs, con un DELETE por bloque y sin cargar las entidades.
+     *
+     * @return el número de asignaturas eliminadas
+     */
+    private int deleteInChunks() {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findIds(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
 }
\ No newline at end of file
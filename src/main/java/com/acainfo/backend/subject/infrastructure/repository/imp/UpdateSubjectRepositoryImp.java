@@ -1,6 +1,8 @@
 package com.acainfo.backend.subject.infrastructure.repository.imp;
 
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
 import com.acainfo.backend.subject.domain.entity.Subject;
+import com.acainfo.backend.subject.domain.event.SubjectDeactivatedEvent;
 import com.acainfo.backend.subject.domain.exception.DuplicateSubjectException;
 import com.acainfo.backend.subject.domain.exception.InvalidSubjectDataException;
 import com.acainfo.backend.subject.domain.exception.SubjectNotFoundException;
@@ -17,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Implementación del repositorio de actualización de asignaturas.
  * Adapta las operaciones de actualización del dominio a la infraestructura JPA.
+ *
+ * Desactivar una asignatura activa guarda un {@link SubjectDeactivatedEvent} en el outbox.
  */
 @Repository
 @RequiredArgsConstructor
@@ -25,6 +29,7 @@ public class UpdateSubjectRepositoryImp implements UpdateSubjectRepository {
 
     private final SubjectJpaRepository jpaRepository;
     private final SubjectJpaMapper mapper;
+    private final DomainEventOutbox domainEventOutbox;
 
     /**
      * Actualiza una asignatura existente.
@@ -59,6 +64,8 @@ public class UpdateSubjectRepositoryImp implements UpdateSubjectRepository {
                         );
                     });
 
+            boolean wasActive = !Boolean.FALSE.equals(existingEntity.getIsActive());
+
             // Actualizar los campos usando el mapper
             mapper.updateJpaFromDomain(subject, existingEntity);
 
@@ -66,6 +73,9 @@ public class UpdateSubjectRepositoryImp implements UpdateSubjectRepository {
             SubjectJpa updatedEntity = jpaRepository.save(existingEntity);
 
             log.info("Asignatura actualizada exitosamente. ID: {}", updatedEntity.getId());
+            if (wasActive && Boolean.FALSE.equals(updatedEntity.getIsActive())) {
+                domainEventOutbox.append(new SubjectDeactivatedEvent(updatedEntity.getId()));
+            }
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(updatedEntity);
@@ -4,26 +4,62 @@ import com.acainfo.backend.globalenum.Major;
 import com.acainfo.backend.subject.domain.value.CourseYear;
 import com.acainfo.backend.subject.domain.value.Quarter;
 import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
 
 @Repository
 public interface SubjectJpaRepository extends JpaRepository<SubjectJpa, Long> {
+
+    /**
+     * Todas las asignaturas.
+     * Los listados del catálogo usan la caché de consultas (región subjectQueries): guarda
+     * los IDs del resultado y las asignaturas salen de la caché de entidades. Hibernate los
+     * invalida en cuanto se confirma cualquier escritura sobre la tabla subjects.
+     */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
+    @Override
+    List<SubjectJpa> findAll();
+
+    /**
+     * Asignatura con sus grupos, en una sola consulta (LEFT JOIN)
+     */
+    @EntityGraph(SubjectJpa.WITH_GROUPS)
+    Optional<SubjectJpa> findWithGroupsById(Long id);
+
     /**
      * Busca asignaturas por carrera
      */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
     List<SubjectJpa> findByMajor(Major major);
 
     /**
      * Busca asignaturas por carrera y año
      */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
     List<SubjectJpa> findByMajorAndCourseYear(Major major, CourseYear courseYear);
 
     /**
      * Busca asignaturas por carrera, año y cuatrimestre
      */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
     List<SubjectJpa> findByMajorAndCourseYearAndQuarter(
             Major major,
             CourseYear courseYear,
@@ -31,17 +67,38 @@ public interface SubjectJpaRepository extends JpaRepository<SubjectJpa, Long> {
     );
 
     /**
-     * Búsqueda por texto en el nombre (case-insensitive)
+     * Búsqueda por texto en el nombre (case-insensitive).
+     * Con LOWER, como el índice de trigramas idx_subject_lower_name.
      */
-    List<SubjectJpa> findByNameContainingIgnoreCase(String name);
+    @Query("SELECT s FROM SubjectJpa s " +
+            "WHERE LOWER(s.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
+            "ORDER BY s.id")
+    List<SubjectJpa> findByNameContainingIgnoreCase(@Param("name") String name);
 
     /**
      * Busca solo asignaturas activas
      */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
     List<SubjectJpa> findByIsActiveTrue();
 
     /**
      * Busca asignaturas activas por carrera
      */
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "subjectQueries")})
     List<SubjectJpa> findByMajorAndIsActiveTrue(Major major);
-}
\ No newline at end of file
+
+    /**
+     * IDs ordenados, para borrar las asignaturas por bloques
+     */
+    @Query("SELECT s.id FROM SubjectJpa s ORDER BY s.id")
+    List<Long> findIds(Limit limit);
+
+    /**
+     * Elimina las asignaturas indicadas con un único DELETE, sin cargarlas
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SubjectJpa s WHERE s.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
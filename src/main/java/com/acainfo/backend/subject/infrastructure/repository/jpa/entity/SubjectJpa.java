@@ -6,6 +6,9 @@ import com.acainfo.backend.subject.domain.value.Quarter;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +17,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subject")
+@BatchSize(size = 50)
+@NamedEntityGraph(name = SubjectJpa.WITH_GROUPS, attributeNodes = @NamedAttributeNode("groups"))
 @Table(name = "subjects",
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -21,10 +27,9 @@ import java.util.Set;
                         columnNames = {"name", "major", "course_year", "quarter"}
                 )
         },
+        // Activas por carrera y curso (parcial) y nombre (trigramas): V4__performance_indexes.sql
         indexes = {
-                @Index(name = "idx_subject_major", columnList = "major"),
-                @Index(name = "idx_subject_major_year", columnList = "major, course_year"),
-                @Index(name = "idx_subject_active", columnList = "is_active")
+                @Index(name = "idx_subject_major_year", columnList = "major, course_year")
         }
 )
 @Getter
@@ -36,8 +41,14 @@ import java.util.Set;
 @ToString(exclude = "groups")
 public class SubjectJpa {
 
+    /**
+     * Asignatura con sus grupos en la misma consulta
+     */
+    public static final String WITH_GROUPS = "SubjectJpa.withGroups";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subjects_id_seq")
+    @SequenceGenerator(name = "subjects_id_seq", sequenceName = "subjects_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -70,6 +81,7 @@ public class SubjectJpa {
 
     @Builder.Default
     @OneToMany(mappedBy = "subject", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private Set<SubjectGroupJpa> groups = new HashSet<>();
 
     @PrePersist
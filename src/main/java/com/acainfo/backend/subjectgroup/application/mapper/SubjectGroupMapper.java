@@ -1,6 +1,8 @@
 package com.acainfo.backend.subjectgroup.application.mapper;
 
+import com.acainfo.backend.subjectgroup.domain.entity.SeatAvailability;
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.infrastructure.controller.dto.SeatAvailabilityOutputDto;
 import com.acainfo.backend.subjectgroup.infrastructure.controller.dto.SubjectGroupEditInputDto;
 import com.acainfo.backend.subjectgroup.infrastructure.controller.dto.SubjectGroupInputDto;
 import com.acainfo.backend.subjectgroup.infrastructure.controller.dto.SubjectGroupOutputDto;
@@ -69,6 +71,11 @@ public interface SubjectGroupMapper {
      */
     List<SubjectGroupOutputDto> toOutputDtoList(List<SubjectGroup> subjectGroups);
 
+    /**
+     * Convierte la ocupación de un grupo a DTO de salida.
+     */
+    SeatAvailabilityOutputDto toOutputDto(SeatAvailability seatAvailability);
+
     // ============================================
     // Métodos auxiliares personalizados
     // ============================================
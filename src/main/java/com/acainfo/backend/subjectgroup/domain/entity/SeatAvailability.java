@@ -0,0 +1,39 @@
+package com.acainfo.backend.subjectgroup.domain.entity;
+
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import lombok.*;
+
+/**
+ * Value Object con el estado de ocupación de un grupo en un instante dado.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class SeatAvailability {
+
+    private final Long groupId;
+    private final Long subjectId;
+    private final GroupStatus status;
+    private final Integer currentEnrollments;
+    private final Integer maxCapacity;
+
+    /**
+     * Plazas libres del grupo (nunca negativas).
+     */
+    public int getAvailableSeats() {
+        if (maxCapacity == null) {
+            return 0;
+        }
+        int current = currentEnrollments != null ? currentEnrollments : 0;
+        return Math.max(maxCapacity - current, 0);
+    }
+
+    /**
+     * Indica si el grupo no admite más inscripciones.
+     */
+    public boolean isFull() {
+        return getAvailableSeats() == 0;
+    }
+}
@@ -0,0 +1,19 @@
+package com.acainfo.backend.subjectgroup.domain.event;
+
+/**
+ * Evento publicado cuando se modifican los datos de un grupo (nombre, profesor, estado...).
+ * Sólo transporta los IDs: quien lo consuma debe leer el estado actual.
+ *
+ * @param groupId ID del grupo modificado
+ * @param previousTeacherId profesor antes del cambio, puede ser null
+ * @param teacherId profesor tras el cambio, puede ser null
+ */
+public record GroupDetailsChangedEvent(Long groupId, Long previousTeacherId, Long teacherId) {
+
+    /**
+     * Indica si el grupo ha cambiado de profesor.
+     */
+    public boolean teacherChanged() {
+        return previousTeacherId == null ? teacherId != null : !previousTeacherId.equals(teacherId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.acainfo.backend.subjectgroup.domain.event;
+
+import java.util.Set;
+
+/**
+ * Evento publicado cuando cambia la ocupación o la capacidad de uno o varios grupos.
+ * Sólo transporta los IDs: quien lo consuma debe leer el estado actual.
+ *
+ * @param groupIds IDs de los grupos afectados
+ */
+public record GroupSeatsChangedEvent(Set<Long> groupIds) {
+
+    public GroupSeatsChangedEvent {
+        groupIds = Set.copyOf(groupIds);
+    }
+
+    public static GroupSeatsChangedEvent of(Long groupId) {
+        return new GroupSeatsChangedEvent(Set.of(groupId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.acainfo.backend.subjectgroup.domain.event;
+
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+
+/**
+ * Evento publicado por el outbox cuando un grupo se crea o cambia de estado.
+ * Se entrega después de confirmar, fuera de la transacción que hizo el cambio.
+ *
+ * @param groupId ID del grupo
+ * @param previousStatus estado anterior, null si el grupo se acaba de crear
+ * @param status estado nuevo
+ */
+public record GroupStatusChangedEvent(Long groupId, GroupStatus previousStatus, GroupStatus status) {
+}
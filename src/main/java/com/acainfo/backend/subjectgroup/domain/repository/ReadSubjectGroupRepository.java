@@ -1,9 +1,11 @@
 package com.acainfo.backend.subjectgroup.domain.repository;
 
+import com.acainfo.backend.subjectgroup.domain.entity.SeatAvailability;
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
 import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
 import com.acainfo.backend.subjectgroup.domain.value.GroupType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,11 @@ public interface ReadSubjectGroupRepository {
      */
     List<SubjectGroup> findAll();
 
+    /**
+     * Busca varios grupos por sus IDs. Los IDs que no existen se omiten.
+     */
+    List<SubjectGroup> findAllByIds(Collection<Long> ids);
+
     /**
      * Verifica si existe un grupo con el ID dado.
      */
@@ -35,6 +42,12 @@ public interface ReadSubjectGroupRepository {
      */
     List<SubjectGroup> findBySubjectId(Long subjectId);
 
+    /**
+     * Obtiene los grupos de una asignatura, ordenados por ID, comprobando a la vez que la asignatura existe.
+     * Optional.empty() si la asignatura no existe; lista vacía si existe pero no tiene grupos.
+     */
+    Optional<List<SubjectGroup>> findBySubjectIdIfSubjectExists(Long subjectId);
+
     /**
      * Busca grupos por profesor.
      */
@@ -70,4 +83,15 @@ public interface ReadSubjectGroupRepository {
      * Cuenta el número de grupos activos de un profesor.
      */
     long countByTeacherIdAndStatus(Long teacherId, GroupStatus status);
+
+    /**
+     * Obtiene la ocupación actual de los grupos indicados.
+     * Los IDs que no existen se omiten.
+     */
+    List<SeatAvailability> findSeatAvailabilityByIds(Collection<Long> ids);
+
+    /**
+     * Obtiene la ocupación actual de todos los grupos de una asignatura, ordenados por ID.
+     */
+    List<SeatAvailability> findSeatAvailabilityBySubjectId(Long subjectId);
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package com.acainfo.backend.subjectgroup.domain.repository;
 
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Interfaz que define las operaciones de actualización para la entidad SubjectGroup.
  *
@@ -18,6 +22,17 @@ public interface UpdateSubjectGroupRepository {
      */
     SubjectGroup update(SubjectGroup subjectGroup);
 
+    /**
+     * Bloquea para escritura los grupos indicados hasta el final de la transacción.
+     * Los bloqueos se adquieren siempre en orden de ID, por lo que dos operaciones
+     * concurrentes sobre grupos compartidos no pueden interbloquearse.
+     * Debe invocarse dentro de una transacción.
+     *
+     * @param ids los IDs de los grupos
+     * @return los grupos encontrados, ordenados por ID
+     */
+    List<SubjectGroup> lockAllById(Collection<Long> ids);
+
     /**
      * Incrementa el contador de inscripciones actuales.
      * Útil cuando un estudiante se inscribe.
@@ -36,6 +51,15 @@ public interface UpdateSubjectGroupRepository {
      */
     boolean decrementEnrollmentCount(Long groupId);
 
+    /**
+     * Ajusta los contadores de inscripciones de varios grupos en un único lote.
+     * Los contadores nunca quedan por debajo de 0.
+     * Útil para procesos masivos que alteran muchas inscripciones a la vez.
+     *
+     * @param deltas variación a aplicar por ID de grupo (positiva o negativa)
+     */
+    void adjustEnrollmentCounts(Map<Long, Integer> deltas);
+
     /**
      * Verifica si un grupo existe antes de intentar actualizarlo.
      */
@@ -0,0 +1,64 @@
+package com.acainfo.backend.subjectgroup.infrastructure.cache;
+
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bloquea en la caché de segundo nivel los grupos cuyo contador de inscripciones se
+ * cambia con UPDATE masivos o por JDBC, que Hibernate no refleja en la caché de cada entidad.
+ *
+ * Hace lo mismo que Hibernate con las entidades que guarda: antes de la sentencia deja
+ * un bloqueo en lugar de cada grupo y lo libera al terminar la transacción, confirmada
+ * o deshecha. Mientras dura nadie lee esos grupos de la caché, y al liberarlo sólo pueden
+ * volver a cachearlos las transacciones que empiecen después. Un desalojo no basta: una
+ * transacción que leyó el contador anterior antes de confirmar encontraría la entrada
+ * vacía y lo guardaría en la caché.
+ *
+ * Los cambios que Hibernate hace con la entidad (update) no pasan por aquí: él mismo
+ * bloquea la entrada y la sustituye por la nueva al confirmar.
+ */
+@Component
+public class GroupSeatsCacheLock {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Bloquea los grupos hasta que termine la transacción en curso, que debe existir.
+     */
+    public void lockUntilCompletion(Collection<Long> groupIds) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        SessionFactoryImplementor factory = session.getFactory();
+        EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor(SubjectGroupJpa.class);
+        if (groupIds.isEmpty() || !persister.canWriteToCache()) {
+            return;
+        }
+
+        EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+        Map<Object, SoftLock> locks = new LinkedHashMap<>();
+        for (Long groupId : groupIds) {
+            Object key = cacheAccess.generateCacheKey(groupId, persister, factory, session.getTenantIdentifier());
+            locks.put(key, cacheAccess.lockItem(session, key, null));
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                locks.forEach((key, lock) -> cacheAccess.unlockItem(session, key, lock));
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package com.acainfo.backend.subjectgroup.infrastructure.controller;
+
+import com.acainfo.backend.subjectgroup.infrastructure.stream.SeatAvailabilityBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controlador REST con los streams SSE de plazas disponibles.
+ *
+ * Cada conexión recibe primero el estado actual y después un evento "seats"
+ * por grupo cada vez que cambia su ocupación o su capacidad.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Seat Availability", description = "Plazas disponibles de los grupos en tiempo real")
+public class SeatAvailabilityController {
+
+    private final SeatAvailabilityBroadcaster broadcaster;
+
+    @GetMapping(value = "/subject-groups/{groupId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'STUDENT')")
+    @Operation(summary = "Seguir las plazas de un grupo",
+            description = "Stream SSE con la ocupación del grupo. Los cambios próximos en el tiempo se agrupan en un único evento")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream abierto"),
+            @ApiResponse(responseCode = "404", description = "Grupo no encontrado")
+    })
+    public ResponseEntity<SseEmitter> streamGroupSeats(
+            @Parameter(description = "ID del grupo") @PathVariable Long groupId) {
+        log.info("GET /api/v1/subject-groups/{}/seats/stream", groupId);
+
+        return broadcaster.subscribeToGroup(groupId)
+                .map(this::streamResponse)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/subjects/{subjectId}/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER', 'STUDENT')")
+    @Operation(summary = "Seguir las plazas de los grupos de una asignatura",
+            description = "Stream SSE con un evento por grupo de la asignatura cada vez que cambia su ocupación")
+    public ResponseEntity<SseEmitter> streamSubjectSeats(
+            @Parameter(description = "ID de la asignatura") @PathVariable Long subjectId) {
+        log.info("GET /api/v1/subjects/{}/seats/stream", subjectId);
+
+        return streamResponse(broadcaster.subscribeToSubject(subjectId));
+    }
+
+    private ResponseEntity<SseEmitter> streamResponse(SseEmitter emitter) {
+        // Evita que proxies intermedios almacenen o retengan los eventos
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
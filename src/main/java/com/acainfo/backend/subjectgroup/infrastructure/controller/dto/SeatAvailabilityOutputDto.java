@@ -0,0 +1,38 @@
+package com.acainfo.backend.subjectgroup.infrastructure.controller.dto;
+
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO de salida con la ocupación de un grupo.
+ * Es el contenido de cada evento de los streams de plazas disponibles.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ocupación actual de un grupo de asignatura")
+public class SeatAvailabilityOutputDto {
+
+    @Schema(description = "ID del grupo", example = "1")
+    private Long groupId;
+
+    @Schema(description = "ID de la asignatura del grupo", example = "1")
+    private Long subjectId;
+
+    @Schema(description = "Estado actual del grupo", example = "ACTIVE")
+    private GroupStatus status;
+
+    @Schema(description = "Número actual de estudiantes inscritos", example = "18")
+    private Integer currentEnrollments;
+
+    @Schema(description = "Capacidad máxima de estudiantes", example = "24")
+    private Integer maxCapacity;
+
+    @Schema(description = "Plazas libres", example = "6")
+    private Integer availableSeats;
+
+    @Schema(description = "Indica si el grupo está completo", example = "false")
+    private Boolean full;
+}
@@ -1,14 +1,21 @@
 package com.acainfo.backend.subjectgroup.infrastructure.repository.imp;
 
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupStatusChangedEvent;
 import com.acainfo.backend.subjectgroup.domain.exception.DuplicateGroupException;
 import com.acainfo.backend.subjectgroup.domain.exception.InvalidSubjectGroupDataException;
 import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.mapper.SubjectGroupJpaMapper;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Implementación del repositorio de creación de grupos de asignatura.
  * Adapta la interfaz del dominio a la infraestructura de persistencia.
+ * Cada alta guarda un {@link GroupStatusChangedEvent} sin estado anterior en el outbox y
+ * publica un {@link GroupDetailsChangedEvent} sin profesor anterior, para que las cachés
+ * del profesor (su calendario, por ejemplo) incluyan el grupo nuevo.
  */
 @Repository
 @RequiredArgsConstructor
@@ -24,6 +34,9 @@ public class CreateSubjectGroupRepositoryImp implements CreateSubjectGroupReposi
 
     private final SubjectGroupJpaRepository jpaRepository;
     private final SubjectGroupJpaMapper mapper;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final DomainEventOutbox domainEventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Persiste un nuevo grupo de asignatura en el sistema.
@@ -48,13 +61,29 @@ public class CreateSubjectGroupRepositoryImp implements CreateSubjectGroupReposi
             // Convertir de dominio a JPA
             SubjectGroupJpa jpaEntity = mapper.toJpa(subjectGroup);
 
+            // Relaciones por referencia: el mapper sólo copia los IDs del dominio
+            if (subjectGroup.getSubjectId() != null) {
+                SubjectJpa subject = new SubjectJpa();
+                subject.setId(subjectGroup.getSubjectId());
+                jpaEntity.setSubject(subject);
+            }
+            if (subjectGroup.getTeacherId() != null) {
+                TeacherJpa teacher = new TeacherJpa();
+                teacher.setId(subjectGroup.getTeacherId());
+                jpaEntity.setTeacher(teacher);
+            }
+
             // Persistir en base de datos
-            SubjectGroupJpa savedEntity = jpaRepository.save(jpaEntity);
+            SubjectGroupJpa savedEntity = jpaRepository.saveAndFlush(jpaEntity);
 
             log.info("Grupo creado exitosamente con ID: {}", savedEntity.getId());
 
             // Convertir de vuelta a dominio y retornar
-            return mapper.toDomain(savedEntity);
+            SubjectGroup savedGroup = mapper.toDomain(savedEntity);
+            teacherScheduleIndex.registerGroup(savedGroup.getId(), savedGroup.getTeacherId(), savedGroup.getStatus());
+            domainEventOutbox.append(new GroupStatusChangedEvent(savedGroup.getId(), null, savedGroup.getStatus()));
+            eventPublisher.publishEvent(new GroupDetailsChangedEvent(savedGroup.getId(), null, savedGroup.getTeacherId()));
+            return savedGroup;
 
         } catch (DataIntegrityViolationException e) {
             log.error("Error de integridad al crear grupo: {}", e.getMessage());
@@ -1,17 +1,27 @@
 package com.acainfo.backend.subjectgroup.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
 import com.acainfo.backend.subjectgroup.domain.exception.InvalidSubjectGroupDataException;
 import com.acainfo.backend.subjectgroup.domain.repository.DeleteSubjectGroupRepository;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementación del repositorio de eliminación de grupos de asignatura.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
+ * Cada borrado publica un evento para que las cachés, también las de otros nodos,
+ * dejen de incluir el grupo.
  */
 @Repository
 @RequiredArgsConstructor
@@ -19,6 +29,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteSubjectGroupRepositoryImp implements DeleteSubjectGroupRepository {
 
     private final SubjectGroupJpaRepository jpaRepository;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final AppProperties appProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Elimina un grupo por su ID.
@@ -33,14 +46,13 @@ public class DeleteSubjectGroupRepositoryImp implements DeleteSubjectGroupReposi
     public boolean deleteById(Long id) {
         log.debug("Iniciando eliminación de grupo con ID: {}", id);
 
-        // Verificar si existe antes de intentar eliminar
-        if (!jpaRepository.existsById(id)) {
-            log.warn("Intento de eliminar grupo inexistente. ID: {}", id);
-            return false;
-        }
-
         try {
-            jpaRepository.deleteById(id);
+            if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
+                log.warn("Intento de eliminar grupo inexistente. ID: {}", id);
+                return false;
+            }
+            teacherScheduleIndex.removeGroup(id);
+            eventPublisher.publishEvent(new GroupDetailsChangedEvent(id, null, null));
             log.info("Grupo eliminado exitosamente. ID: {}", id);
             return true;
 
@@ -66,8 +78,10 @@ public class DeleteSubjectGroupRepositoryImp implements DeleteSubjectGroupReposi
         log.warn("Iniciando eliminación de TODOS los grupos");
 
         try {
-            long count = jpaRepository.count();
-            jpaRepository.deleteAll();
+            int count = deleteInChunks();
+            teacherScheduleIndex.clearGroups();
+            // Sin grupos tampoco quedan horarios: las cachés de horarios se vacían enteras
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.ofAllGroups());
             log.info("Se eliminaron {} grupos", count);
 
         } catch (DataIntegrityViolationException e) {
@@ -108,4 +122,22 @@ public class DeleteSubjectGroupRepositoryImp implements DeleteSubjectGroupReposi
         log.debug("Grupo con ID: {} puede ser eliminado", id);
         return true;
     }
+
+    /**
+     * Borra todos los grupos por bloques de IDs, con un DELETE por bloque y sin cargar las entidades.
+     *
+     * @return el número de grupos eliminados
+     */
+    private int deleteInChunks() {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findIds(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -1,17 +1,22 @@
 package com.acainfo.backend.subjectgroup.infrastructure.repository.imp;
 
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SeatAvailability;
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
 import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
 import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
 import com.acainfo.backend.subjectgroup.domain.value.GroupType;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.SeatAvailabilityView;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.mapper.SubjectGroupJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +31,7 @@ import java.util.Optional;
 public class ReadSubjectGroupRepositoryImp implements ReadSubjectGroupRepository {
 
     private final SubjectGroupJpaRepository jpaRepository;
+    private final SubjectJpaRepository subjectJpaRepository;
     private final SubjectGroupJpaMapper mapper;
 
     @Override
@@ -44,6 +50,18 @@ public class ReadSubjectGroupRepositoryImp implements ReadSubjectGroupRepository
         return mapper.toDomainList(jpaEntities);
     }
 
+    @Override
+    public List<SubjectGroup> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Obteniendo {} grupos por ID", ids.size());
+
+        List<SubjectGroupJpa> jpaEntities = jpaRepository.findAllById(ids);
+        return mapper.toDomainList(jpaEntities);
+    }
+
     @Override
     public boolean existsById(Long id) {
         log.debug("Verificando existencia de grupo con ID: {}", id);
@@ -59,6 +77,21 @@ public class ReadSubjectGroupRepositoryImp implements ReadSubjectGroupRepository
         return mapper.toDomainList(jpaEntities);
     }
 
+    /**
+     * La asignatura y sus grupos salen de la misma consulta (grafo SubjectJpa.withGroups):
+     * sirve a la vez de comprobación de existencia.
+     */
+    @Override
+    public Optional<List<SubjectGroup>> findBySubjectIdIfSubjectExists(Long subjectId) {
+        log.debug("Buscando grupos de la asignatura con ID: {}", subjectId);
+
+        return subjectJpaRepository.findWithGroupsById(subjectId)
+                .map(subject -> subject.getGroups().stream()
+                        .sorted(Comparator.comparing(SubjectGroupJpa::getId))
+                        .map(mapper::toDomain)
+                        .toList());
+    }
+
     @Override
     public List<SubjectGroup> findByTeacherId(Long teacherId) {
         log.debug("Buscando grupos por profesor ID: {}", teacherId);
@@ -138,4 +171,35 @@ public class ReadSubjectGroupRepositoryImp implements ReadSubjectGroupRepository
 
         return jpaRepository.countByTeacherIdAndStatus(teacherId, status);
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<SeatAvailability> findSeatAvailabilityByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Consultando ocupación de {} grupos", ids.size());
+        return jpaRepository.findSeatAvailabilityByIds(ids).stream()
+                .map(this::toSeatAvailability)
+                .toList();
+    }
+
+    @Override
+    public List<SeatAvailability> findSeatAvailabilityBySubjectId(Long subjectId) {
+        log.debug("Consultando ocupación de los grupos de la asignatura ID: {}", subjectId);
+
+        return jpaRepository.findSeatAvailabilityBySubjectId(subjectId).stream()
+                .map(this::toSeatAvailability)
+                .toList();
+    }
+
+    private SeatAvailability toSeatAvailability(SeatAvailabilityView view) {
+        return SeatAvailability.builder()
+                .groupId(view.groupId())
+                .subjectId(view.subjectId())
+                .status(view.status())
+                .currentEnrollments(view.currentEnrollments())
+                .maxCapacity(view.maxCapacity())
+                .build();
+    }
+}
@@ -1,22 +1,42 @@
 package com.acainfo.backend.subjectgroup.infrastructure.repository.imp;
 
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
+import com.acainfo.backend.groupsession.domain.exception.DuplicateGroupSessionException;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
 import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.event.GroupDetailsChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupSeatsChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.event.GroupStatusChangedEvent;
 import com.acainfo.backend.subjectgroup.domain.exception.DuplicateGroupException;
 import com.acainfo.backend.subjectgroup.domain.exception.InvalidSubjectGroupDataException;
 import com.acainfo.backend.subjectgroup.domain.exception.SubjectGroupNotFoundException;
 import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.infrastructure.cache.GroupSeatsCacheLock;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.mapper.SubjectGroupJpaMapper;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.*;
+
 /**
  * Implementación del repositorio de actualización de grupos de asignatura.
  * Adapta las operaciones de actualización del dominio a la infraestructura JPA.
+ *
+ * Los contadores de inscripciones se cambian con UPDATE masivos o por JDBC, con los grupos
+ * bloqueados en la caché de segundo nivel por {@link GroupSeatsCacheLock}.
+ * Cada cambio de ocupación o capacidad publica un {@link GroupSeatsChangedEvent}, y cada
+ * actualización de los datos del grupo un {@link GroupDetailsChangedEvent}. Los cambios de
+ * estado se guardan además como {@link GroupStatusChangedEvent} en el outbox.
  */
 @Repository
 @RequiredArgsConstructor
@@ -25,6 +45,15 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
 
     private final SubjectGroupJpaRepository jpaRepository;
     private final SubjectGroupJpaMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final GroupSeatsCacheLock groupSeatsCacheLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TeacherScheduleIndex teacherScheduleIndex;
+    private final DomainEventOutbox domainEventOutbox;
+
+    private static final String ADJUST_ENROLLMENT_COUNT_SQL =
+            "UPDATE subject_groups SET current_enrollments = GREATEST(current_enrollments + ?, 0) " +
+            "WHERE id = ?";
 
     /**
      * Actualiza un grupo existente.
@@ -34,6 +63,7 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
      * @return el grupo actualizado
      * @throws SubjectGroupNotFoundException si el grupo no existe
      * @throws DuplicateGroupException si la actualización viola constraints únicos
+     * @throws DuplicateGroupSessionException si el nuevo profesor ya tiene clase en alguna franja del grupo
      */
     @Override
     @Transactional
@@ -59,13 +89,35 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
                         );
                     });
 
+            Long previousTeacherId = existingEntity.getTeacher() != null ? existingEntity.getTeacher().getId() : null;
+            GroupStatus previousStatus = existingEntity.getStatus();
+
             // Actualizar los campos usando el mapper
             mapper.updateJpaFromDomain(subjectGroup, existingEntity);
 
+            // Cambio de profesor
+            if (subjectGroup.getTeacherId() != null && (existingEntity.getTeacher() == null
+                    || !subjectGroup.getTeacherId().equals(existingEntity.getTeacher().getId()))) {
+                TeacherJpa teacher = new TeacherJpa();
+                teacher.setId(subjectGroup.getTeacherId());
+                existingEntity.setTeacher(teacher);
+            }
+
             // Persistir los cambios
             SubjectGroupJpa updatedEntity = jpaRepository.save(existingEntity);
 
+            // Las sesiones del grupo deben caber en el horario del profesor
+            teacherScheduleIndex.reassignGroup(updatedEntity.getId(),
+                    updatedEntity.getTeacher() != null ? updatedEntity.getTeacher().getId() : null,
+                    updatedEntity.getStatus());
+
             log.info("Grupo actualizado exitosamente. ID: {}", updatedEntity.getId());
+            eventPublisher.publishEvent(GroupSeatsChangedEvent.of(updatedEntity.getId()));
+            eventPublisher.publishEvent(new GroupDetailsChangedEvent(updatedEntity.getId(), previousTeacherId,
+                    updatedEntity.getTeacher() != null ? updatedEntity.getTeacher().getId() : null));
+            if (previousStatus != updatedEntity.getStatus()) {
+                domainEventOutbox.append(new GroupStatusChangedEvent(updatedEntity.getId(), previousStatus, updatedEntity.getStatus()));
+            }
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(updatedEntity);
@@ -93,16 +145,29 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
         }
     }
 
+    @Override
+    @Transactional
+    public List<SubjectGroup> lockAllById(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        log.debug("Bloqueando {} grupos para actualización", ids.size());
+        return mapper.toDomainList(jpaRepository.findAllByIdForUpdate(ids));
+    }
+
     @Override
     @Transactional
     public boolean incrementEnrollmentCount(Long groupId) {
         log.debug("Incrementando contador de inscripciones para grupo ID: {}", groupId);
 
+        groupSeatsCacheLock.lockUntilCompletion(Set.of(groupId));
         int rowsAffected = jpaRepository.incrementEnrollmentCount(groupId);
         boolean success = rowsAffected > 0;
 
         if (success) {
             log.debug("Contador incrementado exitosamente para grupo ID: {}", groupId);
+            eventPublisher.publishEvent(GroupSeatsChangedEvent.of(groupId));
         } else {
             log.warn("No se pudo incrementar el contador para grupo ID: {} (posiblemente lleno)", groupId);
         }
@@ -115,11 +180,13 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
     public boolean decrementEnrollmentCount(Long groupId) {
         log.debug("Decrementando contador de inscripciones para grupo ID: {}", groupId);
 
+        groupSeatsCacheLock.lockUntilCompletion(Set.of(groupId));
         int rowsAffected = jpaRepository.decrementEnrollmentCount(groupId);
         boolean success = rowsAffected > 0;
 
         if (success) {
             log.debug("Contador decrementado exitosamente para grupo ID: {}", groupId);
+            eventPublisher.publishEvent(GroupSeatsChangedEvent.of(groupId));
         } else {
             log.warn("No se pudo decrementar el contador para grupo ID: {} (posiblemente en 0)", groupId);
         }
@@ -127,6 +194,33 @@ public class UpdateSubjectGroupRepositoryImp implements UpdateSubjectGroupReposi
         return success;
     }
 
+    @Override
+    @Transactional
+    public void adjustEnrollmentCounts(Map<Long, Integer> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        Set<Long> changedGroupIds = new HashSet<>();
+        deltas.forEach((groupId, delta) -> {
+            if (delta != null && delta != 0) {
+                batchArgs.add(new Object[]{delta, groupId});
+                changedGroupIds.add(groupId);
+            }
+        });
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        log.debug("Ajustando contadores de inscripciones de {} grupos", batchArgs.size());
+        // El UPDATE por JDBC no pasa por Hibernate: los grupos quedan bloqueados en la caché de segundo nivel
+        groupSeatsCacheLock.lockUntilCompletion(changedGroupIds);
+        jdbcTemplate.batchUpdate(ADJUST_ENROLLMENT_COUNT_SQL, batchArgs);
+        eventPublisher.publishEvent(new GroupSeatsChangedEvent(changedGroupIds));
+    }
+
     @Override
     public boolean existsById(Long id) {
         log.debug("Verificando existencia de grupo con ID: {}", id);
@@ -3,13 +3,20 @@ package com.acainfo.backend.subjectgroup.infrastructure.repository.jpa;
 import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
 import com.acainfo.backend.subjectgroup.domain.value.GroupType;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.GroupTeacherView;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.SeatAvailabilityView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface SubjectGroupJpaRepository extends JpaRepository<SubjectGroupJpa, Long> {
@@ -51,6 +58,43 @@ public interface SubjectGroupJpaRepository extends JpaRepository<SubjectGroupJpa
             "AND g.status = 'ACTIVE' AND g.currentEnrollments < g.maxCapacity")
     List<SubjectGroupJpa> findAvailableGroupsBySubjectId(@Param("subjectId") Long subjectId);
 
+    /**
+     * Obtiene la ocupación de varios grupos sin cargar las entidades
+     */
+    @Query("SELECT new com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.SeatAvailabilityView(" +
+            "g.id, g.subject.id, g.status, g.currentEnrollments, g.maxCapacity) " +
+            "FROM SubjectGroupJpa g WHERE g.id IN :ids")
+    List<SeatAvailabilityView> findSeatAvailabilityByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene la ocupación de todos los grupos de una asignatura
+     */
+    @Query("SELECT new com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.SeatAvailabilityView(" +
+            "g.id, g.subject.id, g.status, g.currentEnrollments, g.maxCapacity) " +
+            "FROM SubjectGroupJpa g WHERE g.subject.id = :subjectId ORDER BY g.id")
+    List<SeatAvailabilityView> findSeatAvailabilityBySubjectId(@Param("subjectId") Long subjectId);
+
+    /**
+     * Obtiene el profesor y el estado de todos los grupos
+     */
+    @Query("SELECT new com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.GroupTeacherView(" +
+            "g.id, g.teacher.id, g.status) FROM SubjectGroupJpa g")
+    List<GroupTeacherView> findAllTeacherAssignments();
+
+    /**
+     * Obtiene el profesor y el estado de un grupo
+     */
+    @Query("SELECT new com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.GroupTeacherView(" +
+            "g.id, g.teacher.id, g.status) FROM SubjectGroupJpa g WHERE g.id = :id")
+    Optional<GroupTeacherView> findTeacherAssignmentById(@Param("id") Long id);
+
+    /**
+     * Obtiene el profesor y el estado de varios grupos
+     */
+    @Query("SELECT new com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection.GroupTeacherView(" +
+            "g.id, g.teacher.id, g.status) FROM SubjectGroupJpa g WHERE g.id IN :ids")
+    List<GroupTeacherView> findTeacherAssignmentsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Cuenta grupos por profesor y estado
      */
@@ -62,7 +106,18 @@ public interface SubjectGroupJpaRepository extends JpaRepository<SubjectGroupJpa
     boolean existsByName(String name);
 
     /**
-     * Incrementa el contador de inscripciones
+     * Bloquea varios grupos con un único SELECT ... FOR UPDATE.
+     * Se ordenan por ID para que el orden de bloqueo sea siempre el mismo y no haya interbloqueos.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM SubjectGroupJpa g WHERE g.id IN :ids ORDER BY g.id")
+    List<SubjectGroupJpa> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Incrementa el contador de inscripciones.
+     * Como toda sentencia UPDATE/DELETE en JPQL, Hibernate vacía la región subjectGroup de
+     * la caché de segundo nivel antes y después de la transacción; quien la llama bloquea
+     * además el grupo hasta que termina (GroupSeatsCacheLock).
      */
     @Modifying
     @Query("UPDATE SubjectGroupJpa g SET g.currentEnrollments = g.currentEnrollments + 1 " +
@@ -83,4 +138,17 @@ public interface SubjectGroupJpaRepository extends JpaRepository<SubjectGroupJpa
     @Query("SELECT CASE WHEN g.currentEnrollments > 0 THEN true ELSE false END " +
             "FROM SubjectGroupJpa g WHERE g.id = :groupId")
     boolean hasEnrollments(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    /**
+     * IDs ordenados, para borrar los grupos por bloques
+     */
+    @Query("SELECT g.id FROM SubjectGroupJpa g ORDER BY g.id")
+    List<Long> findIds(Limit limit);
+
+    /**
+     * Elimina los grupos indicados con un único DELETE, sin cargarlos
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM SubjectGroupJpa g WHERE g.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -8,6 +8,9 @@ import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJ
 import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,6 +20,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "subjectGroup")
+@BatchSize(size = 50)
 @Table(name = "subject_groups",
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -25,8 +30,6 @@ import java.util.Set;
                 )
         },
         indexes = {
-                @Index(name = "idx_group_subject", columnList = "subject_id"),
-                @Index(name = "idx_group_teacher", columnList = "teacher_id"),
                 @Index(name = "idx_group_status", columnList = "status"),
                 @Index(name = "idx_group_type", columnList = "type"),
                 @Index(name = "idx_group_subject_status", columnList = "subject_id, status"),
@@ -43,7 +46,8 @@ import java.util.Set;
 public class SubjectGroupJpa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subject_groups_id_seq")
+    @SequenceGenerator(name = "subject_groups_id_seq", sequenceName = "subject_groups_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -88,11 +92,13 @@ public class SubjectGroupJpa {
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "group", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     @Builder.Default
     private Set<EnrollmentJpa> enrollments = new HashSet<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "group", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private Set<GroupSessionJpa> sessions = new HashSet<>();
 
     @PrePersist
@@ -0,0 +1,11 @@
+package com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+
+/**
+ * Proyección con el profesor y el estado de un grupo.
+ */
+public record GroupTeacherView(Long groupId,
+                               Long teacherId,
+                               GroupStatus status) {
+}
@@ -0,0 +1,13 @@
+package com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.projection;
+
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+
+/**
+ * Proyección con los datos de ocupación de un grupo.
+ */
+public record SeatAvailabilityView(Long groupId,
+                                   Long subjectId,
+                                   GroupStatus status,
+                                   Integer currentEnrollments,
+                                   Integer maxCapacity) {
+}
@@ -0,0 +1,281 @@
+package com.acainfo.backend.subjectgroup.infrastructure.stream;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.subjectgroup.application.mapper.SubjectGroupMapper;
+import com.acainfo.backend.subjectgroup.domain.entity.SeatAvailability;
+import com.acainfo.backend.subjectgroup.domain.event.GroupSeatsChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Difunde por SSE los cambios de plazas de los grupos.
+ *
+ * Los cambios confirmados sólo marcan el grupo como pendiente. Cada ventana de
+ * coalescencia se leen de una vez los grupos pendientes y se reparte un único evento
+ * por grupo a los suscriptores del grupo y de su asignatura.
+ *
+ * Cada suscriptor tiene un buffer acotado: si no consume a tiempo se descartan sus
+ * eventos más antiguos, nunca se bloquea el reparto. El envío lo hace un hilo virtual
+ * por suscriptor, por lo que miles de conexiones abiertas apenas consumen recursos.
+ */
+@Component
+@Slf4j
+public class SeatAvailabilityBroadcaster {
+
+    private static final String EVENT_NAME = "seats";
+
+    private final ReadSubjectGroupRepository readSubjectGroupRepository;
+    private final SubjectGroupMapper subjectGroupMapper;
+    private final AppProperties.SeatStream properties;
+
+    private final Set<Long> dirtyGroupIds = ConcurrentHashMap.newKeySet();
+    private final Map<Topic, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    private ScheduledExecutorService flusher;
+    private ExecutorService senders;
+
+    public SeatAvailabilityBroadcaster(ReadSubjectGroupRepository readSubjectGroupRepository,
+                                       SubjectGroupMapper subjectGroupMapper,
+                                       AppProperties appProperties) {
+        this.readSubjectGroupRepository = readSubjectGroupRepository;
+        this.subjectGroupMapper = subjectGroupMapper;
+        this.properties = appProperties.getSeatStream();
+    }
+
+    @PostConstruct
+    void start() {
+        long window = properties.getCoalesceWindowMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("seat-stream-flusher").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("seat-stream-", 0).factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        flusher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        senders.shutdownNow();
+    }
+
+    /**
+     * Registra un suscriptor a los cambios de un grupo.
+     *
+     * @param groupId el ID del grupo
+     * @return el emisor SSE, o vacío si el grupo no existe
+     */
+    public Optional<SseEmitter> subscribeToGroup(Long groupId) {
+        Subscriber subscriber = register(Topic.group(groupId));
+        try {
+            List<SeatAvailability> current = readSubjectGroupRepository.findSeatAvailabilityByIds(List.of(groupId));
+            if (current.isEmpty()) {
+                unregister(subscriber);
+                return Optional.empty();
+            }
+
+            start(subscriber, current);
+            return Optional.of(subscriber.emitter);
+        } catch (RuntimeException e) {
+            unregister(subscriber);
+            throw e;
+        }
+    }
+
+    /**
+     * Registra un suscriptor a los cambios de todos los grupos de una asignatura.
+     * El primer evento de cada grupo es su estado actual.
+     *
+     * @param subjectId el ID de la asignatura
+     * @return el emisor SSE
+     */
+    public SseEmitter subscribeToSubject(Long subjectId) {
+        Subscriber subscriber = register(Topic.subject(subjectId));
+        try {
+            start(subscriber, readSubjectGroupRepository.findSeatAvailabilityBySubjectId(subjectId));
+            return subscriber.emitter;
+        } catch (RuntimeException e) {
+            unregister(subscriber);
+            throw e;
+        }
+    }
+
+    /**
+     * Marca como pendientes los grupos modificados una vez confirmada la transacción.
+     * Si no hay suscriptores no hay nada que difundir: quien se suscriba después
+     * recibirá el estado actual al conectarse.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupSeatsChanged(GroupSeatsChangedEvent event) {
+        if (!subscribers.isEmpty()) {
+            dirtyGroupIds.addAll(event.groupIds());
+        }
+    }
+
+    /**
+     * Número de conexiones abiertas.
+     */
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Lee en una única consulta los grupos pendientes y reparte su estado.
+     */
+    void flush() {
+        if (dirtyGroupIds.isEmpty()) {
+            return;
+        }
+
+        Set<Long> batch = new HashSet<>();
+        for (Iterator<Long> it = dirtyGroupIds.iterator(); it.hasNext(); ) {
+            batch.add(it.next());
+            it.remove();
+        }
+
+        try {
+            // Los cambios se acaban de confirmar en otro hilo: la réplica puede no tenerlos aún
+            List<SeatAvailability> current = ReadRouting.onPrimary(() ->
+                    readSubjectGroupRepository.findSeatAvailabilityByIds(batch));
+            for (SeatAvailability seats : current) {
+                publish(Topic.group(seats.getGroupId()), seats);
+                publish(Topic.subject(seats.getSubjectId()), seats);
+            }
+        } catch (RuntimeException e) {
+            // Se reintenta en la siguiente ventana
+            log.error("Error difundiendo la ocupación de {} grupos: {}", batch.size(), e.getMessage());
+            dirtyGroupIds.addAll(batch);
+        }
+    }
+
+    private void publish(Topic topic, SeatAvailability seats) {
+        Set<Subscriber> targets = subscribers.get(topic);
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(seats));
+        }
+    }
+
+    /**
+     * Encola el estado actual y arranca el envío del suscriptor.
+     */
+    private void start(Subscriber subscriber, List<SeatAvailability> current) {
+        current.forEach(subscriber::offer);
+        senders.execute(subscriber);
+    }
+
+    /**
+     * Da de alta un suscriptor antes de leer su estado actual, para que no se pierda un
+     * cambio confirmado entre la lectura y el alta. Si la suscripción no llega a
+     * arrancar, quien lo registra debe darlo de baja.
+     */
+    private Subscriber register(Topic topic) {
+        long timeout = TimeUnit.MINUTES.toMillis(properties.getTimeoutMinutes());
+        Subscriber subscriber = new Subscriber(topic, new SseEmitter(timeout), properties.getSubscriberBufferSize());
+        subscribers.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onTimeout(() -> unregister(subscriber));
+        subscriber.emitter.onError(error -> unregister(subscriber));
+
+        log.debug("Nuevo suscriptor de plazas para {}", topic);
+        return subscriber;
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriber.close();
+        subscribers.computeIfPresent(subscriber.topic, (key, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private record Topic(String type, Long id) {
+
+        static Topic group(Long groupId) {
+            return new Topic("group", groupId);
+        }
+
+        static Topic subject(Long subjectId) {
+            return new Topic("subject", subjectId);
+        }
+
+        @Override
+        public String toString() {
+            return type + ":" + id;
+        }
+    }
+
+    /**
+     * Conexión abierta con su buffer de eventos pendientes de enviar.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final Topic topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SeatAvailability> buffer;
+        private volatile boolean closed;
+        private volatile Thread worker;
+
+        private Subscriber(Topic topic, SseEmitter emitter, int bufferSize) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * Encola un evento sin bloquear; si el buffer está lleno descarta el más antiguo.
+         */
+        void offer(SeatAvailability seats) {
+            while (!closed && !buffer.offer(seats)) {
+                buffer.poll();
+            }
+        }
+
+        @Override
+        public void run() {
+            worker = Thread.currentThread();
+            long heartbeat = properties.getHeartbeatSeconds();
+            try {
+                while (!closed) {
+                    SeatAvailability next = buffer.poll(heartbeat, TimeUnit.SECONDS);
+                    if (next == null) {
+                        // Mantiene viva la conexión y detecta clientes desconectados
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(eventSequence.incrementAndGet()))
+                                .name(EVENT_NAME)
+                                .data(subjectGroupMapper.toOutputDto(next), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Suscriptor de {} desconectado: {}", topic, e.getMessage());
+            } finally {
+                unregister(this);
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            closed = true;
+            Thread current = worker;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
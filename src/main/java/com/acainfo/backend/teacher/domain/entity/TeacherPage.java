@@ -0,0 +1,24 @@
+package com.acainfo.backend.teacher.domain.entity;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Value Object con una página de profesores ordenada por ID.
+ * La siguiente página se pide con {@code nextCursor}, que es null en la última.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TeacherPage {
+
+    private final List<TeacherSummary> teachers;
+    private final Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
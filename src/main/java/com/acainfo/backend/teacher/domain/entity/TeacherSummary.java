@@ -0,0 +1,24 @@
+package com.acainfo.backend.teacher.domain.entity;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value Object con los datos de un profesor para listados y búsquedas.
+ * No incluye la contraseña: sólo {@link Teacher} la transporta, para autenticación.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class TeacherSummary {
+
+    private final Long id;
+    private final String name;
+    private final String email;
+    private final String phoneNumber;
+    private final boolean admin;
+    private final LocalDateTime registeredAt;
+}
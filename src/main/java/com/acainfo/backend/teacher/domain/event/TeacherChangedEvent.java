@@ -0,0 +1,27 @@
+package com.acainfo.backend.teacher.domain.event;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evento publicado cuando se crean, modifican o eliminan profesores.
+ * Sólo transporta los IDs afectados: quien lo consuma debe leer el estado actual.
+ *
+ * @param teacherIds IDs de los profesores que han cambiado
+ * @param allTeachers true si el cambio puede afectar a cualquier profesor (borrados masivos)
+ */
+public record TeacherChangedEvent(Set<Long> teacherIds, boolean allTeachers) {
+
+    public TeacherChangedEvent {
+        teacherIds = Set.copyOf(teacherIds);
+    }
+
+    public static TeacherChangedEvent of(Long... teacherIds) {
+        return new TeacherChangedEvent(new HashSet<>(Arrays.asList(teacherIds)), false);
+    }
+
+    public static TeacherChangedEvent ofAllTeachers() {
+        return new TeacherChangedEvent(Set.of(), true);
+    }
+}
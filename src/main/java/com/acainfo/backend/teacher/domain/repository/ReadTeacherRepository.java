@@ -1,7 +1,10 @@
 package com.acainfo.backend.teacher.domain.repository;
 
 import com.acainfo.backend.teacher.domain.entity.Teacher;
+import com.acainfo.backend.teacher.domain.entity.TeacherPage;
+import com.acainfo.backend.teacher.domain.entity.TeacherSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +12,8 @@ import java.util.Optional;
  * Interfaz que define las operaciones de lectura para la entidad Teacher.
  *
  * Contiene operaciones de consulta sin efectos secundarios.
+ * Los listados y búsquedas devuelven {@link TeacherSummary}, sin contraseña;
+ * sólo las búsquedas por ID o email cargan el profesor completo.
  * Los filtrados complejos y validaciones se manejan en la capa de servicio.
  */
 public interface ReadTeacherRepository {
@@ -19,9 +24,9 @@ public interface ReadTeacherRepository {
     Optional<Teacher> findById(Long id);
 
     /**
-     * Obtiene todos los profesores.
+     * Obtiene todos los profesores, sin contraseña, ordenados por ID.
      */
-    List<Teacher> findAll();
+    List<TeacherSummary> findAll();
 
     /**
      * Verifica si existe un profesor con el ID dado.
@@ -42,15 +47,31 @@ public interface ReadTeacherRepository {
     /**
      * Obtiene todos los profesores administradores.
      */
-    List<Teacher> findByIsAdminTrue();
+    List<TeacherSummary> findByIsAdminTrue();
 
     /**
      * Obtiene todos los profesores no administradores.
      */
-    List<Teacher> findByIsAdminFalse();
+    List<TeacherSummary> findByIsAdminFalse();
+
+    /**
+     * Obtiene una página de profesores ordenada por ID. El filtro se aplica en la consulta.
+     *
+     * @param admin administradores o no (null = todos)
+     * @param afterId cursor devuelto por la página anterior (null = primera página)
+     * @param size número máximo de profesores de la página
+     * @return la página, vacía si size no es positivo
+     */
+    TeacherPage findPage(Boolean admin, Long afterId, int size);
+
+    /**
+     * Obtiene los profesores indicados, sin contraseña, ordenados por ID.
+     * Los IDs inexistentes se ignoran.
+     */
+    List<TeacherSummary> findSummariesByIds(Collection<Long> ids);
 
     /**
      * Búsqueda por texto en el nombre (case-insensitive).
      */
-    List<Teacher> findByNameContainingIgnoreCase(String name);
+    List<TeacherSummary> findByNameContainingIgnoreCase(String name);
 }
\ No newline at end of file
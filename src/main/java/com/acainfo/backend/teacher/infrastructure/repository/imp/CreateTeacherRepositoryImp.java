@@ -1,6 +1,7 @@
 package com.acainfo.backend.teacher.infrastructure.repository.imp;
 
 import com.acainfo.backend.teacher.domain.entity.Teacher;
+import com.acainfo.backend.teacher.domain.event.TeacherChangedEvent;
 import com.acainfo.backend.teacher.domain.exception.DuplicateTeacherException;
 import com.acainfo.backend.teacher.domain.exception.InvalidTeacherDataException;
 import com.acainfo.backend.teacher.domain.repository.CreateTeacherRepository;
@@ -9,6 +10,7 @@ import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJ
 import com.acainfo.backend.teacher.infrastructure.repository.mapper.TeacherJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +26,7 @@ public class CreateTeacherRepositoryImp implements CreateTeacherRepository {
 
     private final TeacherJpaRepository jpaRepository;
     private final TeacherJpaMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Persiste un nuevo profesor en el sistema.
@@ -49,9 +52,10 @@ public class CreateTeacherRepositoryImp implements CreateTeacherRepository {
             TeacherJpa jpaEntity = mapper.toJpa(teacher);
 
             // Persistir en base de datos
-            TeacherJpa savedEntity = jpaRepository.save(jpaEntity);
+            TeacherJpa savedEntity = jpaRepository.saveAndFlush(jpaEntity);
 
             log.info("Profesor creado exitosamente con ID: {}", savedEntity.getId());
+            eventPublisher.publishEvent(TeacherChangedEvent.of(savedEntity.getId()));
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(savedEntity);
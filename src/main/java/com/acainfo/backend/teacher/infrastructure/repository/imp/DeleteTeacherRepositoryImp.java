@@ -1,14 +1,20 @@
 package com.acainfo.backend.teacher.infrastructure.repository.imp;
 
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.teacher.domain.event.TeacherChangedEvent;
 import com.acainfo.backend.teacher.domain.exception.InvalidTeacherDataException;
 import com.acainfo.backend.teacher.domain.repository.DeleteTeacherRepository;
 import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Implementación del repositorio de eliminación de profesores.
  * Adapta las operaciones de eliminación del dominio a la infraestructura JPA.
@@ -19,6 +25,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteTeacherRepositoryImp implements DeleteTeacherRepository {
 
     private final TeacherJpaRepository jpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AppProperties appProperties;
 
     /**
      * Elimina un profesor por su ID.
@@ -32,15 +40,13 @@ public class DeleteTeacherRepositoryImp implements DeleteTeacherRepository {
     public boolean deleteById(Long id) {
         log.debug("Iniciando eliminación de profesor con ID: {}", id);
 
-        // Verificar si existe antes de intentar eliminar
-        if (!jpaRepository.existsById(id)) {
-            log.warn("Intento de eliminar profesor inexistente. ID: {}", id);
-            return false;
-        }
-
         try {
-            jpaRepository.deleteById(id);
+            if (jpaRepository.deleteAllByIdIn(List.of(id)) == 0) {
+                log.warn("Intento de eliminar profesor inexistente. ID: {}", id);
+                return false;
+            }
             log.info("Profesor eliminado exitosamente. ID: {}", id);
+            eventPublisher.publishEvent(TeacherChangedEvent.of(id));
             return true;
 
         } catch (DataIntegrityViolationException e) {
@@ -64,9 +70,9 @@ public class DeleteTeacherRepositoryImp implements DeleteTeacherRepository {
         log.warn("Iniciando eliminación de TODOS los profesores");
 
         try {
-            Long count = jpaRepository.count();
-            jpaRepository.deleteAll();
+            int count = deleteInChunks();
             log.info("Se eliminaron {} profesores", count);
+            eventPublisher.publishEvent(TeacherChangedEvent.ofAllTeachers());
 
         } catch (DataIntegrityViolationException e) {
             log.error("No se pueden eliminar los profesores debido a restricciones de integridad");
@@ -76,4 +82,22 @@ public class DeleteTeacherRepositoryImp implements DeleteTeacherRepository {
             );
         }
     }
+
+    /**
+     * Borra todos los profesores por bloques de IDs, con un DELETE por bloque y sin cargar las entidades.
+     *
+     * @return el número de profesores eliminados
+     */
+    private int deleteInChunks() {
+        int chunkSize = appProperties.getBulkDelete().getChunkSize();
+        int deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jpaRepository.findIds(Limit.of(chunkSize));
+            if (!ids.isEmpty()) {
+                deleted += jpaRepository.deleteAllByIdIn(ids);
+            }
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -1,21 +1,28 @@
 package com.acainfo.backend.teacher.infrastructure.repository.imp;
 
 import com.acainfo.backend.teacher.domain.entity.Teacher;
+import com.acainfo.backend.teacher.domain.entity.TeacherPage;
+import com.acainfo.backend.teacher.domain.entity.TeacherSummary;
 import com.acainfo.backend.teacher.domain.repository.ReadTeacherRepository;
 import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
-import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.projection.TeacherSummaryView;
 import com.acainfo.backend.teacher.infrastructure.repository.mapper.TeacherJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Implementación del repositorio de lectura de profesores.
  * Adapta las consultas del dominio a la infraestructura JPA.
+ *
+ * Los listados y búsquedas leen proyecciones sin la contraseña; la entidad completa
+ * sólo se carga al buscar por ID o email.
  */
 @Repository
 @RequiredArgsConstructor
@@ -35,11 +42,10 @@ public class ReadTeacherRepositoryImp implements ReadTeacherRepository {
     }
 
     @Override
-    public List<Teacher> findAll() {
+    public List<TeacherSummary> findAll() {
         log.debug("Obteniendo todos los profesores");
 
-        List<TeacherJpa> jpaEntities = jpaRepository.findAll();
-        return mapper.toDomainList(jpaEntities);
+        return summaries(null);
     }
 
     @Override
@@ -75,23 +81,54 @@ public class ReadTeacherRepositoryImp implements ReadTeacherRepository {
     }
 
     @Override
-    public List<Teacher> findByIsAdminTrue() {
+    public List<TeacherSummary> findByIsAdminTrue() {
         log.debug("Obteniendo profesores administradores");
 
-        List<TeacherJpa> jpaEntities = jpaRepository.findByIsAdminTrue();
-        return mapper.toDomainList(jpaEntities);
+        return summaries(true);
     }
 
     @Override
-    public List<Teacher> findByIsAdminFalse() {
+    public List<TeacherSummary> findByIsAdminFalse() {
         log.debug("Obteniendo profesores no administradores");
 
-        List<TeacherJpa> jpaEntities = jpaRepository.findByIsAdminFalse();
-        return mapper.toDomainList(jpaEntities);
+        return summaries(false);
     }
 
     @Override
-    public List<Teacher> findByNameContainingIgnoreCase(String name) {
+    public TeacherPage findPage(Boolean admin, Long afterId, int size) {
+        log.debug("Obteniendo página de profesores - administradores: {}, tras ID: {}, tamaño: {}",
+                admin, afterId, size);
+
+        // Validación defensiva mínima
+        if (size <= 0) {
+            log.warn("Página con tamaño no positivo: {}, retornando página vacía", size);
+            return new TeacherPage(List.of(), null);
+        }
+
+        // Se pide un registro de más para saber si hay página siguiente sin contar
+        List<TeacherSummaryView> views = jpaRepository.findSummaries(admin, afterId, Limit.of(size + 1));
+        boolean hasNext = views.size() > size;
+        List<TeacherSummary> teachers = mapper.toSummaryList(hasNext ? views.subList(0, size) : views);
+
+        return TeacherPage.builder()
+                .teachers(teachers)
+                .nextCursor(hasNext ? teachers.get(size - 1).getId() : null)
+                .build();
+    }
+
+    @Override
+    public List<TeacherSummary> findSummariesByIds(Collection<Long> ids) {
+        log.debug("Obteniendo {} profesores por ID", ids != null ? ids.size() : 0);
+
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        return mapper.toSummaryList(jpaRepository.findSummariesByIdIn(ids));
+    }
+
+    @Override
+    public List<TeacherSummary> findByNameContainingIgnoreCase(String name) {
         log.debug("Buscando profesores por nombre que contenga: {}", name);
 
         // Validación defensiva mínima
@@ -100,7 +137,10 @@ public class ReadTeacherRepositoryImp implements ReadTeacherRepository {
             return List.of();
         }
 
-        List<TeacherJpa> jpaEntities = jpaRepository.findByNameContainingIgnoreCase(name);
-        return mapper.toDomainList(jpaEntities);
+        return mapper.toSummaryList(jpaRepository.findSummariesByNameContaining(name));
+    }
+
+    private List<TeacherSummary> summaries(Boolean admin) {
+        return mapper.toSummaryList(jpaRepository.findSummaries(admin, null, Limit.unlimited()));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.acainfo.backend.teacher.infrastructure.repository.imp;
 
 import com.acainfo.backend.teacher.domain.entity.Teacher;
+import com.acainfo.backend.teacher.domain.event.TeacherChangedEvent;
 import com.acainfo.backend.teacher.domain.exception.DuplicateTeacherException;
 import com.acainfo.backend.teacher.domain.exception.InvalidTeacherDataException;
 import com.acainfo.backend.teacher.domain.exception.TeacherNotFoundException;
@@ -10,6 +11,7 @@ import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJ
 import com.acainfo.backend.teacher.infrastructure.repository.mapper.TeacherJpaMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,7 @@ public class UpdateTeacherRepositoryImp implements UpdateTeacherRepository {
 
     private final TeacherJpaRepository jpaRepository;
     private final TeacherJpaMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Actualiza un profesor existente.
@@ -66,6 +69,7 @@ public class UpdateTeacherRepositoryImp implements UpdateTeacherRepository {
             TeacherJpa updatedEntity = jpaRepository.save(existingEntity);
 
             log.info("Profesor actualizado exitosamente. ID: {}", updatedEntity.getId());
+            eventPublisher.publishEvent(TeacherChangedEvent.of(updatedEntity.getId()));
 
             // Convertir de vuelta a dominio y retornar
             return mapper.toDomain(updatedEntity);
@@ -1,15 +1,28 @@
 package com.acainfo.backend.teacher.infrastructure.repository.jpa;
 
 import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.projection.TeacherSummaryView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TeacherJpaRepository extends JpaRepository<TeacherJpa, Long> {
 
+    /**
+     * Columnas de los listados: todas salvo la contraseña.
+     */
+    String SUMMARY_SELECT = "SELECT new com.acainfo.backend.teacher.infrastructure.repository.jpa.projection.TeacherSummaryView(" +
+            "t.id, t.name, t.email, t.phoneNumber, t.isAdmin, t.registeredAt) " +
+            "FROM TeacherJpa t ";
+
     /**
      * Busca un profesor por su email
      */
@@ -21,17 +34,41 @@ public interface TeacherJpaRepository extends JpaRepository<TeacherJpa, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * Obtiene todos los profesores administradores
+     * Listado de profesores ordenado por ID, con paginación por clave (keyset).
+     * El filtro a null no se aplica; afterId es el último ID de la página anterior.
      */
-    List<TeacherJpa> findByIsAdminTrue();
+    @Query(SUMMARY_SELECT +
+            "WHERE (:admin IS NULL OR t.isAdmin = :admin) " +
+            "AND (:afterId IS NULL OR t.id > :afterId) " +
+            "ORDER BY t.id")
+    List<TeacherSummaryView> findSummaries(@Param("admin") Boolean admin,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
 
     /**
-     * Obtiene todos los profesores no administradores
+     * Listado de los profesores indicados, ordenado por ID
      */
-    List<TeacherJpa> findByIsAdminFalse();
+    @Query(SUMMARY_SELECT + "WHERE t.id IN :ids ORDER BY t.id")
+    List<TeacherSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * Búsqueda por texto en el nombre (case-insensitive)
      */
-    List<TeacherJpa> findByNameContainingIgnoreCase(String name);
-}
\ No newline at end of file
+    @Query(SUMMARY_SELECT +
+            "WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')) " +
+            "ORDER BY t.id")
+    List<TeacherSummaryView> findSummariesByNameContaining(@Param("name") String name);
+
+    /**
+     * IDs ordenados, para borrar los profesores por bloques
+     */
+    @Query("SELECT t.id FROM TeacherJpa t ORDER BY t.id")
+    List<Long> findIds(Limit limit);
+
+    /**
+     * Elimina los profesores indicados con un único DELETE, sin cargarlos
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TeacherJpa t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
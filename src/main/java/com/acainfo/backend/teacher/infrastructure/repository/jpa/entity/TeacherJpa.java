@@ -3,6 +3,9 @@ package com.acainfo.backend.teacher.infrastructure.repository.jpa.entity;
 import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -10,6 +13,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teacher")
+@BatchSize(size = 50)
 @Table(name = "teachers",
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -17,10 +22,9 @@ import java.util.Set;
                         columnNames = {"email"}
                 )
         },
+        // Búsqueda por nombre (trigramas): V4__performance_indexes.sql
         indexes = {
-                @Index(name = "idx_teacher_email", columnList = "email"),
-                @Index(name = "idx_teacher_is_admin", columnList = "is_admin"),
-                @Index(name = "idx_teacher_name", columnList = "name")
+                @Index(name = "idx_teacher_is_admin", columnList = "is_admin")
         }
 )
 @Getter
@@ -33,7 +37,8 @@ import java.util.Set;
 public class TeacherJpa {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teachers_id_seq")
+    @SequenceGenerator(name = "teachers_id_seq", sequenceName = "teachers_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -59,6 +64,7 @@ public class TeacherJpa {
 
     @Builder.Default
     @OneToMany(mappedBy = "teacher", fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private Set<SubjectGroupJpa> groups = new HashSet<>();
 
     @PrePersist
@@ -0,0 +1,14 @@
+package com.acainfo.backend.teacher.infrastructure.repository.jpa.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección de un profesor sin la contraseña, para listados y búsquedas.
+ */
+public record TeacherSummaryView(Long id,
+                                 String name,
+                                 String email,
+                                 String phoneNumber,
+                                 Boolean admin,
+                                 LocalDateTime registeredAt) {
+}
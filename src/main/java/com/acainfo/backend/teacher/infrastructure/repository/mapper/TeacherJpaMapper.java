@@ -1,7 +1,9 @@
 package com.acainfo.backend.teacher.infrastructure.repository.mapper;
 
 import com.acainfo.backend.teacher.domain.entity.Teacher;
+import com.acainfo.backend.teacher.domain.entity.TeacherSummary;
 import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.projection.TeacherSummaryView;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -35,9 +37,15 @@ public interface TeacherJpaMapper {
     @Mapping(target = "isAdmin", source = "admin")
     void updateJpaFromDomain(Teacher domain, @MappingTarget TeacherJpa jpa);
 
+    /**
+     * Proyección de listado → Domain
+     */
+    TeacherSummary toSummary(TeacherSummaryView view);
+
     /**
      * Conversión de listas
      */
     List<Teacher> toDomainList(List<TeacherJpa> jpaList);
+    List<TeacherSummary> toSummaryList(List<TeacherSummaryView> views);
     List<TeacherJpa> toJpaList(List<Teacher> domainList);
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+-- ============================================
+-- Esquema inicial (PostgreSQL)
+-- ============================================
+-- Esquema tal y como lo generaba Hibernate a partir de las entidades antes de introducir
+-- las migraciones. En las bases de datos que ya lo tienen, Flyway marca esta versión
+-- como línea base (spring.flyway.baseline-version: 1) y no la ejecuta.
+
+CREATE TABLE students (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name          VARCHAR(100) NOT NULL,
+    last_name     VARCHAR(100) NOT NULL,
+    email         VARCHAR(150) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    phone_number  VARCHAR(20),
+    major         VARCHAR(20)  NOT NULL CHECK (major IN ('ING_INF', 'ING_IND')),
+    registered_at TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    is_active     BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_student_email UNIQUE (email)
+);
+
+CREATE TABLE teachers (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name          VARCHAR(100) NOT NULL,
+    is_admin      BOOLEAN      NOT NULL,
+    email         VARCHAR(150) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    phone_number  VARCHAR(20),
+    registered_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_teacher_email UNIQUE (email)
+);
+
+CREATE TABLE subjects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(100) NOT NULL,
+    major       VARCHAR(20)  NOT NULL CHECK (major IN ('ING_INF', 'ING_IND')),
+    course_year VARCHAR(20)  NOT NULL CHECK (course_year IN ('FIRST', 'SECOND', 'THIRD', 'FOURTH')),
+    quarter     VARCHAR(20)  NOT NULL CHECK (quarter IN ('FIRST', 'SECOND')),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    is_active   BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_subject_name_major_year_quarter UNIQUE (name, major, course_year, quarter)
+);
+
+CREATE TABLE subject_groups (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name                VARCHAR(100)   NOT NULL,
+    subject_id          BIGINT         NOT NULL,
+    teacher_id          BIGINT         NOT NULL,
+    status              VARCHAR(20)    NOT NULL CHECK (status IN ('PLANNED', 'ACTIVE', 'CLOSED')),
+    max_capacity        INTEGER        NOT NULL,
+    type                VARCHAR(20)    NOT NULL CHECK (type IN ('REGULAR', 'INTENSIVE')),
+    price               NUMERIC(10, 2) NOT NULL,
+    current_enrollments INTEGER        NOT NULL,
+    created_at          TIMESTAMP(6)   NOT NULL,
+    updated_at          TIMESTAMP(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_group_name UNIQUE (name),
+    CONSTRAINT fk_group_subject FOREIGN KEY (subject_id) REFERENCES subjects,
+    CONSTRAINT fk_group_teacher FOREIGN KEY (teacher_id) REFERENCES teachers
+);
+
+CREATE TABLE group_sessions (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    group_id    BIGINT       NOT NULL,
+    day_of_week VARCHAR(20)  NOT NULL CHECK (day_of_week IN ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')),
+    start_time  TIME(6)      NOT NULL,
+    end_time    TIME(6)      NOT NULL,
+    classroom   VARCHAR(30)  NOT NULL CHECK (classroom IN ('PORTAL_1', 'PORTAL_2')),
+    type        VARCHAR(20)  NOT NULL CHECK (type IN ('IN_PERSON', 'DUAL', 'ONLINE')),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_session_group_day_time UNIQUE (group_id, day_of_week, start_time),
+    CONSTRAINT uk_classroom_day_time UNIQUE (classroom, day_of_week, start_time, end_time),
+    CONSTRAINT fk_session_group FOREIGN KEY (group_id) REFERENCES subject_groups
+);
+
+CREATE TABLE enrollments (
+    student_id  BIGINT       NOT NULL,
+    group_id    BIGINT       NOT NULL,
+    status      VARCHAR(30)  NOT NULL CHECK (status IN ('PENDING_PAYMENT', 'ACTIVE', 'COMPLETED', 'CANCELLED_BY_ADMIN', 'CANCELLED_BY_STUDENT')),
+    enrolled_at TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (group_id, student_id),
+    CONSTRAINT fk_enrollment_group FOREIGN KEY (group_id) REFERENCES subject_groups,
+    CONSTRAINT fk_enrollment_student FOREIGN KEY (student_id) REFERENCES students
+);
+
+CREATE TABLE group_creation_requests (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    student_id   BIGINT       NOT NULL,
+    subject_id   BIGINT       NOT NULL,
+    status       VARCHAR(20)  NOT NULL CHECK (status IN ('PENDING', 'APPROVED', 'REJECTED', 'CANCELLED')),
+    requested_at TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- Índices declarados en las anotaciones @Table de las entidades
+CREATE INDEX idx_student_email ON students (email);
+CREATE INDEX idx_student_major ON students (major);
+CREATE INDEX idx_student_is_active ON students (is_active);
+CREATE INDEX idx_student_name ON students (name);
+CREATE INDEX idx_student_last_name ON students (last_name);
+CREATE INDEX idx_student_major_active ON students (major, is_active);
+
+CREATE INDEX idx_teacher_email ON teachers (email);
+CREATE INDEX idx_teacher_is_admin ON teachers (is_admin);
+CREATE INDEX idx_teacher_name ON teachers (name);
+
+CREATE INDEX idx_subject_major ON subjects (major);
+CREATE INDEX idx_subject_major_year ON subjects (major, course_year);
+CREATE INDEX idx_subject_active ON subjects (is_active);
+
+CREATE INDEX idx_group_subject ON subject_groups (subject_id);
+CREATE INDEX idx_group_teacher ON subject_groups (teacher_id);
+CREATE INDEX idx_group_status ON subject_groups (status);
+CREATE INDEX idx_group_type ON subject_groups (type);
+CREATE INDEX idx_group_subject_status ON subject_groups (subject_id, status);
+CREATE INDEX idx_group_teacher_status ON subject_groups (teacher_id, status);
+
+CREATE INDEX idx_session_group ON group_sessions (group_id);
+CREATE INDEX idx_session_day ON group_sessions (day_of_week);
+CREATE INDEX idx_session_classroom ON group_sessions (classroom);
+CREATE INDEX idx_session_type ON group_sessions (type);
+CREATE INDEX idx_session_group_day ON group_sessions (group_id, day_of_week);
+
+CREATE INDEX idx_enrollment_student ON enrollments (student_id);
+CREATE INDEX idx_enrollment_group ON enrollments (group_id);
+CREATE INDEX idx_enrollment_status ON enrollments (status);
+CREATE INDEX idx_enrollment_student_status ON enrollments (student_id, status);
+CREATE INDEX idx_enrollment_group_status ON enrollments (group_id, status);
+
+CREATE INDEX idx_gcr_student ON group_creation_requests (student_id);
+CREATE INDEX idx_gcr_subject ON group_creation_requests (subject_id);
+CREATE INDEX idx_gcr_status ON group_creation_requests (status);
+CREATE INDEX idx_gcr_student_subject_status ON group_creation_requests (student_id, subject_id, status);
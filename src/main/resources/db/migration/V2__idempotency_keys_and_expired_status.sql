@@ -0,0 +1,29 @@
+-- ============================================
+-- Claves de idempotencia e inscripciones caducadas
+-- ============================================
+-- Cambios del esquema posteriores a la línea base V1 que llegaron antes de las migraciones:
+-- la tabla de claves de idempotencia de las peticiones de escritura y el estado EXPIRED de
+-- las inscripciones que no se pagan dentro del plazo.
+--
+-- Las bases de datos marcadas como línea base no ejecutan V1, así que esta migración debe
+-- funcionar tanto sobre ellas como sobre una base de datos recién creada por V1.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(320) NOT NULL,
+    request_method  VARCHAR(10)  NOT NULL,
+    request_path    VARCHAR(500) NOT NULL,
+    completed       BOOLEAN      NOT NULL,
+    response_status INTEGER,
+    response_body   BYTEA,
+    content_type    VARCHAR(255),
+    created_at      TIMESTAMP(6) NOT NULL,
+    expires_at      TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_expires ON idempotency_keys (expires_at);
+
+-- Hibernate generaba el CHECK sin nombre; PostgreSQL lo llama enrollments_status_check
+ALTER TABLE enrollments DROP CONSTRAINT IF EXISTS enrollments_status_check;
+ALTER TABLE enrollments ADD CONSTRAINT enrollments_status_check CHECK (status IN (
+    'PENDING_PAYMENT', 'ACTIVE', 'COMPLETED', 'CANCELLED_BY_ADMIN', 'CANCELLED_BY_STUDENT', 'EXPIRED'));
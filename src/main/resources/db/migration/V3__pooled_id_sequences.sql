@@ -0,0 +1,59 @@
+-- ============================================
+-- IDs por secuencia con optimizador pooled (PostgreSQL)
+-- ============================================
+-- Sustituye las columnas IDENTITY de las entidades con ID generado. Con IDENTITY Hibernate
+-- necesita ejecutar cada INSERT para conocer su ID y no puede agruparlos en lotes JDBC;
+-- con una secuencia reserva bloques de 50 IDs y los INSERT salen en lotes de
+-- hibernate.jdbc.batch_size.
+--
+-- El INCREMENT BY de cada secuencia debe coincidir con el allocationSize de su
+-- @SequenceGenerator: Hibernate valida ambos al arrancar.
+--
+-- Las columnas id se quedan sin valor por defecto. Un nextval() fuera de la aplicación
+-- devolvería el extremo de un bloque que Hibernate puede estar usando, así que las filas
+-- nuevas deben crearse siempre desde la aplicación.
+--
+-- Cada secuencia arranca tras el mayor ID existente: con pooled, el valor devuelto por
+-- nextval() es el último del bloque reservado.
+
+-- students
+ALTER TABLE students ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE students ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS students_id_seq;
+CREATE SEQUENCE students_id_seq INCREMENT BY 50 OWNED BY students.id;
+SELECT setval('students_id_seq', GREATEST((SELECT MAX(id) FROM students), 1));
+
+-- teachers
+ALTER TABLE teachers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE teachers ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS teachers_id_seq;
+CREATE SEQUENCE teachers_id_seq INCREMENT BY 50 OWNED BY teachers.id;
+SELECT setval('teachers_id_seq', GREATEST((SELECT MAX(id) FROM teachers), 1));
+
+-- subjects
+ALTER TABLE subjects ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE subjects ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS subjects_id_seq;
+CREATE SEQUENCE subjects_id_seq INCREMENT BY 50 OWNED BY subjects.id;
+SELECT setval('subjects_id_seq', GREATEST((SELECT MAX(id) FROM subjects), 1));
+
+-- subject_groups
+ALTER TABLE subject_groups ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE subject_groups ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS subject_groups_id_seq;
+CREATE SEQUENCE subject_groups_id_seq INCREMENT BY 50 OWNED BY subject_groups.id;
+SELECT setval('subject_groups_id_seq', GREATEST((SELECT MAX(id) FROM subject_groups), 1));
+
+-- group_sessions
+ALTER TABLE group_sessions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE group_sessions ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS group_sessions_id_seq;
+CREATE SEQUENCE group_sessions_id_seq INCREMENT BY 50 OWNED BY group_sessions.id;
+SELECT setval('group_sessions_id_seq', GREATEST((SELECT MAX(id) FROM group_sessions), 1));
+
+-- group_creation_requests
+ALTER TABLE group_creation_requests ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE group_creation_requests ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS group_creation_requests_id_seq;
+CREATE SEQUENCE group_creation_requests_id_seq INCREMENT BY 50 OWNED BY group_creation_requests.id;
+SELECT setval('group_creation_requests_id_seq', GREATEST((SELECT MAX(id) FROM group_creation_requests), 1));
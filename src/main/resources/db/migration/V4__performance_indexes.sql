@@ -0,0 +1,90 @@
+-- ============================================
+-- Índices orientados a las consultas (PostgreSQL)
+-- ============================================
+-- Elimina los índices que repiten el prefijo de una clave primaria, de una restricción
+-- única o de otro índice compuesto: no aceleran ninguna consulta y se mantienen en cada
+-- escritura. Sustituye los de columnas booleanas o de estado, poco selectivos, por
+-- índices parciales sobre las filas que se consultan, y añade índices funcionales para
+-- las búsquedas por nombre e índices con columnas incluidas para las consultas más
+-- frecuentes, que así se resuelven sin leer la tabla.
+
+-- ============================================
+-- Redundantes
+-- ============================================
+-- Repiten uk_student_email y uk_teacher_email
+DROP INDEX IF EXISTS idx_student_email;
+DROP INDEX IF EXISTS idx_teacher_email;
+
+-- Prefijo de la clave primaria (group_id, student_id)
+DROP INDEX IF EXISTS idx_enrollment_group;
+-- Prefijo de idx_enrollment_student_status
+DROP INDEX IF EXISTS idx_enrollment_student;
+
+-- Prefijos de uk_session_group_day_time (group_id, day_of_week, start_time)
+DROP INDEX IF EXISTS idx_session_group;
+DROP INDEX IF EXISTS idx_session_group_day;
+-- Prefijo de uk_classroom_day_time (classroom, day_of_week, start_time, end_time)
+DROP INDEX IF EXISTS idx_session_classroom;
+
+-- Prefijos de idx_group_subject_status e idx_group_teacher_status
+DROP INDEX IF EXISTS idx_group_subject;
+DROP INDEX IF EXISTS idx_group_teacher;
+
+-- Prefijo de idx_subject_major_year
+DROP INDEX IF EXISTS idx_subject_major;
+
+-- ============================================
+-- Parciales
+-- ============================================
+-- Listados y recuentos de estudiantes activos, por carrera y en orden de ID (paginación por clave)
+DROP INDEX IF EXISTS idx_student_is_active;
+DROP INDEX IF EXISTS idx_student_major_active;
+CREATE INDEX idx_student_active_major ON students (major, id) WHERE is_active = true;
+
+-- Catálogo de asignaturas activas por carrera y curso
+DROP INDEX IF EXISTS idx_subject_active;
+CREATE INDEX idx_subject_active_major_year ON subjects (major, course_year) WHERE is_active = true;
+
+-- Cola de solicitudes pendientes (las más antiguas primero) y duplicados por estudiante y asignatura
+DROP INDEX IF EXISTS idx_gcr_status;
+DROP INDEX IF EXISTS idx_gcr_student;
+DROP INDEX IF EXISTS idx_gcr_student_subject_status;
+CREATE INDEX idx_gcr_pending_requested ON group_creation_requests (requested_at) WHERE status = 'PENDING';
+CREATE INDEX idx_gcr_pending_student_subject ON group_creation_requests (student_id, subject_id) WHERE status = 'PENDING';
+CREATE INDEX idx_gcr_student_requested ON group_creation_requests (student_id, requested_at DESC);
+-- Limpieza de solicitudes procesadas antiguas
+CREATE INDEX idx_gcr_processed_updated ON group_creation_requests (updated_at) WHERE status IN ('REJECTED', 'CANCELLED');
+
+-- Caducidad de las reservas pendientes de pago
+DROP INDEX IF EXISTS idx_enrollment_status;
+CREATE INDEX idx_enrollment_pending_payment ON enrollments (enrolled_at) WHERE status = 'PENDING_PAYMENT';
+
+-- ============================================
+-- Funcionales para búsquedas por nombre
+-- ============================================
+-- Las búsquedas son LOWER(columna) LIKE '%texto%': un índice B-tree no sirve con el comodín
+-- inicial, un GIN de trigramas sobre LOWER(columna) sí.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP INDEX IF EXISTS idx_student_name;
+DROP INDEX IF EXISTS idx_student_last_name;
+CREATE INDEX idx_student_lower_name ON students USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_student_lower_last_name ON students USING gin (lower(last_name) gin_trgm_ops);
+
+DROP INDEX IF EXISTS idx_teacher_name;
+CREATE INDEX idx_teacher_lower_name ON teachers USING gin (lower(name) gin_trgm_ops);
+
+CREATE INDEX idx_subject_lower_name ON subjects USING gin (lower(name) gin_trgm_ops);
+
+-- ============================================
+-- Con columnas incluidas
+-- ============================================
+-- Grupos de un estudiante por estado (calendario, comprobaciones de inscripción y recuento
+-- de plazas al borrar): se resuelve sólo con el índice.
+DROP INDEX IF EXISTS idx_enrollment_student_status;
+CREATE INDEX idx_enrollment_student_status ON enrollments (student_id, status) INCLUDE (group_id);
+
+-- Grupos de un profesor (calendario y recuento por estado). No se incluyen los contadores
+-- de plazas: cambian con cada inscripción y dejarían de ser actualizaciones HOT.
+DROP INDEX IF EXISTS idx_group_teacher_status;
+CREATE INDEX idx_group_teacher_status ON subject_groups (teacher_id, status) INCLUDE (id);
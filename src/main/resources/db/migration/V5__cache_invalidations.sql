@@ -0,0 +1,35 @@
+-- ============================================
+-- Outbox de invalidaciones de caché entre nodos (PostgreSQL)
+-- ============================================
+-- Cada transacción que cambia datos cacheados inserta aquí lo que los demás nodos deben
+-- invalidar. Las filas se leen por orden de ID y se borran pasada la retención
+-- ('app.cache-invalidation.retention-minutes').
+CREATE TABLE cache_invalidations (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    node_id      VARCHAR(36)  NOT NULL,
+    message_type VARCHAR(20)  NOT NULL,
+    cache_key    VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_cache_invalidation_created ON cache_invalidations (created_at);
+
+-- ============================================
+-- Aviso a los nodos
+-- ============================================
+-- NOTIFY se entrega al confirmar la transacción y varios avisos iguales de una misma
+-- transacción llegan como uno: basta con uno por sentencia y sin contenido, los nodos
+-- leen la tabla al recibirlo.
+CREATE FUNCTION notify_cache_invalidations() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('cache_invalidations', '');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_cache_invalidations_notify
+    AFTER INSERT ON cache_invalidations
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_cache_invalidations();
@@ -0,0 +1,19 @@
+-- ============================================
+-- Outbox de eventos de dominio (PostgreSQL)
+-- ============================================
+-- Los repositorios insertan los eventos en la misma transacción que el cambio que los
+-- provoca y el relay los borra al entregarlos. Las filas que quedan son eventos aún no
+-- entregados o abandonados tras 'app.domain-events.max-attempts' intentos (con last_error).
+CREATE TABLE domain_event_outbox (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type   VARCHAR(100)  NOT NULL,
+    payload      TEXT          NOT NULL,
+    created_at   TIMESTAMP(6)  NOT NULL,
+    available_at TIMESTAMP(6)  NOT NULL,
+    attempts     INTEGER       NOT NULL,
+    last_error   VARCHAR(1000),
+    PRIMARY KEY (id)
+);
+
+-- El relay busca por available_at y reserva con FOR UPDATE SKIP LOCKED
+CREATE INDEX idx_domain_event_available ON domain_event_outbox (available_at);
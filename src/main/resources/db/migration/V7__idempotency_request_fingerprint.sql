@@ -0,0 +1,10 @@
+-- ============================================
+-- Huella de la petición en las claves de idempotencia
+-- ============================================
+-- Cada clave guarda el SHA-256 (en hexadecimal) del método, la ruta y el cuerpo de la
+-- petición que la usó, para rechazar con 422 los reintentos que cambian el cuerpo.
+--
+-- La columna admite NULL: las claves guardadas antes de esta migración siguen
+-- comparando solo método y ruta hasta que caducan.
+
+ALTER TABLE idempotency_keys ADD COLUMN request_fingerprint VARCHAR(64);
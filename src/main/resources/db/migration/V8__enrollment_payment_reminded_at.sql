@@ -0,0 +1,11 @@
+-- ============================================
+-- Recordatorio de pago enviado por inscripción
+-- ============================================
+-- Cada nodo ejecuta la tarea de recordatorios de pago. Antes de encolar un recordatorio,
+-- el nodo marca la inscripción con un UPDATE condicionado a que la columna siga a NULL,
+-- así que solo uno de ellos lo envía.
+--
+-- Las inscripciones existentes quedan a NULL: los tramos ya cubiertos no se vuelven a
+-- consultar, porque cada ejecución solo mira las inscripciones desde la ejecución anterior.
+
+ALTER TABLE enrollments ADD COLUMN payment_reminded_at TIMESTAMP(6);
@@ -0,0 +1,243 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.CacheInvalidationOutbox;
+import com.acainfo.backend.cacheinvalidation.infrastructure.outbox.InvalidationMessage;
+import com.acainfo.backend.groupsession.domain.event.GroupScheduleChangedEvent;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.acainfo.backend.TestFixtures.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bus de invalidación de cachés con un solo nodo real: lo que publicaría otro nodo se
+ * inserta directamente en el outbox con otro ID de nodo.
+ */
+@SpringBootTest(properties = {
+        "app.cache-invalidation.enabled=true",
+        "app.cache-invalidation.poll-interval-millis=50"
+})
+@Import(TestFixtures.class)
+class CacheInvalidationTests {
+
+    private static final String OTHER_NODE = "otro-nodo";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheInvalidationOutbox outbox;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SubjectGroupJpaRepository subjectGroupJpaRepository;
+
+    @Autowired
+    private GroupSessionJpaRepository groupSessionJpaRepository;
+
+    @Autowired
+    private ClassroomScheduleIndex classroomScheduleIndex;
+
+    @Autowired
+    private TeacherScheduleIndex teacherScheduleIndex;
+
+    @Autowired
+    private ReceivedScheduleChanges receivedScheduleChanges;
+
+    @Test
+    void onlyCommittedChangesArePublished() {
+        TeacherJpa teacher = fixtures.newTeacher();
+        assertThat(publishedPayloads(InvalidationMessage.Type.ENTITY_EVICTION, TeacherJpa.class.getName()))
+                .contains("[" + teacher.getId() + "]");
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(GroupScheduleChangedEvent.of(901L));
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(GroupScheduleChangedEvent.of(902L)));
+
+        List<String> events = publishedPayloads(InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent");
+        assertThat(events).anyMatch(payload -> payload.contains("902"));
+        assertThat(events).noneMatch(payload -> payload.contains("901"));
+    }
+
+    @Test
+    void invalidationsFromOtherNodesAreApplied() throws InterruptedException {
+        SubjectJpa subject = fixtures.newSubject();
+        subjectJpaRepository.findById(subject.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(SubjectJpa.class, subject.getId())).isTrue();
+
+        outbox.append(List.of(
+                fromOtherNode(InvalidationMessage.Type.ENTITY_EVICTION, SubjectJpa.class.getName(),
+                        "[" + subject.getId() + "]"),
+                fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent",
+                        "{\"groupIds\":[911],\"allGroups\":false}")));
+
+        awaitUntil(() -> !cache.contains(SubjectJpa.class, subject.getId()));
+        awaitUntil(() -> receivedScheduleChanges.groupIds.contains(911L));
+
+        assertThat(meterRegistry.get("cache.invalidation.applied").tag("type", "ENTITY_EVICTION").counter().count())
+                .isPositive();
+        assertThat(meterRegistry.get("cache.invalidation.lag").timer().count()).isPositive();
+    }
+
+    @Test
+    void seatChangesFromOtherNodesEvictTheGroup() throws InterruptedException {
+        SubjectGroupJpa group = fixtures.saveGroupJpa(fixtures.newTeacher());
+        subjectGroupJpaRepository.findById(group.getId());
+        Cache cache = entityManagerFactory.getCache();
+        assertThat(cache.contains(SubjectGroupJpa.class, group.getId())).isTrue();
+
+        // El contador cambió por JDBC en el otro nodo: sólo llega el evento de dominio
+        jdbcTemplate.update("UPDATE subject_groups SET current_enrollments = 4 WHERE id = ?", group.getId());
+        outbox.append(List.of(fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupSeatsChangedEvent",
+                "{\"groupIds\":[" + group.getId() + "]}")));
+
+        awaitUntil(() -> !cache.contains(SubjectGroupJpa.class, group.getId()));
+        assertThat(subjectGroupJpaRepository.findById(group.getId()).orElseThrow().getCurrentEnrollments())
+                .isEqualTo(4);
+    }
+
+    @Test
+    void rowsCommittedLateAreStillApplied() throws Exception {
+        // La primera fila toma su ID y no confirma hasta que la segunda, con un ID mayor, ya se ha aplicado
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outbox.append(List.of(fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent",
+                    "{\"groupIds\":[921],\"allGroups\":false}")));
+            try {
+                CompletableFuture.runAsync(() -> outbox.append(List.of(fromOtherNode(
+                        InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent",
+                        "{\"groupIds\":[922],\"allGroups\":false}")))).get(10, TimeUnit.SECONDS);
+                awaitUntil(() -> receivedScheduleChanges.groupIds.contains(922L));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            assertThat(receivedScheduleChanges.groupIds).doesNotContain(921L);
+        });
+
+        awaitUntil(() -> receivedScheduleChanges.groupIds.contains(921L));
+    }
+
+    @Test
+    void scheduleIndexesApplyChangesFromOtherNodes() throws InterruptedException {
+        TeacherJpa teacher = fixtures.newTeacher();
+        TeacherJpa otherTeacher = fixtures.newTeacher();
+        SubjectGroupJpa group = fixtures.saveGroupJpa(teacher);
+
+        // Ambos índices cargados antes de que "otro nodo" añada la sesión
+        assertThat(classroomScheduleIndex.getWeek(Classroom.PORTAL_2).getOccupiedMinutes()).isZero();
+        assertThat(teacherScheduleIndex.getSchedule(teacher.getId()).getSessions()).isEmpty();
+
+        // Escrito directamente con JPA, sin pasar por los repositorios que mantienen los índices
+        GroupSessionJpa session = groupSessionJpaRepository.save(GroupSessionJpa.builder()
+                .group(group)
+                .dayOfWeek(DayOfWeek.SUNDAY)
+                .startTime(LocalTime.of(17, 0))
+                .endTime(LocalTime.of(19, 0))
+                .classroom(Classroom.PORTAL_2)
+                .build());
+        outbox.append(List.of(fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent",
+                "{\"groupIds\":[" + group.getId() + "],\"allGroups\":false}")));
+
+        awaitUntil(() -> classroomScheduleIndex.getWeek(Classroom.PORTAL_2).getOccupiedMinutes() == 120);
+        awaitUntil(() -> teacherScheduleIndex.getSchedule(teacher.getId()).getSessions().size() == 1);
+        assertThat(classroomScheduleIndex.findConflictingSessionIds(Classroom.PORTAL_2, DayOfWeek.SUNDAY,
+                LocalTime.of(18, 0), LocalTime.of(18, 30), null)).containsExactly(session.getId());
+
+        group.setTeacher(otherTeacher);
+        subjectGroupJpaRepository.save(group);
+        outbox.append(List.of(fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupDetailsChangedEvent",
+                "{\"groupId\":" + group.getId() + ",\"previousTeacherId\":" + teacher.getId()
+                        + ",\"teacherId\":" + otherTeacher.getId() + "}")));
+
+        awaitUntil(() -> teacherScheduleIndex.getSchedule(otherTeacher.getId()).getSessions().size() == 1);
+        assertThat(teacherScheduleIndex.getSchedule(teacher.getId()).getSessions()).isEmpty();
+        assertThat(teacherScheduleIndex.getSchedule(otherTeacher.getId()).getActiveGroupCount()).isEqualTo(1);
+        assertThat(teacherScheduleIndex.getSchedule(teacher.getId()).getActiveGroupCount()).isZero();
+
+        groupSessionJpaRepository.delete(session);
+        outbox.append(List.of(fromOtherNode(InvalidationMessage.Type.DOMAIN_EVENT, "GroupScheduleChangedEvent",
+                "{\"groupIds\":[" + group.getId() + "],\"allGroups\":false}")));
+
+        awaitUntil(() -> classroomScheduleIndex.getWeek(Classroom.PORTAL_2).getOccupiedMinutes() == 0);
+        awaitUntil(() -> teacherScheduleIndex.getSchedule(otherTeacher.getId()).getSessions().isEmpty());
+    }
+
+    private List<String> publishedPayloads(InvalidationMessage.Type type, String cacheKey) {
+        return jdbcTemplate.queryForList(
+                "SELECT payload FROM cache_invalidations WHERE node_id <> ? AND message_type = ? AND cache_key = ?",
+                String.class, OTHER_NODE, type.name(), cacheKey);
+    }
+
+    private static InvalidationMessage fromOtherNode(InvalidationMessage.Type type, String cacheKey, String payload) {
+        return InvalidationMessage.create(OTHER_NODE, type, cacheKey, payload);
+    }
+
+    static class ReceivedScheduleChanges {
+
+        final Set<Long> groupIds = ConcurrentHashMap.newKeySet();
+
+        @EventListener
+        void onGroupScheduleChanged(GroupScheduleChangedEvent event) {
+            groupIds.addAll(event.groupIds());
+        }
+    }
+
+    @TestConfiguration
+    static class ReceivedScheduleChangesConfig {
+
+        @Bean
+        ReceivedScheduleChanges receivedScheduleChanges() {
+            return new ReceivedScheduleChanges();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.calendar.domain.entity.CalendarFeed;
+import com.acainfo.backend.calendar.domain.entity.CalendarOwner;
+import com.acainfo.backend.calendar.domain.repository.ReadCalendarFeedRepository;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calendarios iCalendar servidos desde caché: cada cambio que afecta a un calendario
+ * ya generado debe invalidarlo.
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+class CalendarFeedTests {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateSubjectGroupRepository createSubjectGroupRepository;
+
+    @Autowired
+    private CreateGroupSessionRepository createGroupSessionRepository;
+
+    @Autowired
+    private ReadCalendarFeedRepository readCalendarFeedRepository;
+
+    @Test
+    void newGroupAppearsInTheCachedTeacherFeed() {
+        TeacherJpa teacher = fixtures.newTeacher();
+        CalendarOwner owner = CalendarOwner.teacher(teacher.getId());
+
+        // Calendario vacío ya en caché, sin ningún grupo del que depender
+        CalendarFeed before = readCalendarFeedRepository.findFeed(owner);
+        assertThat(before.getEventCount()).isZero();
+
+        SubjectGroup group = createSubjectGroupRepository.save(fixtures.newGroup(GroupStatus.ACTIVE, teacher));
+        createGroupSessionRepository.save(new GroupSession(null, LocalTime.of(9, 0), LocalTime.of(10, 30),
+                null, null, DayOfWeek.SATURDAY, Classroom.PORTAL_1, group.getId(), SessionType.IN_PERSON));
+
+        CalendarFeed after = readCalendarFeedRepository.findFeed(owner);
+        assertThat(after.getEventCount()).isEqualTo(1);
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+    }
+}
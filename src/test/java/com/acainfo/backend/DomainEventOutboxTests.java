@@ -0,0 +1,147 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.domainevent.infrastructure.outbox.DomainEventOutbox;
+import com.acainfo.backend.subject.domain.event.SubjectDeactivatedEvent;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.event.GroupStatusChangedEvent;
+import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.acainfo.backend.TestFixtures.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Outbox de eventos de dominio: los repositorios guardan los eventos con su transacción
+ * y el relay los entrega después, desde su propio hilo, reintentando los que fallan.
+ */
+@SpringBootTest(properties = {
+        "app.domain-events.poll-interval-millis=50",
+        "app.domain-events.initial-backoff-seconds=0"
+})
+@Import(TestFixtures.class)
+class DomainEventOutboxTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DomainEventOutbox outbox;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateSubjectGroupRepository createSubjectGroupRepository;
+
+    @Autowired
+    private UpdateSubjectGroupRepository updateSubjectGroupRepository;
+
+    @Autowired
+    private DeliveredEvents delivered;
+
+    @Test
+    void groupStatusChangesAreDeliveredAfterCommitOffTheCallerThread() throws InterruptedException {
+        SubjectGroup group = createSubjectGroupRepository.save(fixtures.newGroup(GroupStatus.PLANNED));
+
+        group.setStatus(GroupStatus.ACTIVE);
+        updateSubjectGroupRepository.update(group);
+
+        awaitUntil(() -> delivered.groupStatusChanges.size() >= 2
+                && delivered.groupStatusChanges.stream().anyMatch(event -> event.groupId().equals(group.getId())
+                && event.status() == GroupStatus.ACTIVE));
+
+        assertThat(delivered.groupStatusChanges)
+                .filteredOn(event -> event.groupId().equals(group.getId()))
+                .containsExactly(
+                        new GroupStatusChangedEvent(group.getId(), null, GroupStatus.PLANNED),
+                        new GroupStatusChangedEvent(group.getId(), GroupStatus.PLANNED, GroupStatus.ACTIVE));
+        assertThat(delivered.threads).isNotEmpty().noneMatch(Thread.currentThread().getName()::equals);
+        awaitUntil(() -> countRows("GroupStatusChangedEvent") == 0);
+    }
+
+    @Test
+    void rolledBackChangesAreNeverStored() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createSubjectGroupRepository.save(fixtures.newGroup(GroupStatus.PLANNED));
+            assertThat(countRows("GroupStatusChangedEvent")).isPositive();
+            status.setRollbackOnly();
+        });
+
+        assertThat(countRows("GroupStatusChangedEvent")).isZero();
+        assertThatThrownBy(() -> outbox.append(new SubjectDeactivatedEvent(1L)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void failedDeliveriesAreRetried() throws InterruptedException {
+        delivered.failuresLeft.put(951L, new AtomicInteger(2));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                outbox.append(new SubjectDeactivatedEvent(951L)));
+
+        awaitUntil(() -> delivered.deactivatedSubjects.contains(951L));
+        assertThat(delivered.failuresLeft.get(951L).get()).isNegative();
+        awaitUntil(() -> countRows("SubjectDeactivatedEvent") == 0);
+    }
+
+    private int countRows(String eventType) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM domain_event_outbox WHERE event_type = ?", Integer.class, eventType);
+        return count != null ? count : 0;
+    }
+
+    static class DeliveredEvents {
+
+        final List<GroupStatusChangedEvent> groupStatusChanges = new CopyOnWriteArrayList<>();
+        final List<Long> deactivatedSubjects = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        // Entregas que deben fallar antes de aceptar el evento, por asignatura
+        final Map<Long, AtomicInteger> failuresLeft = new ConcurrentHashMap<>();
+
+        @EventListener
+        void onGroupStatusChanged(GroupStatusChangedEvent event) {
+            threads.add(Thread.currentThread().getName());
+            groupStatusChanges.add(event);
+        }
+
+        @EventListener
+        void onSubjectDeactivated(SubjectDeactivatedEvent event) {
+            AtomicInteger failures = failuresLeft.get(event.subjectId());
+            if (failures != null && failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("Fallo simulado");
+            }
+            deactivatedSubjects.add(event.subjectId());
+        }
+    }
+
+    @TestConfiguration
+    static class DeliveredEventsConfig {
+
+        @Bean
+        DeliveredEvents deliveredEvents() {
+            return new DeliveredEvents();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.enrollment.application.ExpirePendingEnrollmentsUseCase;
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.repository.CreateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.DeleteEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.repository.UpdateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Caducidad de inscripciones pendientes de pago: el barrido por bloques y el recuento
+ * de filas modificadas cuando el driver no lo informa. También las plazas que se
+ * devuelven al grupo cuando dos bajas de la misma inscripción coinciden.
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+class EnrollmentExpirationTests {
+
+    @SpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateSubjectGroupRepository createSubjectGroupRepository;
+
+    @Autowired
+    private CreateEnrollmentRepository createEnrollmentRepository;
+
+    @Autowired
+    private UpdateEnrollmentRepository updateEnrollmentRepository;
+
+    @Autowired
+    private DeleteEnrollmentRepository deleteEnrollmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ExpirePendingEnrollmentsUseCase expirePendingEnrollmentsUseCase;
+
+    @Test
+    void overduePendingPaymentsExpireAcrossChunks() {
+        SubjectGroup group = newGroup();
+        List<EnrollmentId> overdue = IntStream.range(0, 5)
+                .mapToObj(i -> enroll(newStudent(), group, EnrollmentStatus.PENDING_PAYMENT))
+                .toList();
+        EnrollmentId recent = enroll(newStudent(), group, EnrollmentStatus.PENDING_PAYMENT);
+        EnrollmentId paid = enroll(newStudent(), group, EnrollmentStatus.ACTIVE);
+        jdbcTemplate.update("UPDATE subject_groups SET current_enrollments = 7 WHERE id = ?", group.getId());
+        jdbcTemplate.update("UPDATE enrollments SET enrolled_at = ? WHERE group_id = ? AND student_id <> ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(5)), group.getId(), recent.getStudentId());
+
+        // Bloques de 2: dos completos y uno parcial
+        int expired = expirePendingEnrollmentsUseCase.expireEnrolledBefore(LocalDateTime.now().minusDays(1), 2);
+
+        assertThat(expired).isEqualTo(5);
+        overdue.forEach(id -> assertThat(statusOf(id)).isEqualTo("EXPIRED"));
+        assertThat(statusOf(recent)).isEqualTo("PENDING_PAYMENT");
+        assertThat(statusOf(paid)).isEqualTo("ACTIVE");
+        assertThat(jdbcTemplate.queryForObject("SELECT current_enrollments FROM subject_groups WHERE id = ?",
+                Integer.class, group.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void rowsWithoutDriverCountAreCheckedAgainstTheDatabase() {
+        SubjectGroup group = newGroup();
+        EnrollmentId pending = enroll(newStudent(), group, EnrollmentStatus.PENDING_PAYMENT);
+        EnrollmentId alreadyActive = enroll(newStudent(), group, EnrollmentStatus.ACTIVE);
+
+        // Driver que ejecuta el lote pero no informa de las filas de cada sentencia
+        doAnswer(invocation -> {
+            int[] counts = (int[]) invocation.callRealMethod();
+            Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+            return counts;
+        }).when(jdbcTemplate).batchUpdate(startsWith("UPDATE enrollments SET status"), anyList());
+
+        List<EnrollmentId> updated = updateEnrollmentRepository.updateStatusInBatch(
+                List.of(pending, alreadyActive), EnrollmentStatus.PENDING_PAYMENT, EnrollmentStatus.ACTIVE);
+
+        assertThat(updated).containsExactly(pending);
+        assertThat(statusOf(pending)).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void concurrentDeletesOfTheSameEnrollmentReleaseOneSeat() throws Exception {
+        SubjectGroup group = newGroup();
+        EnrollmentId deleted = enroll(newStudent(), group, EnrollmentStatus.ACTIVE);
+        enroll(newStudent(), group, EnrollmentStatus.ACTIVE);
+        jdbcTemplate.update("UPDATE subject_groups SET current_enrollments = 2 WHERE id = ?", group.getId());
+
+        CompletableFuture<Boolean> concurrentDelete = new TransactionTemplate(transactionManager).execute(status -> {
+            assertThat(deleteEnrollmentRepository.deleteById(deleted)).isTrue();
+            // La segunda baja espera al bloqueo de la fila hasta que la primera confirma
+            CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(
+                    () -> deleteEnrollmentRepository.deleteById(deleted));
+            sleep();
+            assertThat(second).isNotDone();
+            return second;
+        });
+
+        assertThat(concurrentDelete.get(10, TimeUnit.SECONDS)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT current_enrollments FROM subject_groups WHERE id = ?",
+                Integer.class, group.getId())).isEqualTo(1);
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String statusOf(EnrollmentId id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM enrollments WHERE student_id = ? AND group_id = ?",
+                String.class, id.getStudentId(), id.getGroupId());
+    }
+
+    private StudentJpa newStudent() {
+        return fixtures.newStudent("Alumno");
+    }
+
+    private SubjectGroup newGroup() {
+        return createSubjectGroupRepository.save(fixtures.newGroup(GroupStatus.ACTIVE));
+    }
+
+    private EnrollmentId enroll(StudentJpa student, SubjectGroup group, EnrollmentStatus status) {
+        EnrollmentId id = EnrollmentId.of(student.getId(), group.getId());
+        createEnrollmentRepository.save(Enrollment.builder().id(id).status(status).build());
+        return id;
+    }
+}
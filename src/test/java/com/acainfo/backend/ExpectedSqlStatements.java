@@ -0,0 +1,17 @@
+package com.acainfo.backend;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Número exacto de sentencias SQL que debe ejecutar el cuerpo del test.
+ * Lo comprueba SqlStatementCountExtension; los métodos @BeforeEach no cuentan.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpectedSqlStatements {
+
+    int value();
+}
@@ -0,0 +1,175 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import com.acainfo.backend.subject.application.ReadSubjectUseCase;
+import com.acainfo.backend.subject.domain.exception.SubjectNotFoundException;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cuenta las sentencias SQL de cada plan de carga: el grafo de la asignatura trae sus
+ * grupos en la misma consulta y, sin grafo, @BatchSize agrupa las cargas perezosas en
+ * bloques en lugar de una consulta por entidad.
+ *
+ * Antes de medir se vacían el contexto de persistencia y la caché de segundo nivel,
+ * para que todo salga de la base de datos.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class FetchPlanTests {
+
+    private static final int GROUPS = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @Autowired
+    private SubjectGroupJpaRepository subjectGroupJpaRepository;
+
+    @Autowired
+    private GroupSessionJpaRepository groupSessionJpaRepository;
+
+    @Autowired
+    private ReadSubjectGroupRepository readSubjectGroupRepository;
+
+    @Autowired
+    private ReadSubjectUseCase readSubjectUseCase;
+
+    private Statistics statistics;
+
+    private Long subjectId;
+    private final List<Long> groupIds = new ArrayList<>();
+
+    @BeforeEach
+    void createData() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        List<SubjectJpa> subjects = new ArrayList<>();
+        List<TeacherJpa> teachers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subjects.add(subjectJpaRepository.save(SubjectJpa.builder()
+                    .name("Asignatura Plan " + i)
+                    .major(Major.ING_INF)
+                    .courseYear(CourseYear.FIRST)
+                    .quarter(Quarter.FIRST)
+                    .build()));
+            teachers.add(teacherJpaRepository.save(TeacherJpa.builder()
+                    .name("Profesor Plan " + i)
+                    .email("profesor.plan" + i + "@acainfo.test")
+                    .password("hash")
+                    .build()));
+        }
+        subjectId = subjects.get(0).getId();
+
+        for (int i = 0; i < GROUPS; i++) {
+            SubjectGroupJpa group = subjectGroupJpaRepository.save(SubjectGroupJpa.builder()
+                    .name("Grupo Plan " + i)
+                    .subject(subjects.get(i % subjects.size()))
+                    .teacher(teachers.get(i % teachers.size()))
+                    .status(i % 2 == 0 ? GroupStatus.ACTIVE : GroupStatus.PLANNED)
+                    .maxCapacity(20)
+                    .type(GroupType.REGULAR)
+                    .price(new BigDecimal("150.00"))
+                    .build());
+            groupIds.add(group.getId());
+
+            for (int hour = 9; hour < 11; hour++) {
+                groupSessionJpaRepository.save(GroupSessionJpa.builder()
+                        .group(group)
+                        .dayOfWeek(DayOfWeek.of(i % 5 + 1))
+                        .startTime(LocalTime.of(hour + 2 * (i / 5), 0))
+                        .endTime(LocalTime.of(hour + 2 * (i / 5) + 1, 0))
+                        .classroom(Classroom.values()[i % Classroom.values().length])
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+    }
+
+    @Test
+    void defaultPlanMapsGroupsWithoutLoadingRelations() {
+        List<SubjectGroup> groups = countStatements(1, readSubjectGroupRepository::findAll);
+
+        assertThat(groups).hasSize(GROUPS);
+        assertThat(groups).extracting(SubjectGroup::getSubjectId).doesNotContainNull();
+        assertThat(groups).extracting(SubjectGroup::getTeacherId).doesNotContainNull();
+    }
+
+    @Test
+    void subjectWithGroupsPlanLoadsInOneQuery() {
+        List<SubjectGroup> groups = countStatements(1, () -> readSubjectUseCase.findGroupsBySubjectId(subjectId));
+        assertThat(groups).hasSize(GROUPS / 3).allMatch(group -> group.getSubjectId().equals(subjectId));
+
+        List<SubjectGroup> active = countStatements(1,
+                () -> readSubjectUseCase.findGroupsBySubjectId(subjectId, GroupStatus.ACTIVE));
+        assertThat(active).isNotEmpty().allMatch(group -> group.getStatus() == GroupStatus.ACTIVE);
+    }
+
+    @Test
+    void groupsOfMissingSubjectsAreNotFound() {
+        assertThatThrownBy(() -> readSubjectUseCase.findGroupsBySubjectId(0L))
+                .isInstanceOf(SubjectNotFoundException.class);
+        assertThatThrownBy(() -> readSubjectUseCase.findGroupsBySubjectId(subjectId + 10_000))
+                .isInstanceOf(SubjectNotFoundException.class);
+    }
+
+    @Test
+    void batchSizeGroupsLazyLoads() {
+        // Una consulta para los grupos, otra para todas sus asignaturas y otra para todas sus sesiones
+        int touched = countStatements(3, () -> subjectGroupJpaRepository.findAllById(groupIds)
+                .stream()
+                .mapToInt(group -> group.getSubject().getName().length() + group.getSessions().size())
+                .sum());
+
+        assertThat(touched).isPositive();
+    }
+
+    private <T> T countStatements(int expected, Supplier<T> action) {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+        statistics.clear();
+
+        T result = action.get();
+
+        assertThat(statistics.getPrepareStatementCount()).as("sentencias SQL").isEqualTo(expected);
+        return result;
+    }
+}
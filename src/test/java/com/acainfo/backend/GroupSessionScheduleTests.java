@@ -0,0 +1,203 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.repository.UpdateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Horario de las sesiones de los grupos: patrones semanales que se crean enteros o no
+ * se crean, con todos sus conflictos de grupo, aula y profesor, y la ocupación semanal
+ * de las aulas, que solo muestra sesiones confirmadas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+@WithMockUser(username = "admin.horarios", roles = "ADMIN")
+class GroupSessionScheduleTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateGroupSessionRepository createGroupSessionRepository;
+
+    @Autowired
+    private UpdateGroupSessionRepository updateGroupSessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void clashingPatternsListEveryConflictAndCreateNothing() throws Exception {
+        TeacherJpa teacher = fixtures.newTeacher();
+        Long groupId = fixtures.saveGroupJpa(teacher).getId();
+        Long sameTeacherGroupId = fixtures.saveGroupJpa(teacher).getId();
+        Long otherGroupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+
+        // Lunes: otro grupo del mismo profesor en la misma aula; sábado: el propio grupo;
+        // domingo: otro grupo y otro profesor en la misma aula
+        Long teacherClash = schedule(sameTeacherGroupId, DayOfWeek.MONDAY, "06:00", "07:00").getId();
+        Long groupClash = schedule(groupId, DayOfWeek.SATURDAY, "06:00", "07:00").getId();
+        Long classroomClash = schedule(otherGroupId, DayOfWeek.SUNDAY, "07:00", "08:00").getId();
+
+        String body = createRecurring(groupId, "MONDAY\", \"TUESDAY\", \"SATURDAY\", \"SUNDAY", "06:30", "07:30")
+                .andExpect(status().isConflict())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(JsonPath.<Boolean>read(body, "$.created")).isFalse();
+        assertThat(JsonPath.<List<String>>read(body, "$.conflicts[*].type"))
+                .containsExactly("CLASSROOM", "TEACHER", "GROUP", "CLASSROOM");
+        assertThat(JsonPath.<List<String>>read(body, "$.conflicts[*].dayOfWeek"))
+                .containsExactly("MONDAY", "MONDAY", "SATURDAY", "SUNDAY");
+        assertThat(JsonPath.<List<Number>>read(body, "$.conflicts[*].conflictingSessionId"))
+                .extracting(Number::longValue)
+                .containsExactly(teacherClash, teacherClash, groupClash, classroomClash);
+        assertThat(JsonPath.<List<String>>read(body, "$.conflicts[*].conflictingStartTime"))
+                .containsExactly("06:00", "06:00", "06:00", "07:00");
+        // El martes estaba libre, pero tampoco se ha creado
+        assertThat(sessionCount(groupId)).isEqualTo(1);
+    }
+
+    @Test
+    void freePatternsAreInsertedInOneBatch() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        Long otherGroupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+
+        String body = createRecurring(groupId, "FRIDAY\", \"WEDNESDAY", "20:00", "21:30")
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(JsonPath.<Boolean>read(body, "$.created")).isTrue();
+        assertThat(JsonPath.<List<String>>read(body, "$.sessions[*].dayOfWeek")).containsExactly("WEDNESDAY", "FRIDAY");
+        assertThat(JsonPath.<List<Object>>read(body, "$.sessions[*].id")).doesNotContainNull();
+        assertThat(JsonPath.<List<Object>>read(body, "$.conflicts")).isEmpty();
+        assertThat(sessionCount(groupId)).isEqualTo(2);
+
+        // Las franjas quedan reservadas: otro grupo ya no cabe en el aula
+        createRecurring(otherGroupId, "WEDNESDAY", "21:00", "22:00")
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void weeklyOccupancyListsEachDaySortedByStart() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        schedule(groupId, DayOfWeek.THURSDAY, "06:00", "07:00");
+        schedule(groupId, DayOfWeek.THURSDAY, "05:00", "05:30");
+
+        String body = occupancy();
+
+        assertThat(JsonPath.<List<String>>read(body, "$[0].days[*].dayOfWeek")).containsExactly(
+                "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY");
+        assertThat(slotsOf(body, groupId, DayOfWeek.THURSDAY)).containsExactly("05:00-05:30", "06:00-07:00");
+        assertThat(slotsOf(body, groupId, DayOfWeek.FRIDAY)).isEmpty();
+        // Los minutos de la semana son la suma de los de cada día
+        List<Integer> dayMinutes = JsonPath.read(body, "$[0].days[*].occupiedMinutes");
+        assertThat(JsonPath.<Integer>read(body, "$[0].occupiedMinutes"))
+                .isEqualTo(dayMinutes.stream().mapToInt(Integer::intValue).sum())
+                .isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void movedSessionsLeaveTheirOldRow() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        GroupSession session = schedule(groupId, DayOfWeek.THURSDAY, "07:00", "08:00");
+        assertThat(slotsOf(occupancy(), groupId, DayOfWeek.THURSDAY)).containsExactly("07:00-08:00");
+
+        updateGroupSessionRepository.update(new GroupSession(session.getId(), LocalTime.of(5, 0), LocalTime.of(6, 0),
+                null, null, DayOfWeek.FRIDAY, Classroom.PORTAL_1, groupId, SessionType.IN_PERSON));
+
+        String body = occupancy();
+        assertThat(slotsOf(body, groupId, DayOfWeek.THURSDAY)).isEmpty();
+        assertThat(slotsOf(body, groupId, DayOfWeek.FRIDAY)).containsExactly("05:00-06:00");
+    }
+
+    @Test
+    void uncommittedAndRolledBackSessionsAreNotShown() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        assertThat(slotsOf(occupancy(), groupId, DayOfWeek.THURSDAY)).isEmpty();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            schedule(groupId, DayOfWeek.THURSDAY, "08:00", "08:45");
+            try {
+                // Insertada pero sin confirmar: todavía no ocupa el aula en la rejilla
+                assertThat(slotsOf(occupancy(), groupId, DayOfWeek.THURSDAY)).isEmpty();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            status.setRollbackOnly();
+        });
+
+        assertThat(slotsOf(occupancy(), groupId, DayOfWeek.THURSDAY)).isEmpty();
+        assertThat(sessionCount(groupId)).isZero();
+        // La franja deshecha vuelve a estar libre
+        createRecurring(groupId, "THURSDAY", "08:00", "08:45").andExpect(status().isCreated());
+        assertThat(slotsOf(occupancy(), groupId, DayOfWeek.THURSDAY)).containsExactly("08:00-08:45");
+    }
+
+    private String occupancy() throws Exception {
+        return mockMvc.perform(get("/api/v1/classrooms/occupancy").param("classroom", "PORTAL_1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    /**
+     * Franjas "HH:mm-HH:mm" del grupo en un día de la rejilla, en el orden en que aparecen.
+     */
+    private static List<String> slotsOf(String occupancy, Long groupId, DayOfWeek day) {
+        List<Map<String, Object>> sessions = JsonPath.read(occupancy,
+                "$[0].days[?(@.dayOfWeek == '" + day + "')].sessions[?(@.groupId == " + groupId + ")]");
+        return sessions.stream()
+                .map(slot -> slot.get("startTime") + "-" + slot.get("endTime"))
+                .toList();
+    }
+
+    private GroupSession schedule(Long groupId, DayOfWeek day, String start, String end) {
+        return createGroupSessionRepository.save(new GroupSession(null, LocalTime.parse(start), LocalTime.parse(end),
+                null, null, day, Classroom.PORTAL_1, groupId, SessionType.IN_PERSON));
+    }
+
+    private ResultActions createRecurring(Long groupId, String days, String start, String end) throws Exception {
+        return mockMvc.perform(post("/api/v1/groups/{groupId}/sessions/recurring", groupId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"days": ["%s"], "startTime": "%s", "endTime": "%s", "classroom": "PORTAL_1"}
+                        """.formatted(days, start, end)));
+    }
+
+    private Integer sessionCount(Long groupId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM group_sessions WHERE group_id = ?",
+                Integer.class, groupId);
+    }
+}
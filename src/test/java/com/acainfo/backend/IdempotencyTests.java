@@ -0,0 +1,245 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.auth.domain.model.AuthUser;
+import com.acainfo.backend.auth.domain.model.UserType;
+import com.acainfo.backend.auth.infrastructure.security.JwtTokenProvider;
+import com.acainfo.backend.idempotency.infrastructure.filter.IdempotencyKeyFilter;
+import com.acainfo.backend.idempotency.infrastructure.store.IdempotencyStore;
+import com.acainfo.backend.idempotency.infrastructure.store.StoredResponse;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Claves de idempotencia: reintentos servidos desde la respuesta guardada, peticiones
+ * distintas con la misma clave, reservas concurrentes, claves caducadas, subidas multipart
+ * a través del servidor real y cuerpos que superan el máximo.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "idempotency.max-request-bytes=4096")
+@AutoConfigureMockMvc
+class IdempotencyTests {
+
+    private static final String FINGERPRINT = "f".repeat(64);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @WithMockUser(username = "admin.idempotencia", roles = "ADMIN")
+    void retriesAreReplayedWithoutRunningTheRequestAgain() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String name = "Asignatura Idempotente " + System.nanoTime();
+
+        MvcResult first = createSubject(key, name)
+                .andExpect(status().isCreated())
+                .andReturn();
+        MvcResult retry = createSubject(key, name)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertThat(retry.getResponse().getContentAsString()).isEqualTo(first.getResponse().getContentAsString());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subjects WHERE name = ?", Integer.class, name))
+                .isEqualTo(1);
+        // La clave se guarda a nombre del usuario autenticado
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = ?",
+                Integer.class, "admin.idempotencia:" + key)).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = "admin.idempotencia", roles = "ADMIN")
+    void reusingAKeyWithAnotherBodyIsRejected() throws Exception {
+        String key = UUID.randomUUID().toString();
+        createSubject(key, "Asignatura Original " + System.nanoTime()).andExpect(status().isCreated());
+
+        String otherName = "Asignatura Cambiada " + System.nanoTime();
+        createSubject(key, otherName).andExpect(status().isUnprocessableEntity());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subjects WHERE name = ?", Integer.class, otherName))
+                .isZero();
+    }
+
+    @Test
+    void multipartUploadsKeepTheirPartsAndAreReplayed() {
+        String token = adminToken();
+        String key = UUID.randomUUID().toString();
+
+        // Tomcat de verdad: un cuerpo ya leído dejaría la petición sin el fichero y daría 400
+        ResponseEntity<String> first = reconcile(token, key, "999999;999999;10,00\n");
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).contains("\"processedLines\":1");
+
+        ResponseEntity<String> retry = reconcile(token, key, "999999;999999;10,00\n");
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(retry.getHeaders().getFirst(IdempotencyKeyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getBody()).isEqualTo(first.getBody());
+
+        // Otro fichero con la misma clave es otra petición
+        assertThat(reconcile(token, key, "999999;999999;12,00\n").getStatusCode())
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @WithMockUser(username = "admin.idempotencia", roles = "ADMIN")
+    void oversizedBodiesAreRejectedWithoutClaimingTheKey() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String name = "Asignatura Enorme " + "x".repeat(5_000);
+
+        createSubject(key, name)
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = ?",
+                Integer.class, "admin.idempotencia:" + key)).isZero();
+    }
+
+    @Test
+    void concurrentRequestsWithTheSameKeyClaimItOnce() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 5; round++) {
+                String key = "concurrente:" + UUID.randomUUID();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<IdempotencyStore.Lookup>> lookups = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    lookups.add(executor.submit(() -> {
+                        start.await();
+                        return idempotencyStore.begin(key, "POST", "/api/v1/subjects", FINGERPRINT);
+                    }));
+                }
+                start.countDown();
+
+                List<IdempotencyStore.Lookup> results = new ArrayList<>();
+                for (Future<IdempotencyStore.Lookup> lookup : lookups) {
+                    results.add(lookup.get());
+                }
+                assertThat(results).filteredOn(IdempotencyStore.Lookup.Claimed.class::isInstance).hasSize(1);
+                assertThat(results).filteredOn(IdempotencyStore.Lookup.InProgress.class::isInstance)
+                        .hasSize(threads - 1);
+
+                // Completada, los siguientes intentos reciben la respuesta guardada
+                idempotencyStore.complete(key, new StoredResponse("POST", "/api/v1/subjects", FINGERPRINT,
+                        201, MediaType.APPLICATION_JSON_VALUE, "{}".getBytes()));
+                assertThat(idempotencyStore.begin(key, "POST", "/api/v1/subjects", FINGERPRINT))
+                        .isInstanceOf(IdempotencyStore.Lookup.Replay.class);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredKeysCanBeClaimedAgain() {
+        String key = "caducada:" + UUID.randomUUID();
+        assertThat(idempotencyStore.begin(key, "POST", "/api/v1/subjects", FINGERPRINT))
+                .isInstanceOf(IdempotencyStore.Lookup.Claimed.class);
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE idempotency_key = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), key);
+
+        // Una reserva caducada no bloquea la clave, ni siquiera para otra petición
+        assertThat(idempotencyStore.begin(key, "PUT", "/api/v1/subjects/1", FINGERPRINT))
+                .isInstanceOf(IdempotencyStore.Lookup.Claimed.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT request_method FROM idempotency_keys WHERE idempotency_key = ?",
+                String.class, key)).isEqualTo("PUT");
+
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE idempotency_key = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)), key);
+        assertThat(idempotencyStore.purgeExpired()).isPositive();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE idempotency_key = ?",
+                Integer.class, key)).isZero();
+    }
+
+    private String adminToken() {
+        TeacherJpa admin = teacherJpaRepository.save(TeacherJpa.builder()
+                .name("Administrador Prueba")
+                .email("admin" + System.nanoTime() + "@acainfo.test")
+                .password("hash")
+                .isAdmin(true)
+                .build());
+        // Solo se simula la validación del token: el usuario se carga y autoriza como siempre
+        String token = "token-" + admin.getId();
+        given(jwtTokenProvider.validateTokenAndGetUserId(token))
+                .willReturn(Optional.of(AuthUser.createId(UserType.TEACHER, admin.getId())));
+        return token;
+    }
+
+    private ResponseEntity<String> reconcile(String token, String key, String statement) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.set(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        headers.setContentType(MediaType.MULTIPART_FORM_DATA);
+
+        MultiValueMap<String, Object> parts = new LinkedMultiValueMap<>();
+        parts.add("file", new ByteArrayResource(statement.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "extracto.csv";
+            }
+        });
+        return restTemplate.postForEntity("/api/v1/admin/payments/reconciliation",
+                new HttpEntity<>(parts, headers), String.class);
+    }
+
+    private ResultActions createSubject(String key, String name) throws Exception {
+        return mockMvc.perform(post("/api/v1/subjects")
+                .header(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name": "%s", "major": "ING_INF", "courseYear": "FIRST", "quarter": "FIRST"}
+                        """.formatted(name)));
+    }
+}
@@ -0,0 +1,229 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.repository.CreateGroupSessionRepository;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.student.infrastructure.repository.jpa.StudentJpaRepository;
+import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba que los INSERT de entidades con ID de secuencia salen en lotes JDBC.
+ * Cada test se ejecuta en una transacción que se deshace al terminar.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.jdbc.batch_size=25",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({InsertBatchingTests.JdbcRecorderConfig.class, TestFixtures.class})
+@Transactional
+class InsertBatchingTests {
+
+    private final JdbcRecorder recorder = JdbcRecorder.INSTANCE;
+
+    @Autowired
+    private StudentJpaRepository studentJpaRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateGroupSessionRepository createGroupSessionRepository;
+
+    @BeforeEach
+    void resetRecorder() {
+        recorder.reset();
+    }
+
+    @Test
+    void studentsAreInsertedInJdbcBatches() {
+        List<StudentJpa> students = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            students.add(StudentJpa.builder()
+                    .name("Alumno" + i)
+                    .lastName("Lote")
+                    .email("lote" + i + "@acainfo.test")
+                    .password("hash")
+                    .major(Major.ING_INF)
+                    .build());
+        }
+
+        List<StudentJpa> saved = studentJpaRepository.saveAllAndFlush(students);
+
+        assertThat(saved).extracting(StudentJpa::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(recorder.batchedRows("students")).isEqualTo(60);
+        assertThat(recorder.batches("students")).isEqualTo(3);
+        assertThat(recorder.singleExecutions("students")).isZero();
+    }
+
+    @Test
+    void groupSessionsAreInsertedInJdbcBatches() {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        recorder.reset();
+
+        List<GroupSession> sessions = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            for (int hour = 9; hour < 15; hour++) {
+                sessions.add(new GroupSession(null, LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0),
+                        null, null, day, Classroom.PORTAL_1, groupId, SessionType.IN_PERSON));
+            }
+        }
+
+        List<GroupSession> saved = createGroupSessionRepository.saveAll(sessions);
+
+        assertThat(saved).hasSize(30);
+        assertThat(saved).extracting(GroupSession::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(recorder.batchedRows("group_sessions")).isEqualTo(30);
+        assertThat(recorder.batches("group_sessions")).isEqualTo(2);
+        assertThat(recorder.singleExecutions("group_sessions")).isZero();
+    }
+
+    @TestConfiguration
+    static class JdbcRecorderConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? JdbcRecorder.INSTANCE.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Registra, por tabla, las filas insertadas en lotes JDBC, los lotes ejecutados
+     * y los INSERT ejecutados sueltos.
+     */
+    static class JdbcRecorder {
+
+        // El post-procesador se registra antes que cualquier otro bean: se comparte una única instancia
+        static final JdbcRecorder INSTANCE = new JdbcRecorder();
+
+        private final Map<String, AtomicInteger> batchedRows = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> batches = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> singleExecutions = new ConcurrentHashMap<>();
+
+        private JdbcRecorder() {
+        }
+
+        int batchedRows(String table) {
+            return get(batchedRows, table);
+        }
+
+        int batches(String table) {
+            return get(batches, table);
+        }
+
+        int singleExecutions(String table) {
+            return get(singleExecutions, table);
+        }
+
+        void reset() {
+            batchedRows.clear();
+            batches.clear();
+            singleExecutions.clear();
+        }
+
+        private int get(Map<String, AtomicInteger> counters, String table) {
+            AtomicInteger counter = counters.get(table);
+            return counter != null ? counter.get() : 0;
+        }
+
+        private void add(Map<String, AtomicInteger> counters, String table, int delta) {
+            counters.computeIfAbsent(table, t -> new AtomicInteger()).addAndGet(delta);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (result instanceof PreparedStatement statement && method.equals("prepareStatement")) {
+                    return wrap(statement, insertTable((String) args[0]));
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String table) {
+            if (table == null) {
+                return statement;
+            }
+            AtomicInteger pending = new AtomicInteger();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                switch (method) {
+                    case "addBatch" -> pending.incrementAndGet();
+                    case "executeBatch" -> {
+                        add(batches, table, 1);
+                        add(batchedRows, table, pending.getAndSet(0));
+                    }
+                    case "execute", "executeUpdate", "executeLargeUpdate" -> add(singleExecutions, table, 1);
+                    default -> { }
+                }
+                return result;
+            });
+        }
+
+        private static String insertTable(String sql) {
+            String normalized = sql.strip().toLowerCase(Locale.ROOT);
+            if (!normalized.startsWith("insert into ")) {
+                return null;
+            }
+            String rest = normalized.substring("insert into ".length());
+            int end = 0;
+            while (end < rest.length() && (Character.isLetterOrDigit(rest.charAt(end)) || rest.charAt(end) == '_')) {
+                end++;
+            }
+            return rest.substring(0, end);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, ResultDecorator decorator) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                try {
+                    return decorator.decorate(method.getName(), args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            };
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+
+        @FunctionalInterface
+        private interface ResultDecorator {
+            Object decorate(String method, Object[] args, Object result);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.student.domain.entity.StudentPage;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.student.infrastructure.repository.jpa.StudentJpaRepository;
+import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.teacher.domain.entity.TeacherPage;
+import com.acainfo.backend.teacher.domain.entity.TeacherSummary;
+import com.acainfo.backend.teacher.domain.repository.ReadTeacherRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listados paginados por clave de estudiantes y profesores: el registro de más que
+ * indica si hay página siguiente, el cursor y los filtros opcionales combinados.
+ *
+ * Cada prueba pagina desde justo antes del primer registro que crea, para no ver los
+ * que dejan otras pruebas en la misma base de datos.
+ */
+@SpringBootTest
+class KeysetPaginationTests {
+
+    @Autowired
+    private ReadStudentRepository readStudentRepository;
+
+    @Autowired
+    private ReadTeacherRepository readTeacherRepository;
+
+    @Autowired
+    private StudentJpaRepository studentJpaRepository;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @Test
+    void studentPagesFollowTheCursorUntilTheLastRow() {
+        Long first = student(Major.ING_IND, true);
+        Long secondMajor = student(Major.ING_INF, true);
+        Long inactive = student(Major.ING_IND, false);
+        Long fourth = student(Major.ING_IND, true);
+        Long fifth = student(Major.ING_IND, true);
+        Long start = first - 1;
+
+        StudentPage page = readStudentRepository.findPage(Major.ING_IND, true, start, 2);
+        assertThat(page.getStudents()).extracting(StudentSummary::getId).containsExactly(first, fourth);
+        assertThat(page.getNextCursor()).isEqualTo(fourth);
+
+        page = readStudentRepository.findPage(Major.ING_IND, true, page.getNextCursor(), 2);
+        assertThat(page.getStudents()).extracting(StudentSummary::getId).containsExactly(fifth);
+        assertThat(page.getNextCursor()).isNull();
+
+        // Una página justo llena no tiene siguiente
+        page = readStudentRepository.findPage(Major.ING_IND, true, start, 3);
+        assertThat(page.getStudents()).extracting(StudentSummary::getId).containsExactly(first, fourth, fifth);
+        assertThat(page.getNextCursor()).isNull();
+
+        // Cada filtro a null deja de aplicarse
+        assertThat(readStudentRepository.findPage(null, false, start, 10).getStudents())
+                .extracting(StudentSummary::getId).containsExactly(inactive);
+        assertThat(readStudentRepository.findPage(Major.ING_IND, null, start, 10).getStudents())
+                .extracting(StudentSummary::getId).containsExactly(first, inactive, fourth, fifth);
+        assertThat(readStudentRepository.findPage(null, null, start, 10).getStudents())
+                .extracting(StudentSummary::getId).containsExactly(first, secondMajor, inactive, fourth, fifth);
+
+        page = readStudentRepository.findPage(null, null, start, 0);
+        assertThat(page.getStudents()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void teacherPagesFollowTheCursorUntilTheLastRow() {
+        Long first = teacher(true);
+        Long notAdmin = teacher(false);
+        Long third = teacher(true);
+        Long fourth = teacher(true);
+        Long start = first - 1;
+
+        TeacherPage page = readTeacherRepository.findPage(true, start, 2);
+        assertThat(page.getTeachers()).extracting(TeacherSummary::getId).containsExactly(first, third);
+        assertThat(page.getNextCursor()).isEqualTo(third);
+
+        page = readTeacherRepository.findPage(true, page.getNextCursor(), 2);
+        assertThat(page.getTeachers()).extracting(TeacherSummary::getId).containsExactly(fourth);
+        assertThat(page.getNextCursor()).isNull();
+
+        assertThat(readTeacherRepository.findPage(false, start, 10).getTeachers())
+                .extracting(TeacherSummary::getId).containsExactly(notAdmin);
+        page = readTeacherRepository.findPage(null, start, 4);
+        assertThat(page.getTeachers()).extracting(TeacherSummary::getId)
+                .containsExactly(first, notAdmin, third, fourth);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private Long student(Major major, boolean active) {
+        return studentJpaRepository.save(StudentJpa.builder()
+                .name("Alumno")
+                .lastName("Paginado")
+                .email("paginado" + System.nanoTime() + "@acainfo.test")
+                .password("hash")
+                .major(major)
+                .isActive(active)
+                .build()).getId();
+    }
+
+    private Long teacher(boolean admin) {
+        return teacherJpaRepository.save(TeacherJpa.builder()
+                .name("Profesor Paginado")
+                .email("paginado" + System.nanoTime() + "@acainfo.test")
+                .password("hash")
+                .isAdmin(admin)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,264 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.repository.CreateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.notification.application.NotifyGroupOpenedUseCase;
+import com.acainfo.backend.notification.application.SendPaymentRemindersUseCase;
+import com.acainfo.backend.notification.domain.entity.Notification;
+import com.acainfo.backend.notification.domain.service.NotificationQueue;
+import com.acainfo.backend.notification.domain.value.NotificationType;
+import com.acainfo.backend.notification.infrastructure.scheduler.PaymentReminderScheduler;
+import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.acainfo.backend.TestFixtures.awaitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Notificaciones por correo contra un servidor SMTP local (GreenMail): los eventos
+ * llegan por el outbox, se renderizan en el pool y se envían por lotes con reintentos.
+ */
+@SpringBootTest(properties = {
+        "app.notifications.enabled=true",
+        "app.notifications.batch-window-millis=50",
+        "app.notifications.initial-backoff-millis=100",
+        "app.notifications.max-attempts=10",
+        "app.domain-events.poll-interval-millis=50",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025"
+})
+@Import(TestFixtures.class)
+class NotificationTests {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withPerMethodLifecycle(false);
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private CreateSubjectGroupRepository createSubjectGroupRepository;
+
+    @Autowired
+    private ReadSubjectGroupRepository readSubjectGroupRepository;
+
+    @Autowired
+    private UpdateSubjectGroupRepository updateSubjectGroupRepository;
+
+    @Autowired
+    private CreateEnrollmentRepository createEnrollmentRepository;
+
+    @Autowired
+    private SendPaymentRemindersUseCase sendPaymentRemindersUseCase;
+
+    @Autowired
+    private NotifyGroupOpenedUseCase notifyGroupOpenedUseCase;
+
+    @Autowired
+    private NotificationQueue notificationQueue;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void activeEnrollmentsAreConfirmed() throws Exception {
+        StudentJpa student = fixtures.newStudent("Lucía");
+        SubjectGroup group = newGroup(GroupStatus.ACTIVE);
+
+        enroll(student, group, EnrollmentStatus.ACTIVE);
+
+        awaitUntil(() -> !messagesTo(student.getEmail()).isEmpty());
+        MimeMessage message = messagesTo(student.getEmail()).getFirst();
+        assertThat(message.getSubject()).isEqualTo("Inscripción confirmada: " + group.getName());
+        assertThat(body(message))
+                .contains("Hola, Lucía:")
+                .contains(subjectJpaRepository.findById(group.getSubjectId()).orElseThrow().getName());
+        assertThat(((InternetAddress) message.getFrom()[0]).getAddress()).isEqualTo("noreply@acainfo.com");
+    }
+
+    @Test
+    void enrolledStudentsAreToldWhenTheGroupOpens() throws Exception {
+        StudentJpa active = fixtures.newStudent("Marta");
+        StudentJpa pending = fixtures.newStudent("Pablo");
+        SubjectGroup group = newGroup(GroupStatus.PLANNED);
+        enroll(active, group, EnrollmentStatus.ACTIVE);
+        enroll(pending, group, EnrollmentStatus.PENDING_PAYMENT);
+
+        // Releído antes de cambiar el estado: update() guarda todos los campos, también el contador de plazas
+        SubjectGroup current = readSubjectGroupRepository.findById(group.getId()).orElseThrow();
+        current.setStatus(GroupStatus.ACTIVE);
+        updateSubjectGroupRepository.update(current);
+
+        String subject = "El grupo " + group.getName() + " ya está abierto";
+        awaitUntil(() -> hasSubject(active.getEmail(), subject) && hasSubject(pending.getEmail(), subject));
+        // El pendiente de pago sólo recibe el aviso de apertura
+        assertThat(messagesTo(pending.getEmail())).hasSize(1);
+    }
+
+    @Test
+    void groupOpenedNoticesTrustTheEventOverTheStoredStatus() {
+        StudentJpa student = fixtures.newStudent("Hugo");
+        SubjectGroup group = newGroup(GroupStatus.PLANNED);
+        enroll(student, group, EnrollmentStatus.PENDING_PAYMENT);
+
+        // Una lectura atrasada todavía ve el grupo planificado
+        assertThat(notifyGroupOpenedUseCase.notifyGroupOpened(group.getId())).isEqualTo(1);
+        assertThat(notifyGroupOpenedUseCase.notifyGroupOpened(Long.MAX_VALUE)).isZero();
+    }
+
+    @Test
+    void pendingPaymentsAreReminded() throws Exception {
+        StudentJpa student = fixtures.newStudent("Irene");
+        SubjectGroup group = newGroup(GroupStatus.ACTIVE);
+        enroll(student, group, EnrollmentStatus.PENDING_PAYMENT);
+
+        LocalDateTime now = LocalDateTime.now();
+        int reminded = sendPaymentRemindersUseCase.remindEnrolledBetween(now.minusMinutes(1), now.plusMinutes(1), 72);
+
+        assertThat(reminded).isPositive();
+        awaitUntil(() -> !messagesTo(student.getEmail()).isEmpty());
+        MimeMessage message = messagesTo(student.getEmail()).getFirst();
+        assertThat(message.getSubject()).isEqualTo("Recordatorio de pago: " + group.getName());
+        assertThat(body(message)).contains("150,00 €");
+    }
+
+    @Test
+    void overlappingReminderRunsRemindEachEnrollmentOnce() throws Exception {
+        StudentJpa student = fixtures.newStudent("Sara");
+        SubjectGroup group = newGroup(GroupStatus.ACTIVE);
+        enroll(student, group, EnrollmentStatus.PENDING_PAYMENT);
+
+        // Dos nodos cubren a la vez el mismo tramo
+        LocalDateTime now = LocalDateTime.now();
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() ->
+                sendPaymentRemindersUseCase.remindEnrolledBetween(now.minusMinutes(1), now.plusMinutes(1), 72));
+        CompletableFuture<Integer> second = CompletableFuture.supplyAsync(() ->
+                sendPaymentRemindersUseCase.remindEnrolledBetween(now.minusMinutes(5), now.plusMinutes(5), 72));
+        assertThat(first.get(10, TimeUnit.SECONDS) + second.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+
+        // Una ejecución posterior sobre el mismo tramo tampoco lo repite
+        assertThat(sendPaymentRemindersUseCase.remindEnrolledBetween(now.minusMinutes(1), now.plusMinutes(1), 72))
+                .isZero();
+        awaitUntil(() -> !messagesTo(student.getEmail()).isEmpty());
+        Thread.sleep(200);
+        assertThat(messagesTo(student.getEmail())).hasSize(1);
+    }
+
+    @Test
+    void reminderWindowsFollowTheFireTimesOfIrregularCrons() {
+        CronExpression cron = CronExpression.parse("0 0 8,14 * * MON-FRI");
+        LocalDateTime mondayMorning = LocalDateTime.of(2026, 10, 19, 8, 0);
+        LocalDateTime mondayAfternoon = LocalDateTime.of(2026, 10, 19, 14, 0);
+
+        // Ejecución que arranca con retraso: su hora de disparo sigue siendo la del cron
+        assertThat(PaymentReminderScheduler.previousFireTime(cron, mondayAfternoon.plusSeconds(3)))
+                .isEqualTo(mondayAfternoon);
+        assertThat(PaymentReminderScheduler.previousFireTime(cron, mondayAfternoon)).isEqualTo(mondayMorning);
+        // Tras el fin de semana el tramo anterior es el del viernes por la tarde, no 6 horas
+        assertThat(PaymentReminderScheduler.previousFireTime(cron, mondayMorning))
+                .isEqualTo(LocalDateTime.of(2026, 10, 16, 14, 0));
+    }
+
+    @Test
+    void failedSendsAreRetriedWhenTheServerComesBack() throws Exception {
+        String email = "reintento" + System.nanoTime() + "@acainfo.test";
+        greenMail.stop();
+        try {
+            boolean accepted = notificationQueue.enqueue(Notification.builder()
+                    .type(NotificationType.GROUP_OPENED)
+                    .recipientEmail(email)
+                    .recipientName("Alumno Reintento")
+                    .param("studentName", "Alumno")
+                    .param("groupName", "Grupo Reintento")
+                    .param("subjectName", "Asignatura Reintento")
+                    .build());
+            assertThat(accepted).isTrue();
+
+            awaitUntil(() -> outcomes("retried") > 0);
+        } finally {
+            greenMail.start();
+        }
+
+        awaitUntil(() -> !messagesTo(email).isEmpty());
+        assertThat(outcomes("sent")).isPositive();
+    }
+
+    private SubjectGroup newGroup(GroupStatus status) {
+        return createSubjectGroupRepository.save(fixtures.newGroup(status));
+    }
+
+    private void enroll(StudentJpa student, SubjectGroup group, EnrollmentStatus status) {
+        createEnrollmentRepository.save(Enrollment.builder()
+                .id(EnrollmentId.of(student.getId(), group.getId()))
+                .status(status)
+                .build());
+    }
+
+    private static List<MimeMessage> messagesTo(String email) {
+        return Arrays.stream(greenMail.getReceivedMessages())
+                .filter(message -> recipients(message).stream()
+                        .anyMatch(address -> ((InternetAddress) address).getAddress().equals(email)))
+                .toList();
+    }
+
+    private static boolean hasSubject(String email, String subject) {
+        return messagesTo(email).stream().anyMatch(message -> {
+            try {
+                return subject.equals(message.getSubject());
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static List<Address> recipients(MimeMessage message) {
+        try {
+            return Optional.ofNullable(message.getAllRecipients()).map(List::of).orElse(List.of());
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String body(MimeMessage message) throws MessagingException, IOException {
+        return (String) message.getContent();
+    }
+
+    private double outcomes(String outcome) {
+        return meterRegistry.find("notifications").tag("outcome", outcome).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
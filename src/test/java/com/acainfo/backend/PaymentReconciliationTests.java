@@ -0,0 +1,112 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.enrollment.application.ReconcilePaymentsUseCase;
+import com.acainfo.backend.enrollment.domain.entity.Enrollment;
+import com.acainfo.backend.enrollment.domain.entity.EnrollmentId;
+import com.acainfo.backend.enrollment.domain.entity.PaymentReconciliation;
+import com.acainfo.backend.enrollment.domain.entity.UnmatchedPaymentLine;
+import com.acainfo.backend.enrollment.domain.repository.CreateEnrollmentRepository;
+import com.acainfo.backend.enrollment.domain.value.EnrollmentStatus;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.CreateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Conciliación de extractos bancarios: cabeceras, BOM de UTF-8, importes en formato
+ * europeo y líneas que no casan con ningún pago pendiente.
+ */
+@SpringBootTest
+@Import(TestFixtures.class)
+class PaymentReconciliationTests {
+
+    @Autowired
+    private ReconcilePaymentsUseCase reconcilePaymentsUseCase;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CreateSubjectGroupRepository createSubjectGroupRepository;
+
+    @Autowired
+    private CreateEnrollmentRepository createEnrollmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void headerIsSkippedAndReportedAndEuropeanAmountsMatch() {
+        SubjectGroup group = newGroup();
+        EnrollmentId paid = enrollPending(group);
+        EnrollmentId underpaid = enrollPending(group);
+        long unknownStudent = fixtures.newStudent("Alumno").getId();
+
+        PaymentReconciliation result = reconcile("""
+                \uFEFF"idEstudiante";"idGrupo";"importe"
+                %d;%d;"150,00 €"
+
+                %d;%d;1.234,50
+                %d;%d;150,00
+                %d;%d;importe
+                """.formatted(paid.getStudentId(), group.getId(),
+                underpaid.getStudentId(), group.getId(),
+                unknownStudent, group.getId(),
+                paid.getStudentId(), group.getId()));
+
+        assertThat(result.getSkippedHeader()).isEqualTo("\"idEstudiante\";\"idGrupo\";\"importe\"");
+        assertThat(result.getProcessedLines()).isEqualTo(4);
+        assertThat(result.getActivatedEnrollments()).containsExactly(paid);
+        assertThat(result.getUnmatchedLines()).extracting(UnmatchedPaymentLine::getLineNumber)
+                .containsExactly(4L, 5L, 6L);
+        assertThat(result.getUnmatchedLines()).extracting(UnmatchedPaymentLine::getReason).containsExactly(
+                "El importe no coincide con el precio del grupo (150.00)",
+                "No hay ninguna inscripción pendiente de pago para ese estudiante y grupo",
+                "Formato inválido: identificadores o importe no numéricos");
+        assertThat(statusOf(paid)).isEqualTo("ACTIVE");
+        assertThat(statusOf(underpaid)).isEqualTo("PENDING_PAYMENT");
+    }
+
+    @Test
+    void byteOrderMarkDoesNotHideTheFirstPayment() {
+        SubjectGroup group = newGroup();
+        EnrollmentId first = enrollPending(group);
+        EnrollmentId second = enrollPending(group);
+
+        // Sin cabecera: la primera línea es un pago aunque el fichero empiece con BOM
+        PaymentReconciliation result = reconcile("\uFEFF%d,%d,150.00\n%d,%d,150\n".formatted(
+                first.getStudentId(), group.getId(), second.getStudentId(), group.getId()));
+
+        assertThat(result.getSkippedHeader()).isNull();
+        assertThat(result.getProcessedLines()).isEqualTo(2);
+        assertThat(result.getActivatedEnrollments()).containsExactlyInAnyOrder(first, second);
+        assertThat(result.getUnmatchedLines()).isEmpty();
+    }
+
+    private PaymentReconciliation reconcile(String statement) {
+        return reconcilePaymentsUseCase.reconcile(new StringReader(statement));
+    }
+
+    private SubjectGroup newGroup() {
+        return createSubjectGroupRepository.save(fixtures.newGroup(GroupStatus.ACTIVE));
+    }
+
+    private EnrollmentId enrollPending(SubjectGroup group) {
+        EnrollmentId id = EnrollmentId.of(fixtures.newStudent("Alumno").getId(), group.getId());
+        createEnrollmentRepository.save(Enrollment.builder().id(id).status(EnrollmentStatus.PENDING_PAYMENT).build());
+        return id;
+    }
+
+    private String statusOf(EnrollmentId id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM enrollments WHERE student_id = ? AND group_id = ?",
+                String.class, id.getStudentId(), id.getGroupId());
+    }
+}
@@ -0,0 +1,230 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.config.datasource.ReadRouting;
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.infrastructure.search.DirectorySearchIndex;
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.groupsession.domain.entity.ClassroomWeek;
+import com.acainfo.backend.groupsession.domain.entity.TeacherSchedule;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.GroupSessionJpaRepository;
+import com.acainfo.backend.groupsession.infrastructure.repository.jpa.entity.GroupSessionJpa;
+import com.acainfo.backend.groupsession.infrastructure.schedule.ClassroomScheduleIndex;
+import com.acainfo.backend.groupsession.infrastructure.schedule.GroupTimetableCache;
+import com.acainfo.backend.groupsession.infrastructure.schedule.TeacherScheduleIndex;
+import com.acainfo.backend.student.domain.entity.Student;
+import com.acainfo.backend.student.domain.entity.StudentSummary;
+import com.acainfo.backend.student.domain.repository.CreateStudentRepository;
+import com.acainfo.backend.student.domain.repository.ReadStudentRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba el reparto entre primario y réplica con dos bases H2 independientes.
+ * Entre ellas no hay replicación: lo que sólo está en una de las dos delata a cuál
+ * se ha ido a leer.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.replica-routing.enabled=true",
+        "app.replica-routing.read-your-writes-seconds=60",
+        "app.replica-routing.datasource.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1"
+})
+@Import(TestFixtures.class)
+class ReplicaRoutingTests {
+
+    private static boolean replicaSchemaCreated;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CreateStudentRepository createStudentRepository;
+
+    @Autowired
+    private ReadStudentRepository readStudentRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private GroupSessionJpaRepository groupSessionJpaRepository;
+
+    @Autowired
+    private ClassroomScheduleIndex classroomScheduleIndex;
+
+    @Autowired
+    private TeacherScheduleIndex teacherScheduleIndex;
+
+    @Autowired
+    private GroupTimetableCache groupTimetableCache;
+
+    @Autowired
+    private DirectorySearchIndex directorySearchIndex;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    // Un hilo nuevo por llamada: el hilo que escribe conserva su ventana de lectura del primario
+    private final ExecutorService readers = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().factory());
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        if (!replicaSchemaCreated) {
+            primary.queryForList("SCRIPT NODATA", String.class).forEach(replica::execute);
+            replicaSchemaCreated = true;
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        readers.shutdownNow();
+        for (JdbcTemplate jdbc : List.of(primary, replica)) {
+            jdbc.update("DELETE FROM group_sessions");
+            jdbc.update("DELETE FROM subject_groups");
+            jdbc.update("DELETE FROM subjects");
+            jdbc.update("DELETE FROM teachers");
+            jdbc.update("DELETE FROM students");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        insertStudent(primary, 1001L, "primario@acainfo.test");
+        insertStudent(replica, 2001L, "replica@acainfo.test");
+
+        List<StudentSummary> readOnly = readAs(null, readStudentRepository::findAll);
+        assertThat(readOnly).extracting(StudentSummary::getEmail).containsExactly("replica@acainfo.test");
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        List<StudentSummary> insideWrite = readAs(null, () -> write.execute(status -> readStudentRepository.findAll()));
+        assertThat(insideWrite).extracting(StudentSummary::getEmail).containsExactly("primario@acainfo.test");
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimary() {
+        Long id = readAs("ana@acainfo.test", () -> {
+            Student saved = createStudentRepository.save(newStudent("nueva@acainfo.test"));
+            // Mismo hilo, justo después de confirmar
+            assertThat(readStudentRepository.findById(saved.getId())).isPresent();
+            return saved.getId();
+        });
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM students WHERE id = ?", Long.class, id)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM students WHERE id = ?", Long.class, id)).isZero();
+
+        // El mismo usuario en otra petición sigue leyendo del primario; el resto, de la réplica
+        assertThat(readAs("ana@acainfo.test", () -> readStudentRepository.findById(id))).isPresent();
+        assertThat(readAs("luis@acainfo.test", () -> readStudentRepository.findById(id))).isEmpty();
+        assertThat(readAs(null, () -> readStudentRepository.findById(id))).isEmpty();
+    }
+
+    @Test
+    void readRoutingForcesPrimary() {
+        insertStudent(primary, 1002L, "solo.primario@acainfo.test");
+
+        assertThat(readAs(null, () -> readStudentRepository.findById(1002L))).isEmpty();
+        assertThat(readAs(null, () -> ReadRouting.onPrimary(() -> readStudentRepository.findById(1002L)))).isPresent();
+    }
+
+    @Test
+    void laggingReplicaDoesNotSeedIndexes() {
+        // Todo se escribe sólo en el primario: la réplica no ha recibido nada todavía
+        insertStudent(primary, 1003L, "rezagada@acainfo.test");
+        TeacherJpa teacher = fixtures.newTeacher();
+        SubjectGroupJpa group = fixtures.saveGroupJpa(teacher);
+        groupSessionJpaRepository.save(GroupSessionJpa.builder()
+                .group(group)
+                .dayOfWeek(DayOfWeek.TUESDAY)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(11, 30))
+                .classroom(Classroom.PORTAL_2)
+                .build());
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM group_sessions", Long.class)).isZero();
+
+        // Cada índice se siembra desde una transacción de sólo lectura que, por sí misma, iría a la réplica
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        ClassroomWeek week = readAs(null, () -> readOnly.execute(status ->
+                classroomScheduleIndex.getWeek(Classroom.PORTAL_2)));
+        TeacherSchedule schedule = readAs(null, () -> readOnly.execute(status ->
+                teacherScheduleIndex.getSchedule(teacher.getId())));
+        WeeklyTimetable timetable = readAs(null, () -> readOnly.execute(status ->
+                groupTimetableCache.get(group.getId())));
+        List<DirectoryEntry> found = readAs(null, () -> readOnly.execute(status ->
+                directorySearchIndex.search("rezagada", null, 10)));
+
+        assertThat(week.getOccupiedMinutes()).isEqualTo(90);
+        assertThat(schedule.getSessions()).hasSize(1);
+        assertThat(timetable.getOccupiedMinutes()).isEqualTo(90);
+        assertThat(found).extracting(DirectoryEntry::getId).containsExactly(1003L);
+    }
+
+    private <T> T readAs(String user, Supplier<T> action) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (user != null) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(user, null, List.of()));
+            }
+            try {
+                return action.get();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }, readers).join();
+    }
+
+    private static void insertStudent(JdbcTemplate jdbc, Long id, String email) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.update("INSERT INTO students (id, name, last_name, email, password, major, registered_at, updated_at, is_active) " +
+                        "VALUES (?, 'Alumno', 'Réplica', ?, 'hash', 'ING_INF', ?, ?, true)",
+                id, email, now, now);
+    }
+
+    private static Student newStudent(String email) {
+        Student student = new Student();
+        student.setName("Alumna");
+        student.setLastName("Nueva");
+        student.setEmail(email);
+        student.setPassword("hash");
+        student.setMajor(Major.ING_INF);
+        student.setActive(true);
+        return student;
+    }
+}
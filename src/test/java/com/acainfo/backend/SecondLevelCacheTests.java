@@ -0,0 +1,214 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.repository.UpdateSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caché de segundo nivel: aciertos y fallos por región publicados en Micrometer, consultas
+ * cacheadas que se invalidan al escribir, y contadores de plazas que no se sirven
+ * obsoletos tras las actualizaciones masivas (JPQL) ni las de JDBC, ni siquiera cuando
+ * una transacción que leyó la fila anterior intenta cachearla después de confirmarse.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestFixtures.class)
+class SecondLevelCacheTests {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private SubjectGroupJpaRepository subjectGroupJpaRepository;
+
+    @Autowired
+    private UpdateSubjectGroupRepository updateSubjectGroupRepository;
+
+    @Autowired
+    private ReadSubjectGroupRepository readSubjectGroupRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void entityLoadsAreCountedPerRegion() {
+        TeacherJpa teacher = fixtures.newTeacher();
+        entityManagerFactory.getCache().evictAll();
+        double misses = regionRequests("teacher", "miss");
+        double hits = regionRequests("teacher", "hit");
+        double puts = counter("hibernate.second.level.cache.puts", Map.of("region", "teacher"));
+
+        // Primera carga desde la base de datos, la segunda desde la región
+        assertThat(teacherJpaRepository.findById(teacher.getId())).isPresent();
+        assertThat(teacherJpaRepository.findById(teacher.getId())).isPresent();
+
+        assertThat(regionRequests("teacher", "miss") - misses).isEqualTo(1);
+        assertThat(regionRequests("teacher", "hit") - hits).isEqualTo(1);
+        assertThat(counter("hibernate.second.level.cache.puts", Map.of("region", "teacher")) - puts).isEqualTo(1);
+    }
+
+    @Test
+    void cachedCatalogQueriesAreInvalidatedByInserts() {
+        fixtures.newSubject();
+        double hits = counter("hibernate.cache.query.requests", Map.of("result", "hit"));
+        double misses = counter("hibernate.cache.query.requests", Map.of("result", "miss"));
+
+        int before = subjectJpaRepository.findByMajor(Major.ING_INF).size();
+        assertThat(subjectJpaRepository.findByMajor(Major.ING_INF)).hasSize(before);
+        assertThat(counter("hibernate.cache.query.requests", Map.of("result", "miss")) - misses).isEqualTo(1);
+        assertThat(counter("hibernate.cache.query.requests", Map.of("result", "hit")) - hits).isEqualTo(1);
+
+        // El INSERT actualiza la marca de la tabla y el resultado guardado deja de valer
+        fixtures.newSubject();
+        assertThat(subjectJpaRepository.findByMajor(Major.ING_INF)).hasSize(before + 1);
+        assertThat(counter("hibernate.cache.query.requests", Map.of("result", "miss")) - misses).isEqualTo(2);
+    }
+
+    @Test
+    void bulkJpqlUpdatesEvictTheGroupRegion() {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        assertThat(currentEnrollments(groupId)).isZero();
+        assertThat(currentEnrollments(groupId)).isZero();
+        double misses = regionRequests("subjectGroup", "miss");
+
+        assertThat(updateSubjectGroupRepository.incrementEnrollmentCount(groupId)).isTrue();
+
+        assertThat(currentEnrollments(groupId)).isEqualTo(1);
+        assertThat(regionRequests("subjectGroup", "miss") - misses).isEqualTo(1);
+    }
+
+    @Test
+    void jdbcCounterUpdatesKeepTheGroupLockedUntilTheCommit() {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        assertThat(currentEnrollments(groupId)).isZero();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            updateSubjectGroupRepository.adjustEnrollmentCounts(Map.of(groupId, 3));
+
+            // Otra transacción lee el valor confirmado (0), pero no puede dejarlo en la caché
+            Integer seenBeforeCommit = CompletableFuture.supplyAsync(() -> currentEnrollments(groupId)).join();
+            assertThat(seenBeforeCommit).isZero();
+        });
+
+        assertThat(currentEnrollments(groupId)).isEqualTo(3);
+    }
+
+    @Test
+    void readersThatStartedBeforeAJdbcCounterUpdateCannotCacheTheOldCounter() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        assertThat(currentEnrollments(groupId)).isZero();
+
+        Integer seenByReader = readFromSnapshotAfter(groupId,
+                () -> updateSubjectGroupRepository.adjustEnrollmentCounts(Map.of(groupId, 3)),
+                SubjectGroupJpa::getCurrentEnrollments);
+
+        assertThat(seenByReader).isZero();
+        assertThat(currentEnrollments(groupId)).isEqualTo(3);
+    }
+
+    @Test
+    void readersThatStartedBeforeAnEntityUpdateCannotCacheTheOldRow() throws Exception {
+        Long groupId = fixtures.saveGroupJpa(fixtures.newTeacher()).getId();
+        assertThat(currentEnrollments(groupId)).isZero();
+
+        GroupStatus seenByReader = readFromSnapshotAfter(groupId, () -> {
+            SubjectGroup group = readSubjectGroupRepository.findById(groupId).orElseThrow();
+            group.setStatus(GroupStatus.CLOSED);
+            updateSubjectGroupRepository.update(group);
+        }, SubjectGroupJpa::getStatus);
+
+        assertThat(seenByReader).isIn(GroupStatus.ACTIVE, GroupStatus.CLOSED);
+        assertThat(subjectGroupJpaRepository.findById(groupId).orElseThrow().getStatus()).isEqualTo(GroupStatus.CLOSED);
+    }
+
+    /**
+     * Abre una transacción con instantánea (REPEATABLE READ) antes de que otra confirme
+     * el cambio, y después de confirmado carga el grupo desde ella: lee la fila anterior
+     * de la base de datos e intenta dejarla en la caché.
+     */
+    private <T> T readFromSnapshotAfter(Long groupId, Runnable change, Function<SubjectGroupJpa, T> value)
+            throws Exception {
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        CountDownLatch snapshotTaken = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+
+        CompletableFuture<T> reader = CompletableFuture.supplyAsync(() -> snapshot.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT status FROM subject_groups WHERE id = ?", String.class, groupId);
+            snapshotTaken.countDown();
+            try {
+                assertThat(changed.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return value.apply(subjectGroupJpaRepository.findById(groupId).orElseThrow());
+        }));
+
+        assertThat(snapshotTaken.await(10, TimeUnit.SECONDS)).isTrue();
+        change.run();
+        changed.countDown();
+        return reader.get(10, TimeUnit.SECONDS);
+    }
+
+    private Integer currentEnrollments(Long groupId) {
+        return subjectGroupJpaRepository.findById(groupId).orElseThrow().getCurrentEnrollments();
+    }
+
+    private double regionRequests(String region, String result) {
+        return counter("hibernate.second.level.cache.requests", Map.of("region", region, "result", result));
+    }
+
+    private double counter(String name, Map<String, String> tags) {
+        var search = meterRegistry.find(name);
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            search = search.tag(tag.getKey(), tag.getValue());
+        }
+        return search.functionCounters().stream().mapToDouble(FunctionCounter::count).sum();
+    }
+}
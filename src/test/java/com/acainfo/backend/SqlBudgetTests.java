@@ -0,0 +1,203 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.config.sqlbudget.SqlStatementCounter;
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.subject.application.ReadSubjectUseCase;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Presupuesto SQL por petición: métricas por ruta, aviso al superar el presupuesto
+ * y la extensión de JUnit que fija el número de sentencias de un caso de uso.
+ */
+@SpringBootTest(properties = "app.sql-budget.routes[GET\\ /api/v1/subjects/{id}/groups].max-statements=0")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+@Transactional
+class SqlBudgetTests {
+
+    private static final int GROUPS = 3;
+
+    @RegisterExtension
+    final SqlStatementCountExtension sql = new SqlStatementCountExtension();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @Autowired
+    private SubjectGroupJpaRepository subjectGroupJpaRepository;
+
+    @Autowired
+    private ReadSubjectUseCase readSubjectUseCase;
+
+    @Autowired
+    private ReadSubjectGroupRepository readSubjectGroupRepository;
+
+    private Long subjectId;
+
+    @BeforeEach
+    void createData() {
+        SubjectJpa subject = subjectJpaRepository.save(SubjectJpa.builder()
+                .name("Asignatura Presupuesto")
+                .major(Major.ING_INF)
+                .courseYear(CourseYear.SECOND)
+                .quarter(Quarter.SECOND)
+                .build());
+        TeacherJpa teacher = teacherJpaRepository.save(TeacherJpa.builder()
+                .name("Profesor Presupuesto")
+                .email("profesor.presupuesto@acainfo.test")
+                .password("hash")
+                .build());
+        for (int i = 0; i < GROUPS; i++) {
+            subjectGroupJpaRepository.save(SubjectGroupJpa.builder()
+                    .name("Grupo Presupuesto " + i)
+                    .subject(subject)
+                    .teacher(teacher)
+                    .maxCapacity(20)
+                    .type(GroupType.REGULAR)
+                    .price(new BigDecimal("150.00"))
+                    .build());
+        }
+        subjectId = subject.getId();
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @ExpectedSqlStatements(1)
+    void annotatedTestCountsItsBody() {
+        assertThat(readSubjectUseCase.findGroupsBySubjectId(subjectId)).hasSize(GROUPS);
+    }
+
+    @Test
+    void expectCountsOnlyTheAction() {
+        List<SubjectGroup> groups = sql.expect(1, readSubjectGroupRepository::findAll);
+        assertThat(groups).hasSizeGreaterThanOrEqualTo(GROUPS);
+
+        sql.expect(0, () -> groups.stream().map(SubjectGroup::getSubjectId).toList());
+    }
+
+    @Test
+    void countsRowsBatchesAndRepeatedStatements() {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            for (int i = 0; i < 3; i++) {
+                jdbcTemplate.queryForList("SELECT id FROM subject_groups WHERE subject_id = ?", Long.class, subjectId);
+            }
+            jdbcTemplate.batchUpdate("UPDATE subject_groups SET max_capacity = max_capacity + 1 WHERE subject_id = ?",
+                    List.of(new Object[]{subjectId}, new Object[]{subjectId}));
+
+            SqlStatementCounter.Snapshot snapshot = scope.snapshot();
+            assertThat(snapshot.statements()).isEqualTo(4);
+            assertThat(snapshot.rows()).isEqualTo(3L * GROUPS + 2L * GROUPS);
+            assertThat(snapshot.mostRepeatedCount()).isEqualTo(3);
+            assertThat(snapshot.mostRepeatedSql()).startsWith("SELECT id FROM subject_groups");
+        }
+    }
+
+    @Test
+    void connectionsTakenBeforeTheScopeCountOnlyStatementsCreatedInside() throws Exception {
+        // La conexión de la transacción del test, abierta antes que el ámbito
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement outside = connection.createStatement()) {
+            assertThat(Proxy.isProxyClass(outside.getClass())).isFalse();
+        }
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+             PreparedStatement inside = connection.prepareStatement(
+                     "SELECT id FROM subject_groups WHERE subject_id = ?")) {
+            inside.setLong(1, subjectId);
+            try (ResultSet resultSet = inside.executeQuery()) {
+                while (resultSet.next()) {
+                    assertThat(resultSet.getLong(1)).isPositive();
+                }
+            }
+
+            assertThat(scope.snapshot().statements()).isEqualTo(1);
+            assertThat(scope.snapshot().rows()).isEqualTo(GROUPS);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    void requestIsMeasuredByRouteAndChecked(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/v1/subjects/{id}/groups", subjectId))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("sql.request.statements")
+                .tags("method", "GET", "uri", "/api/v1/subjects/{id}/groups")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+
+        DistributionSummary rows = meterRegistry.get("sql.request.rows")
+                .tags("method", "GET", "uri", "/api/v1/subjects/{id}/groups")
+                .summary();
+        assertThat(rows.totalAmount()).isEqualTo(GROUPS);
+
+        assertThat(meterRegistry.get("sql.request.time")
+                .tags("method", "GET", "uri", "/api/v1/subjects/{id}/groups")
+                .timer().count()).isEqualTo(1);
+
+        assertThat(output).contains("Presupuesto SQL superado en GET /api/v1/subjects/{id}/groups: 1 sentencias (máx. 0)");
+    }
+}
@@ -0,0 +1,72 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.config.sqlbudget.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Comprueba cuántas sentencias SQL ejecuta un caso de uso, con el mismo contador que
+ * el presupuesto SQL de las peticiones HTTP.
+ *
+ * - Con @ExtendWith y @ExpectedSqlStatements(n) en el test se cuenta el cuerpo entero.
+ * - Con @RegisterExtension, expect(n, acción) cuenta sólo la acción.
+ *
+ * Sólo cuenta lo que se ejecuta en el hilo del test. Si el test es @Transactional, lo
+ * que Hibernate deje pendiente de escribir se ejecuta al volcar la sesión, que puede
+ * caer fuera del bloque medido.
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementCountExtension.class);
+
+    /**
+     * Ejecuta la acción y comprueba que ha lanzado exactamente expected sentencias.
+     */
+    public <T> T expect(int expected, Supplier<T> action) {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            T result = action.get();
+            verify(expected, scope.snapshot());
+            return result;
+        }
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        expectedStatements(context).ifPresent(expected ->
+                context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        // Si el test ya ha fallado, su error es más útil que el recuento
+        if (context.getExecutionException().isEmpty()) {
+            verify(expectedStatements(context).orElseThrow(), scope.snapshot());
+        }
+    }
+
+    private static Optional<Integer> expectedStatements(ExtensionContext context) {
+        return context.getTestMethod()
+                .map(method -> method.getAnnotation(ExpectedSqlStatements.class))
+                .map(ExpectedSqlStatements::value);
+    }
+
+    private static void verify(int expected, SqlStatementCounter.Snapshot snapshot) {
+        assertThat(snapshot.statements())
+                .as("sentencias SQL (la más repetida, %d veces: %s)",
+                        snapshot.mostRepeatedCount(), snapshot.mostRepeatedSql())
+                .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,121 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.globalenum.Major;
+import com.acainfo.backend.student.infrastructure.repository.jpa.StudentJpaRepository;
+import com.acainfo.backend.student.infrastructure.repository.jpa.entity.StudentJpa;
+import com.acainfo.backend.subject.domain.value.CourseYear;
+import com.acainfo.backend.subject.domain.value.Quarter;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.SubjectJpaRepository;
+import com.acainfo.backend.subject.infrastructure.repository.jpa.entity.SubjectJpa;
+import com.acainfo.backend.subjectgroup.domain.entity.SubjectGroup;
+import com.acainfo.backend.subjectgroup.domain.value.GroupStatus;
+import com.acainfo.backend.subjectgroup.domain.value.GroupType;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.SubjectGroupJpaRepository;
+import com.acainfo.backend.subjectgroup.infrastructure.repository.jpa.entity.SubjectGroupJpa;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.TeacherJpaRepository;
+import com.acainfo.backend.teacher.infrastructure.repository.jpa.entity.TeacherJpa;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Datos de prueba y esperas compartidos por los tests de integración. Se añade al
+ * contexto con {@code @Import(TestFixtures.class)}; cada llamada crea filas con
+ * nombres y correos únicos, así que los tests no dependen del orden de ejecución.
+ */
+@TestComponent
+public class TestFixtures {
+
+    public static final BigDecimal GROUP_PRICE = new BigDecimal("150.00");
+
+    @Autowired
+    private StudentJpaRepository studentJpaRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectJpaRepository;
+
+    @Autowired
+    private TeacherJpaRepository teacherJpaRepository;
+
+    @Autowired
+    private SubjectGroupJpaRepository subjectGroupJpaRepository;
+
+    /**
+     * Espera hasta 10 segundos a que se cumpla la condición; falla el test si no llega a cumplirse.
+     */
+    public static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("tiempo de espera agotado").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    public StudentJpa newStudent(String name) {
+        return studentJpaRepository.save(StudentJpa.builder()
+                .name(name)
+                .lastName("Prueba")
+                .email("alumno" + System.nanoTime() + "@acainfo.test")
+                .password("hash")
+                .major(Major.ING_INF)
+                .build());
+    }
+
+    public SubjectJpa newSubject() {
+        return subjectJpaRepository.save(SubjectJpa.builder()
+                .name("Asignatura Prueba " + System.nanoTime())
+                .major(Major.ING_INF)
+                .courseYear(CourseYear.FIRST)
+                .quarter(Quarter.FIRST)
+                .build());
+    }
+
+    public TeacherJpa newTeacher() {
+        return teacherJpaRepository.save(TeacherJpa.builder()
+                .name("Profesor Prueba")
+                .email("profesor" + System.nanoTime() + "@acainfo.test")
+                .password("hash")
+                .build());
+    }
+
+    /**
+     * Grupo de dominio sin guardar, con asignatura y profesor nuevos. Se guarda con los
+     * repositorios de dominio para que genere sus eventos y mantenga los índices.
+     */
+    public SubjectGroup newGroup(GroupStatus status) {
+        return newGroup(status, newTeacher());
+    }
+
+    public SubjectGroup newGroup(GroupStatus status, TeacherJpa teacher) {
+        SubjectGroup group = new SubjectGroup();
+        group.setName("Grupo Prueba " + System.nanoTime());
+        group.setSubjectId(newSubject().getId());
+        group.setTeacherId(teacher.getId());
+        group.setStatus(status);
+        group.setMaxCapacity(20);
+        group.setType(GroupType.REGULAR);
+        group.setPrice(GROUP_PRICE);
+        return group;
+    }
+
+    /**
+     * Grupo activo guardado directamente con JPA, sin eventos de dominio ni mantenimiento
+     * de índices.
+     */
+    public SubjectGroupJpa saveGroupJpa(TeacherJpa teacher) {
+        return subjectGroupJpaRepository.saveAndFlush(SubjectGroupJpa.builder()
+                .name("Grupo Prueba " + System.nanoTime())
+                .subject(newSubject())
+                .teacher(teacher)
+                .status(GroupStatus.ACTIVE)
+                .maxCapacity(20)
+                .type(GroupType.REGULAR)
+                .price(GROUP_PRICE)
+                .build());
+    }
+}
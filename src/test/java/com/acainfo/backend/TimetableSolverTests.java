@@ -0,0 +1,158 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.SessionRequirement;
+import com.acainfo.backend.groupsession.domain.entity.TeacherUnavailability;
+import com.acainfo.backend.groupsession.domain.entity.TimetableProblem;
+import com.acainfo.backend.groupsession.domain.entity.TimetableSolution;
+import com.acainfo.backend.groupsession.domain.service.TimetableSolver;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import com.acainfo.backend.groupsession.domain.value.TimetableStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Generador de horarios: problemas con y sin solución, límite de tiempo, búsquedas
+ * concurrentes sobre el pool compartido y el motivo de las peticiones rechazadas.
+ */
+@SpringBootTest(properties = "app.timetable.solver-parallelism=2")
+@AutoConfigureMockMvc
+class TimetableSolverTests {
+
+    private static final long TEACHER_ID = 1L;
+
+    @Autowired
+    private TimetableSolver timetableSolver;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void feasibleProblemsAreSolvedWithinTheConstraints() {
+        TimetableSolution solution = timetableSolver.solve(sharedTeacherProblem(Duration.ofSeconds(10)));
+
+        assertThat(solution.getStatus()).isEqualTo(TimetableStatus.SOLVED);
+        List<GroupSession> sessions = solution.getSessions();
+        assertThat(sessions).hasSize(4);
+        // El profesor no está disponible el lunes antes de las 10:00
+        assertThat(sessions).noneMatch(session -> session.getDayOfWeek() == DayOfWeek.MONDAY
+                && session.getStartTime().isBefore(LocalTime.of(10, 0)));
+        // Mismo profesor: ninguna pareja de sesiones se solapa
+        for (int i = 0; i < sessions.size(); i++) {
+            for (int j = i + 1; j < sessions.size(); j++) {
+                assertThat(overlap(sessions.get(i), sessions.get(j))).isFalse();
+            }
+        }
+        // Las dos sesiones de cada grupo van en días distintos
+        for (long groupId : List.of(10L, 20L)) {
+            assertThat(sessions).filteredOn(session -> session.getGroupId() == groupId)
+                    .extracting(GroupSession::getDayOfWeek)
+                    .doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    void infeasibleProblemsAreReported() {
+        // Tres horas de un mismo grupo en una ventana de dos
+        TimetableProblem problem = problem(List.of(requirement(10L, 180, 60)), List.of(),
+                Set.of(DayOfWeek.MONDAY), LocalTime.of(9, 0), LocalTime.of(11, 0), Duration.ofSeconds(10));
+
+        TimetableSolution solution = timetableSolver.solve(problem);
+
+        assertThat(solution.getStatus()).isEqualTo(TimetableStatus.INFEASIBLE);
+        assertThat(solution.getSessions()).isEmpty();
+    }
+
+    @Test
+    void searchStopsAtTheTimeLimit() {
+        TimetableSolution solution = timetableSolver.solve(sharedTeacherProblem(Duration.ofNanos(1)));
+
+        assertThat(solution.getStatus()).isEqualTo(TimetableStatus.TIMED_OUT);
+        assertThat(solution.getSessions()).isEmpty();
+    }
+
+    @Test
+    void concurrentSearchesShareThePool() {
+        List<CompletableFuture<TimetableSolution>> searches = IntStream.range(0, 6)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
+                        timetableSolver.solve(sharedTeacherProblem(Duration.ofSeconds(10)))))
+                .toList();
+
+        assertThat(searches).allSatisfy(search ->
+                assertThat(search.join().getStatus()).isEqualTo(TimetableStatus.SOLVED));
+    }
+
+    @Test
+    @WithMockUser(username = "admin.horarios", roles = "ADMIN")
+    void rejectedRequestsExplainWhy() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/timetable/generate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"groups": [{"groupId": 987654, "weeklyMinutes": 120, "sessionMinutes": 60}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Los grupos [987654] no existen"));
+    }
+
+    /**
+     * Dos grupos del mismo profesor, con dos sesiones de una hora cada uno, en un aula,
+     * lunes y martes de 9:00 a 12:00 y el profesor ocupado el lunes de 9:00 a 10:00.
+     */
+    private static TimetableProblem sharedTeacherProblem(Duration timeLimit) {
+        return problem(List.of(requirement(10L, 120, 60), requirement(20L, 120, 60)),
+                List.of(TeacherUnavailability.builder()
+                        .teacherId(TEACHER_ID)
+                        .dayOfWeek(DayOfWeek.MONDAY)
+                        .startTime(LocalTime.of(9, 0))
+                        .endTime(LocalTime.of(10, 0))
+                        .build()),
+                Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), LocalTime.of(9, 0), LocalTime.of(12, 0), timeLimit);
+    }
+
+    private static TimetableProblem problem(List<SessionRequirement> requirements,
+                                            List<TeacherUnavailability> unavailabilities,
+                                            Set<DayOfWeek> days, LocalTime dayStart, LocalTime dayEnd,
+                                            Duration timeLimit) {
+        return TimetableProblem.builder()
+                .requirements(requirements)
+                .unavailabilities(unavailabilities)
+                .occupiedSlots(List.of())
+                .classrooms(Set.of(Classroom.PORTAL_1))
+                .days(days)
+                .dayStart(dayStart)
+                .dayEnd(dayEnd)
+                .stepMinutes(30)
+                .timeLimit(timeLimit)
+                .build();
+    }
+
+    private static SessionRequirement requirement(Long groupId, int weeklyMinutes, int sessionMinutes) {
+        return new SessionRequirement(groupId, TEACHER_ID, weeklyMinutes, sessionMinutes, SessionType.IN_PERSON);
+    }
+
+    private static boolean overlap(GroupSession first, GroupSession second) {
+        return first.getDayOfWeek() == second.getDayOfWeek()
+                && first.getStartTime().isBefore(second.getEndTime())
+                && second.getStartTime().isBefore(first.getEndTime());
+    }
+}
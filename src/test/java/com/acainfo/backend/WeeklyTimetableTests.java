@@ -0,0 +1,112 @@
+package com.acainfo.backend;
+
+import com.acainfo.backend.groupsession.domain.entity.GroupSession;
+import com.acainfo.backend.groupsession.domain.entity.WeeklyTimetable;
+import com.acainfo.backend.groupsession.domain.value.Classroom;
+import com.acainfo.backend.groupsession.domain.value.SessionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bitset semanal de franjas de 5 minutos: límites de franja, redondeo hacia fuera,
+ * sesiones que cruzan de un word al siguiente y choques entre sesiones.
+ */
+class WeeklyTimetableTests {
+
+    @Test
+    void alignedSessionsFillExactlyTheirSlots() {
+        WeeklyTimetable timetable = timetable(session(DayOfWeek.MONDAY, "09:00", "10:30"));
+
+        assertThat(timetable.getOccupiedMinutes()).isEqualTo(90);
+        assertThat(timetable.isOccupied(DayOfWeek.MONDAY, LocalTime.of(8, 55))).isFalse();
+        assertThat(timetable.isOccupied(DayOfWeek.MONDAY, LocalTime.of(9, 0))).isTrue();
+        assertThat(timetable.isOccupied(DayOfWeek.MONDAY, LocalTime.of(10, 29))).isTrue();
+        // El final es exclusivo
+        assertThat(timetable.isOccupied(DayOfWeek.MONDAY, LocalTime.of(10, 30))).isFalse();
+        assertThat(timetable.isOccupied(DayOfWeek.TUESDAY, LocalTime.of(9, 0))).isFalse();
+    }
+
+    @Test
+    void unalignedSessionsAreRoundedOutwards() {
+        WeeklyTimetable timetable = timetable(session(DayOfWeek.WEDNESDAY, "09:02", "09:58"));
+
+        assertThat(timetable.getOccupiedMinutes()).isEqualTo(60);
+        assertThat(timetable.isOccupied(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0))).isTrue();
+        assertThat(timetable.isOccupied(DayOfWeek.WEDNESDAY, LocalTime.of(9, 55))).isTrue();
+        assertThat(timetable.isOccupied(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0))).isFalse();
+    }
+
+    @Test
+    void sessionsAcrossWordBoundariesAreFilled() {
+        // La franja 64 (lunes 05:20) es la primera del segundo word
+        WeeklyTimetable acrossOneBoundary = timetable(session(DayOfWeek.MONDAY, "05:00", "06:00"));
+        assertThat(acrossOneBoundary.getOccupiedMinutes()).isEqualTo(60);
+        assertThat(acrossOneBoundary.isOccupied(DayOfWeek.MONDAY, LocalTime.of(5, 15))).isTrue();
+        assertThat(acrossOneBoundary.isOccupied(DayOfWeek.MONDAY, LocalTime.of(5, 20))).isTrue();
+
+        // Un día entero rellena varios words completos
+        WeeklyTimetable wholeDay = timetable(session(DayOfWeek.TUESDAY, "00:00", "23:59"));
+        assertThat(wholeDay.getOccupiedMinutes()).isEqualTo(WeeklyTimetable.SLOTS_PER_DAY * WeeklyTimetable.SLOT_MINUTES);
+        assertThat(wholeDay.isOccupied(DayOfWeek.MONDAY, LocalTime.of(23, 55))).isFalse();
+        assertThat(wholeDay.isOccupied(DayOfWeek.WEDNESDAY, LocalTime.MIDNIGHT)).isFalse();
+    }
+
+    @Test
+    void lastSlotOfTheWeekIsUsable() {
+        WeeklyTimetable timetable = timetable(session(DayOfWeek.SUNDAY, "23:30", "23:59"));
+
+        assertThat(timetable.getOccupiedMinutes()).isEqualTo(30);
+        assertThat(timetable.isOccupied(DayOfWeek.SUNDAY, LocalTime.of(23, 55))).isTrue();
+        assertThat(timetable.isOccupied(DayOfWeek.MONDAY, LocalTime.MIDNIGHT)).isFalse();
+    }
+
+    @Test
+    void adjacentSessionsDoNotClash() {
+        WeeklyTimetable first = timetable(session(DayOfWeek.THURSDAY, "09:00", "10:00"));
+        WeeklyTimetable second = timetable(session(DayOfWeek.THURSDAY, "10:00", "11:00"));
+
+        assertThat(first.intersects(second)).isFalse();
+        assertThat(second.intersects(first)).isFalse();
+        assertThat(first.or(second).getOccupiedMinutes()).isEqualTo(120);
+        assertThat(first.or(second)).isEqualTo(timetable(session(DayOfWeek.THURSDAY, "09:00", "11:00")));
+    }
+
+    @Test
+    void overlappingSessionsClash() {
+        WeeklyTimetable first = timetable(session(DayOfWeek.FRIDAY, "09:00", "10:00"));
+
+        assertThat(first.intersects(timetable(session(DayOfWeek.FRIDAY, "09:55", "11:00")))).isTrue();
+        assertThat(first.intersects(timetable(session(DayOfWeek.FRIDAY, "09:15", "09:30")))).isTrue();
+        // Mismo horario otro día
+        assertThat(first.intersects(timetable(session(DayOfWeek.SATURDAY, "09:00", "10:00")))).isFalse();
+        // Sin hueco de una franja entre ellas, el redondeo hacia fuera las hace chocar
+        assertThat(timetable(session(DayOfWeek.FRIDAY, "09:00", "10:02"))
+                .intersects(timetable(session(DayOfWeek.FRIDAY, "10:03", "11:00")))).isTrue();
+    }
+
+    @Test
+    void sessionsWithoutValidScheduleAreIgnored() {
+        WeeklyTimetable timetable = timetable(
+                session(DayOfWeek.MONDAY, "10:00", "09:00"),
+                session(DayOfWeek.MONDAY, "10:00", "10:00"),
+                session(null, "09:00", "10:00"));
+
+        assertThat(timetable.isEmpty()).isTrue();
+        assertThat(timetable).isEqualTo(WeeklyTimetable.empty());
+        assertThat(timetable.intersects(timetable(session(DayOfWeek.MONDAY, "00:00", "23:59")))).isFalse();
+    }
+
+    private static WeeklyTimetable timetable(GroupSession... sessions) {
+        return WeeklyTimetable.of(List.of(sessions));
+    }
+
+    private static GroupSession session(DayOfWeek day, String start, String end) {
+        return new GroupSession(null, LocalTime.parse(start), LocalTime.parse(end),
+                null, null, day, Classroom.PORTAL_1, 1L, SessionType.IN_PERSON);
+    }
+}
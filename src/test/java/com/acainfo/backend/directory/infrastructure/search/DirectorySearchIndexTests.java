@@ -0,0 +1,50 @@
+package com.acainfo.backend.directory.infrastructure.search;
+
+import com.acainfo.backend.directory.domain.entity.DirectoryEntry;
+import com.acainfo.backend.directory.domain.value.DirectoryEntryType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Palabras de las consultas del directorio: se parten y normalizan igual que las de las
+ * entradas, salvo los emails, que se buscan enteros.
+ */
+class DirectorySearchIndexTests {
+
+    private static final DirectoryEntry GARCIA_LOPEZ = new DirectoryEntry(DirectoryEntryType.STUDENT, 1L,
+            "María José", "García-López", "mj.garcia@acainfo.test");
+
+    @Test
+    void queriesAreSplitLikeNames() {
+        assertThat(DirectorySearchIndex.queryTokens("  García-López ")).containsExactly("garcia", "lopez");
+        assertThat(DirectorySearchIndex.queryTokens("o'brien,  MARÍA")).containsExactly("o", "brien", "maria");
+        assertThat(DirectorySearchIndex.queryTokens(" - ")).isEmpty();
+        assertThat(DirectorySearchIndex.queryTokens(null)).isEmpty();
+    }
+
+    @Test
+    void emailQueriesAreKeptWhole() {
+        assertThat(DirectorySearchIndex.queryTokens("MJ.Garcia@acainfo")).containsExactly("mj.garcia@acainfo");
+        assertThat(DirectorySearchIndex.queryTokens("maría mj.garcia@acainfo.test"))
+                .containsExactly("maria", "mj.garcia@acainfo.test");
+    }
+
+    @Test
+    void hyphenatedAndAccentedQueriesFindTheEntry() {
+        assertThat(search("garcía-lópez")).containsExactly(1L);
+        assertThat(search("garcia lop")).containsExactly(1L);
+        assertThat(search("maria-jose")).containsExactly(1L);
+        assertThat(search("mj.garcia")).containsExactly(1L);
+        assertThat(search("mj.garcia@acainfo.te")).containsExactly(1L);
+        assertThat(search("garcía-martínez")).isEmpty();
+    }
+
+    private static List<Long> search(String query) {
+        PrefixIndex<Long> index = new PrefixIndex<>();
+        index.put(GARCIA_LOPEZ.getId(), DirectorySearchIndex.entryTokens(GARCIA_LOPEZ));
+        return index.search(DirectorySearchIndex.queryTokens(query), 10, id -> true);
+    }
+}
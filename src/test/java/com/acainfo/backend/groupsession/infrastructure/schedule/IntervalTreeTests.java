@@ -0,0 +1,126 @@
+package com.acainfo.backend.groupsession.infrastructure.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Árbol de intervalos de las ocupaciones: inserciones, borrados y búsquedas de solapes,
+ * con intervalos semiabiertos que se tocan en un extremo sin solaparse.
+ */
+class IntervalTreeTests {
+
+    @Test
+    void insertKeepsBookingsOrderedAndIgnoresDuplicates() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(booking(3, 600, 660));
+        tree.insert(booking(1, 540, 600));
+        tree.insert(booking(2, 540, 570));
+        tree.insert(booking(1, 540, 600));
+
+        assertThat(tree.size()).isEqualTo(3);
+        assertThat(tree.toList()).extracting(ClassroomBooking::sessionId).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    void touchingEndpointsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(booking(1, 540, 600));
+
+        // 10:00-11:00 empieza justo cuando termina 9:00-10:00, y 8:00-9:00 termina justo cuando empieza
+        assertThat(tree.findOverlapping(600, 660)).isEmpty();
+        assertThat(tree.findOverlapping(480, 540)).isEmpty();
+        // Un minuto de solape basta
+        assertThat(tree.findOverlapping(599, 660)).extracting(ClassroomBooking::sessionId).containsExactly(1L);
+        assertThat(tree.findOverlapping(480, 541)).extracting(ClassroomBooking::sessionId).containsExactly(1L);
+    }
+
+    @Test
+    void overlapQueriesFindContainedContainingAndPartialBookings() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(booking(1, 480, 540));
+        tree.insert(booking(2, 540, 720));
+        tree.insert(booking(3, 570, 600));
+        tree.insert(booking(4, 660, 780));
+        tree.insert(booking(5, 780, 840));
+
+        assertThat(tree.findOverlapping(560, 680)).extracting(ClassroomBooking::sessionId)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(tree.findOverlapping(575, 585)).extracting(ClassroomBooking::sessionId)
+                .containsExactly(2L, 3L);
+        assertThat(tree.findOverlapping(0, 1440)).hasSize(5);
+        assertThat(tree.findOverlapping(840, 900)).isEmpty();
+    }
+
+    @Test
+    void removedBookingsNoLongerOverlap() {
+        IntervalTree tree = new IntervalTree();
+        for (long id = 1; id <= 7; id++) {
+            tree.insert(booking(id, (int) id * 60, (int) id * 60 + 30));
+        }
+        // Una ocupación larga que sostiene el mayor fin de su subárbol
+        tree.insert(booking(8, 0, 1400));
+
+        assertThat(tree.remove(booking(8, 0, 1400))).isTrue();
+        assertThat(tree.findOverlapping(1000, 1300)).isEmpty();
+
+        // La raíz tiene dos hijos: la sustituye su sucesor
+        ClassroomBooking root = tree.toList().get(3);
+        assertThat(tree.remove(root)).isTrue();
+        assertThat(tree.remove(root)).isFalse();
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.findOverlapping(root.start(), root.end())).isEmpty();
+        assertThat(tree.findOverlapping(0, 1440)).extracting(ClassroomBooking::sessionId)
+                .containsExactly(1L, 2L, 3L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void removingAMissingBookingLeavesTheTreeUntouched() {
+        IntervalTree tree = new IntervalTree();
+        assertThat(tree.remove(booking(1, 540, 600))).isFalse();
+        assertThat(tree.findOverlapping(0, 1440)).isEmpty();
+
+        tree.insert(booking(1, 540, 600));
+        // Mismo intervalo pero otra sesión: no es la misma ocupación
+        assertThat(tree.remove(booking(2, 540, 600))).isFalse();
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.findOverlapping(550, 560)).extracting(ClassroomBooking::sessionId).containsExactly(1L);
+    }
+
+    @Test
+    void randomInsertsAndRemovesMatchALinearScan() {
+        Random random = new Random(42);
+        IntervalTree tree = new IntervalTree();
+        List<ClassroomBooking> expected = new ArrayList<>();
+
+        for (long id = 1; id <= 2_000; id++) {
+            int start = random.nextInt(1_380);
+            ClassroomBooking booking = booking(id, start, start + 5 + random.nextInt(60));
+            tree.insert(booking);
+            expected.add(booking);
+            if (random.nextInt(3) == 0) {
+                ClassroomBooking removed = expected.remove(random.nextInt(expected.size()));
+                assertThat(tree.remove(removed)).isTrue();
+            }
+
+            int queryStart = random.nextInt(1_400);
+            int queryEnd = queryStart + 1 + random.nextInt(40);
+            assertThat(tree.findOverlapping(queryStart, queryEnd))
+                    .containsExactlyInAnyOrderElementsOf(expected.stream()
+                            .filter(candidate -> candidate.overlaps(queryStart, queryEnd))
+                            .toList());
+        }
+
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.toList()).isSortedAccordingTo(Comparator.comparingInt(ClassroomBooking::start));
+    }
+
+    private static ClassroomBooking booking(long sessionId, int start, int end) {
+        return new ClassroomBooking(sessionId, 100L, start, end);
+    }
+}
@@ -0,0 +1,72 @@
+package com.acainfo.backend.subjectgroup.infrastructure.stream;
+
+import com.acainfo.backend.config.properties.AppProperties;
+import com.acainfo.backend.subjectgroup.application.mapper.SubjectGroupMapper;
+import com.acainfo.backend.subjectgroup.domain.repository.ReadSubjectGroupRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Suscripciones a las plazas: las que no llegan a arrancar no dejan suscriptores
+ * registrados que acumulen eventos sin enviarlos.
+ */
+class SeatAvailabilityBroadcasterTests {
+
+    private final ReadSubjectGroupRepository readSubjectGroupRepository = mock(ReadSubjectGroupRepository.class);
+    private SeatAvailabilityBroadcaster broadcaster;
+
+    @BeforeEach
+    void startBroadcaster() {
+        broadcaster = new SeatAvailabilityBroadcaster(readSubjectGroupRepository, mock(SubjectGroupMapper.class),
+                new AppProperties());
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void stopBroadcaster() {
+        broadcaster.stop();
+    }
+
+    @Test
+    void failedSnapshotsUnregisterTheSubscriber() {
+        given(readSubjectGroupRepository.findSeatAvailabilityByIds(anyCollection()))
+                .willThrow(new QueryTimeoutException("timeout"));
+        given(readSubjectGroupRepository.findSeatAvailabilityBySubjectId(anyLong()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        assertThatThrownBy(() -> broadcaster.subscribeToGroup(1L)).isInstanceOf(QueryTimeoutException.class);
+        assertThatThrownBy(() -> broadcaster.subscribeToSubject(1L)).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void rejectedSendersUnregisterTheSubscriber() {
+        given(readSubjectGroupRepository.findSeatAvailabilityBySubjectId(anyLong())).willReturn(List.of());
+        broadcaster.stop();
+
+        assertThatThrownBy(() -> broadcaster.subscribeToSubject(1L)).isInstanceOf(RejectedExecutionException.class);
+
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void missingGroupsAreNotSubscribed() {
+        given(readSubjectGroupRepository.findSeatAvailabilityByIds(anyCollection())).willReturn(List.of());
+
+        assertThat(broadcaster.subscribeToGroup(1L)).isEmpty();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+}